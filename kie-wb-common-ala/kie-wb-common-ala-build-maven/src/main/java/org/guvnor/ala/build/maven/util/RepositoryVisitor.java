@@ -15,19 +15,24 @@
  */
 package org.guvnor.ala.build.maven.util;
 
-import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.Type;
-import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -42,9 +47,29 @@ import org.uberfire.java.nio.file.DirectoryStream;
 import org.uberfire.java.nio.file.Files;
 import org.uberfire.java.nio.file.Path;
 
+/**
+ * Copies a project of a repository to a directory of the local file system, e.g. for building it with Maven.
+ * <p>
+ * The MD5 of every file is stored in an index (index.json) of the target directory. When the same directory is used
+ * again (see MavenProjectConfig.getProjectTempDir()), only the new and modified files are written and the deleted
+ * files are removed. Each file is read once, while its MD5 is computed, and the directories are visited in parallel.
+ */
 public class RepositoryVisitor {
 
+    public static final String PARALLELISM_PROPERTY_NAME = "org.guvnor.ala.build.maven.repositoryVisitor.parallelism";
+
+    private static final Logger LOGGER = Logger.getLogger(RepositoryVisitor.class.getName());
+
     private static final Random RND = new Random();
+
+    private static final int BUFFER = 8192;
+
+    /**
+     * Files up to this size are read in memory, so that they are only written when their content has changed.
+     * Bigger files are copied while computing their MD5.
+     */
+    private static final long MAX_BUFFERED_FILE_SIZE = 8 * 1024 * 1024;
+
     private File root;
     private final Map<String, String> identityHash = new ConcurrentHashMap<>();
     private Map<String, String> oldIdentityHash;
@@ -62,27 +87,31 @@ public class RepositoryVisitor {
         this.root = makeTempRootDirectory(_projectRoot,
                                           cleanTempDir);
 
+        if (_projectRoot != null && !_projectRoot.equals("")) {
+            loadIndex(root.getAbsolutePath());
+        }
+
+        final ForkJoinPool pool = new ForkJoinPool(getParallelism());
         try {
-            if (_projectRoot != null && !_projectRoot.equals("")) {
-                loadIndex(root.getAbsolutePath());
-            }
-            visitPaths(root,
-                       Files.newDirectoryStream(projectPath));
-            if (oldIdentityHash != null) {
-                MapDifference<String, String> difference = Maps.difference(oldIdentityHash,
-                                                                           identityHash);
-                Map<String, String> deletedFiles = difference.entriesOnlyOnLeft();
-                for (String path : deletedFiles.keySet()) {
-                    boolean deleted = new File(root.getAbsolutePath().replace(projectPath.toString(),
-                                                                              "") + "/" + path).delete();
-                    System.out.println("Deleted: " + root.getAbsolutePath().replace(projectPath.toString(),
-                                                                                    "") + "/" + path + " -> " + deleted);
-                }
+            pool.invoke(new VisitDirectoryAction(root,
+                                                 projectPath));
+        } finally {
+            pool.shutdown();
+        }
+
+        if (oldIdentityHash != null) {
+            MapDifference<String, String> difference = Maps.difference(oldIdentityHash,
+                                                                       identityHash);
+            Map<String, String> deletedFiles = difference.entriesOnlyOnLeft();
+            for (String path : deletedFiles.keySet()) {
+                final File deletedFile = new File(root,
+                                                  toRelativePath(projectPath,
+                                                                 path));
+                boolean deleted = deletedFile.delete();
+                LOGGER.fine("Deleted: " + deletedFile.getAbsolutePath() + " -> " + deleted);
             }
-            storeIndex(root.getAbsolutePath());
-        } catch (IOException | NoSuchAlgorithmException ex) {
-            throw new RuntimeException(ex);
         }
+        storeIndex(root.getAbsolutePath());
     }
 
     public File getRoot() {
@@ -96,37 +125,61 @@ public class RepositoryVisitor {
         try (FileOutputStream output = new FileOutputStream(identityHashFile)) {
             output.write(json.getBytes());
         } catch (IOException ex) {
-            Logger.getLogger(RepositoryVisitor.class.getName()).log(Level.SEVERE,
-                                                                    null,
-                                                                    ex);
+            LOGGER.log(Level.SEVERE,
+                       null,
+                       ex);
         }
     }
 
     private void loadIndex(String path) {
         Gson gson = new Gson();
-        try {
-            JsonReader reader = new JsonReader(new FileReader(path + "/index.json"));
+        try (JsonReader reader = new JsonReader(new FileReader(path + "/index.json"))) {
             Type type = new TypeToken<Map<String, String>>() {
             }.getType();
             oldIdentityHash = gson.fromJson(reader,
                                             type);
         } catch (FileNotFoundException ex) {
             //The Index doesn't exist yet, it will be generated after the Repository visitor is used for the first time.
+        } catch (IOException ex) {
+            LOGGER.log(Level.WARNING,
+                       null,
+                       ex);
         }
     }
 
-    private void visitPaths(final File parent,
-                            final DirectoryStream<Path> directoryStream) throws IOException, NoSuchAlgorithmException {
-        for (final org.uberfire.java.nio.file.Path path : directoryStream) {
-            if (Files.isDirectory(path)) {
-                final File newParent = makeTempDirectory(parent,
-                                                         path.getFileName().toString());
-                visitPaths(newParent,
-                           Files.newDirectoryStream(path));
-            } else {
-                makeTempFile(parent,
-                             path);
+    /**
+     * Copies the files of a directory, and forks the copy of its sub directories.
+     */
+    private class VisitDirectoryAction extends RecursiveAction {
+
+        private final File parent;
+
+        private final Path directory;
+
+        private VisitDirectoryAction(final File parent,
+                                     final Path directory) {
+            this.parent = parent;
+            this.directory = directory;
+        }
+
+        @Override
+        protected void compute() {
+            final List<VisitDirectoryAction> subDirectories = new ArrayList<>();
+            try (final DirectoryStream<Path> directoryStream = Files.newDirectoryStream(directory)) {
+                for (final Path path : directoryStream) {
+                    if (Files.isDirectory(path)) {
+                        subDirectories.add(new VisitDirectoryAction(makeTempDirectory(parent,
+                                                                                      path.getFileName().toString()),
+                                                                    path));
+                    } else {
+                        makeTempFile(parent,
+                                     path);
+                    }
+                }
+            } catch (IOException | NoSuchAlgorithmException ex) {
+                throw new RuntimeException(ex);
             }
+            invokeAll(subDirectories);
         }
     }
 
@@ -162,98 +215,87 @@ public class RepositoryVisitor {
 
     private void makeTempFile(final File parent,
                               final Path path) throws IOException, NoSuchAlgorithmException {
+        final String resourcePath = path.toString();
+        final File tempFile = new File(parent,
+                                       path.getFileName().toString());
+        final MessageDigest md = MessageDigest.getInstance("MD5");
 
-        final int BUFFER = 2048; //Dangerous stuff here ???
-        byte data[] = new byte[BUFFER];
-
-        MessageDigest md = MessageDigest.getInstance("MD5");
-        DigestInputStream dis = new DigestInputStream(Files.newInputStream(path),
-                                                      md);
-        try (BufferedInputStream origin = new BufferedInputStream(dis,
-                                                                  BUFFER)) {
-            String resourcePath = path.toString();
-            readFile(origin,
-                     data,
-                     BUFFER);
+        if (Files.size(path) > MAX_BUFFERED_FILE_SIZE) {
+            try (InputStream input = Files.newInputStream(path);
+                 OutputStream output = new FileOutputStream(tempFile)) {
+                copy(input,
+                     output,
+                     md);
+            }
             identityHash.put(resourcePath,
-                             getMD5String(dis.getMessageDigest().digest()));
+                             getMD5String(md.digest()));
+            return;
         }
 
-        FileOutputStream output = null;
-        dis = new DigestInputStream(Files.newInputStream(path),
-                                    md);
-        try (BufferedInputStream origin = new BufferedInputStream(dis,
-                                                                  BUFFER)) {
-            String resourcePath = path.toString();
-            if (oldIdentityHash != null) {
-                //if the key exist in the old map and the hash is different then we need to override the file
-                if (oldIdentityHash.containsKey(resourcePath) && oldIdentityHash.get(resourcePath) != null
-                        && !oldIdentityHash.get(resourcePath).equals(identityHash.get(resourcePath))) {
-
-                    output = writeFile(parent,
-                                       path,
-                                       output,
-                                       origin,
-                                       data,
-                                       BUFFER);
-                    System.out.println("Overriding existing file content : " + resourcePath);
-                } else if (!oldIdentityHash.containsKey(resourcePath)) {
-
-                    output = writeFile(parent,
-                                       path,
-                                       output,
-                                       origin,
-                                       data,
-                                       BUFFER);
-                }
-            } else {
-                output = writeFile(parent,
-                                   path,
-                                   output,
-                                   origin,
-                                   data,
-                                   BUFFER);
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        try (InputStream input = Files.newInputStream(path)) {
+            copy(input,
+                 content,
+                 md);
+        }
+        final String hash = getMD5String(md.digest());
+        identityHash.put(resourcePath,
+                         hash);
+
+        final String oldHash = oldIdentityHash != null ? oldIdentityHash.get(resourcePath) : null;
+        //the file is only written when it is new, or its content has changed
+        if (oldHash == null || !oldHash.equals(hash) || !tempFile.exists()) {
+            if (oldHash != null) {
+                LOGGER.fine("Overriding existing file content : " + resourcePath);
             }
-        } finally {
-            if (output != null) {
-                output.close();
+            try (OutputStream output = new FileOutputStream(tempFile)) {
+                content.writeTo(output);
             }
         }
     }
 
     /*
-     * reads the file to generate the MD5 Digest
+     * copies the content while computing its MD5 Digest
      */
-    private void readFile(final BufferedInputStream origin,
-                          byte[] data,
-                          final int BUFFER) throws IOException {
-        while ((origin.read(data,
-                            0,
-                            BUFFER)) != -1) {
-        }
-    }
-
-    private FileOutputStream writeFile(final File parent,
-                                       final Path path,
-                                       FileOutputStream output,
-                                       final BufferedInputStream origin,
-                                       byte[] data,
-                                       final int BUFFER) throws IOException, FileNotFoundException {
-        final File tempFile = new File(parent,
-                                       path.getFileName().toString());
-        if (!tempFile.exists()) {
-            tempFile.createNewFile();
-        }
-        output = new FileOutputStream(tempFile);
+    private void copy(final InputStream input,
+                      final OutputStream output,
+                      final MessageDigest md) throws IOException {
+        final byte[] data = new byte[BUFFER];
         int count;
-        while ((count = origin.read(data,
-                                    0,
-                                    BUFFER)) != -1) {
+        while ((count = input.read(data,
+                                   0,
+                                   BUFFER)) != -1) {
+            md.update(data,
+                      0,
+                      count);
             output.write(data,
                          0,
                          count);
         }
-        return output;
+    }
+
+    private String toRelativePath(final Path projectPath,
+                                  final String path) {
+        final String projectRoot = projectPath.toString();
+        if (path.startsWith(projectRoot)) {
+            return path.substring(projectRoot.length());
+        }
+        return path;
+    }
+
+    private static int getParallelism() {
+        final String parallelism = System.getProperty(PARALLELISM_PROPERTY_NAME);
+        if (parallelism != null) {
+            try {
+                final int result = Integer.parseInt(parallelism);
+                if (result > 0) {
+                    return result;
+                }
+            } catch (NumberFormatException ex) {
+                LOGGER.warning(PARALLELISM_PROPERTY_NAME + " property was set to a wrong value: " + parallelism);
+            }
+        }
+        return Runtime.getRuntime().availableProcessors();
     }
 
     public Map<String, String> getIdentityHash() {
@@ -135,5 +135,15 @@ public class RepositoryVisitorTest {
         assertEquals(1,
                      addedFiles.size());
         assertNotNull(addedFiles.get("/file.txt"));
+
+        //the local copy was updated incrementally.
+        final File root = newRepositoryVisitor.getRoot();
+        assertFalse(new File(root,
+                             "demo.iml").exists());
+        assertEquals("temp",
+                     FileUtils.readFileToString(new File(root,
+                                                         "file.txt")));
+        assertTrue(FileUtils.readFileToString(new File(root,
+                                                       "pom.xml")).startsWith("hi there"));
     }
 }
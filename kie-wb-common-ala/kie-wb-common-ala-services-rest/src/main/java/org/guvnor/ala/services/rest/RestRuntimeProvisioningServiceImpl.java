@@ -16,8 +16,11 @@
 
 package org.guvnor.ala.services.rest;
 
+import java.util.AbstractMap;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -233,7 +236,7 @@ public class RestRuntimeProvisioningServiceImpl
                 .withProviderId(query.getProviderId())
                 .withPipelineId(query.getPipelineId());
 
-        final Collection<PipelineExecutorTrace> pipelineTraces = pipelineExecutorRegistry.getExecutorTraces().stream()
+        final Collection<PipelineExecutorTrace> pipelineTraces = findPipelineTraces(query).stream()
                 .filter(traceFilter)
                 .collect(Collectors.toList());
 
@@ -245,19 +248,22 @@ public class RestRuntimeProvisioningServiceImpl
             List<RuntimeQueryResultItem> items = buildResultItemList(pipelineTraces,
                                                                      runtimeRegistry);
 
-            List<Runtime> runtimes = runtimeRegistry.getRuntimes(0,
-                                                                 1000,
-                                                                 "id",
-                                                                 true);
+            //runtimes already included from the pipeline traces, by runtime id and provider id
+            final Set<Map.Entry<String, String>> itemKeys = items.stream()
+                    .map(item -> new AbstractMap.SimpleImmutableEntry<>(item.getRuntimeId(),
+                                                                        item.getProviderId()))
+                    .collect(Collectors.toSet());
+
             RuntimeFilter runtimeFilter = RuntimeFilter.newInstance()
                     .withProviderId(query.getProviderId())
                     .withRuntimeId(query.getRuntimeId())
                     .withRuntimeName(query.getRuntimeName());
 
-            runtimes.forEach(runtime -> {
+            findRuntimes(query).forEach(runtime -> {
                 if (runtimeFilter.test(runtime)) {
-                    if (items.stream().filter(item -> runtime.getId().equals(item.getRuntimeId()) &&
-                            runtime.getProviderId().getId().equals(item.getProviderId())).count() == 0) {
+                    final String providerId = runtime.getProviderId() != null ? runtime.getProviderId().getId() : null;
+                    if (!itemKeys.contains(new AbstractMap.SimpleImmutableEntry<>(runtime.getId(),
+                                                                                  providerId))) {
                         items.add(RuntimeQueryResultItemBuilder.newInstance(runtimeRegistry).with(runtime).build());
                     }
                 }
@@ -267,6 +273,43 @@ public class RestRuntimeProvisioningServiceImpl
         }
     }
 
+    /**
+     * Gets the pipeline traces that might match the query, through the registry indexes when possible.
+     */
+    private Collection<PipelineExecutorTrace> findPipelineTraces(final RuntimeQuery query) {
+        if (query.getPipelineExecutionId() != null) {
+            return singletonOrEmpty(pipelineExecutorRegistry.getExecutorTrace(query.getPipelineExecutionId()));
+        } else if (query.getRuntimeId() != null) {
+            return singletonOrEmpty(pipelineExecutorRegistry.getExecutorTraceByRuntimeId(query.getRuntimeId()));
+        } else if (query.getRuntimeName() != null) {
+            return pipelineExecutorRegistry.getExecutorTraces();
+        } else if (query.getProviderId() != null) {
+            return pipelineExecutorRegistry.getExecutorTracesByProvider(query.getProviderId());
+        } else if (query.getPipelineId() != null) {
+            return pipelineExecutorRegistry.getExecutorTracesByPipeline(query.getPipelineId());
+        }
+        return pipelineExecutorRegistry.getExecutorTraces();
+    }
+
+    /**
+     * Gets the runtimes that might match the query, through the registry indexes when possible.
+     */
+    private Collection<Runtime> findRuntimes(final RuntimeQuery query) {
+        if (query.getRuntimeId() != null) {
+            return singletonOrEmpty(runtimeRegistry.getRuntimeById(query.getRuntimeId()));
+        } else if (query.getRuntimeName() == null && query.getProviderId() != null) {
+            return runtimeRegistry.getRuntimesByProvider(query.getProviderId());
+        }
+        return runtimeRegistry.getRuntimes(0,
+                                           1000,
+                                           "id",
+                                           true);
+    }
+
+    private static <T> Collection<T> singletonOrEmpty(final T value) {
+        return value != null ? Collections.singletonList(value) : Collections.emptyList();
+    }
+
     private List<RuntimeQueryResultItem> buildResultItemList(Collection<PipelineExecutorTrace> pipelineExecutorTraces,
                                                              RuntimeRegistry runtimeRegistry) {
         return pipelineExecutorTraces.stream()
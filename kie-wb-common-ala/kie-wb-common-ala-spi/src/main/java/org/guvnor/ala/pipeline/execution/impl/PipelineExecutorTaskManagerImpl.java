@@ -16,13 +16,17 @@
 
 package org.guvnor.ala.pipeline.execution.impl;
 
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import javax.enterprise.context.ApplicationScoped;
@@ -62,15 +66,40 @@ public class PipelineExecutorTaskManagerImpl
 
     protected static final String THREAD_POOL_SIZE_PROPERTY_NAME = "org.guvnor.ala.pipeline.execution.threadPoolSize";
 
+    protected static final int DEFAULT_QUEUE_CAPACITY = Integer.MAX_VALUE;
+
+    protected static final String QUEUE_CAPACITY_PROPERTY_NAME = "org.guvnor.ala.pipeline.execution.queueCapacity";
+
+    protected static final int DEFAULT_MAX_TASKS_PER_PIPELINE = Integer.MAX_VALUE;
+
+    protected static final String MAX_TASKS_PER_PIPELINE_PROPERTY_NAME = "org.guvnor.ala.pipeline.execution.maxTasksPerPipeline";
+
     protected ExecutorService executor;
 
     protected List<PipelineEventListener> externalListeners;
 
     protected PipelineExecutor pipelineExecutor;
 
-    protected final Map<String, TaskEntry> currentTasks = new HashMap<>();
+    protected final Map<String, TaskEntry> currentTasks = new ConcurrentHashMap<>();
+
+    protected Map<String, Future<?>> futureTaskMap = new ConcurrentHashMap<>();
+
+    /**
+     * Number of asynchronous tasks scheduled or running per pipeline.
+     */
+    protected final Map<String, AtomicInteger> pipelineTasks = new ConcurrentHashMap<>();
+
+    /**
+     * Pipeline of the asynchronous tasks counted in pipelineTasks, by taskId.
+     */
+    protected final Map<String, String> taskPipelines = new ConcurrentHashMap<>();
+
+    /**
+     * Start time of the running stages, by taskId and stage name.
+     */
+    protected final Map<String, Long> stageStartTimes = new ConcurrentHashMap<>();
 
-    protected Map<String, Future<?>> futureTaskMap = new HashMap<>();
+    protected int maxTasksPerPipeline = DEFAULT_MAX_TASKS_PER_PIPELINE;
 
     protected PipelineExecutorRegistry pipelineExecutorRegistry;
 
@@ -128,26 +157,24 @@ public class PipelineExecutorTaskManagerImpl
     @PreDestroy
     protected void destroy() {
         try {
-            synchronized (currentTasks) {
-                final Set<TaskEntry> entrySet = new HashSet<>();
-                entrySet.addAll(currentTasks.values());
-                entrySet.forEach(entry -> {
-                    currentTasks.remove(entry.getTask().getId());
-                    if (entry.isAsync()) {
-                        final PipelineExecutorTaskImpl task = entry.getTask();
-                        if (stopEnabledStatus.contains(task.getPipelineStatus())) {
-                            try {
-                                taskManagerHelper.setTaskInStoppedStatus(task);
-                                updateExecutorRegistry(task);
-                            } catch (Exception e) {
-                                logger.error("It was not possible to update task: " + task.getId() + " during " +
-                                                     " PipelineExecutorTaskManager finalization. " + e.getMessage(),
-                                             e);
-                            }
+            final Set<TaskEntry> entrySet = new HashSet<>();
+            entrySet.addAll(currentTasks.values());
+            entrySet.forEach(entry -> {
+                currentTasks.remove(entry.getTask().getId());
+                if (entry.isAsync()) {
+                    final PipelineExecutorTaskImpl task = entry.getTask();
+                    if (stopEnabledStatus.contains(task.getPipelineStatus())) {
+                        try {
+                            taskManagerHelper.setTaskInStoppedStatus(task);
+                            updateExecutorRegistry(task);
+                        } catch (Exception e) {
+                            logger.error("It was not possible to update task: " + task.getId() + " during " +
+                                                 " PipelineExecutorTaskManager finalization. " + e.getMessage(),
+                                         e);
                         }
                     }
-                });
-            }
+                }
+            });
             if (executor != null) {
                 executor.shutdown();
             }
@@ -159,6 +186,7 @@ public class PipelineExecutorTaskManagerImpl
 
     private void initExecutor() {
         executor = taskManagerHelper.createExecutorService();
+        maxTasksPerPipeline = taskManagerHelper.getMaxTasksPerPipeline();
     }
 
     private void initPipelineExecutor() {
@@ -247,41 +275,95 @@ public class PipelineExecutorTaskManagerImpl
      * Executes the task definition in asynchronous mode.
      * @param taskDef task definition for executing.
      * @return the taskId assigned to the running task.
+     * @throws RejectedExecutionException if the maximum number of tasks for the pipeline was reached, or the
+     * queue of the scheduled tasks is full.
      * @see PipelineExecutorTaskDef
      */
-    private synchronized String executeAsync(final PipelineExecutorTaskDef taskDef) {
+    private String executeAsync(final PipelineExecutorTaskDef taskDef) {
         final PipelineExecutorTaskImpl task = taskManagerHelper.createTask(taskDef);
-        storeTaskEntry(TaskEntry.newAsyncEntry(task));
-        startAsyncTask(task);
+        final TaskEntry entry = TaskEntry.newAsyncEntry(task);
+        acquirePipelineSlot(entry);
+        storeTaskEntry(entry);
+        try {
+            startAsyncTask(entry);
+        } catch (RejectedExecutionException e) {
+            removeTaskEntry(task.getId());
+            releasePipelineSlot(task.getId());
+            throw e;
+        }
         updateExecutorRegistry(task);
         return task.getId();
     }
 
     /**
      * Executes a task in asynchronous mode.
-     * @param task the task for execute.
-     * @return the taskId of the task.
+     * @param entry the entry of the task for execute.
      */
-    private synchronized void startAsyncTask(final PipelineExecutorTask task) {
-        final Future<?> future = executor.submit(() -> {
-            final Pipeline pipeline = pipelineRegistry.getPipelineByName(task.getTaskDef().getPipeline());
-            try {
-                pipelineExecutor.execute(task.getTaskDef().getInput(),
-                                         pipeline,
-                                         output -> processPipelineOutput(task,
-                                                                         output),
-                                         localListener);
-            } catch (Exception e) {
-                logger.error("An error was produced during pipeline execution for PipelineExecutorTask: " + task.getId(),
-                             e);
-            } finally {
-                removeTaskEntry(task.getId());
-                removeFutureTask(task.getId());
+    private void startAsyncTask(final TaskEntry entry) {
+        final PipelineExecutorTask task = entry.getTask();
+        //the entry lock guarantees the future is stored before the finished task removes it.
+        synchronized (entry) {
+            final Future<?> future = executor.submit(() -> {
+                final Pipeline pipeline = pipelineRegistry.getPipelineByName(task.getTaskDef().getPipeline());
+                try {
+                    pipelineExecutor.execute(task.getTaskDef().getInput(),
+                                             pipeline,
+                                             output -> processPipelineOutput(task,
+                                                                             output),
+                                             localListener);
+                } catch (Exception e) {
+                    logger.error("An error was produced during pipeline execution for PipelineExecutorTask: " + task.getId(),
+                                 e);
+                } finally {
+                    removeTaskEntry(task.getId());
+                    releasePipelineSlot(task.getId());
+                    synchronized (entry) {
+                        removeFutureTask(task.getId());
+                    }
+                }
+            });
+
+            storeFutureTask(task.getId(),
+                            future);
+        }
+    }
+
+    private void acquirePipelineSlot(final TaskEntry entry) {
+        final String pipelineName = String.valueOf(entry.getTask().getTaskDef().getPipeline());
+        final AtomicInteger tasks = pipelineTasks.computeIfAbsent(pipelineName,
+                                                                  name -> new AtomicInteger());
+        if (tasks.incrementAndGet() > maxTasksPerPipeline) {
+            tasks.decrementAndGet();
+            throw new RejectedExecutionException("The maximum number of tasks: " + maxTasksPerPipeline +
+                                                         " for pipeline: " + pipelineName + " was reached.");
+        }
+        taskPipelines.put(entry.getTask().getId(),
+                          pipelineName);
+    }
+
+    private void releasePipelineSlot(final String taskId) {
+        //a slot is released only once, either when the task finishes or when it's stopped or destroyed.
+        final String pipelineName = taskPipelines.remove(taskId);
+        if (pipelineName != null) {
+            final AtomicInteger tasks = pipelineTasks.get(pipelineName);
+            if (tasks != null) {
+                tasks.decrementAndGet();
             }
-        });
+        }
+    }
 
-        storeFutureTask(task.getId(),
-                        future);
+    /**
+     * @return the number of asynchronous tasks waiting for a thread.
+     */
+    public int getQueueDepth() {
+        return executor instanceof ThreadPoolExecutor ? ((ThreadPoolExecutor) executor).getQueue().size() : 0;
+    }
+
+    /**
+     * @return the number of tasks scheduled or running.
+     */
+    public int getActiveTasks() {
+        return currentTasks.size();
     }
 
     /**
@@ -331,6 +413,7 @@ public class PipelineExecutorTaskManagerImpl
         }
         destroyFutureTask(taskId);
         removeTaskEntry(taskId);
+        releasePipelineSlot(taskId);
         taskManagerHelper.setTaskInStoppedStatus(entry.getTask());
         updateExecutorRegistry(entry.getTask());
     }
@@ -347,6 +430,7 @@ public class PipelineExecutorTaskManagerImpl
         }
         destroyFutureTask(taskId);
         removeTaskEntry(taskId);
+        releasePipelineSlot(taskId);
         pipelineExecutorRegistry.deregister(taskId);
     }
 
@@ -389,6 +473,9 @@ public class PipelineExecutorTaskManagerImpl
 
     private void beforeStageExecution(final BeforeStageExecutionEvent bsee,
                                       final TaskEntry taskEntry) {
+        stageStartTimes.put(stageKey(taskEntry,
+                                     bsee.getStage().getName()),
+                            System.nanoTime());
         taskEntry.getTask().setStageStatus(bsee.getStage().getName(),
                                            PipelineExecutorTask.Status.RUNNING);
         if (taskEntry.isAsync()) {
@@ -398,6 +485,8 @@ public class PipelineExecutorTaskManagerImpl
 
     private void onStageError(final OnErrorStageExecutionEvent oesee,
                               final TaskEntry taskEntry) {
+        logStageDuration(oesee.getStage().getName(),
+                         taskEntry);
         taskEntry.getTask().setPipelineStatus(PipelineExecutorTask.Status.ERROR);
         taskEntry.getTask().setStageStatus(oesee.getStage().getName(),
                                            PipelineExecutorTask.Status.ERROR);
@@ -411,6 +500,8 @@ public class PipelineExecutorTaskManagerImpl
 
     private void afterStageExecution(final AfterStageExecutionEvent asee,
                                      final TaskEntry taskEntry) {
+        logStageDuration(asee.getStage().getName(),
+                         taskEntry);
         taskEntry.getTask().setStageStatus(asee.getStage().getName(),
                                            PipelineExecutorTask.Status.FINISHED);
         if (taskEntry.isAsync()) {
@@ -429,26 +520,43 @@ public class PipelineExecutorTaskManagerImpl
         }
     }
 
-    private synchronized TaskEntry getTaskEntry(final String taskId) {
+    private void logStageDuration(final String stageName,
+                                  final TaskEntry taskEntry) {
+        final Long startTime = stageStartTimes.remove(stageKey(taskEntry,
+                                                              stageName));
+        if (startTime != null && logger.isDebugEnabled()) {
+            logger.debug("Stage: " + stageName + " of PipelineExecutorTask: " + taskEntry.getTask().getId() +
+                                 " was executed in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) +
+                                 " ms, tasks waiting for execution: " + getQueueDepth());
+        }
+    }
+
+    private static String stageKey(final TaskEntry taskEntry,
+                                   final String stageName) {
+        return taskEntry.getTask().getId() + "/" + stageName;
+    }
+
+    private TaskEntry getTaskEntry(final String taskId) {
         return currentTasks.get(taskId);
     }
 
-    private synchronized void removeTaskEntry(final String taskId) {
+    private void removeTaskEntry(final String taskId) {
         currentTasks.remove(taskId);
+        stageStartTimes.keySet().removeIf(key -> key.startsWith(taskId + "/"));
     }
 
-    private synchronized void storeTaskEntry(final TaskEntry entry) {
+    private void storeTaskEntry(final TaskEntry entry) {
         currentTasks.put(entry.task.getId(),
                          entry);
     }
 
-    private synchronized void storeFutureTask(final String taskId,
-                                              final Future future) {
+    private void storeFutureTask(final String taskId,
+                                 final Future future) {
         futureTaskMap.put(taskId,
                           future);
     }
 
-    private synchronized void removeFutureTask(final String taskId) {
+    private void removeFutureTask(final String taskId) {
         futureTaskMap.remove(taskId);
     }
 
@@ -457,7 +565,7 @@ public class PipelineExecutorTaskManagerImpl
      * @param taskId the task id to be destroyed.
      * @return true if the task was destroyed with no errors, false in any other case.
      */
-    private synchronized boolean destroyFutureTask(final String taskId) {
+    private boolean destroyFutureTask(final String taskId) {
         final Future future = futureTaskMap.remove(taskId);
         if (future != null && !future.isCancelled() && !future.isDone()) {
             try {
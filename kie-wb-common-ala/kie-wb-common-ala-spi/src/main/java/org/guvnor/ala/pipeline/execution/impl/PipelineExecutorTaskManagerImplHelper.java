@@ -20,7 +20,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import javax.enterprise.inject.Instance;
 
 import org.guvnor.ala.pipeline.ConfigExecutor;
@@ -39,7 +41,11 @@ import org.guvnor.ala.pipeline.execution.PipelineExecutorTaskDef;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static org.guvnor.ala.pipeline.execution.impl.PipelineExecutorTaskManagerImpl.DEFAULT_MAX_TASKS_PER_PIPELINE;
+import static org.guvnor.ala.pipeline.execution.impl.PipelineExecutorTaskManagerImpl.DEFAULT_QUEUE_CAPACITY;
 import static org.guvnor.ala.pipeline.execution.impl.PipelineExecutorTaskManagerImpl.DEFAULT_THREAD_POOL_SIZE;
+import static org.guvnor.ala.pipeline.execution.impl.PipelineExecutorTaskManagerImpl.MAX_TASKS_PER_PIPELINE_PROPERTY_NAME;
+import static org.guvnor.ala.pipeline.execution.impl.PipelineExecutorTaskManagerImpl.QUEUE_CAPACITY_PROPERTY_NAME;
 import static org.guvnor.ala.pipeline.execution.impl.PipelineExecutorTaskManagerImpl.THREAD_POOL_SIZE_PROPERTY_NAME;
 
 /**
@@ -61,28 +67,47 @@ public class PipelineExecutorTaskManagerImplHelper {
     }
 
     public ExecutorService createExecutorService() {
-        final String threadPoolSizeValue = System.getProperties().getProperty(THREAD_POOL_SIZE_PROPERTY_NAME);
-        int threadPoolSize;
-        if (threadPoolSizeValue == null) {
-            threadPoolSize = DEFAULT_THREAD_POOL_SIZE;
-            logger.debug(THREAD_POOL_SIZE_PROPERTY_NAME + " property was not set, by default value will be used: " + DEFAULT_THREAD_POOL_SIZE);
-        } else {
-            try {
-                threadPoolSize = Integer.parseInt(threadPoolSizeValue);
-                if (threadPoolSize <= 0) {
-                    threadPoolSize = DEFAULT_THREAD_POOL_SIZE;
-                    logger.error(THREAD_POOL_SIZE_PROPERTY_NAME + " property must be greater than 0, by default value will be used: " + DEFAULT_THREAD_POOL_SIZE);
-                } else {
-                    logger.debug(THREAD_POOL_SIZE_PROPERTY_NAME + " property will be set to: " + threadPoolSize);
-                }
-            } catch (Exception e) {
-                threadPoolSize = DEFAULT_THREAD_POOL_SIZE;
-                logger.error(THREAD_POOL_SIZE_PROPERTY_NAME + " property was set to a wrong value, by default value will be used: " + DEFAULT_THREAD_POOL_SIZE,
-                             e);
+        final int threadPoolSize = getPositiveIntProperty(THREAD_POOL_SIZE_PROPERTY_NAME,
+                                                          DEFAULT_THREAD_POOL_SIZE);
+        final int queueCapacity = getPositiveIntProperty(QUEUE_CAPACITY_PROPERTY_NAME,
+                                                         DEFAULT_QUEUE_CAPACITY);
+        //when the queue is full new tasks are rejected with a RejectedExecutionException.
+        return new ThreadPoolExecutor(threadPoolSize,
+                                      threadPoolSize,
+                                      0L,
+                                      TimeUnit.MILLISECONDS,
+                                      new LinkedBlockingQueue<>(queueCapacity));
+    }
+
+    /**
+     * @return the maximum number of asynchronous tasks of a same pipeline that can be scheduled or running at the
+     * same time, or DEFAULT_MAX_TASKS_PER_PIPELINE (no limit).
+     */
+    public int getMaxTasksPerPipeline() {
+        return getPositiveIntProperty(MAX_TASKS_PER_PIPELINE_PROPERTY_NAME,
+                                      DEFAULT_MAX_TASKS_PER_PIPELINE);
+    }
+
+    private int getPositiveIntProperty(final String propertyName,
+                                       final int defaultValue) {
+        final String value = System.getProperties().getProperty(propertyName);
+        if (value == null) {
+            logger.debug(propertyName + " property was not set, by default value will be used: " + defaultValue);
+            return defaultValue;
+        }
+        try {
+            final int result = Integer.parseInt(value);
+            if (result <= 0) {
+                logger.error(propertyName + " property must be greater than 0, by default value will be used: " + defaultValue);
+                return defaultValue;
             }
+            logger.debug(propertyName + " property will be set to: " + result);
+            return result;
+        } catch (Exception e) {
+            logger.error(propertyName + " property was set to a wrong value, by default value will be used: " + defaultValue,
+                         e);
+            return defaultValue;
         }
-
-        return Executors.newFixedThreadPool(threadPoolSize);
     }
 
     public PipelineExecutor createPipelineExecutor() {
@@ -57,4 +57,25 @@ public interface PipelineExecutorRegistry {
      * @return the pipeline executor trace associated to the runtime if exits, null in any other case.
      */
     PipelineExecutorTrace getExecutorTrace(final RuntimeId runtimeId);
+
+    /**
+     * Gets the pipeline executor trace that produced a runtime.
+     * @param runtimeId the identifier of a runtime for finding the associated pipeline executor trace.
+     * @return the pipeline executor trace associated to the runtime if exits, null in any other case.
+     */
+    PipelineExecutorTrace getExecutorTraceByRuntimeId(final String runtimeId);
+
+    /**
+     * Gets the pipeline executor traces of a pipeline.
+     * @param pipelineId the identifier of the pipeline.
+     * @return a list with the pipeline executor traces of the pipeline.
+     */
+    Collection<PipelineExecutorTrace> getExecutorTracesByPipeline(final String pipelineId);
+
+    /**
+     * Gets the pipeline executor traces of the pipelines executed on a provider.
+     * @param providerId the identifier of the provider.
+     * @return a list with the pipeline executor traces of the provider.
+     */
+    Collection<PipelineExecutorTrace> getExecutorTracesByProvider(final String providerId);
 }
\ No newline at end of file
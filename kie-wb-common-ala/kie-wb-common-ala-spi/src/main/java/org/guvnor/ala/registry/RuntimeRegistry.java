@@ -129,6 +129,14 @@ public interface RuntimeRegistry {
                               final String sort,
                               final boolean sortOrder);
 
+    /**
+     * Gets the list of registered runtimes of a provider.
+     * @param providerId the identifier of the provider.
+     * @return a list with all the runtimes registered for the provider.
+     * @see Runtime
+     */
+    List<Runtime> getRuntimesByProvider(final String providerId);
+
     /**
      * Gets a runtime by identifier.
      * @param runtimeId the identifier of the runtime to look for.
@@ -17,11 +17,15 @@
 package org.guvnor.ala.registry.inmemory;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import javax.enterprise.context.ApplicationScoped;
 
+import org.guvnor.ala.pipeline.execution.PipelineExecutorTask;
 import org.guvnor.ala.pipeline.execution.PipelineExecutorTrace;
 import org.guvnor.ala.registry.PipelineExecutorRegistry;
 import org.guvnor.ala.runtime.RuntimeId;
@@ -34,22 +38,38 @@ public class InMemoryPipelineExecutorRegistry
 
     protected Map<String, PipelineExecutorTrace> recordsMap = new ConcurrentHashMap<>();
 
+    /**
+     * Secondary indexes, from the pipeline id, the provider id and the produced runtime id to the trace ids.
+     */
+    protected Map<String, Set<String>> tracesByPipeline = new ConcurrentHashMap<>();
+
+    protected Map<String, Set<String>> tracesByProvider = new ConcurrentHashMap<>();
+
+    protected Map<String, String> tracesByRuntime = new ConcurrentHashMap<>();
+
     public InMemoryPipelineExecutorRegistry() {
         //Empty constructor for Weld proxying
     }
 
     @Override
-    public void register(final PipelineExecutorTrace trace) {
+    public synchronized void register(final PipelineExecutorTrace trace) {
         checkNotNull("trace",
                      trace);
-        recordsMap.put(trace.getTaskId(),
-                       trace);
+        final PipelineExecutorTrace previous = recordsMap.put(trace.getTaskId(),
+                                                              trace);
+        if (previous != null) {
+            unindex(previous);
+        }
+        index(trace);
     }
 
-    public void deregister(final String pipelineExecutionId) {
+    public synchronized void deregister(final String pipelineExecutionId) {
         checkNotNull("pipelineExecutionId",
                      pipelineExecutionId);
-        recordsMap.remove(pipelineExecutionId);
+        final PipelineExecutorTrace previous = recordsMap.remove(pipelineExecutionId);
+        if (previous != null) {
+            unindex(previous);
+        }
     }
 
     @Override
@@ -62,15 +82,106 @@ public class InMemoryPipelineExecutorRegistry
         return recordsMap.values();
     }
 
+    @Override
+    public Collection<PipelineExecutorTrace> getExecutorTracesByPipeline(final String pipelineId) {
+        checkNotNull("pipelineId",
+                     pipelineId);
+        return getExecutorTraces(tracesByPipeline.get(pipelineId));
+    }
+
+    @Override
+    public Collection<PipelineExecutorTrace> getExecutorTracesByProvider(final String providerId) {
+        checkNotNull("providerId",
+                     providerId);
+        return getExecutorTraces(tracesByProvider.get(providerId));
+    }
+
     @Override
     public PipelineExecutorTrace getExecutorTrace(final RuntimeId runtimeId) {
         checkNotNull("runtimeId",
                      runtimeId);
-        return recordsMap.values()
-                .stream()
-                .filter(trace ->
-                                (trace.getTask().getOutput() instanceof RuntimeId) &&
-                                        runtimeId.getId().equals(((RuntimeId) trace.getTask().getOutput()).getId())
-                ).findFirst().orElse(null);
+        return getExecutorTraceByRuntimeId(runtimeId.getId());
+    }
+
+    @Override
+    public PipelineExecutorTrace getExecutorTraceByRuntimeId(final String runtimeId) {
+        checkNotNull("runtimeId",
+                     runtimeId);
+        final String taskId = tracesByRuntime.get(runtimeId);
+        return taskId != null ? recordsMap.get(taskId) : null;
+    }
+
+    private Collection<PipelineExecutorTrace> getExecutorTraces(final Set<String> taskIds) {
+        if (taskIds == null) {
+            return Collections.emptyList();
+        }
+        return taskIds.stream()
+                .map(recordsMap::get)
+                .filter(trace -> trace != null)
+                .collect(Collectors.toList());
+    }
+
+    private void index(final PipelineExecutorTrace trace) {
+        final String taskId = trace.getTaskId();
+        if (trace.getPipelineId() != null) {
+            tracesByPipeline.computeIfAbsent(trace.getPipelineId(),
+                                             key -> ConcurrentHashMap.newKeySet()).add(taskId);
+        }
+        final String providerId = getProviderId(trace);
+        if (providerId != null) {
+            tracesByProvider.computeIfAbsent(providerId,
+                                             key -> ConcurrentHashMap.newKeySet()).add(taskId);
+        }
+        final String runtimeId = getRuntimeId(trace);
+        if (runtimeId != null) {
+            tracesByRuntime.put(runtimeId,
+                                taskId);
+        }
+    }
+
+    private void unindex(final PipelineExecutorTrace trace) {
+        final String taskId = trace.getTaskId();
+        removeFromIndex(tracesByPipeline,
+                        trace.getPipelineId(),
+                        taskId);
+        removeFromIndex(tracesByProvider,
+                        getProviderId(trace),
+                        taskId);
+        final String runtimeId = getRuntimeId(trace);
+        if (runtimeId != null) {
+            tracesByRuntime.remove(runtimeId,
+                                   taskId);
+        }
+    }
+
+    private static void removeFromIndex(final Map<String, Set<String>> index,
+                                        final String key,
+                                        final String taskId) {
+        if (key == null) {
+            return;
+        }
+        final Set<String> taskIds = index.get(key);
+        if (taskIds != null) {
+            taskIds.remove(taskId);
+            if (taskIds.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private static String getProviderId(final PipelineExecutorTrace trace) {
+        final PipelineExecutorTask task = trace.getTask();
+        if (task == null || task.getTaskDef() == null || task.getTaskDef().getProviderId() == null) {
+            return null;
+        }
+        return task.getTaskDef().getProviderId().getId();
+    }
+
+    private static String getRuntimeId(final PipelineExecutorTrace trace) {
+        final PipelineExecutorTask task = trace.getTask();
+        if (task == null || !(task.getOutput() instanceof RuntimeId)) {
+            return null;
+        }
+        return ((RuntimeId) task.getOutput()).getId();
     }
-}
\ No newline at end of file
+}
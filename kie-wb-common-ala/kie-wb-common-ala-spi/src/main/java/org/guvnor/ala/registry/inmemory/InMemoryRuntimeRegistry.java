@@ -17,9 +17,11 @@
 package org.guvnor.ala.registry.inmemory;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
@@ -45,6 +47,11 @@ public class InMemoryRuntimeRegistry
 
     protected Map<String, Runtime> runtimes = new ConcurrentHashMap<>();
 
+    /**
+     * Secondary index, from the provider id to the ids of its runtimes.
+     */
+    protected Map<String, Set<String>> runtimesByProvider = new ConcurrentHashMap<>();
+
     public InMemoryRuntimeRegistry() {
         //Empty constructor for Weld proxying
     }
@@ -151,11 +158,19 @@ public class InMemoryRuntimeRegistry
     }
 
     @Override
-    public void registerRuntime(final Runtime runtime) {
+    public synchronized void registerRuntime(final Runtime runtime) {
         checkNotNull("runtime",
                      runtime);
-        runtimes.put(runtime.getId(),
-                     runtime);
+        final Runtime previous = runtimes.put(runtime.getId(),
+                                              runtime);
+        if (previous != null) {
+            unindex(previous);
+        }
+        final String providerId = getProviderId(runtime);
+        if (providerId != null) {
+            runtimesByProvider.computeIfAbsent(providerId,
+                                               key -> ConcurrentHashMap.newKeySet()).add(runtime.getId());
+        }
     }
 
     @Override
@@ -181,6 +196,20 @@ public class InMemoryRuntimeRegistry
                                      sortOrder);
     }
 
+    @Override
+    public List<Runtime> getRuntimesByProvider(final String providerId) {
+        checkNotNull("providerId",
+                     providerId);
+        final Set<String> runtimeIds = runtimesByProvider.get(providerId);
+        if (runtimeIds == null) {
+            return Collections.emptyList();
+        }
+        return runtimeIds.stream()
+                .map(runtimes::get)
+                .filter(runtime -> runtime != null)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Runtime getRuntimeById(final String runtimeId) {
         checkNotNull("runtimeId",
@@ -189,10 +218,13 @@ public class InMemoryRuntimeRegistry
     }
 
     @Override
-    public void deregisterRuntime(final RuntimeId runtimeId) {
+    public synchronized void deregisterRuntime(final RuntimeId runtimeId) {
         checkNotNull("runtimeId",
                      runtimeId);
-        runtimes.remove(runtimeId.getId());
+        final Runtime previous = runtimes.remove(runtimeId.getId());
+        if (previous != null) {
+            unindex(previous);
+        }
     }
 
     @Override
@@ -207,4 +239,22 @@ public class InMemoryRuntimeRegistry
                 .filter(provider -> clazz.isInstance(provider))
                 .map(provider -> clazz.cast(provider));
     }
+
+    private void unindex(final Runtime runtime) {
+        final String providerId = getProviderId(runtime);
+        if (providerId == null) {
+            return;
+        }
+        final Set<String> runtimeIds = runtimesByProvider.get(providerId);
+        if (runtimeIds != null) {
+            runtimeIds.remove(runtime.getId());
+            if (runtimeIds.isEmpty()) {
+                runtimesByProvider.remove(providerId);
+            }
+        }
+    }
+
+    private static String getProviderId(final Runtime runtime) {
+        return runtime.getProviderId() != null ? runtime.getProviderId().getId() : null;
+    }
 }
@@ -20,10 +20,15 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.PriorityQueue;
 
 /**
  * Helper class for providing pages sorting.
+ * <p>
+ * The values are sorted before paging, so the pages are slices of the whole sorted collection. Only the values up
+ * to the requested page are kept while sorting, instead of copying and sorting the whole collection.
  */
 public class PageSortUtil {
 
@@ -39,42 +44,55 @@ public class PageSortUtil {
         if (pageSize < 1) {
             throw new IllegalStateException("PageSize must be greater than 0");
         }
-        // If the page is 0 and the amount of values is less than the pageSize, just return the values
-        if (page == 0 && values.size() <= pageSize) {
-            List<T> result = new ArrayList<>(values);
-            sort(result,
-                 comparator,
-                 sort,
-                 sortOrder);
-            return result;
-        }
+        final long from = (long) page * pageSize;
         // if the values are less than  (pageSize * page) means that in the requested page there is no item
-        if (values.size() <= pageSize * page) {
+        if (values.size() <= from) {
             return Collections.emptyList();
         }
-        List<T> result = new ArrayList<>(pageSize);
-        List<T> allValues = new ArrayList<>(values);
-        for (int i = page * pageSize; i < (page * pageSize) + pageSize; i++) {
-            if (allValues.size() > i) {
-                result.add(allValues.get(i));
+        final int to = (int) Math.min(from + pageSize,
+                                      values.size());
+        if (sort == null || sort.equals("")) {
+            return slice(values.iterator(),
+                         (int) from,
+                         to);
+        }
+
+        final Comparator<T> order = sortOrder ? comparator : comparator.reversed();
+        if (to == values.size()) {
+            final List<T> result = new ArrayList<>(values);
+            result.sort(order);
+            return new ArrayList<>(result.subList((int) from,
+                                                  to));
+        }
+
+        // keeps the first "to" values of the order, the head of the queue being the last one of them
+        final PriorityQueue<T> queue = new PriorityQueue<>(to,
+                                                           order.reversed());
+        for (T value : values) {
+            if (queue.size() < to) {
+                queue.add(value);
+            } else if (order.compare(value,
+                                     queue.peek()) < 0) {
+                queue.poll();
+                queue.add(value);
             }
         }
-        sort(result,
-             comparator,
-             sort,
-             sortOrder);
-        return result;
+        final List<T> result = new ArrayList<>(queue);
+        result.sort(order);
+        return new ArrayList<>(result.subList((int) from,
+                                              to));
     }
 
-    private static <T> void sort(List<T> list,
-                                 Comparator<T> comparator,
-                                 String sort,
-                                 boolean sortOrder) {
-        if (sort != null && !sort.equals("")) {
-            list.sort(comparator);
-            if (!sortOrder) {
-                Collections.reverse(list);
+    private static <T> List<T> slice(Iterator<T> iterator,
+                                     int from,
+                                     int to) {
+        final List<T> result = new ArrayList<>(to - from);
+        for (int i = 0; i < to && iterator.hasNext(); i++) {
+            final T value = iterator.next();
+            if (i >= from) {
+                result.add(value);
             }
         }
+        return result;
     }
 }
@@ -21,6 +21,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
 
 import org.guvnor.ala.pipeline.Input;
@@ -356,6 +357,56 @@ public class PipelineExecutorTaskManagerImplExecutionTest
                                                 registeredTasks.get(task.getId())));
     }
 
+    @Test
+    public void testExecuteAsyncWithPipelineLimitReached() throws PipelineExecutorException {
+        when(taskManagerHelper.generateTaskId()).thenReturn(TASK_ID,
+                                                            TASK_ID + "2",
+                                                            TASK_ID + "3");
+        doReturn(1).when(taskManagerHelper).getMaxTasksPerPipeline();
+
+        taskManager.init();
+        prepareExecution();
+        when(executorService.submit(any(Runnable.class))).thenReturn(mock(Future.class));
+
+        taskManager.execute(taskDef,
+                            PipelineExecutorTaskManager.ExecutionMode.ASYNCHRONOUS);
+        try {
+            taskManager.execute(taskDef,
+                                PipelineExecutorTaskManager.ExecutionMode.ASYNCHRONOUS);
+            fail("The second task of the pipeline must be rejected");
+        } catch (RejectedExecutionException e) {
+            assertEquals(1,
+                         taskManager.currentTasks.size());
+            assertTrue(taskManager.currentTasks.containsKey(TASK_ID));
+        }
+
+        //once the running task is stopped, a new task can be executed.
+        taskManager.stop(TASK_ID);
+        assertEquals(TASK_ID + "3",
+                     taskManager.execute(taskDef,
+                                         PipelineExecutorTaskManager.ExecutionMode.ASYNCHRONOUS));
+    }
+
+    @Test
+    public void testExecuteAsyncWithQueueFull() {
+        when(taskManagerHelper.generateTaskId()).thenReturn(TASK_ID);
+
+        taskManager.init();
+        prepareExecution();
+        when(executorService.submit(any(Runnable.class))).thenThrow(new RejectedExecutionException("queue full"));
+
+        try {
+            taskManager.execute(taskDef,
+                                PipelineExecutorTaskManager.ExecutionMode.ASYNCHRONOUS);
+            fail("The task must be rejected");
+        } catch (RejectedExecutionException e) {
+            assertTrue(taskManager.currentTasks.isEmpty());
+            assertTrue(taskManager.taskPipelines.isEmpty());
+        }
+        verify(pipelineExecutorRegistry,
+               never()).register(any(PipelineExecutorTrace.class));
+    }
+
     private void prepareExecution() {
         //mock the execution inputs
         pipeline = mock(Pipeline.class);
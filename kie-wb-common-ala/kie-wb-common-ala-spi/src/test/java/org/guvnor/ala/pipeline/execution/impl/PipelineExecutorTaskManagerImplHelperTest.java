@@ -104,6 +104,34 @@ public class PipelineExecutorTaskManagerImplHelperTest {
                                         PipelineExecutorTaskManagerImpl.DEFAULT_THREAD_POOL_SIZE);
     }
 
+    @Test
+    public void testCreateExecutorServiceWithQueueCapacity() {
+        //verify the creation when the QUEUE_CAPACITY_PROPERTY_NAME property was set to a correct value.
+        System.setProperty(PipelineExecutorTaskManagerImpl.QUEUE_CAPACITY_PROPERTY_NAME,
+                           "5");
+        ExecutorService executorService = taskManagerHelper.createExecutorService();
+        assertEquals(5,
+                     ((ThreadPoolExecutor) executorService).getQueue().remainingCapacity());
+        verifyExecutorServiceAndDestroy(executorService,
+                                        PipelineExecutorTaskManagerImpl.DEFAULT_THREAD_POOL_SIZE);
+    }
+
+    @Test
+    public void testGetMaxTasksPerPipeline() {
+        assertEquals(PipelineExecutorTaskManagerImpl.DEFAULT_MAX_TASKS_PER_PIPELINE,
+                     taskManagerHelper.getMaxTasksPerPipeline());
+
+        System.setProperty(PipelineExecutorTaskManagerImpl.MAX_TASKS_PER_PIPELINE_PROPERTY_NAME,
+                           "3");
+        assertEquals(3,
+                     taskManagerHelper.getMaxTasksPerPipeline());
+
+        System.setProperty(PipelineExecutorTaskManagerImpl.MAX_TASKS_PER_PIPELINE_PROPERTY_NAME,
+                           "-1");
+        assertEquals(PipelineExecutorTaskManagerImpl.DEFAULT_MAX_TASKS_PER_PIPELINE,
+                     taskManagerHelper.getMaxTasksPerPipeline());
+    }
+
     private void verifyExecutorServiceAndDestroy(ExecutorService executorService,
                                                  int expectedSize) {
         assertNotNull(executorService);
@@ -215,6 +243,8 @@ public class PipelineExecutorTaskManagerImplHelperTest {
 
     private void clearDefaultProperties() {
         System.getProperties().remove(PipelineExecutorTaskManagerImpl.THREAD_POOL_SIZE_PROPERTY_NAME);
+        System.getProperties().remove(PipelineExecutorTaskManagerImpl.QUEUE_CAPACITY_PROPERTY_NAME);
+        System.getProperties().remove(PipelineExecutorTaskManagerImpl.MAX_TASKS_PER_PIPELINE_PROPERTY_NAME);
     }
 
     private List<String> mockStages(final int count,
@@ -21,9 +21,11 @@ import java.util.Collection;
 import java.util.List;
 
 import org.guvnor.ala.pipeline.execution.PipelineExecutorTask;
+import org.guvnor.ala.pipeline.execution.PipelineExecutorTaskDef;
 import org.guvnor.ala.pipeline.execution.PipelineExecutorTrace;
 import org.guvnor.ala.pipeline.execution.RegistrableOutput;
 import org.guvnor.ala.runtime.RuntimeId;
+import org.guvnor.ala.runtime.providers.ProviderId;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -112,6 +114,84 @@ public class InMemoryPipelineExecutorRegistryTest {
                      result);
     }
 
+    @Test
+    public void testGetExecutorTracesByPipelineAndProvider() {
+        PipelineExecutorTrace trace1 = mockTrace("1",
+                                                 "PIPELINE_1",
+                                                 "PROVIDER_1");
+        PipelineExecutorTrace trace2 = mockTrace("2",
+                                                 "PIPELINE_1",
+                                                 "PROVIDER_2");
+        PipelineExecutorTrace trace3 = mockTrace("3",
+                                                 "PIPELINE_2",
+                                                 "PROVIDER_2");
+        pipelineExecutorRegistry.register(trace1);
+        pipelineExecutorRegistry.register(trace2);
+        pipelineExecutorRegistry.register(trace3);
+
+        Collection<PipelineExecutorTrace> result = pipelineExecutorRegistry.getExecutorTracesByPipeline("PIPELINE_1");
+        assertEquals(2,
+                     result.size());
+        assertTrue(result.contains(trace1));
+        assertTrue(result.contains(trace2));
+
+        result = pipelineExecutorRegistry.getExecutorTracesByProvider("PROVIDER_2");
+        assertEquals(2,
+                     result.size());
+        assertTrue(result.contains(trace2));
+        assertTrue(result.contains(trace3));
+
+        pipelineExecutorRegistry.deregister(trace2.getTaskId());
+
+        result = pipelineExecutorRegistry.getExecutorTracesByPipeline("PIPELINE_1");
+        assertEquals(1,
+                     result.size());
+        assertTrue(result.contains(trace1));
+        assertTrue(pipelineExecutorRegistry.getExecutorTracesByPipeline("UNKNOWN").isEmpty());
+    }
+
+    @Test
+    public void testGetExecutorTraceByRuntimeIdAfterUpdate() {
+        RuntimeIdMock runtimeId = mock(RuntimeIdMock.class);
+        when(runtimeId.getId()).thenReturn(RUNTIME_ID);
+
+        PipelineExecutorTask task = mock(PipelineExecutorTask.class);
+        when(trace.getTask()).thenReturn(task);
+        pipelineExecutorRegistry.register(trace);
+        assertNull(pipelineExecutorRegistry.getExecutorTraceByRuntimeId(RUNTIME_ID));
+
+        //the trace is registered again once the pipeline produced the runtime
+        PipelineExecutorTrace updatedTrace = mock(PipelineExecutorTrace.class);
+        PipelineExecutorTask updatedTask = mock(PipelineExecutorTask.class);
+        when(updatedTrace.getTaskId()).thenReturn(PIPELINE_EXECUTION_ID);
+        when(updatedTrace.getTask()).thenReturn(updatedTask);
+        when(updatedTask.getOutput()).thenReturn(runtimeId);
+        pipelineExecutorRegistry.register(updatedTrace);
+
+        assertEquals(updatedTrace,
+                     pipelineExecutorRegistry.getExecutorTraceByRuntimeId(RUNTIME_ID));
+
+        pipelineExecutorRegistry.deregister(PIPELINE_EXECUTION_ID);
+        assertNull(pipelineExecutorRegistry.getExecutorTraceByRuntimeId(RUNTIME_ID));
+    }
+
+    private PipelineExecutorTrace mockTrace(String suffix,
+                                            String pipelineId,
+                                            String providerId) {
+        ProviderId providerIdMock = mock(ProviderId.class);
+        when(providerIdMock.getId()).thenReturn(providerId);
+        PipelineExecutorTaskDef taskDef = mock(PipelineExecutorTaskDef.class);
+        when(taskDef.getProviderId()).thenReturn(providerIdMock);
+        PipelineExecutorTask task = mock(PipelineExecutorTask.class);
+        when(task.getTaskDef()).thenReturn(taskDef);
+
+        PipelineExecutorTrace trace = mock(PipelineExecutorTrace.class);
+        when(trace.getTaskId()).thenReturn(PIPELINE_EXECUTION_ID + suffix);
+        when(trace.getPipelineId()).thenReturn(pipelineId);
+        when(trace.getTask()).thenReturn(task);
+        return trace;
+    }
+
     private interface RuntimeIdMock
             extends RuntimeId,
                     RegistrableOutput {
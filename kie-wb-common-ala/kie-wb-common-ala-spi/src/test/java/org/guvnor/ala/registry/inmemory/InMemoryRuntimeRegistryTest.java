@@ -269,6 +269,36 @@ public class InMemoryRuntimeRegistryTest {
         verifyRuntimeIsNotRegistered(runtime);
     }
 
+    @Test
+    public void testGetRuntimesByProvider() {
+        ProviderId otherProviderId = mock(ProviderId.class);
+        when(otherProviderId.getId()).thenReturn("OTHER_PROVIDER_ID");
+
+        List<Runtime> runtimes = mockRuntimeList(providerId,
+                                                 "",
+                                                 ELEMENTS_COUNT);
+        List<Runtime> otherRuntimes = mockRuntimeList(otherProviderId,
+                                                      "other",
+                                                      ELEMENTS_COUNT);
+        runtimes.forEach(runtime -> runtimeRegistry.registerRuntime(runtime));
+        otherRuntimes.forEach(runtime -> runtimeRegistry.registerRuntime(runtime));
+
+        List<Runtime> result = runtimeRegistry.getRuntimesByProvider(PROVIDER_ID);
+        assertEquals(ELEMENTS_COUNT,
+                     result.size());
+        assertTrue(result.containsAll(runtimes));
+
+        RuntimeId runtimeId = mock(RuntimeId.class);
+        when(runtimeId.getId()).thenReturn(runtimes.get(0).getId());
+        runtimeRegistry.deregisterRuntime(runtimeId);
+
+        result = runtimeRegistry.getRuntimesByProvider(PROVIDER_ID);
+        assertEquals(ELEMENTS_COUNT - 1,
+                     result.size());
+        assertFalse(result.contains(runtimes.get(0)));
+        assertTrue(runtimeRegistry.getRuntimesByProvider("UNKNOWN").isEmpty());
+    }
+
     @Test
     public void getProvider() {
         MockProvider mockProvider = new MockProvider(PROVIDER_ID,
@@ -94,9 +94,9 @@ public class PageSortUtilTest {
 
         assertEquals(2,
                      pageSort.size());
-        assertEquals("pipeline 2",
+        assertEquals("pipeline 5",
                      pageSort.get(0).getName());
-        assertEquals("pipeline 1",
+        assertEquals("pipeline 4",
                      pageSort.get(1).getName());
 
         //Get the first page (1) with page size 2 and sorting ascending
@@ -138,12 +138,12 @@ public class PageSortUtilTest {
 
         assertEquals(2,
                      pageSort.size());
-        assertEquals("pipeline 4",
-                     pageSort.get(0).getName());
         assertEquals("pipeline 3",
+                     pageSort.get(0).getName());
+        assertEquals("pipeline 2",
                      pageSort.get(1).getName());
 
-        //Get the first page (2) with page size 2 and sorting ascending
+        //Get the first page (2) with page size 2 and sorting descending
         pageSort = PageSortUtil.pageSort(pipes,
                                          (Pipeline p1, Pipeline p2) -> {
                                              switch (sort) {
@@ -160,7 +160,7 @@ public class PageSortUtilTest {
 
         assertEquals(1,
                      pageSort.size());
-        assertEquals("pipeline 5",
+        assertEquals("pipeline 1",
                      pageSort.get(0).getName());
 
         //Get the first page (3) with page size 2 and sorting ascending
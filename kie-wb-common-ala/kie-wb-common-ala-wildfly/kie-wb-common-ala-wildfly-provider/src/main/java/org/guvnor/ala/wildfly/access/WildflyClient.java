@@ -19,36 +19,41 @@ package org.guvnor.ala.wildfly.access;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreType;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import org.apache.http.HttpEntity;
-import org.apache.http.HttpResponse;
 import org.apache.http.HttpStatus;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.UsernamePasswordCredentials;
+import org.apache.http.client.AuthCache;
 import org.apache.http.client.CredentialsProvider;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
-import org.apache.http.entity.ContentType;
+import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.entity.mime.MultipartEntityBuilder;
 import org.apache.http.entity.mime.content.ByteArrayBody;
 import org.apache.http.entity.mime.content.FileBody;
+import org.apache.http.impl.client.BasicAuthCache;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
 import org.apache.http.util.EntityUtils;
 import org.guvnor.ala.wildfly.access.exceptions.WildflyClientException;
 import org.jboss.dmr.ModelNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import static java.util.logging.Level.SEVERE;
-import static java.util.logging.Logger.getLogger;
 import static org.apache.http.entity.ContentType.APPLICATION_JSON;
 import static org.apache.http.entity.ContentType.create;
 import static org.apache.http.entity.mime.HttpMultipartMode.BROWSER_COMPATIBLE;
@@ -60,11 +65,22 @@ import static org.guvnor.ala.runtime.RuntimeState.UNKNOWN;
 
 /**
  * Wildfly 10 Remote client
+ * <p>
+ * The client keeps a pool of keep-alive connections to the management interface, created on the first operation and
+ * released by {@link #close()}. The digest authentication of the first operation is cached and reused by the
+ * following ones, instead of paying a new connection and a new challenge on every operation.
  */
 @JsonIgnoreType
 public class WildflyClient {
 
+    public static final String MAX_CONNECTIONS_PROPERTY = "org.guvnor.ala.wildfly.client.maxConnections";
+
     protected static final Logger LOG = LoggerFactory.getLogger(WildflyClient.class);
+
+    private static final int DEFAULT_MAX_CONNECTIONS = 5;
+
+    private static final long IDLE_CONNECTION_TIMEOUT_SECONDS = 60;
+
     private final String providerName;
     private final String user;
     private final String password;
@@ -72,6 +88,14 @@ public class WildflyClient {
     private final int port;
     private final int managementPort;
 
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private final AuthCache authCache = new BasicAuthCache();
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong failedRequests = new AtomicLong();
+    private final AtomicLong totalLatency = new AtomicLong();
+
     public WildflyClient(String providerName,
                          String user,
                          String password,
@@ -94,25 +118,12 @@ public class WildflyClient {
      * @throw a WildflyClientException with the throwable in case of an internal exception
      */
     public int deploy(File file) throws WildflyClientException {
-
-        // the digest auth backend
-        CredentialsProvider credsProvider = new BasicCredentialsProvider();
-        credsProvider.setCredentials(
-                new AuthScope(host,
-                              managementPort),
-                new UsernamePasswordCredentials(user,
-                                                password));
-
-        CloseableHttpClient httpclient = custom()
-                .setDefaultCredentialsProvider(credsProvider)
-                .build();
-
         HttpPost post = new HttpPost("http://" + host + ":" + managementPort + "/management-upload");
 
         post.addHeader("X-Management-Client-Name",
                        "HAL");
 
-        // the file to be uploaded
+        // the file to be uploaded, streamed from the disk
         FileBody fileBody = new FileBody(file);
 
         // the DMR operation
@@ -128,9 +139,8 @@ public class WildflyClient {
         try {
             operation.writeBase64(bout);
         } catch (IOException ex) {
-            getLogger(WildflyClient.class.getName()).log(SEVERE,
-                                                         null,
-                                                         ex);
+            LOG.error("Error encoding the deployment operation : " + ex.getMessage(),
+                      ex);
         }
 
         // the multipart
@@ -147,8 +157,8 @@ public class WildflyClient {
         post.setEntity(entity);
 
         try {
-            HttpResponse response = httpclient.execute(post);
-            int statusCode = response.getStatusLine().getStatusCode();
+            int statusCode = execute(post,
+                                     null);
             if (statusCode != 200) {
                 throw new WildflyClientException("Error Deploying App Status Code: " + statusCode);
             }
@@ -169,50 +179,27 @@ public class WildflyClient {
      * @throw a WildflyClientException with the throwable in case of an internal exception
      */
     public int undeploy(String deploymentName) throws WildflyClientException {
-        CredentialsProvider credsProvider = new BasicCredentialsProvider();
-        credsProvider.setCredentials(
-                new AuthScope(host,
-                              managementPort),
-                new UsernamePasswordCredentials(user,
-                                                password));
-
-        CloseableHttpClient httpclient = custom()
-                .setDefaultCredentialsProvider(credsProvider)
-                .build();
-
-        final HttpPost post = new HttpPost("http://" + host + ":" + managementPort + "/management");
-
-        post.addHeader("X-Management-Client-Name",
-                       "GUVNOR-ALA");
-
-        // the DMR operation
-        ModelNode operation = new ModelNode();
-        operation.get("operation").set("remove");
-        operation.get("address").add("deployment",
-                                     deploymentName);
-
-        post.setEntity(new StringEntity(operation.toJSONString(true),
-                                        APPLICATION_JSON));
+        return executeDeploymentOperation("remove",
+                                          deploymentName,
+                                          "Undeploying");
+    }
 
-        try {
-            HttpResponse response = httpclient.execute(post);
-            int statusCode = response.getStatusLine().getStatusCode();
-            if (statusCode != 200) {
-                throw new WildflyClientException("Error Undeploying App Status Code: " + statusCode);
+    /*
+     * Releases the pooled connections of the client
+     */
+    public synchronized void close() {
+        if (httpClient != null) {
+            try {
+                httpClient.close();
+            } catch (IOException ex) {
+                LOG.warn("Error closing the connections to " + host + ":" + managementPort + " : " + ex.getMessage(),
+                         ex);
             }
-            return statusCode;
-        } catch (IOException ex) {
-            LOG.error("Error Undeploying App : " + ex.getMessage(),
-                      ex);
-            throw new WildflyClientException("Error Undeploying App : " + ex.getMessage(),
-                                             ex);
+            httpClient = null;
+            connectionManager = null;
         }
     }
 
-    public void close() {
-
-    }
-
     /*
      * Start the application specified by the deploymentName
      * @param String deploymentName
@@ -221,45 +208,9 @@ public class WildflyClient {
      * @throw a WildflyClientException with the throwable in case of an internal exception
      */
     public int start(String deploymentName) throws WildflyClientException {
-        CredentialsProvider credsProvider = new BasicCredentialsProvider();
-        credsProvider.setCredentials(
-                new AuthScope(host,
-                              managementPort),
-                new UsernamePasswordCredentials(user,
-                                                password));
-
-        CloseableHttpClient httpclient = custom()
-                .setDefaultCredentialsProvider(credsProvider)
-                .build();
-
-        final HttpPost post = new HttpPost("http://" + host + ":" + managementPort + "/management");
-
-        post.addHeader("X-Management-Client-Name",
-                       "GUVNOR-ALA");
-
-        // the DMR operation
-        ModelNode operation = new ModelNode();
-        operation.get("operation").set("deploy");
-        operation.get("address").add("deployment",
-                                     deploymentName);
-
-        post.setEntity(new StringEntity(operation.toJSONString(true),
-                                        APPLICATION_JSON));
-
-        try {
-            HttpResponse response = httpclient.execute(post);
-            int statusCode = response.getStatusLine().getStatusCode();
-            if (statusCode != 200) {
-                throw new WildflyClientException("Error Starting App Status Code: " + statusCode);
-            }
-            return statusCode;
-        } catch (IOException ex) {
-            getLogger(WildflyClient.class.getName()).log(SEVERE,
-                                                         null,
-                                                         ex);
-            throw new WildflyClientException("Error Starting App : " + ex.getMessage(),
-                                             ex);
-        }
+        return executeDeploymentOperation("deploy",
+                                          deploymentName,
+                                          "Starting");
     }
 
     /*
@@ -270,44 +221,9 @@ public class WildflyClient {
      * @throw a WildflyClientException with the throwable in case of an internal exception
      */
     public int stop(String deploymentName) throws WildflyClientException {
-        CredentialsProvider credsProvider = new BasicCredentialsProvider();
-        credsProvider.setCredentials(
-                new AuthScope(host,
-                              managementPort),
-                new UsernamePasswordCredentials(user,
-                                                password));
-
-        CloseableHttpClient httpclient = custom()
-                .setDefaultCredentialsProvider(credsProvider)
-                .build();
-
-        final HttpPost post = new HttpPost("http://" + host + ":" + managementPort + "/management");
-
-        post.addHeader("X-Management-Client-Name",
-                       "GUVNOR-ALA");
-
-        // the DMR operation
-        ModelNode operation = new ModelNode();
-        operation.get("operation").set("undeploy");
-        operation.get("address").add("deployment",
-                                     deploymentName);
-
-        post.setEntity(new StringEntity(operation.toJSONString(true),
-                                        APPLICATION_JSON));
-
-        try {
-            HttpResponse response = httpclient.execute(post);
-            int statusCode = response.getStatusLine().getStatusCode();
-            if (statusCode != 200) {
-                throw new WildflyClientException("Error Stopping App Status Code: " + statusCode);
-            }
-            return statusCode;
-        } catch (IOException ex) {
-            LOG.error("Error Stopping App : " + ex.getMessage(),
-                      ex);
-            throw new WildflyClientException("Error Stopping App : " + ex.getMessage(),
-                                             ex);
-        }
+        return executeDeploymentOperation("undeploy",
+                                          deploymentName,
+                                          "Stopping");
     }
 
     public void restart(String id) throws WildflyClientException {
@@ -322,57 +238,14 @@ public class WildflyClient {
      * @throw a WildflyClientException with the throwable in case of an internal exception
      */
     public WildflyAppState getAppState(String deploymentName) throws WildflyClientException {
-        CredentialsProvider credsProvider = new BasicCredentialsProvider();
-        credsProvider.setCredentials(
-                new AuthScope(host,
-                              managementPort),
-                new UsernamePasswordCredentials(user,
-                                                password));
-
-        CloseableHttpClient httpclient = custom()
-                .setDefaultCredentialsProvider(credsProvider)
-                .build();
-
-        final HttpPost post = new HttpPost("http://" + host + ":" + managementPort + "/management");
-
-        post.addHeader("X-Management-Client-Name",
-                       "GUVNOR-ALA");
-
-        // the DMR operation
-        ModelNode operation = new ModelNode();
-        operation.get("operation").set("read-resource");
-        operation.get("address").add("deployment",
-                                     deploymentName);
-        operation.get("resolve-expressions").set("true");
-
-        post.setEntity(new StringEntity(operation.toJSONString(true),
-                                        APPLICATION_JSON));
+        final HttpPost post = newManagementPost(readDeploymentOperation(deploymentName));
         try {
-            HttpResponse response = httpclient.execute(post);
-            String json = EntityUtils.toString(response.getEntity());
-            JsonParser parser = new JsonParser();
-            JsonElement element = parser.parse(json);
-            // use the isxxx methods to find out the type of jsonelement. In our
-            // example we know that the root object is the Albums object and
-            // contains an array of dataset objects
+            final StringBuilder json = new StringBuilder();
+            execute(post,
+                    json);
+            JsonElement element = new JsonParser().parse(json.toString());
             if (element.isJsonObject()) {
-                JsonObject outcome = element.getAsJsonObject();
-                JsonElement resultElement = outcome.get("result");
-                String enabled = null;
-                if (resultElement != null) {
-                    JsonObject result = resultElement.getAsJsonObject();
-                    enabled = result.get("enabled").getAsString();
-                }
-                String state;
-                if (Boolean.TRUE.toString().equals(enabled)) {
-                    state = RUNNING;
-                } else if (Boolean.FALSE.toString().equals(enabled)) {
-                    state = STOPPED;
-                } else {
-                    state = UNKNOWN;
-                }
-                return new WildflyAppState(state,
-                                           new Date());
+                return toAppState(element.getAsJsonObject());
             }
         } catch (IOException ex) {
             LOG.error("Error Getting App State : " + ex.getMessage(),
@@ -384,31 +257,66 @@ public class WildflyClient {
                                    new Date());
     }
 
-    public String testConnection() throws WildflyClientException {
-        BasicCredentialsProvider credsProvider = new BasicCredentialsProvider();
-        credsProvider.setCredentials(new AuthScope(host,
-                                                   managementPort),
-                                     new UsernamePasswordCredentials(user,
-                                                                     password));
+    /*
+     * Returns the state of several applications, read by a single composite operation
+     * @param Collection<String> deploymentNames
+     * @return the WildflyAppState of every given deployment name
+     * @throw a WildflyClientException with the throwable in case of an internal exception
+     */
+    public Map<String, WildflyAppState> getAppStates(Collection<String> deploymentNames) throws WildflyClientException {
+        final Map<String, WildflyAppState> states = new HashMap<>();
+        if (deploymentNames.isEmpty()) {
+            return states;
+        }
 
-        HttpPost post = new HttpPost("http://" + host + ":" + managementPort + "/management");
-        post.addHeader("X-Management-Client-Name",
-                       "GUVNOR-ALA");
+        // the steps of the composite operation are named step-1, step-2...
+        final Map<String, String> deploymentsByStep = new HashMap<>();
+        ModelNode operation = new ModelNode();
+        operation.get("operation").set("composite");
+        operation.get("address").setEmptyList();
+        for (String deploymentName : deploymentNames) {
+            operation.get("steps").add(readDeploymentOperation(deploymentName));
+            deploymentsByStep.put("step-" + (deploymentsByStep.size() + 1),
+                                  deploymentName);
+        }
 
+        final HttpPost post = newManagementPost(operation);
+        try {
+            final StringBuilder json = new StringBuilder();
+            execute(post,
+                    json);
+            JsonElement element = new JsonParser().parse(json.toString());
+            JsonElement resultElement = element.isJsonObject() ? element.getAsJsonObject().get("result") : null;
+            for (Map.Entry<String, String> step : deploymentsByStep.entrySet()) {
+                JsonElement stepElement = resultElement != null && resultElement.isJsonObject() ?
+                        resultElement.getAsJsonObject().get(step.getKey()) : null;
+                states.put(step.getValue(),
+                           stepElement != null && stepElement.isJsonObject() ?
+                                   toAppState(stepElement.getAsJsonObject()) :
+                                   new WildflyAppState(UNKNOWN,
+                                                       new Date()));
+            }
+            return states;
+        } catch (IOException ex) {
+            LOG.error("Error Getting App States : " + ex.getMessage(),
+                      ex);
+            throw new WildflyClientException("Error Getting App States : " + ex.getMessage(),
+                                             ex);
+        }
+    }
+
+    public String testConnection() throws WildflyClientException {
         ModelNode op = new ModelNode();
         op.get("operation").set("read-resource");
-        post.setEntity(new StringEntity(op.toJSONString(true),
-                                        ContentType.APPLICATION_JSON));
-
-        try (
-                CloseableHttpClient httpclient = HttpClients.custom().setDefaultCredentialsProvider(credsProvider).build();
-                CloseableHttpResponse httpResponse = httpclient.execute(post);
-        ) {
-            if (HttpStatus.SC_OK != httpResponse.getStatusLine().getStatusCode()) {
+        HttpPost post = newManagementPost(op);
+
+        try {
+            final StringBuilder json = new StringBuilder();
+            if (HttpStatus.SC_OK != execute(post,
+                                            json)) {
                 throw new Exception("Authentication failed. ");
             } else {
-                String json = EntityUtils.toString(httpResponse.getEntity());
-                ModelNode returnVal = ModelNode.fromJSONString(json);
+                ModelNode returnVal = ModelNode.fromJSONString(json.toString());
                 String productName = returnVal.get("result").get("product-name").asString();
                 String productVersion = returnVal.get("result").get("product-version").asString();
                 String releaseVersion = returnVal.get("result").get("release-version").asString();
@@ -424,6 +332,35 @@ public class WildflyClient {
         }
     }
 
+    /*
+     * @return the statistics of the connection pool, null if no operation was executed yet
+     */
+    public synchronized PoolStats getConnectionPoolStats() {
+        return connectionManager != null ? connectionManager.getTotalStats() : null;
+    }
+
+    /*
+     * @return the number of operations executed against the management interface
+     */
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    /*
+     * @return the number of operations that could not be executed, e.g. for connection errors
+     */
+    public long getFailedRequestCount() {
+        return failedRequests.get();
+    }
+
+    /*
+     * @return the average time in milliseconds of the operations, 0 if no operation was executed yet
+     */
+    public long getAverageLatency() {
+        final long count = requests.get();
+        return count > 0 ? totalLatency.get() / count : 0;
+    }
+
     public String getProviderName() {
         return providerName;
     }
@@ -447,4 +384,143 @@ public class WildflyClient {
     public int getManagementPort() {
         return managementPort;
     }
+
+    private int executeDeploymentOperation(String operationName,
+                                           String deploymentName,
+                                           String action) throws WildflyClientException {
+        // the DMR operation
+        ModelNode operation = new ModelNode();
+        operation.get("operation").set(operationName);
+        operation.get("address").add("deployment",
+                                     deploymentName);
+
+        final HttpPost post = newManagementPost(operation);
+        try {
+            int statusCode = execute(post,
+                                     null);
+            if (statusCode != 200) {
+                throw new WildflyClientException("Error " + action + " App Status Code: " + statusCode);
+            }
+            return statusCode;
+        } catch (IOException ex) {
+            LOG.error("Error " + action + " App : " + ex.getMessage(),
+                      ex);
+            throw new WildflyClientException("Error " + action + " App : " + ex.getMessage(),
+                                             ex);
+        }
+    }
+
+    private ModelNode readDeploymentOperation(String deploymentName) {
+        ModelNode operation = new ModelNode();
+        operation.get("operation").set("read-resource");
+        operation.get("address").add("deployment",
+                                     deploymentName);
+        operation.get("resolve-expressions").set("true");
+        return operation;
+    }
+
+    private HttpPost newManagementPost(ModelNode operation) {
+        final HttpPost post = new HttpPost("http://" + host + ":" + managementPort + "/management");
+
+        post.addHeader("X-Management-Client-Name",
+                       "GUVNOR-ALA");
+        post.setEntity(new StringEntity(operation.toJSONString(true),
+                                        APPLICATION_JSON));
+        return post;
+    }
+
+    private WildflyAppState toAppState(JsonObject outcome) {
+        JsonElement resultElement = outcome.get("result");
+        String enabled = null;
+        if (resultElement != null && resultElement.isJsonObject()) {
+            JsonElement enabledElement = resultElement.getAsJsonObject().get("enabled");
+            if (enabledElement != null && !enabledElement.isJsonNull()) {
+                enabled = enabledElement.getAsString();
+            }
+        }
+        String state;
+        if (Boolean.TRUE.toString().equals(enabled)) {
+            state = RUNNING;
+        } else if (Boolean.FALSE.toString().equals(enabled)) {
+            state = STOPPED;
+        } else {
+            state = UNKNOWN;
+        }
+        return new WildflyAppState(state,
+                                   new Date());
+    }
+
+    /*
+     * Executes the request through the pooled client, the response is always consumed for releasing the connection
+     * @param content, when not null, receives the response content
+     * @return the response status code
+     */
+    private int execute(HttpPost post,
+                        StringBuilder content) throws IOException {
+        final HttpClientContext context = HttpClientContext.create();
+        context.setAuthCache(authCache);
+
+        final long start = System.currentTimeMillis();
+        try (CloseableHttpResponse response = getHttpClient().execute(post,
+                                                                      context)) {
+            if (content != null) {
+                content.append(EntityUtils.toString(response.getEntity()));
+            } else {
+                EntityUtils.consume(response.getEntity());
+            }
+            return response.getStatusLine().getStatusCode();
+        } catch (IOException ex) {
+            failedRequests.incrementAndGet();
+            throw ex;
+        } finally {
+            final long latency = System.currentTimeMillis() - start;
+            requests.incrementAndGet();
+            totalLatency.addAndGet(latency);
+            LOG.debug("Wildfly operation {} on {}:{} executed in {} ms",
+                      post.getURI().getPath(),
+                      host,
+                      managementPort,
+                      latency);
+        }
+    }
+
+    private synchronized CloseableHttpClient getHttpClient() {
+        if (httpClient == null) {
+            // the digest auth backend
+            CredentialsProvider credsProvider = new BasicCredentialsProvider();
+            credsProvider.setCredentials(
+                    new AuthScope(host,
+                                  managementPort),
+                    new UsernamePasswordCredentials(user,
+                                                    password));
+
+            final int maxConnections = getMaxConnections();
+            connectionManager = new PoolingHttpClientConnectionManager(IDLE_CONNECTION_TIMEOUT_SECONDS,
+                                                                       TimeUnit.SECONDS);
+            connectionManager.setMaxTotal(maxConnections);
+            connectionManager.setDefaultMaxPerRoute(maxConnections);
+
+            httpClient = custom()
+                    .setConnectionManager(connectionManager)
+                    .setDefaultCredentialsProvider(credsProvider)
+                    .evictIdleConnections(IDLE_CONNECTION_TIMEOUT_SECONDS,
+                                          TimeUnit.SECONDS)
+                    .build();
+        }
+        return httpClient;
+    }
+
+    private static int getMaxConnections() {
+        try {
+            final int maxConnections = Integer.parseInt(System.getProperty(MAX_CONNECTIONS_PROPERTY,
+                                                                           String.valueOf(DEFAULT_MAX_CONNECTIONS)));
+            if (maxConnections > 0) {
+                return maxConnections;
+            }
+        } catch (NumberFormatException ex) {
+            // the default is used below
+        }
+        LOG.warn("Invalid value for " + MAX_CONNECTIONS_PROPERTY + ", using " + DEFAULT_MAX_CONNECTIONS);
+        return DEFAULT_MAX_CONNECTIONS;
+    }
 }
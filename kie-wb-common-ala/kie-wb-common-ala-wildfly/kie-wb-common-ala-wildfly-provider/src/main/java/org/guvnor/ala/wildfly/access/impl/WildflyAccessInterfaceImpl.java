@@ -36,11 +36,9 @@ public class WildflyAccessInterfaceImpl
 
     @Override
     public WildflyClient getWildflyClient(final ProviderId providerId) {
-        if (!clientMap.containsKey(providerId.getId())) {
-            clientMap.put(providerId.getId(),
-                          buildClient(providerId));
-        }
-        return clientMap.get(providerId.getId());
+        // a single client per provider, as every client keeps its own connection pool
+        return clientMap.computeIfAbsent(providerId.getId(),
+                                         id -> buildClient(providerId));
     }
 
     private WildflyClient buildClient(final ProviderId providerId) {
@@ -62,5 +60,6 @@ public class WildflyAccessInterfaceImpl
     @Override
     public void dispose() {
         clientMap.values().forEach(WildflyClient::close);
+        clientMap.clear();
     }
 }
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.guvnor.ala.wildfly.executor.tests;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.guvnor.ala.wildfly.access.WildflyAppState;
+import org.guvnor.ala.wildfly.access.WildflyClient;
+import org.guvnor.ala.wildfly.access.exceptions.WildflyClientException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.guvnor.ala.runtime.RuntimeState.RUNNING;
+import static org.guvnor.ala.runtime.RuntimeState.STOPPED;
+import static org.guvnor.ala.runtime.RuntimeState.UNKNOWN;
+import static org.junit.Assert.*;
+
+/**
+ * Runs the client against a stub of the Wildfly management interface.
+ */
+public class WildflyClientTest {
+
+    private HttpServer server;
+
+    private WildflyClient client;
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    private volatile int statusCode = 200;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost",
+                                                         0),
+                                   0);
+        server.createContext("/management",
+                             this::handle);
+        server.start();
+
+        client = new WildflyClient("wildfly",
+                                   "admin",
+                                   "pass",
+                                   "localhost",
+                                   8080,
+                                   server.getAddress().getPort());
+    }
+
+    @After
+    public void tearDown() {
+        client.close();
+        server.stop(0);
+    }
+
+    @Test
+    public void testConnectionIsReused() {
+        for (int i = 0; i < 3; i++) {
+            WildflyAppState state = client.getAppState("running.war");
+            assertEquals(RUNNING,
+                         state.getState());
+        }
+
+        assertEquals(1,
+                     clientPorts.size());
+        assertEquals(3,
+                     client.getRequestCount());
+        assertEquals(0,
+                     client.getFailedRequestCount());
+        assertEquals(0,
+                     client.getConnectionPoolStats().getLeased());
+        assertEquals(1,
+                     client.getConnectionPoolStats().getAvailable());
+    }
+
+    @Test
+    public void testGetAppStates() {
+        Map<String, WildflyAppState> states = client.getAppStates(Arrays.asList("running.war",
+                                                                                "stopped.war",
+                                                                                "missing.war"));
+
+        assertEquals(3,
+                     states.size());
+        assertEquals(RUNNING,
+                     states.get("running.war").getState());
+        assertEquals(STOPPED,
+                     states.get("stopped.war").getState());
+        assertEquals(UNKNOWN,
+                     states.get("missing.war").getState());
+        assertEquals(1,
+                     client.getRequestCount());
+    }
+
+    @Test
+    public void testOperationFailure() {
+        statusCode = 500;
+        try {
+            client.start("running.war");
+            fail("WildflyClientException expected");
+        } catch (WildflyClientException e) {
+            assertEquals("Error Starting App Status Code: 500",
+                         e.getMessage());
+        }
+        // the connection is released even if the operation failed
+        assertEquals(0,
+                     client.getConnectionPoolStats().getLeased());
+    }
+
+    @Test
+    public void testClose() {
+        client.stop("running.war");
+        client.close();
+
+        assertNull(client.getConnectionPoolStats());
+        // a new pool is created by the next operation
+        assertEquals(200,
+                     client.start("running.war"));
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        final String request = read(exchange.getRequestBody());
+
+        final String response;
+        if (request.contains("composite")) {
+            response = "{\"outcome\" : \"failed\", \"result\" : {" +
+                    "\"step-1\" : {\"outcome\" : \"success\", \"result\" : {\"enabled\" : true}}, " +
+                    "\"step-2\" : {\"outcome\" : \"success\", \"result\" : {\"enabled\" : false}}, " +
+                    "\"step-3\" : {\"outcome\" : \"failed\"}}}";
+        } else {
+            response = "{\"outcome\" : \"success\", \"result\" : {\"enabled\" : true}}";
+        }
+
+        final byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type",
+                                          "application/json");
+        exchange.sendResponseHeaders(statusCode,
+                                     bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String read(InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[1024];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer,
+                      0,
+                      read);
+        }
+        return new String(out.toByteArray(),
+                          StandardCharsets.UTF_8);
+    }
+}
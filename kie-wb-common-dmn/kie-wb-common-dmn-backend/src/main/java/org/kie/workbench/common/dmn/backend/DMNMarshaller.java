@@ -18,8 +18,11 @@ package org.kie.workbench.common.dmn.backend;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -27,7 +30,6 @@ import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -156,13 +158,13 @@ public class DMNMarshaller implements DiagramMarshaller<Graph, Metadata, Diagram
                                                                                                                                      dmn -> new SimpleEntry<>(dmn,
                                                                                                                                                               dmnToStunner(dmn))));
 
-        Optional<org.kie.workbench.common.dmn.backend.definition.v1_1.dd.DMNDiagram> dmnDDDiagram = findDMNDiagram(dmnXml);
+        Map<String, DMNShape> dmnShapes = indexDMNShapes(findDMNDiagram(dmnXml));
 
         for (Entry<org.kie.dmn.model.v1_1.DRGElement, Node> kv : elems.values()) {
             org.kie.dmn.model.v1_1.DRGElement elem = kv.getKey();
             Node currentNode = kv.getValue();
 
-            ddExtAugmentStunner(dmnDDDiagram, currentNode);
+            ddExtAugmentStunner(dmnShapes, currentNode);
 
             // DMN spec table 2: Requirements connection rules
             if (elem instanceof org.kie.dmn.model.v1_1.Decision) {
@@ -270,7 +272,7 @@ public class DMNMarshaller implements DiagramMarshaller<Graph, Metadata, Diagram
 
         Map<String, Node<View<TextAnnotation>, ?>> textAnnotations = dmnXml.getArtifact().stream().filter(org.kie.dmn.model.v1_1.TextAnnotation.class::isInstance).map(org.kie.dmn.model.v1_1.TextAnnotation.class::cast).collect(Collectors.toMap(org.kie.dmn.model.v1_1.TextAnnotation::getId,
                                                                                                                                                                                                                                                    textAnnotationConverter::nodeFromDMN));
-        textAnnotations.values().forEach(n -> ddExtAugmentStunner(dmnDDDiagram, n));
+        textAnnotations.values().forEach(n -> ddExtAugmentStunner(dmnShapes, n));
 
         List<org.kie.dmn.model.v1_1.Association> associations = dmnXml.getArtifact().stream().filter(org.kie.dmn.model.v1_1.Association.class::isInstance).map(org.kie.dmn.model.v1_1.Association.class::cast).collect(Collectors.toList());
         for (org.kie.dmn.model.v1_1.Association a : associations) {
@@ -376,6 +378,17 @@ public class DMNMarshaller implements DiagramMarshaller<Graph, Metadata, Diagram
 
     @Override
     public String marshall(final Diagram<Graph, Metadata> diagram) throws IOException {
+        StringWriter writer = new StringWriter();
+        marshall(diagram,
+                 writer);
+        return writer.toString();
+    }
+
+    /**
+     * Marshalls the diagram to DMN XML, writing it straight to the given {@link Writer}.
+     */
+    public void marshall(final Diagram<Graph, Metadata> diagram,
+                         final Writer writer) throws IOException {
         Graph<?, Node<View, ?>> g = diagram.getGraph();
 
         Map<String, org.kie.dmn.model.v1_1.DRGElement> nodes = new HashMap<>();
@@ -414,43 +427,58 @@ public class DMNMarshaller implements DiagramMarshaller<Graph, Metadata, Diagram
         nodes.values().forEach(definitions.getDrgElement()::add);
         textAnnotations.values().forEach(definitions.getArtifact()::add);
 
-        String marshalled = marshaller.marshal(definitions);
-
-        return marshalled;
+        marshaller.marshal(definitions,
+                           writer);
     }
 
-    private void ddExtAugmentStunner(Optional<org.kie.workbench.common.dmn.backend.definition.v1_1.dd.DMNDiagram> dmnDDDiagram, Node currentNode) {
+    /**
+     * Indexes the shapes of the diagram by the id of their DMN element, so that each element finds its shape in
+     * constant time. When several shapes reference the same element the first one is used.
+     */
+    private static Map<String, DMNShape> indexDMNShapes(Optional<org.kie.workbench.common.dmn.backend.definition.v1_1.dd.DMNDiagram> dmnDDDiagram) {
         if (!dmnDDDiagram.isPresent()) {
-            return;
+            return Collections.emptyMap();
+        }
+
+        Map<String, DMNShape> dmnShapes = new HashMap<>();
+        for (DMNShape dmnShape : dmnDDDiagram.get().getAny()) {
+            if (dmnShape != null && dmnShape.getDmnElementRef() != null) {
+                dmnShapes.putIfAbsent(dmnShape.getDmnElementRef(),
+                                      dmnShape);
+            }
         }
+        return dmnShapes;
+    }
 
-        Stream<DMNShape> drgShapeStream = dmnDDDiagram.get().getAny().stream().filter(DMNShape.class::isInstance).map(DMNShape.class::cast);
+    private void ddExtAugmentStunner(Map<String, DMNShape> dmnShapes, Node currentNode) {
+        if (dmnShapes.isEmpty()) {
+            return;
+        }
 
         View content = (View) currentNode.getContent();
         if (content.getDefinition() instanceof Decision) {
             Decision d = (Decision) content.getDefinition();
-            internalAugment(drgShapeStream, d.getId(), content.getBounds().getUpperLeft(), d.getDimensionsSet(), content.getBounds().getLowerRight(), d.getBackgroundSet(), d::setFontSet);
+            internalAugment(dmnShapes, d.getId(), content.getBounds().getUpperLeft(), d.getDimensionsSet(), content.getBounds().getLowerRight(), d.getBackgroundSet(), d::setFontSet);
         } else if (content.getDefinition() instanceof InputData) {
             InputData d = (InputData) content.getDefinition();
-            internalAugment(drgShapeStream, d.getId(), content.getBounds().getUpperLeft(), d.getDimensionsSet(), content.getBounds().getLowerRight(), d.getBackgroundSet(), d::setFontSet);
+            internalAugment(dmnShapes, d.getId(), content.getBounds().getUpperLeft(), d.getDimensionsSet(), content.getBounds().getLowerRight(), d.getBackgroundSet(), d::setFontSet);
         } else if (content.getDefinition() instanceof BusinessKnowledgeModel) {
             BusinessKnowledgeModel d = (BusinessKnowledgeModel) content.getDefinition();
-            internalAugment(drgShapeStream, d.getId(), content.getBounds().getUpperLeft(), d.getDimensionsSet(), content.getBounds().getLowerRight(), d.getBackgroundSet(), d::setFontSet);
+            internalAugment(dmnShapes, d.getId(), content.getBounds().getUpperLeft(), d.getDimensionsSet(), content.getBounds().getLowerRight(), d.getBackgroundSet(), d::setFontSet);
         } else if (content.getDefinition() instanceof KnowledgeSource) {
             KnowledgeSource d = (KnowledgeSource) content.getDefinition();
-            internalAugment(drgShapeStream, d.getId(), content.getBounds().getUpperLeft(), d.getDimensionsSet(), content.getBounds().getLowerRight(), d.getBackgroundSet(), d::setFontSet);
+            internalAugment(dmnShapes, d.getId(), content.getBounds().getUpperLeft(), d.getDimensionsSet(), content.getBounds().getLowerRight(), d.getBackgroundSet(), d::setFontSet);
         } else if (content.getDefinition() instanceof TextAnnotation) {
             TextAnnotation d = (TextAnnotation) content.getDefinition();
-            internalAugment(drgShapeStream, d.getId(), content.getBounds().getUpperLeft(), d.getDimensionsSet(), content.getBounds().getLowerRight(), d.getBackgroundSet(), d::setFontSet);
+            internalAugment(dmnShapes, d.getId(), content.getBounds().getUpperLeft(), d.getDimensionsSet(), content.getBounds().getLowerRight(), d.getBackgroundSet(), d::setFontSet);
         }
     }
 
-    private void internalAugment(Stream<DMNShape> drgShapeStream, Id id, Bound ul, RectangleDimensionsSet dimensionsSet, Bound lr, BackgroundSet bgset, Consumer<FontSet> fontSetSetter) {
-        Optional<DMNShape> drgShapeOpt = drgShapeStream.filter(shape -> shape.getDmnElementRef().equals(id.getValue())).findFirst();
-        if (!drgShapeOpt.isPresent()) {
+    private void internalAugment(Map<String, DMNShape> dmnShapes, Id id, Bound ul, RectangleDimensionsSet dimensionsSet, Bound lr, BackgroundSet bgset, Consumer<FontSet> fontSetSetter) {
+        DMNShape drgShape = dmnShapes.get(id.getValue());
+        if (drgShape == null) {
             return;
         }
-        DMNShape drgShape = drgShapeOpt.get();
 
         ((BoundImpl) ul).setX(drgShape.getBounds().getX());
         ((BoundImpl) ul).setY(drgShape.getBounds().getY());
@@ -371,6 +371,67 @@ public class DMNMarshallerTest {
         assertEquals(b, color.getBlue());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGeneratedModelWithManyDecisions() throws IOException {
+        final int decisions = 1000;
+        DMNMarshaller m = new DMNMarshaller(new XMLEncoderDiagramMetadataMarshaller(),
+                                            applicationFactoryManager);
+        Graph<?, Node<?, ?>> g = m.unmarshall(null,
+                                              new StringInputStream(generateDMN(decisions)));
+
+        for (int i = 0; i < decisions; i++) {
+            Node<?, ?> decisionNode = g.getNode("_d" + i);
+            assertNodeContentDefinitionIs(decisionNode,
+                                          Decision.class);
+            View<Decision> view = (View<Decision>) decisionNode.getContent();
+            assertEquals(i * 10.0,
+                         view.getBounds().getUpperLeft().getX(),
+                         0.0);
+            assertEquals(i * 10.0 + 100.0,
+                         view.getBounds().getLowerRight().getX(),
+                         0.0);
+            if (i > 0) {
+                assertNodeEdgesTo(g.getNode("_d" + (i - 1)),
+                                  decisionNode,
+                                  InformationRequirement.class);
+            }
+        }
+
+        DiagramImpl diagram = new DiagramImpl("",
+                                              null);
+        diagram.setGraph(g);
+        Definitions definitions = DMNMarshallerFactory.newMarshallerWithExtensions(Arrays.asList(new DDExtensionsRegister())).unmarshal(m.marshall(diagram));
+        assertEquals(decisions,
+                     definitions.getDrgElement().size());
+    }
+
+    private static String generateDMN(final int decisions) {
+        StringBuilder shapes = new StringBuilder();
+        StringBuilder drgElements = new StringBuilder();
+        for (int i = 0; i < decisions; i++) {
+            shapes.append("<dmndi:DMNShape id=\"dmnshape-_d").append(i).append("\" dmnElementRef=\"_d").append(i).append("\">")
+                    .append("<dc:Bounds x=\"").append(i * 10).append(".0\" y=\"0.0\" width=\"100.0\" height=\"50.0\"/>")
+                    .append("</dmndi:DMNShape>");
+            drgElements.append("<semantic:decision id=\"_d").append(i).append("\" name=\"d").append(i).append("\">")
+                    .append("<semantic:variable id=\"_v").append(i).append("\" name=\"d").append(i).append("\" typeRef=\"feel:number\"/>");
+            if (i > 0) {
+                drgElements.append("<semantic:informationRequirement><semantic:requiredDecision href=\"#_d").append(i - 1).append("\"/></semantic:informationRequirement>");
+            }
+            drgElements.append("<semantic:literalExpression><semantic:text>").append(i).append("</semantic:text></semantic:literalExpression>")
+                    .append("</semantic:decision>");
+        }
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+                "<semantic:definitions xmlns:semantic=\"http://www.omg.org/spec/DMN/20151101/dmn.xsd\"" +
+                " xmlns:dmndi=\"java://org.kie.workbench.common.dmn.backend.definition.v1_1.dd\"" +
+                " xmlns:dc=\"http://www.omg.org/spec/CMMN/20151109/DC\"" +
+                " xmlns:feel=\"http://www.omg.org/spec/FEEL/20140401\"" +
+                " id=\"_generated\" name=\"generated\" namespace=\"http://www.kie.org/generated\">" +
+                "<semantic:extensionElements><dmndi:DMNDiagram>" + shapes + "</dmndi:DMNDiagram></semantic:extensionElements>" +
+                drgElements +
+                "</semantic:definitions>";
+    }
+
     private DMNShape findShapeByDMNI(org.kie.workbench.common.dmn.backend.definition.v1_1.dd.DMNDiagram root, String id) {
         return root.getAny().stream().filter(shape -> shape.getDmnElementRef().equals(id)).findFirst().get();
     }
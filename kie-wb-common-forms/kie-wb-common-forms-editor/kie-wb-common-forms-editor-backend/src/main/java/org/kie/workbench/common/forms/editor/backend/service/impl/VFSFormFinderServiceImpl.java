@@ -17,8 +17,9 @@
 package org.kie.workbench.common.forms.editor.backend.service.impl;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import javax.enterprise.context.Dependent;
 import javax.inject.Inject;
@@ -27,11 +28,9 @@ import javax.inject.Named;
 import org.guvnor.common.services.project.model.Module;
 import org.jboss.errai.bus.server.annotations.Service;
 import org.kie.workbench.common.forms.editor.service.shared.VFSFormFinderService;
-import org.kie.workbench.common.forms.editor.type.FormResourceTypeDefinition;
 import org.kie.workbench.common.forms.model.FormDefinition;
 import org.kie.workbench.common.forms.model.JavaFormModel;
 import org.kie.workbench.common.forms.services.backend.serialization.FormDefinitionSerializer;
-import org.kie.workbench.common.services.datamodeller.util.FileUtils;
 import org.kie.workbench.common.services.shared.project.KieModuleService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,18 +50,34 @@ public class VFSFormFinderServiceImpl implements VFSFormFinderService {
 
     private FormDefinitionSerializer serializer;
 
+    private VFSFormIndex formIndex;
+
+    public VFSFormFinderServiceImpl(IOService ioService,
+                                    KieModuleService moduleService,
+                                    FormDefinitionSerializer serializer) {
+        this(ioService,
+             moduleService,
+             serializer,
+             new VFSFormIndex(ioService,
+                              serializer));
+    }
+
     @Inject
     public VFSFormFinderServiceImpl(@Named("ioStrategy") IOService ioService,
                                     KieModuleService moduleService,
-                                    FormDefinitionSerializer serializer) {
+                                    FormDefinitionSerializer serializer,
+                                    VFSFormIndex formIndex) {
         this.ioService = ioService;
         this.moduleService = moduleService;
         this.serializer = serializer;
+        this.formIndex = formIndex;
     }
 
     @Override
     public List<FormDefinition> findAllForms(Path path) {
         return findForms(path,
+                         formIndex::getAllForms,
+                         null,
                          null);
     }
 
@@ -70,6 +85,8 @@ public class VFSFormFinderServiceImpl implements VFSFormFinderService {
     public List<FormDefinition> findFormsForType(final String typeName,
                                                  Path path) {
         return findForms(path,
+                         moduleRoot -> formIndex.getFormsForType(moduleRoot,
+                                                                 typeName),
                          new FormSearchConstraint() {
                              @Override
                              public boolean accepts(FormDefinition form) {
@@ -80,19 +97,24 @@ public class VFSFormFinderServiceImpl implements VFSFormFinderService {
 
                                  return false;
                              }
-                         });
+                         },
+                         null);
     }
 
     @Override
     public FormDefinition findFormById(final String id,
                                        Path path) {
         List<FormDefinition> forms = findForms(path,
+                                               moduleRoot -> formIndex.getFormsById(moduleRoot,
+                                                                                    id),
                                                new FormSearchConstraint() {
                                                    @Override
                                                    public boolean accepts(FormDefinition form) {
                                                        return form.getId().equals(id);
                                                    }
-                                               });
+                                               },
+                                               moduleRoot -> formIndex.refreshForMissingForm(moduleRoot,
+                                                                                             id));
 
         if (forms != null && !forms.isEmpty()) {
             return forms.get(0);
@@ -101,40 +123,61 @@ public class VFSFormFinderServiceImpl implements VFSFormFinderService {
     }
 
     private List<FormDefinition> findForms(final Path path,
-                                           final FormSearchConstraint constraint) {
+                                           final Function<org.uberfire.java.nio.file.Path, List<org.uberfire.java.nio.file.Path>> lookup,
+                                           final FormSearchConstraint constraint,
+                                           final Predicate<org.uberfire.java.nio.file.Path> refreshOnMiss) {
+
+        Module module = moduleService.resolveModule(path);
+
+        org.uberfire.java.nio.file.Path moduleRoot = Paths.convert(module.getRootPath());
 
         List<FormDefinition> result = new ArrayList<>();
 
-        Module module = moduleService.resolveModule(path);
+        if (readForms(lookup.apply(moduleRoot),
+                      constraint,
+                      result)) {
+            // a missing form may have been pushed to the repository, the index reads the module forms again if needed
+            if (!result.isEmpty() || refreshOnMiss == null || !refreshOnMiss.test(moduleRoot)) {
+                return result;
+            }
+        } else {
+            // the index is out of date (e.g. forms pushed to the repository), read the module forms again
+            formIndex.refresh(moduleRoot);
+        }
 
-        FileUtils utils = FileUtils.getInstance();
+        result.clear();
 
-        List<org.uberfire.java.nio.file.Path> nioPaths = new ArrayList<>();
+        readForms(lookup.apply(moduleRoot),
+                  constraint,
+                  result);
 
-        nioPaths.add(Paths.convert(module.getRootPath()));
+        return result;
+    }
 
-        Collection<FileUtils.ScanResult> forms = utils.scan(ioService,
-                                                            nioPaths,
-                                                            FormResourceTypeDefinition.EXTENSION,
-                                                            true);
+    private boolean readForms(final List<org.uberfire.java.nio.file.Path> formPaths,
+                              final FormSearchConstraint constraint,
+                              final List<FormDefinition> result) {
+        boolean upToDate = true;
 
-        for (FileUtils.ScanResult form : forms) {
-            org.uberfire.java.nio.file.Path formPath = form.getFile();
+        for (org.uberfire.java.nio.file.Path formPath : formPaths) {
 
             try {
                 FormDefinition formDefinition = serializer.deserialize(ioService.readAllString(formPath).trim());
 
                 if (constraint == null || constraint.accepts(formDefinition)) {
                     result.add(formDefinition);
+                } else {
+                    upToDate = false;
                 }
             } catch (Exception ex) {
                 logger.warn("Unable to generate FormDefinition for {}",
-                            path,
+                            formPath,
                             ex);
+                upToDate = false;
             }
         }
 
-        return result;
+        return upToDate;
     }
 
     private interface FormSearchConstraint {
@@ -0,0 +1,315 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.forms.editor.backend.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.kie.workbench.common.forms.editor.type.FormResourceTypeDefinition;
+import org.kie.workbench.common.forms.model.FormDefinition;
+import org.kie.workbench.common.forms.model.JavaFormModel;
+import org.kie.workbench.common.forms.services.backend.serialization.FormDefinitionSerializer;
+import org.kie.workbench.common.services.datamodeller.util.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.uberfire.backend.server.util.Paths;
+import org.uberfire.io.IOService;
+import org.uberfire.java.nio.file.Path;
+import org.uberfire.workbench.events.ResourceAddedEvent;
+import org.uberfire.workbench.events.ResourceBatchChangesEvent;
+import org.uberfire.workbench.events.ResourceChange;
+import org.uberfire.workbench.events.ResourceDeletedEvent;
+import org.uberfire.workbench.events.ResourceRenamed;
+import org.uberfire.workbench.events.ResourceRenamedEvent;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+/**
+ * Index of the forms of the Modules, mapping the form ids and the model types to the paths of the forms.
+ * </p>
+ * The forms of a Module are read once, when the Module is first looked up. The index is then maintained with the
+ * resource change events, so that {@link VFSFormFinderServiceImpl} only has to read the forms it is looking for.
+ * The forms are not kept, every lookup deserializes its own copy as callers are free to modify them.
+ * </p>
+ * Each Module is read and updated under its own lock, so reading a Module doesn't block the lookups of the others.
+ * The ids of the forms still missing after a refresh are remembered until the forms of the Module change, so
+ * repeated lookups of a missing form don't read the Module again.
+ */
+@ApplicationScoped
+public class VFSFormIndex {
+
+    static final int MAX_MODULES = 100;
+
+    private static final Logger logger = LoggerFactory.getLogger(VFSFormIndex.class);
+
+    private static final String FORM_SUFFIX = "." + FormResourceTypeDefinition.EXTENSION;
+
+    private IOService ioService;
+
+    private FormDefinitionSerializer serializer;
+
+    //Guarded by itself, only held to look up the ModuleForms
+    private final Map<String, ModuleForms> modules = new LinkedHashMap<String, ModuleForms>(16,
+                                                                                          0.75f,
+                                                                                          true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, ModuleForms> eldest) {
+            return size() > MAX_MODULES;
+        }
+    };
+
+    public VFSFormIndex() {
+        //CDI proxy
+    }
+
+    @Inject
+    public VFSFormIndex(final @Named("ioStrategy") IOService ioService,
+                        final FormDefinitionSerializer serializer) {
+        this.ioService = ioService;
+        this.serializer = serializer;
+    }
+
+    /**
+     * @return The paths of the forms of the Module with the given id
+     */
+    public List<Path> getFormsById(final Path moduleRoot,
+                                   final String formId) {
+        return getForms(moduleRoot,
+                        false).stream()
+                .filter(entry -> formId.equals(entry.id))
+                .map(entry -> entry.path)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return The paths of the forms of the Module whose model is the given Java type
+     */
+    public List<Path> getFormsForType(final Path moduleRoot,
+                                      final String typeName) {
+        return getForms(moduleRoot,
+                        false).stream()
+                .filter(entry -> typeName.equals(entry.modelType))
+                .map(entry -> entry.path)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return The paths of all the forms of the Module
+     */
+    public List<Path> getAllForms(final Path moduleRoot) {
+        return getForms(moduleRoot,
+                        false).stream()
+                .map(entry -> entry.path)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Reads the forms of the Module again, for forms changed without a resource event (e.g. pushed to the repository)
+     */
+    public void refresh(final Path moduleRoot) {
+        getForms(moduleRoot,
+                 true);
+    }
+
+    /**
+     * Reads the forms of the Module again for a form that was not found, unless it was already missing after the
+     * last read and the forms of the Module haven't changed since.
+     * @return Whether the forms of the Module were read again
+     */
+    public boolean refreshForMissingForm(final Path moduleRoot,
+                                         final String formId) {
+        final ModuleForms moduleForms = getModuleForms(moduleRoot);
+        synchronized (moduleForms) {
+            if (moduleForms.missingFormIds.contains(formId)) {
+                return false;
+            }
+            moduleForms.load(moduleRoot);
+            if (moduleForms.forms.values().stream().noneMatch(entry -> formId.equals(entry.id))) {
+                moduleForms.missingFormIds.add(formId);
+            }
+            return true;
+        }
+    }
+
+    public void clear() {
+        synchronized (modules) {
+            modules.clear();
+        }
+    }
+
+    public void onResourceAdded(@Observes final ResourceAddedEvent event) {
+        onResourceChanged(event.getPath());
+    }
+
+    public void onResourceUpdated(@Observes final ResourceUpdatedEvent event) {
+        onResourceChanged(event.getPath());
+    }
+
+    public void onResourceDeleted(@Observes final ResourceDeletedEvent event) {
+        onResourceChanged(event.getPath());
+    }
+
+    public void onResourceRenamed(@Observes final ResourceRenamedEvent event) {
+        onResourceChanged(event.getPath());
+        onResourceChanged(event.getDestinationPath());
+    }
+
+    public void onBatchResourceChanges(@Observes final ResourceBatchChangesEvent event) {
+        for (final Map.Entry<org.uberfire.backend.vfs.Path, Collection<ResourceChange>> entry : event.getBatch().entrySet()) {
+            onResourceChanged(entry.getKey());
+            for (final ResourceChange change : entry.getValue()) {
+                if (change instanceof ResourceRenamed) {
+                    onResourceChanged(((ResourceRenamed) change).getDestinationPath());
+                }
+            }
+        }
+    }
+
+    private void onResourceChanged(final org.uberfire.backend.vfs.Path path) {
+        if (path == null || !path.getFileName().endsWith(FORM_SUFFIX)) {
+            return;
+        }
+        final String uri = path.toURI();
+        final List<ModuleForms> changedModules = new ArrayList<>();
+        synchronized (modules) {
+            for (Map.Entry<String, ModuleForms> module : modules.entrySet()) {
+                if (uri.startsWith(module.getKey())) {
+                    changedModules.add(module.getValue());
+                }
+            }
+        }
+        for (ModuleForms moduleForms : changedModules) {
+            synchronized (moduleForms) {
+                moduleForms.missingFormIds.clear();
+                if (moduleForms.forms == null) {
+                    continue;
+                }
+                moduleForms.forms.remove(uri);
+                final Path nioPath = Paths.convert(path);
+                if (ioService.exists(nioPath)) {
+                    final FormEntry entry = readEntry(nioPath);
+                    if (entry != null) {
+                        moduleForms.forms.put(uri,
+                                              entry);
+                    }
+                }
+            }
+        }
+    }
+
+    private Collection<FormEntry> getForms(final Path moduleRoot,
+                                           final boolean refresh) {
+        final ModuleForms moduleForms = getModuleForms(moduleRoot);
+        synchronized (moduleForms) {
+            if (moduleForms.forms == null || refresh) {
+                moduleForms.load(moduleRoot);
+            }
+            return new ArrayList<>(moduleForms.forms.values());
+        }
+    }
+
+    private ModuleForms getModuleForms(final Path moduleRoot) {
+        synchronized (modules) {
+            return modules.computeIfAbsent(toModuleKey(moduleRoot),
+                                           key -> new ModuleForms());
+        }
+    }
+
+    protected Collection<Path> scanForms(final Path moduleRoot) {
+        final List<Path> nioPaths = new ArrayList<>();
+        nioPaths.add(moduleRoot);
+        return FileUtils.getInstance().scan(ioService,
+                                            nioPaths,
+                                            FormResourceTypeDefinition.EXTENSION,
+                                            true)
+                .stream()
+                .map(FileUtils.ScanResult::getFile)
+                .collect(Collectors.toList());
+    }
+
+    private FormEntry readEntry(final Path formPath) {
+        try {
+            final FormDefinition form = serializer.deserialize(ioService.readAllString(formPath).trim());
+            if (form == null) {
+                return null;
+            }
+            final String modelType = form.getModel() instanceof JavaFormModel ? ((JavaFormModel) form.getModel()).getType() : null;
+            return new FormEntry(formPath,
+                                 form.getId(),
+                                 modelType);
+        } catch (Exception ex) {
+            logger.warn("Unable to generate FormDefinition for {}",
+                        formPath,
+                        ex);
+            return null;
+        }
+    }
+
+    private static String toModuleKey(final Path moduleRoot) {
+        final String uri = moduleRoot.toUri().toString();
+        return uri.endsWith("/") ? uri : uri + "/";
+    }
+
+    /**
+     * The forms of a Module, null until the Module is read. Guarded by the ModuleForms itself.
+     */
+    private class ModuleForms {
+
+        private Map<String, FormEntry> forms;
+
+        private final Set<String> missingFormIds = new HashSet<>();
+
+        private void load(final Path moduleRoot) {
+            final Map<String, FormEntry> forms = new HashMap<>();
+            for (Path formPath : scanForms(moduleRoot)) {
+                final FormEntry entry = readEntry(formPath);
+                if (entry != null) {
+                    forms.put(formPath.toUri().toString(),
+                              entry);
+                }
+            }
+            this.forms = forms;
+            missingFormIds.clear();
+        }
+    }
+
+    private static class FormEntry {
+
+        private final Path path;
+        private final String id;
+        private final String modelType;
+
+        private FormEntry(final Path path,
+                          final String id,
+                          final String modelType) {
+            this.path = path;
+            this.id = id;
+            this.modelType = modelType;
+        }
+    }
+}
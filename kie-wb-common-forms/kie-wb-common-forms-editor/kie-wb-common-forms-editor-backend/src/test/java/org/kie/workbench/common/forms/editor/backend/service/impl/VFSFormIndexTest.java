@@ -0,0 +1,242 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.forms.editor.backend.service.impl;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.forms.model.FormDefinition;
+import org.kie.workbench.common.forms.model.JavaFormModel;
+import org.kie.workbench.common.forms.services.backend.serialization.FormDefinitionSerializer;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.io.IOService;
+import org.uberfire.java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class VFSFormIndexTest {
+
+    private static final String MODULE_URI = "default://master@space/module";
+
+    private static final String TYPE = "org.kie.test.Person";
+
+    @Mock
+    private IOService ioService;
+
+    @Mock
+    private FormDefinitionSerializer serializer;
+
+    @Mock
+    private Path moduleRoot;
+
+    private List<Path> forms = new ArrayList<>();
+
+    private TestVFSFormIndex index;
+
+    @Before
+    public void setup() {
+        when(moduleRoot.toUri()).thenReturn(URI.create(MODULE_URI));
+
+        addForm("form1",
+                TYPE);
+        addForm("form2",
+                "org.kie.test.Address");
+        addForm("form3",
+                TYPE);
+
+        index = new TestVFSFormIndex();
+    }
+
+    @Test
+    public void testLookups() {
+        assertEquals(3,
+                     index.getAllForms(moduleRoot).size());
+
+        final List<Path> formsById = index.getFormsById(moduleRoot,
+                                                        "form2");
+        assertEquals(1,
+                     formsById.size());
+        assertEquals(forms.get(1),
+                     formsById.get(0));
+
+        final List<Path> formsForType = index.getFormsForType(moduleRoot,
+                                                              TYPE);
+        assertEquals(2,
+                     formsForType.size());
+        assertTrue(formsForType.contains(forms.get(0)));
+        assertTrue(formsForType.contains(forms.get(2)));
+
+        assertTrue(index.getFormsById(moduleRoot,
+                                      "unknown").isEmpty());
+
+        // the module is only read once
+        assertEquals(1,
+                     index.scans);
+        verify(ioService,
+               times(1)).readAllString(forms.get(0));
+    }
+
+    @Test
+    public void testRefresh() {
+        assertTrue(index.getFormsById(moduleRoot,
+                                      "form4").isEmpty());
+
+        addForm("form4",
+                TYPE);
+        index.refresh(moduleRoot);
+
+        assertEquals(1,
+                     index.getFormsById(moduleRoot,
+                                        "form4").size());
+        assertEquals(3,
+                     index.getFormsForType(moduleRoot,
+                                           TYPE).size());
+        assertEquals(2,
+                     index.scans);
+    }
+
+    @Test
+    public void testMissingFormIsOnlyRefreshedOnce() {
+        assertTrue(index.refreshForMissingForm(moduleRoot,
+                                               "form4"));
+        assertFalse(index.refreshForMissingForm(moduleRoot,
+                                                "form4"));
+        assertEquals(1,
+                     index.scans);
+
+        // the missing forms are forgotten when the module is read again
+        addForm("form4",
+                TYPE);
+        index.refresh(moduleRoot);
+
+        assertTrue(index.refreshForMissingForm(moduleRoot,
+                                               "form4"));
+        assertTrue(index.refreshForMissingForm(moduleRoot,
+                                               "form4"));
+        assertEquals(1,
+                     index.getFormsById(moduleRoot,
+                                        "form4").size());
+        assertEquals(4,
+                     index.scans);
+    }
+
+    @Test
+    public void testModulesAreReadConcurrently() throws Exception {
+        final Path blockedModuleRoot = mock(Path.class);
+        when(blockedModuleRoot.toUri()).thenReturn(URI.create("default://master@space/blocked"));
+        index.blockedModuleRoot = blockedModuleRoot;
+
+        final Thread thread = new Thread(() -> index.getAllForms(blockedModuleRoot));
+        thread.start();
+        try {
+            assertTrue(index.scanStarted.await(10,
+                                               TimeUnit.SECONDS));
+
+            // reading a module doesn't block the other modules
+            assertEquals(3,
+                         index.getAllForms(moduleRoot).size());
+        } finally {
+            index.scanReleased.countDown();
+            thread.join();
+        }
+    }
+
+    @Test
+    public void testInvalidFormsAreSkipped() {
+        final Path invalidForm = mock(Path.class);
+        when(invalidForm.toUri()).thenReturn(URI.create(MODULE_URI + "/src/main/resources/invalid.frm"));
+        when(ioService.readAllString(invalidForm)).thenReturn("invalid");
+        when(serializer.deserialize("invalid")).thenThrow(new IllegalStateException("invalid form"));
+        forms.add(invalidForm);
+
+        assertEquals(3,
+                     index.getAllForms(moduleRoot).size());
+    }
+
+    @Test
+    public void testClear() {
+        index.getAllForms(moduleRoot);
+        index.clear();
+        index.getAllForms(moduleRoot);
+
+        assertEquals(2,
+                     index.scans);
+    }
+
+    private void addForm(final String id,
+                         final String type) {
+        final Path formPath = mock(Path.class);
+        when(formPath.toUri()).thenReturn(URI.create(MODULE_URI + "/src/main/resources/" + id + ".frm"));
+
+        final JavaFormModel model = mock(JavaFormModel.class);
+        when(model.getType()).thenReturn(type);
+
+        final FormDefinition form = new FormDefinition(model);
+        form.setId(id);
+
+        when(ioService.readAllString(formPath)).thenReturn(id);
+        when(serializer.deserialize(id)).thenReturn(form);
+
+        forms.add(formPath);
+    }
+
+    private class TestVFSFormIndex extends VFSFormIndex {
+
+        private volatile int scans = 0;
+
+        private Path blockedModuleRoot;
+
+        private final CountDownLatch scanStarted = new CountDownLatch(1);
+
+        private final CountDownLatch scanReleased = new CountDownLatch(1);
+
+        TestVFSFormIndex() {
+            super(ioService,
+                  serializer);
+        }
+
+        @Override
+        protected Collection<Path> scanForms(final Path moduleRoot) {
+            scans++;
+            if (moduleRoot == blockedModuleRoot) {
+                scanStarted.countDown();
+                try {
+                    scanReleased.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return new ArrayList<>();
+            }
+            return new ArrayList<>(forms);
+        }
+    }
+}
@@ -31,6 +31,21 @@ public class DataSourceDef
 
     private String password = null;
 
+    /**
+     * Connection pool settings, the pool defaults are used when not set.
+     */
+    private Integer minIdle = null;
+
+    private Integer maxIdle = null;
+
+    private Integer maxTotal = null;
+
+    private Long maxWaitMillis = null;
+
+    private Long timeBetweenEvictionRunsMillis = null;
+
+    private String validationQuery = null;
+
     public DataSourceDef() {
     }
 
@@ -80,6 +95,54 @@ public class DataSourceDef
         this.password = password;
     }
 
+    public Integer getMinIdle() {
+        return minIdle;
+    }
+
+    public void setMinIdle(Integer minIdle) {
+        this.minIdle = minIdle;
+    }
+
+    public Integer getMaxIdle() {
+        return maxIdle;
+    }
+
+    public void setMaxIdle(Integer maxIdle) {
+        this.maxIdle = maxIdle;
+    }
+
+    public Integer getMaxTotal() {
+        return maxTotal;
+    }
+
+    public void setMaxTotal(Integer maxTotal) {
+        this.maxTotal = maxTotal;
+    }
+
+    public Long getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+
+    public void setMaxWaitMillis(Long maxWaitMillis) {
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    public Long getTimeBetweenEvictionRunsMillis() {
+        return timeBetweenEvictionRunsMillis;
+    }
+
+    public void setTimeBetweenEvictionRunsMillis(Long timeBetweenEvictionRunsMillis) {
+        this.timeBetweenEvictionRunsMillis = timeBetweenEvictionRunsMillis;
+    }
+
+    public String getValidationQuery() {
+        return validationQuery;
+    }
+
+    public void setValidationQuery(String validationQuery) {
+        this.validationQuery = validationQuery;
+    }
+
     @Override
     public String toString() {
         return "DataSourceDef{" +
@@ -89,6 +152,12 @@ public class DataSourceDef
                 ", driverUuid='" + driverUuid + '\'' +
                 ", user='******'" +
                 ", password='******'" +
+                ", minIdle=" + minIdle +
+                ", maxIdle=" + maxIdle +
+                ", maxTotal=" + maxTotal +
+                ", maxWaitMillis=" + maxWaitMillis +
+                ", timeBetweenEvictionRunsMillis=" + timeBetweenEvictionRunsMillis +
+                ", validationQuery='" + validationQuery + '\'' +
                 '}';
     }
 
@@ -115,7 +184,25 @@ public class DataSourceDef
         if (user != null ? !user.equals(that.user) : that.user != null) {
             return false;
         }
-        return password != null ? password.equals(that.password) : that.password == null;
+        if (password != null ? !password.equals(that.password) : that.password != null) {
+            return false;
+        }
+        if (minIdle != null ? !minIdle.equals(that.minIdle) : that.minIdle != null) {
+            return false;
+        }
+        if (maxIdle != null ? !maxIdle.equals(that.maxIdle) : that.maxIdle != null) {
+            return false;
+        }
+        if (maxTotal != null ? !maxTotal.equals(that.maxTotal) : that.maxTotal != null) {
+            return false;
+        }
+        if (maxWaitMillis != null ? !maxWaitMillis.equals(that.maxWaitMillis) : that.maxWaitMillis != null) {
+            return false;
+        }
+        if (timeBetweenEvictionRunsMillis != null ? !timeBetweenEvictionRunsMillis.equals(that.timeBetweenEvictionRunsMillis) : that.timeBetweenEvictionRunsMillis != null) {
+            return false;
+        }
+        return validationQuery != null ? validationQuery.equals(that.validationQuery) : that.validationQuery == null;
     }
 
     @Override
@@ -129,6 +216,18 @@ public class DataSourceDef
         result = ~~result;
         result = 31 * result + (password != null ? password.hashCode() : 0);
         result = ~~result;
+        result = 31 * result + (minIdle != null ? minIdle.hashCode() : 0);
+        result = ~~result;
+        result = 31 * result + (maxIdle != null ? maxIdle.hashCode() : 0);
+        result = ~~result;
+        result = 31 * result + (maxTotal != null ? maxTotal.hashCode() : 0);
+        result = ~~result;
+        result = 31 * result + (maxWaitMillis != null ? maxWaitMillis.hashCode() : 0);
+        result = ~~result;
+        result = 31 * result + (timeBetweenEvictionRunsMillis != null ? timeBetweenEvictionRunsMillis.hashCode() : 0);
+        result = ~~result;
+        result = 31 * result + (validationQuery != null ? validationQuery.hashCode() : 0);
+        result = ~~result;
         return result;
     }
 }
\ No newline at end of file
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.screens.datasource.management.model;
+
+import org.jboss.errai.common.client.api.annotations.Portable;
+
+/**
+ * Snapshot of the connection pool of a deployed data source.
+ */
+@Portable
+public class DataSourcePoolStats {
+
+    private String uuid;
+
+    private DataSourceStatus status;
+
+    private int active;
+
+    private int idle;
+
+    private int waiters;
+
+    private int maxTotal;
+
+    private long createdCount;
+
+    private long destroyedCount;
+
+    private long borrowedCount;
+
+    private long meanBorrowWaitMillis;
+
+    private long maxBorrowWaitMillis;
+
+    public DataSourcePoolStats() {
+    }
+
+    public String getUuid() {
+        return uuid;
+    }
+
+    public void setUuid( String uuid ) {
+        this.uuid = uuid;
+    }
+
+    /**
+     * @return the status of the data source.
+     */
+    public DataSourceStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus( DataSourceStatus status ) {
+        this.status = status;
+    }
+
+    /**
+     * @return the number of connections currently borrowed from the pool.
+     */
+    public int getActive() {
+        return active;
+    }
+
+    public void setActive( int active ) {
+        this.active = active;
+    }
+
+    /**
+     * @return the number of idle connections in the pool.
+     */
+    public int getIdle() {
+        return idle;
+    }
+
+    public void setIdle( int idle ) {
+        this.idle = idle;
+    }
+
+    /**
+     * @return the number of threads waiting for a connection.
+     */
+    public int getWaiters() {
+        return waiters;
+    }
+
+    public void setWaiters( int waiters ) {
+        this.waiters = waiters;
+    }
+
+    /**
+     * @return the maximum number of connections of the pool, negative if there is no limit.
+     */
+    public int getMaxTotal() {
+        return maxTotal;
+    }
+
+    public void setMaxTotal( int maxTotal ) {
+        this.maxTotal = maxTotal;
+    }
+
+    public long getCreatedCount() {
+        return createdCount;
+    }
+
+    public void setCreatedCount( long createdCount ) {
+        this.createdCount = createdCount;
+    }
+
+    public long getDestroyedCount() {
+        return destroyedCount;
+    }
+
+    public void setDestroyedCount( long destroyedCount ) {
+        this.destroyedCount = destroyedCount;
+    }
+
+    public long getBorrowedCount() {
+        return borrowedCount;
+    }
+
+    public void setBorrowedCount( long borrowedCount ) {
+        this.borrowedCount = borrowedCount;
+    }
+
+    /**
+     * @return the mean time the recent borrows waited for a connection, in milliseconds.
+     */
+    public long getMeanBorrowWaitMillis() {
+        return meanBorrowWaitMillis;
+    }
+
+    public void setMeanBorrowWaitMillis( long meanBorrowWaitMillis ) {
+        this.meanBorrowWaitMillis = meanBorrowWaitMillis;
+    }
+
+    /**
+     * @return the maximum time a borrow waited for a connection, in milliseconds.
+     */
+    public long getMaxBorrowWaitMillis() {
+        return maxBorrowWaitMillis;
+    }
+
+    public void setMaxBorrowWaitMillis( long maxBorrowWaitMillis ) {
+        this.maxBorrowWaitMillis = maxBorrowWaitMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "DataSourcePoolStats{" +
+                "uuid='" + uuid + '\'' +
+                ", status=" + status +
+                ", active=" + active +
+                ", idle=" + idle +
+                ", waiters=" + waiters +
+                ", maxTotal=" + maxTotal +
+                ", createdCount=" + createdCount +
+                ", destroyedCount=" + destroyedCount +
+                ", borrowedCount=" + borrowedCount +
+                ", meanBorrowWaitMillis=" + meanBorrowWaitMillis +
+                ", maxBorrowWaitMillis=" + maxBorrowWaitMillis +
+                '}';
+    }
+}
@@ -18,6 +18,7 @@ package org.kie.workbench.common.screens.datasource.management.service;
 
 import org.jboss.errai.bus.server.annotations.Remote;
 import org.kie.workbench.common.screens.datasource.management.model.DataSourceDeploymentInfo;
+import org.kie.workbench.common.screens.datasource.management.model.DataSourcePoolStats;
 import org.kie.workbench.common.screens.datasource.management.model.DriverDeploymentInfo;
 import org.kie.workbench.common.screens.datasource.management.model.TestResult;
 
@@ -45,6 +46,16 @@ public interface DataSourceRuntimeManagerClientService {
      */
     DriverDeploymentInfo getDriverDeploymentInfo( String uuid );
 
+    /**
+     * Gets the statistics of the connection pool of a data source.
+     *
+     * @param uuid data source identifier.
+     *
+     * @return the pool statistics or null if no data source was registered with the given uuid, or if its pool isn't
+     * managed by the data source management system.
+     */
+    DataSourcePoolStats getDataSourcePoolStats( String uuid );
+
     /**
      * Tests a data source in the data source management system.
      *
@@ -21,6 +21,7 @@ import java.util.List;
 import org.jboss.errai.bus.server.annotations.Remote;
 import org.kie.workbench.common.screens.datasource.management.metadata.DatabaseMetadata;
 import org.kie.workbench.common.screens.datasource.management.metadata.TableMetadata;
+import org.kie.workbench.common.screens.datasource.management.metadata.TableMetadataPage;
 
 /**
  * Service for getting information about a database structure.
@@ -56,4 +57,29 @@ public interface DatabaseMetadataService {
                                       String schema,
                                       String tableNamePattern,
                                       DatabaseMetadata.TableType... types );
-}
\ No newline at end of file
+
+    /**
+     * Gets a page of the database objects metadata for a given database.
+     * @param dataSourceUuid A data source uuid.
+     * @param schema A schema name for filtering. A null value will query all the available schemas.
+     * @param tableNamePattern A table name pattern for filtering the database objects by name, e.g. %INVOICE_%.
+     * @param startRow The index of the first database object of the page.
+     * @param pageSize The maximum number of database objects of the page.
+     * @param types A list of database object types for filtering.
+     * @return The page of database objects fulfilling the filtering criteria, and their total number.
+     */
+    TableMetadataPage findTables( String dataSourceUuid,
+                                  String schema,
+                                  String tableNamePattern,
+                                  int startRow,
+                                  int pageSize,
+                                  DatabaseMetadata.TableType... types );
+
+    /**
+     * Discards the cached metadata of a given database, so that it's read again by the next queries.
+     * @param dataSourceUuid A data source uuid.
+     * @param schema The schema to refresh. A null value will refresh all the database metadata.
+     */
+    void refreshMetadata( String dataSourceUuid,
+                          String schema );
+}
@@ -21,6 +21,7 @@ import java.util.Properties;
 
 import org.kie.workbench.common.screens.datasource.management.model.DataSourceDef;
 import org.kie.workbench.common.screens.datasource.management.model.DataSourceDeploymentInfo;
+import org.kie.workbench.common.screens.datasource.management.model.DataSourcePoolStats;
 
 /**
  * Class for managing the deployment of data sources in a given system e.g. the Wildlfy server.
@@ -79,6 +80,15 @@ public interface DataSourceProvider {
      */
     DataSource lookupDataSource(DataSourceDeploymentInfo deploymentInfo) throws Exception;
 
+    /**
+     * Gets the statistics of the connection pool of a data source previously deployed in the system.
+     * @param deploymentInfo Deployment information for the data source.
+     * @return The pool statistics, or null if the pool isn't managed by the provider e.g. it's managed by the
+     * Wildfly server.
+     * @throws Exception if the data source is not deployed.
+     */
+    DataSourcePoolStats getPoolStats(DataSourceDeploymentInfo deploymentInfo) throws Exception;
+
     /**
      * Indicates if the DataSourceProvider has started properly.
      * @throws Exception if the DataSourceProvider has not started throws an exception.
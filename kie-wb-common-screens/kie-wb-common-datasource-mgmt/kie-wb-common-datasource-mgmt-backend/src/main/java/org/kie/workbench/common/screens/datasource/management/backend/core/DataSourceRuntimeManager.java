@@ -18,6 +18,7 @@ package org.kie.workbench.common.screens.datasource.management.backend.core;
 
 import org.kie.workbench.common.screens.datasource.management.model.DataSourceDef;
 import org.kie.workbench.common.screens.datasource.management.model.DataSourceDeploymentInfo;
+import org.kie.workbench.common.screens.datasource.management.model.DataSourcePoolStats;
 import org.kie.workbench.common.screens.datasource.management.model.DriverDef;
 import org.kie.workbench.common.screens.datasource.management.model.DriverDeploymentInfo;
 
@@ -87,6 +88,15 @@ public interface DataSourceRuntimeManager {
      */
     DataSource lookupDataSource(String uuid) throws Exception;
 
+    /**
+     * Gets the statistics of the connection pool of a previously deployed data source.
+     * @param uuid a data source identifier.
+     * @return The pool statistics, or null if the data source wasn't deployed or its pool isn't managed by the
+     * data sources runtime system.
+     * @throws Exception if the statistics couldn't be retrieved.
+     */
+    DataSourcePoolStats getDataSourcePoolStats(String uuid) throws Exception;
+
     /**
      * Indicates if the DataSourceRuntimeManager has started properly.
      * @throws Exception if the DataSourceManagement runtime has not started throws an exception.
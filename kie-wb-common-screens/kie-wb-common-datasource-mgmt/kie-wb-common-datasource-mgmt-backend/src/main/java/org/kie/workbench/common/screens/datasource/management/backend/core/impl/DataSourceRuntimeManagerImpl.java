@@ -31,6 +31,7 @@ import org.kie.workbench.common.screens.datasource.management.backend.core.Drive
 import org.kie.workbench.common.screens.datasource.management.backend.core.UnDeploymentOptions;
 import org.kie.workbench.common.screens.datasource.management.model.DataSourceDef;
 import org.kie.workbench.common.screens.datasource.management.model.DataSourceDeploymentInfo;
+import org.kie.workbench.common.screens.datasource.management.model.DataSourcePoolStats;
 import org.kie.workbench.common.screens.datasource.management.model.DriverDef;
 import org.kie.workbench.common.screens.datasource.management.model.DriverDeploymentInfo;
 import org.slf4j.Logger;
@@ -194,6 +195,16 @@ public class DataSourceRuntimeManagerImpl
         }
     }
 
+    @Override
+    public synchronized DataSourcePoolStats getDataSourcePoolStats(String uuid) throws Exception {
+        DataSourceDeploymentInfo deploymentInfo = dataSourceProvider.getDeploymentInfo(uuid);
+        if (deploymentInfo != null) {
+            return dataSourceProvider.getPoolStats(deploymentInfo);
+        } else {
+            return null;
+        }
+    }
+
     @Override
     public void hasStarted() throws Exception {
         driverProvider.hasStarted();
@@ -26,6 +26,7 @@ import org.jboss.errai.bus.server.annotations.Service;
 import org.kie.workbench.common.screens.datasource.management.backend.core.DataSource;
 import org.kie.workbench.common.screens.datasource.management.backend.core.DataSourceRuntimeManager;
 import org.kie.workbench.common.screens.datasource.management.model.DataSourceDeploymentInfo;
+import org.kie.workbench.common.screens.datasource.management.model.DataSourcePoolStats;
 import org.kie.workbench.common.screens.datasource.management.model.DriverDeploymentInfo;
 import org.kie.workbench.common.screens.datasource.management.model.TestResult;
 import org.kie.workbench.common.screens.datasource.management.service.DataSourceRuntimeManagerClientService;
@@ -63,6 +64,16 @@ public class DataSourceRuntimeManagerClientServiceImpl
         }
     }
 
+    @Override
+    public DataSourcePoolStats getDataSourcePoolStats(String uuid) {
+        try {
+            return runtimeManager.getDataSourcePoolStats(uuid);
+        } catch (Exception e) {
+            throw new GenericPortableException(e.getMessage(),
+                                               e);
+        }
+    }
+
     @Override
     public TestResult testDataSource(final String uuid) {
         try {
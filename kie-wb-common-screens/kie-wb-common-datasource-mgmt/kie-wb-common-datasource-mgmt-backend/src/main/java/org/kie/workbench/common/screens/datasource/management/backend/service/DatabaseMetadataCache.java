@@ -0,0 +1,246 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.screens.datasource.management.backend.service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.guvnor.common.services.backend.cache.LRUCache;
+import org.kie.workbench.common.screens.datasource.management.events.BaseDataSourceEvent;
+import org.kie.workbench.common.screens.datasource.management.events.DeleteDataSourceEvent;
+import org.kie.workbench.common.screens.datasource.management.events.UpdateDataSourceEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A LRU cache, per data source, of the database metadata read by the DatabaseMetadataService.
+ * </p>
+ * The database level metadata e.g. the catalogs and schemas, and the metadata of every schema e.g. the tables, are
+ * loaded when first queried, and kept for {@value #CACHE_TTL_PROPERTY} milliseconds (default
+ * {@value #DEFAULT_CACHE_TTL}); 0 disables the cache. Entries are dropped when the data source is updated or deleted,
+ * or on demand. Cached values are shared, callers must not modify them.
+ */
+@ApplicationScoped
+public class DatabaseMetadataCache
+        extends LRUCache<String, DatabaseMetadataCache.DataSourceMetadata> {
+
+    public static final String CACHE_TTL_PROPERTY = "org.kie.workbench.datasource.metadata.cacheTTL";
+
+    static final long DEFAULT_CACHE_TTL = 60000;
+
+    static final int MAX_QUERIES_PER_SCHEMA = 50;
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseMetadataCache.class);
+
+    private final long cacheTTL = getCacheTTL();
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    public DatabaseMetadataCache() {
+    }
+
+    public void onDataSourceUpdated(@Observes final UpdateDataSourceEvent event) {
+        invalidateDataSource(event);
+    }
+
+    public void onDataSourceDeleted(@Observes final DeleteDataSourceEvent event) {
+        invalidateDataSource(event);
+    }
+
+    /**
+     * Returns the cached metadata of the data source, creating an empty entry if needed.
+     */
+    public synchronized DataSourceMetadata assertDataSourceMetadata(final String dataSourceUuid) {
+        DataSourceMetadata dataSourceMetadata = getEntry(dataSourceUuid);
+        if (dataSourceMetadata == null) {
+            dataSourceMetadata = new DataSourceMetadata();
+            setEntry(dataSourceUuid,
+                     dataSourceMetadata);
+        }
+        return dataSourceMetadata;
+    }
+
+    /**
+     * Drops the cached metadata of a schema, and the cached queries on all the schemas, of a data source.
+     */
+    public synchronized void invalidateSchema(final String dataSourceUuid,
+                                              final String schema) {
+        final DataSourceMetadata dataSourceMetadata = getEntry(dataSourceUuid);
+        if (dataSourceMetadata != null) {
+            dataSourceMetadata.invalidateSchema(schema);
+        }
+    }
+
+    public boolean isEnabled() {
+        return cacheTTL > 0;
+    }
+
+    /**
+     * @return The number of queries answered by the cache
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return The number of queries sent to the database
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    @PreDestroy
+    private void onDestroy() {
+        invalidateCache();
+    }
+
+    private void invalidateDataSource(final BaseDataSourceEvent event) {
+        if (event.getDataSourceDef() != null) {
+            invalidateCache(event.getDataSourceDef().getUuid());
+        }
+    }
+
+    private static long getCacheTTL() {
+        try {
+            return Long.parseLong(System.getProperty(CACHE_TTL_PROPERTY,
+                                                     String.valueOf(DEFAULT_CACHE_TTL)));
+        } catch (final NumberFormatException e) {
+            logger.warn("Invalid value for {}, using {}",
+                        CACHE_TTL_PROPERTY,
+                        DEFAULT_CACHE_TTL);
+            return DEFAULT_CACHE_TTL;
+        }
+    }
+
+    /**
+     * The cached metadata of a data source. Queries on all the schemas are kept under the null schema.
+     */
+    public class DataSourceMetadata {
+
+        private final Map<List<?>, CachedValue> databaseQueries = newBoundedMap();
+
+        private final Map<String, Map<List<?>, CachedValue>> schemaQueries = new HashMap<>();
+
+        //Values loaded before an invalidation are not cached, as they may be stale
+        private long generation = 0;
+
+        DataSourceMetadata() {
+        }
+
+        /**
+         * Returns the cached value of a database level query, loading it if needed.
+         * @param query The query parameters.
+         * @param loader Reads the value from the database.
+         */
+        public <T> T getDatabaseMetadata(final List<?> query,
+                                         final Callable<T> loader) throws Exception {
+            return get(databaseQueries,
+                       query,
+                       loader);
+        }
+
+        /**
+         * Returns the cached value of a schema level query, loading it if needed.
+         * @param schema The schema, null for a query on all the schemas.
+         * @param query The query parameters.
+         * @param loader Reads the value from the database.
+         */
+        public <T> T getSchemaMetadata(final String schema,
+                                       final List<?> query,
+                                       final Callable<T> loader) throws Exception {
+            final Map<List<?>, CachedValue> queries;
+            synchronized (this) {
+                queries = schemaQueries.computeIfAbsent(schema,
+                                                        key -> newBoundedMap());
+            }
+            return get(queries,
+                       query,
+                       loader);
+        }
+
+        public synchronized void invalidateSchema(final String schema) {
+            schemaQueries.remove(schema);
+            schemaQueries.remove(null);
+            generation++;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T get(final Map<List<?>, CachedValue> queries,
+                          final List<?> query,
+                          final Callable<T> loader) throws Exception {
+            if (!isEnabled()) {
+                misses.incrementAndGet();
+                return loader.call();
+            }
+
+            final long loadGeneration;
+            synchronized (this) {
+                final CachedValue cachedValue = queries.get(query);
+                if (cachedValue != null && cachedValue.expiresAt > System.currentTimeMillis()) {
+                    hits.incrementAndGet();
+                    return (T) cachedValue.value;
+                }
+                loadGeneration = generation;
+            }
+
+            //The database is queried outside the lock, concurrent misses of the same query may load it twice
+            misses.incrementAndGet();
+            final T value = loader.call();
+            synchronized (this) {
+                if (loadGeneration == generation) {
+                    queries.put(query,
+                                new CachedValue(value,
+                                                System.currentTimeMillis() + cacheTTL));
+                }
+            }
+            return value;
+        }
+    }
+
+    private static class CachedValue {
+
+        private final Object value;
+
+        private final long expiresAt;
+
+        CachedValue(final Object value,
+                    final long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static Map<List<?>, CachedValue> newBoundedMap() {
+        return new LinkedHashMap<List<?>, CachedValue>(16,
+                                                       0.75f,
+                                                       true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<List<?>, CachedValue> eldest) {
+                return size() > MAX_QUERIES_PER_SCHEMA;
+            }
+        };
+    }
+}
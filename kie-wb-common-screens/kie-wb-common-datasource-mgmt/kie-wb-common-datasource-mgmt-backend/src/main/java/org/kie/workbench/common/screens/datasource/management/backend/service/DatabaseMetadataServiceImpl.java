@@ -16,6 +16,10 @@
 
 package org.kie.workbench.common.screens.datasource.management.backend.service;
 
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -27,6 +31,7 @@ import org.kie.workbench.common.screens.datasource.management.backend.core.DataS
 import org.kie.workbench.common.screens.datasource.management.backend.core.DataSourceRuntimeManager;
 import org.kie.workbench.common.screens.datasource.management.metadata.DatabaseMetadata;
 import org.kie.workbench.common.screens.datasource.management.metadata.TableMetadata;
+import org.kie.workbench.common.screens.datasource.management.metadata.TableMetadataPage;
 import org.kie.workbench.common.screens.datasource.management.service.DatabaseMetadataService;
 import org.kie.workbench.common.screens.datasource.management.util.DatabaseMetadataUtil;
 import org.slf4j.Logger;
@@ -43,12 +48,16 @@ public class DatabaseMetadataServiceImpl
 
     private DataSourceRuntimeManager dataSourceRuntimeManager;
 
+    private DatabaseMetadataCache metadataCache;
+
     public DatabaseMetadataServiceImpl() {
     }
 
     @Inject
-    public DatabaseMetadataServiceImpl(DataSourceRuntimeManager dataSourceRuntimeManager) {
+    public DatabaseMetadataServiceImpl(DataSourceRuntimeManager dataSourceRuntimeManager,
+                                       DatabaseMetadataCache metadataCache) {
         this.dataSourceRuntimeManager = dataSourceRuntimeManager;
+        this.metadataCache = metadataCache;
     }
 
     @Override
@@ -58,16 +67,15 @@ public class DatabaseMetadataServiceImpl
         checkNotNull("dataSourceUuid",
                      dataSourceUuid);
         try {
-            DataSource dataSource = dataSourceRuntimeManager.lookupDataSource(dataSourceUuid);
-            return DatabaseMetadataUtil.getMetadata(dataSource.getConnection(),
-                                                    includeCatalogs,
-                                                    includeSchemas);
+            return metadataCache.assertDataSourceMetadata(dataSourceUuid).getDatabaseMetadata(
+                    Arrays.asList(includeCatalogs,
+                                  includeSchemas),
+                    () -> DatabaseMetadataUtil.getMetadata(getConnection(dataSourceUuid),
+                                                           includeCatalogs,
+                                                           includeSchemas));
         } catch (Exception e) {
-            logger.error("It was not possible to get database metadata for data source: " + dataSourceUuid,
-                         e);
-            throw new GenericPortableException("It was not possible to get database metadata for data source: "
-                                                       + dataSourceUuid + ": " + e.getMessage(),
-                                               e);
+            throw newMetadataException(dataSourceUuid,
+                                       e);
         }
     }
 
@@ -86,22 +94,92 @@ public class DatabaseMetadataServiceImpl
                                           String schema,
                                           String tableNamePattern,
                                           DatabaseMetadata.TableType... types) {
+        return new ArrayList<>(findAllTables(dataSourceUuid,
+                                             schema,
+                                             tableNamePattern,
+                                             types));
+    }
+
+    @Override
+    public TableMetadataPage findTables(String dataSourceUuid,
+                                        String schema,
+                                        String tableNamePattern,
+                                        int startRow,
+                                        int pageSize,
+                                        DatabaseMetadata.TableType... types) {
+        checkCondition("startRow >= 0",
+                       startRow >= 0);
+        checkCondition("pageSize > 0",
+                       pageSize > 0);
+        //every page is read from the same cached query.
+        List<TableMetadata> tables = findAllTables(dataSourceUuid,
+                                                   schema,
+                                                   tableNamePattern,
+                                                   types);
+        int fromIndex = Math.min(startRow,
+                                 tables.size());
+        int toIndex = (int) Math.min((long) startRow + pageSize,
+                                     tables.size());
+        return new TableMetadataPage(startRow,
+                                     tables.size(),
+                                     new ArrayList<>(tables.subList(fromIndex,
+                                                                    toIndex)));
+    }
+
+    @Override
+    public void refreshMetadata(String dataSourceUuid,
+                                String schema) {
+        checkNotNull("dataSourceUuid",
+                     dataSourceUuid);
+        if (schema == null) {
+            metadataCache.invalidateCache(dataSourceUuid);
+        } else {
+            metadataCache.invalidateSchema(dataSourceUuid,
+                                           schema);
+        }
+    }
+
+    /**
+     * Gets the tables from the metadata cache, the returned list is shared and must not be modified.
+     */
+    private List<TableMetadata> findAllTables(String dataSourceUuid,
+                                              String schema,
+                                              String tableNamePattern,
+                                              DatabaseMetadata.TableType... types) {
         checkNotNull("dataSourceUuid",
                      dataSourceUuid);
         checkNotNull("types",
                      types);
+        //the types order and repetitions don't change the query result.
+        EnumSet<DatabaseMetadata.TableType> typesSet = EnumSet.noneOf(DatabaseMetadata.TableType.class);
+        typesSet.addAll(Arrays.asList(types));
         try {
-            DataSource dataSource = dataSourceRuntimeManager.lookupDataSource(dataSourceUuid);
-            return DatabaseMetadataUtil.findTables(dataSource.getConnection(),
-                                                   schema,
-                                                   tableNamePattern,
-                                                   types);
+            return metadataCache.assertDataSourceMetadata(dataSourceUuid).getSchemaMetadata(
+                    schema,
+                    Arrays.asList("tables",
+                                  tableNamePattern,
+                                  typesSet),
+                    () -> DatabaseMetadataUtil.findTables(getConnection(dataSourceUuid),
+                                                          schema,
+                                                          tableNamePattern,
+                                                          types));
         } catch (Exception e) {
-            logger.error("It was not possible to get database metadata for data source: " + dataSourceUuid,
-                         e);
-            throw new GenericPortableException("It was not possible to get database metadata for data source: "
-                                                       + dataSourceUuid + ": " + e.getMessage(),
-                                               e);
+            throw newMetadataException(dataSourceUuid,
+                                       e);
         }
     }
-}
\ No newline at end of file
+
+    private Connection getConnection(String dataSourceUuid) throws Exception {
+        DataSource dataSource = dataSourceRuntimeManager.lookupDataSource(dataSourceUuid);
+        return dataSource.getConnection();
+    }
+
+    private GenericPortableException newMetadataException(String dataSourceUuid,
+                                                          Exception e) {
+        logger.error("It was not possible to get database metadata for data source: " + dataSourceUuid,
+                     e);
+        return new GenericPortableException("It was not possible to get database metadata for data source: "
+                                                    + dataSourceUuid + ": " + e.getMessage(),
+                                            e);
+    }
+}
@@ -24,6 +24,7 @@ import org.junit.runner.RunWith;
 import org.kie.workbench.common.screens.datasource.management.backend.core.impl.DataSourceRuntimeManagerImpl;
 import org.kie.workbench.common.screens.datasource.management.model.DataSourceDef;
 import org.kie.workbench.common.screens.datasource.management.model.DataSourceDeploymentInfo;
+import org.kie.workbench.common.screens.datasource.management.model.DataSourcePoolStats;
 import org.kie.workbench.common.screens.datasource.management.model.DriverDef;
 import org.kie.workbench.common.screens.datasource.management.model.DriverDeploymentInfo;
 import org.mockito.Mock;
@@ -365,6 +366,31 @@ public class DataSourceRuntimeManagerTest
         }
     }
 
+    /**
+     * Tests the pool statistics of a deployed data source.
+     */
+    @Test
+    public void testGetDataSourcePoolStats() throws Exception {
+        // emulates that the required driver is properly deployed.
+        when(driverProvider.getDeploymentInfo(dataSourceDef.getDriverUuid())).thenReturn(driverDeploymentInfo);
+        deployDataSource(dataSourceDef);
+        DataSourcePoolStats poolStats = new DataSourcePoolStats();
+        when(dataSourceProvider.getPoolStats(dataSourceDeploymentInfo)).thenReturn(poolStats);
+
+        assertEquals(poolStats,
+                     runtimeManager.getDataSourcePoolStats(dataSourceDef.getUuid()));
+    }
+
+    /**
+     * Tests the pool statistics of a not deployed data source.
+     */
+    @Test
+    public void testGetDataSourcePoolStatsNotDeployed() throws Exception {
+        assertNull(runtimeManager.getDataSourcePoolStats(dataSourceDef.getUuid()));
+        verify(dataSourceProvider,
+               never()).getPoolStats(any(DataSourceDeploymentInfo.class));
+    }
+
     /**
      * Tests that the datasource runtime manager is properly initialized.
      */
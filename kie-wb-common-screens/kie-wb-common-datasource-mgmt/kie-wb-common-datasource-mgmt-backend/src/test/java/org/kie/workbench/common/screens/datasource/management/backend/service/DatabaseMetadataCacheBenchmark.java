@@ -0,0 +1,97 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.screens.datasource.management.backend.service;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+
+import org.kie.workbench.common.screens.datasource.management.backend.core.DataSource;
+import org.kie.workbench.common.screens.datasource.management.backend.core.DataSourceRuntimeManager;
+import org.kie.workbench.common.screens.datasource.management.metadata.DatabaseMetadata;
+import org.kie.workbench.common.screens.datasource.management.service.DatabaseMetadataService;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Compares the browsing of a large schema, on an embedded H2 database, with and without the metadata cache.
+ * <p>
+ * It's not run by the build, run it with the number of tables as optional argument (default 10000).
+ */
+public class DatabaseMetadataCacheBenchmark {
+
+    private static final String URL = "jdbc:h2:mem:DatabaseMetadataCacheBenchmark;DB_CLOSE_DELAY=-1";
+
+    private static final String DATASOURCE_UUID = "DATASOURCE_UUID";
+
+    private static final String SCHEMA = "BENCHMARK";
+
+    private static final int PAGE_SIZE = 100;
+
+    private static final int ROUNDS = 5;
+
+    public static void main( String[] args ) throws Exception {
+        int tables = args.length > 0 ? Integer.parseInt( args[ 0 ] ) : 10000;
+        createTables( tables );
+
+        DataSource dataSource = mock( DataSource.class );
+        when( dataSource.getConnection( ) ).thenAnswer( invocation -> DriverManager.getConnection( URL ) );
+        DataSourceRuntimeManager runtimeManager = mock( DataSourceRuntimeManager.class );
+        when( runtimeManager.lookupDataSource( DATASOURCE_UUID ) ).thenReturn( dataSource );
+
+        System.setProperty( DatabaseMetadataCache.CACHE_TTL_PROPERTY, "0" );
+        DatabaseMetadataService uncachedService = new DatabaseMetadataServiceImpl( runtimeManager,
+                new DatabaseMetadataCache( ) );
+        System.clearProperty( DatabaseMetadataCache.CACHE_TTL_PROPERTY );
+        DatabaseMetadataCache cache = new DatabaseMetadataCache( );
+        DatabaseMetadataService cachedService = new DatabaseMetadataServiceImpl( runtimeManager, cache );
+
+        System.out.println( "Browsing " + tables + " tables in pages of " + PAGE_SIZE + ", " + ROUNDS + " rounds" );
+        for ( int round = 1; round <= ROUNDS; round++ ) {
+            long uncached = browse( uncachedService, tables );
+            long cached = browse( cachedService, tables );
+            System.out.println( "Round " + round + ": uncached " + uncached + " ms, cached " + cached + " ms" );
+        }
+        System.out.println( "Cache hits: " + cache.getHits( ) + ", misses: " + cache.getMisses( ) );
+    }
+
+    /**
+     * Reads the schemas, then every page of the schema tables.
+     */
+    private static long browse( DatabaseMetadataService metadataService,
+                                int tables ) {
+        long start = System.nanoTime( );
+        metadataService.getMetadata( DATASOURCE_UUID, false, true );
+        for ( int startRow = 0; startRow < tables; startRow += PAGE_SIZE ) {
+            metadataService.findTables( DATASOURCE_UUID, SCHEMA, "%", startRow, PAGE_SIZE,
+                    DatabaseMetadata.TableType.TABLE );
+        }
+        return ( System.nanoTime( ) - start ) / 1000000;
+    }
+
+    private static void createTables( int tables ) throws Exception {
+        try ( Connection conn = DriverManager.getConnection( URL );
+              Statement statement = conn.createStatement( ) ) {
+            statement.execute( "CREATE SCHEMA " + SCHEMA );
+            for ( int i = 0; i < tables; i++ ) {
+                statement.addBatch( "CREATE TABLE " + SCHEMA + ".TABLE_" + i +
+                        " ( ID INT PRIMARY KEY, NAME VARCHAR( 255 ), CREATED TIMESTAMP )" );
+            }
+            statement.executeBatch( );
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.screens.datasource.management.backend.service;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.screens.datasource.management.events.DeleteDataSourceEvent;
+import org.kie.workbench.common.screens.datasource.management.events.UpdateDataSourceEvent;
+import org.kie.workbench.common.screens.datasource.management.model.DataSourceDef;
+
+import static org.junit.Assert.*;
+
+public class DatabaseMetadataCacheTest {
+
+    private static final String DATASOURCE_UUID = "DATASOURCE_UUID";
+
+    private static final List< String > QUERY = Collections.singletonList( "tables" );
+
+    private DatabaseMetadataCache cache;
+
+    private AtomicInteger loads = new AtomicInteger( );
+
+    private Callable< Integer > loader = ( ) -> loads.incrementAndGet( );
+
+    @Before
+    public void setup( ) {
+        cache = new DatabaseMetadataCache( );
+    }
+
+    @After
+    public void tearDown( ) {
+        System.clearProperty( DatabaseMetadataCache.CACHE_TTL_PROPERTY );
+    }
+
+    @Test
+    public void testSchemaMetadataIsLoadedOnce( ) throws Exception {
+        assertEquals( 1, getSchemaMetadata( "schema1" ) );
+        assertEquals( 1, getSchemaMetadata( "schema1" ) );
+        // every schema is loaded lazily.
+        assertEquals( 2, getSchemaMetadata( "schema2" ) );
+        assertEquals( 2, getSchemaMetadata( "schema2" ) );
+
+        assertEquals( 2, cache.getMisses( ) );
+        assertEquals( 2, cache.getHits( ) );
+    }
+
+    @Test
+    public void testInvalidateSchema( ) throws Exception {
+        getSchemaMetadata( "schema1" );
+        getSchemaMetadata( "schema2" );
+        getSchemaMetadata( null );
+
+        cache.invalidateSchema( DATASOURCE_UUID, "schema1" );
+
+        // the invalidated schema and the queries on all the schemas are loaded again.
+        assertEquals( 4, getSchemaMetadata( "schema1" ) );
+        assertEquals( 2, getSchemaMetadata( "schema2" ) );
+        assertEquals( 5, getSchemaMetadata( null ) );
+    }
+
+    @Test
+    public void testDataSourceEvents( ) throws Exception {
+        DataSourceDef dataSourceDef = new DataSourceDef( );
+        dataSourceDef.setUuid( DATASOURCE_UUID );
+
+        getDatabaseMetadata( );
+        cache.onDataSourceUpdated( new UpdateDataSourceEvent( dataSourceDef, "sessionId", "identity", dataSourceDef ) );
+        assertEquals( 2, getDatabaseMetadata( ) );
+
+        cache.onDataSourceDeleted( new DeleteDataSourceEvent( dataSourceDef, "sessionId", "identity" ) );
+        assertEquals( 3, getDatabaseMetadata( ) );
+    }
+
+    @Test
+    public void testCacheDisabled( ) throws Exception {
+        System.setProperty( DatabaseMetadataCache.CACHE_TTL_PROPERTY, "0" );
+        cache = new DatabaseMetadataCache( );
+
+        assertFalse( cache.isEnabled( ) );
+        assertEquals( 1, getDatabaseMetadata( ) );
+        assertEquals( 2, getDatabaseMetadata( ) );
+        assertEquals( 0, cache.getHits( ) );
+    }
+
+    @Test
+    public void testExpiredEntriesAreLoadedAgain( ) throws Exception {
+        System.setProperty( DatabaseMetadataCache.CACHE_TTL_PROPERTY, "1" );
+        cache = new DatabaseMetadataCache( );
+
+        assertEquals( 1, getDatabaseMetadata( ) );
+        Thread.sleep( 10 );
+        assertEquals( 2, getDatabaseMetadata( ) );
+    }
+
+    private int getSchemaMetadata( String schema ) throws Exception {
+        return cache.assertDataSourceMetadata( DATASOURCE_UUID ).getSchemaMetadata( schema, QUERY, loader );
+    }
+
+    private int getDatabaseMetadata( ) throws Exception {
+        return cache.assertDataSourceMetadata( DATASOURCE_UUID ).getDatabaseMetadata( QUERY, loader );
+    }
+}
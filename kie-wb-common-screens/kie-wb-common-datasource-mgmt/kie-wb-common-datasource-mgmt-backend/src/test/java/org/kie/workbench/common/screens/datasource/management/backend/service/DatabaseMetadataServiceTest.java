@@ -17,6 +17,7 @@
 package org.kie.workbench.common.screens.datasource.management.backend.service;
 
 import java.sql.Connection;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.Before;
@@ -26,6 +27,7 @@ import org.kie.workbench.common.screens.datasource.management.backend.core.DataS
 import org.kie.workbench.common.screens.datasource.management.backend.core.DataSourceRuntimeManager;
 import org.kie.workbench.common.screens.datasource.management.metadata.DatabaseMetadata;
 import org.kie.workbench.common.screens.datasource.management.metadata.TableMetadata;
+import org.kie.workbench.common.screens.datasource.management.metadata.TableMetadataPage;
 import org.kie.workbench.common.screens.datasource.management.service.DatabaseMetadataService;
 import org.kie.workbench.common.screens.datasource.management.util.DatabaseMetadataUtil;
 import org.mockito.Mock;
@@ -60,14 +62,17 @@ public class DatabaseMetadataServiceTest {
     @Mock
     private DatabaseMetadata metadata;
 
-    @Mock
-    private List< TableMetadata > tables;
+    private List< TableMetadata > tables = new ArrayList<>( );
 
     private DatabaseMetadata.TableType[] types = { DatabaseMetadata.TableType.ALL };
 
     @Before
     public void setup( ) throws Exception {
-        metadataService = new DatabaseMetadataServiceImpl( runtimeManager );
+        metadataService = new DatabaseMetadataServiceImpl( runtimeManager, new DatabaseMetadataCache( ) );
+
+        for ( int i = 0; i < 5; i++ ) {
+            tables.add( new TableMetadata( "catalog", SCHEMA, "table" + i, "TABLE" ) );
+        }
 
         when( runtimeManager.lookupDataSource( DATASOURCE_UUID ) ).thenReturn( dataSource );
         when( dataSource.getConnection( ) ).thenReturn( conn );
@@ -109,4 +114,62 @@ public class DatabaseMetadataServiceTest {
         // the result should be the same as the returned by the DatabaseMetadataUtil class.
         assertEquals( tables, result );
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that the tables of a schema are read once from the database.
+     */
+    @Test
+    public void testFindTablesIsCached( ) throws Exception {
+        PowerMockito.mockStatic( DatabaseMetadataUtil.class );
+        PowerMockito.when( DatabaseMetadataUtil.findTables( conn, SCHEMA, PATTERN, types ) ).thenReturn( tables );
+
+        assertEquals( tables, metadataService.findTables( DATASOURCE_UUID, SCHEMA, PATTERN, types ) );
+        // the result is a copy, the cached tables can't be modified.
+        metadataService.findTables( DATASOURCE_UUID, SCHEMA, PATTERN, types ).clear( );
+        assertEquals( tables, metadataService.findTables( DATASOURCE_UUID, SCHEMA, PATTERN, types ) );
+
+        PowerMockito.verifyStatic( times( 1 ) );
+        DatabaseMetadataUtil.findTables( conn, SCHEMA, PATTERN, types );
+    }
+
+    /**
+     * Tests the paging of the tables.
+     */
+    @Test
+    public void testFindTablesPage( ) throws Exception {
+        PowerMockito.mockStatic( DatabaseMetadataUtil.class );
+        PowerMockito.when( DatabaseMetadataUtil.findTables( conn, SCHEMA, PATTERN, types ) ).thenReturn( tables );
+
+        assertEquals( new TableMetadataPage( 0, 5, tables.subList( 0, 2 ) ),
+                metadataService.findTables( DATASOURCE_UUID, SCHEMA, PATTERN, 0, 2, types ) );
+        assertEquals( new TableMetadataPage( 2, 5, tables.subList( 2, 4 ) ),
+                metadataService.findTables( DATASOURCE_UUID, SCHEMA, PATTERN, 2, 2, types ) );
+        assertEquals( new TableMetadataPage( 4, 5, tables.subList( 4, 5 ) ),
+                metadataService.findTables( DATASOURCE_UUID, SCHEMA, PATTERN, 4, 2, types ) );
+        assertTrue( metadataService.findTables( DATASOURCE_UUID, SCHEMA, PATTERN, 6, 2, types ).getTables( ).isEmpty( ) );
+
+        // all the pages are read from the same query.
+        PowerMockito.verifyStatic( times( 1 ) );
+        DatabaseMetadataUtil.findTables( conn, SCHEMA, PATTERN, types );
+    }
+
+    /**
+     * Tests that the refreshed schemas are read again from the database.
+     */
+    @Test
+    public void testRefreshMetadata( ) throws Exception {
+        PowerMockito.mockStatic( DatabaseMetadataUtil.class );
+        PowerMockito.when( DatabaseMetadataUtil.findTables( conn, SCHEMA, PATTERN, types ) ).thenReturn( tables );
+
+        assertEquals( tables, metadataService.findTables( DATASOURCE_UUID, SCHEMA, PATTERN, types ) );
+        metadataService.refreshMetadata( DATASOURCE_UUID, "OTHER_SCHEMA" );
+        assertEquals( tables, metadataService.findTables( DATASOURCE_UUID, SCHEMA, PATTERN, types ) );
+        PowerMockito.verifyStatic( times( 1 ) );
+        DatabaseMetadataUtil.findTables( conn, SCHEMA, PATTERN, types );
+
+        metadataService.refreshMetadata( DATASOURCE_UUID, SCHEMA );
+        assertEquals( tables, metadataService.findTables( DATASOURCE_UUID, SCHEMA, PATTERN, types ) );
+        PowerMockito.verifyStatic( times( 2 ) );
+        DatabaseMetadataUtil.findTables( conn, SCHEMA, PATTERN, types );
+    }
+}
@@ -24,6 +24,7 @@ import javax.inject.Inject;
 
 import com.google.gwt.view.client.AsyncDataProvider;
 import com.google.gwt.view.client.HasData;
+import com.google.gwt.view.client.Range;
 import org.jboss.errai.bus.client.api.messaging.Message;
 import org.jboss.errai.common.client.api.Caller;
 import org.jboss.errai.common.client.api.IsElement;
@@ -35,6 +36,7 @@ import org.kie.workbench.common.screens.datasource.management.client.util.Initia
 import org.kie.workbench.common.screens.datasource.management.metadata.DatabaseMetadata;
 import org.kie.workbench.common.screens.datasource.management.metadata.SchemaMetadata;
 import org.kie.workbench.common.screens.datasource.management.metadata.TableMetadata;
+import org.kie.workbench.common.screens.datasource.management.metadata.TableMetadataPage;
 import org.kie.workbench.common.screens.datasource.management.service.DatabaseMetadataService;
 import org.uberfire.commons.data.Pair;
 import org.uberfire.ext.widgets.common.client.callbacks.HasBusyIndicatorDefaultErrorCallback;
@@ -60,6 +62,13 @@ public class DatabaseObjectExplorer
     protected static final DatabaseMetadata.TableType[] availableSearchTypes =
             new DatabaseMetadata.TableType[] { DatabaseMetadata.TableType.VIEW, DatabaseMetadata.TableType.TABLE };
 
+    protected static final int PAGE_SIZE = 20;
+
+    /**
+     * The current search, the database objects are loaded from the server a page at a time.
+     */
+    private Search currentSearch;
+
     public DatabaseObjectExplorer( ) {
     }
 
@@ -84,8 +93,10 @@ public class DatabaseObjectExplorer
         dataProvider = new AsyncDataProvider< DatabaseObjectRow >( ) {
             @Override
             protected void onRangeChanged( HasData< DatabaseObjectRow > display ) {
-                updateRowCount( rows.size( ), true );
-                updateRowData( 0, rows );
+                if ( currentSearch != null ) {
+                    Range range = display.getVisibleRange( );
+                    loadPage( currentSearch, range.getStart( ), range.getLength( ), null );
+                }
             }
         };
         view.setDataProvider( dataProvider );
@@ -212,10 +223,24 @@ public class DatabaseObjectExplorer
                          String databaseObjectType,
                          String searchTerm,
                          InitializeCallback initializeCallback ) {
+        currentSearch = null;
         clear( );
+        // a new search starts on the first page.
+        for ( HasData< DatabaseObjectRow > display : dataProvider.getDataDisplays( ) ) {
+            display.setVisibleRange( 0, display.getVisibleRange( ).getLength( ) );
+        }
+        currentSearch = new Search( dataSource, schema, buildSearchTerm( searchTerm ),
+                buildSearchType( view.getObjectType( ) ) );
+        loadPage( currentSearch, 0, PAGE_SIZE, initializeCallback );
+    }
+
+    private void loadPage( Search search,
+                           int startRow,
+                           int pageSize,
+                           InitializeCallback initializeCallback ) {
         view.showBusyIndicator( translationService.getTranslation(
                 DataSourceManagementConstants.DatabaseObjectExplorerViewImpl_loadingDbObjects ) );
-        metadataService.call( getSearchSuccessCallback( initializeCallback ),
+        metadataService.call( getSearchSuccessCallback( search, initializeCallback ),
                 new HasBusyIndicatorDefaultErrorCallback( view ) {
                     @Override
                     public boolean error( Message message, Throwable throwable ) {
@@ -225,16 +250,19 @@ public class DatabaseObjectExplorer
                         }
                         return result;
                     }
-                } ).findTables( dataSource,
-                schema, buildSearchTerm( searchTerm ), buildSearchType( view.getObjectType() ) );
+                } ).findTables( search.dataSource, search.schema, search.searchTerm, startRow, pageSize, search.types );
     }
 
-    private RemoteCallback< List< TableMetadata > > getSearchSuccessCallback( InitializeCallback initializeCallback ) {
-        return new RemoteCallback< List< TableMetadata > >( ) {
+    private RemoteCallback< TableMetadataPage > getSearchSuccessCallback( Search search,
+                                                                          InitializeCallback initializeCallback ) {
+        return new RemoteCallback< TableMetadataPage >( ) {
             @Override
-            public void callback( List< TableMetadata > response ) {
+            public void callback( TableMetadataPage response ) {
                 view.hideBusyIndicator( );
-                loadTables( response );
+                // the response of a previous search is discarded.
+                if ( search == currentSearch ) {
+                    loadTables( response );
+                }
                 if ( initializeCallback != null ) {
                     initializeCallback.onInitializeSuccess( );
                 }
@@ -242,12 +270,14 @@ public class DatabaseObjectExplorer
         };
     }
 
-    private void loadTables( List< TableMetadata > response ) {
+    private void loadTables( TableMetadataPage response ) {
         rows.clear( );
-        for ( TableMetadata metadata : response ) {
+        for ( TableMetadata metadata : response.getTables( ) ) {
             rows.add( new DatabaseObjectRow( metadata.getTableName( ), metadata.getTableType( ) ) );
         }
-        refreshRows( );
+        dataProvider.updateRowCount( response.getTotalRows( ), true );
+        dataProvider.updateRowData( response.getStartRow( ), rows );
+        view.redraw( );
     }
 
     private void setObjectOptions( ) {
@@ -274,6 +304,27 @@ public class DatabaseObjectExplorer
         }
     }
 
+    private static class Search {
+
+        private final String dataSource;
+
+        private final String schema;
+
+        private final String searchTerm;
+
+        private final DatabaseMetadata.TableType[] types;
+
+        private Search( String dataSource,
+                        String schema,
+                        String searchTerm,
+                        DatabaseMetadata.TableType[] types ) {
+            this.dataSource = dataSource;
+            this.schema = schema;
+            this.searchTerm = searchTerm;
+            this.types = types;
+        }
+    }
+
     public static class Settings {
 
         /**
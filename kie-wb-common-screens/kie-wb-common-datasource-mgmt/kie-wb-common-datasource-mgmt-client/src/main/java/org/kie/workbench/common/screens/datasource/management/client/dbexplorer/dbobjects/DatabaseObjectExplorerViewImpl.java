@@ -102,7 +102,7 @@ public class DatabaseObjectExplorerViewImpl
     private void init( ) {
         nameFilterTextBox.setAttribute( "placeholder", translationService.getTranslation(
                 DataSourceManagementConstants.DatabaseObjectExplorerViewImpl_namePatternHelp ) );
-        dataGrid = new PagedTable<>( 20, new ProvidesKey< DatabaseObjectRow >( ) {
+        dataGrid = new PagedTable<>( DatabaseObjectExplorer.PAGE_SIZE, new ProvidesKey< DatabaseObjectRow >( ) {
             @Override
             public Object getKey( DatabaseObjectRow item ) {
                 return item.getName( );
@@ -19,6 +19,9 @@ package org.kie.workbench.common.screens.datasource.management.client.dbexplorer
 import java.util.ArrayList;
 import java.util.List;
 
+import com.google.gwt.view.client.AsyncDataProvider;
+import com.google.gwt.view.client.HasData;
+import com.google.gwt.view.client.Range;
 import com.google.gwtmockito.GwtMockitoTestRunner;
 import org.jboss.errai.ui.client.local.spi.TranslationService;
 import org.junit.Before;
@@ -29,7 +32,9 @@ import org.kie.workbench.common.screens.datasource.management.client.resources.i
 import org.kie.workbench.common.screens.datasource.management.metadata.DatabaseMetadata;
 import org.kie.workbench.common.screens.datasource.management.metadata.SchemaMetadata;
 import org.kie.workbench.common.screens.datasource.management.metadata.TableMetadata;
+import org.kie.workbench.common.screens.datasource.management.metadata.TableMetadataPage;
 import org.kie.workbench.common.screens.datasource.management.service.DatabaseMetadataService;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.uberfire.commons.data.Pair;
 import org.uberfire.mocks.CallerMock;
@@ -93,8 +98,8 @@ public class DatabaseObjectExplorerTest
 
         // schemas are loaded in this case and also the database objects.
         when( metadataService.getMetadata( settings.dataSourceUuid(), false, true ) ).thenReturn( metadata );
-        when( metadataService.findTables(
-                settings.dataSourceUuid(), SCHEMA_NAME, "%%%", objectExplorer.availableSearchTypes ) ).thenReturn( dbObjects );
+        when( metadataService.findTables( settings.dataSourceUuid(), SCHEMA_NAME, "%%%", 0, DatabaseObjectExplorer.PAGE_SIZE,
+                objectExplorer.availableSearchTypes ) ).thenReturn( new TableMetadataPage( 0, dbObjects.size(), dbObjects ) );
         when( metadata.getSchemas() ).thenReturn( schemas );
         when( translationService.getTranslation(
                 DataSourceManagementConstants.DatabaseObjectExplorerViewImpl_loadingDbSchemas ) ).thenReturn( LOADING_MESSAGE1 );
@@ -127,8 +132,8 @@ public class DatabaseObjectExplorerTest
                 .showSchemaSelection( false );
 
         // database objects are loaded in this case
-        when( metadataService.findTables(
-                settings.dataSourceUuid(), SCHEMA_NAME, "%%%", objectExplorer.availableSearchTypes ) ).thenReturn( dbObjects );
+        when( metadataService.findTables( settings.dataSourceUuid(), SCHEMA_NAME, "%%%", 0, DatabaseObjectExplorer.PAGE_SIZE,
+                objectExplorer.availableSearchTypes ) ).thenReturn( new TableMetadataPage( 0, dbObjects.size(), dbObjects ) );
         when( metadata.getSchemas() ).thenReturn( schemas );
         when( translationService.getTranslation(
                 DataSourceManagementConstants.DatabaseObjectExplorerViewImpl_loadingDbObjects ) ).thenReturn( LOADING_MESSAGE1 );
@@ -193,8 +198,8 @@ public class DatabaseObjectExplorerTest
         when( view.getObjectType() ).thenReturn( "ALL" );
         when( view.getFilterTerm() ).thenReturn( "filterTerm" );
 
-        when( metadataService.findTables(
-                DATASOURCE_ID, SCHEMA_NAME, "%filterTerm%", objectExplorer.availableSearchTypes ) ).thenReturn( dbObjects );
+        when( metadataService.findTables( DATASOURCE_ID, SCHEMA_NAME, "%filterTerm%", 0, DatabaseObjectExplorer.PAGE_SIZE,
+                objectExplorer.availableSearchTypes ) ).thenReturn( new TableMetadataPage( 0, dbObjects.size(), dbObjects ) );
         when( translationService.getTranslation(
                 DataSourceManagementConstants.DatabaseObjectExplorerViewImpl_loadingDbObjects ) ).thenReturn( LOADING_MESSAGE1 );
 
@@ -205,6 +210,35 @@ public class DatabaseObjectExplorerTest
         assertEquals( buildExpectedRows(), objectExplorer.getItems() );
     }
 
+    /**
+     * Tests that the database objects are loaded from the server a page at a time.
+     */
+    @Test
+    @SuppressWarnings( "unchecked" )
+    public void testPaging() {
+        testInitializeWithSchemaSelectionDisabled();
+
+        List< TableMetadata > secondPage = new ArrayList<>( );
+        secondPage.add( new TableMetadata( CATALOG_NAME, SCHEMA_NAME, "table21", DatabaseMetadata.TableType.TABLE.name( ) ) );
+        when( metadataService.findTables( DATASOURCE_ID, SCHEMA_NAME, "%%%", DatabaseObjectExplorer.PAGE_SIZE,
+                DatabaseObjectExplorer.PAGE_SIZE, objectExplorer.availableSearchTypes ) )
+                .thenReturn( new TableMetadataPage( DatabaseObjectExplorer.PAGE_SIZE, 21, secondPage ) );
+
+        // emulates that the second page is displayed.
+        ArgumentCaptor< AsyncDataProvider > dataProvider = ArgumentCaptor.forClass( AsyncDataProvider.class );
+        verify( view ).setDataProvider( dataProvider.capture() );
+        HasData< DatabaseObjectRow > display = mock( HasData.class );
+        when( display.getVisibleRange() ).thenReturn( new Range( DatabaseObjectExplorer.PAGE_SIZE, DatabaseObjectExplorer.PAGE_SIZE ) );
+        dataProvider.getValue().addDataDisplay( display );
+
+        // only the second page should have been loaded.
+        verify( display ).setRowCount( 21, true );
+        List< DatabaseObjectRow > expectedRows = new ArrayList<>( );
+        expectedRows.add( new DatabaseObjectRow( "table21", DatabaseMetadata.TableType.TABLE.name( ) ) );
+        verify( display ).setRowData( DatabaseObjectExplorer.PAGE_SIZE, expectedRows );
+        assertEquals( expectedRows, objectExplorer.getItems() );
+    }
+
     /**
      * Common verifications for the initialize method.
      */
@@ -32,13 +32,14 @@ import org.apache.commons.dbcp2.ConnectionFactory;
 import org.apache.commons.dbcp2.PoolableConnection;
 import org.apache.commons.dbcp2.PoolableConnectionFactory;
 import org.apache.commons.dbcp2.PoolingDataSource;
-import org.apache.commons.pool2.ObjectPool;
 import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.kie.workbench.common.screens.datasource.management.backend.core.DataSource;
 import org.kie.workbench.common.screens.datasource.management.backend.core.DataSourceProvider;
 import org.kie.workbench.common.screens.datasource.management.backend.core.impl.AbstractDataSource;
 import org.kie.workbench.common.screens.datasource.management.model.DataSourceDef;
 import org.kie.workbench.common.screens.datasource.management.model.DataSourceDeploymentInfo;
+import org.kie.workbench.common.screens.datasource.management.model.DataSourcePoolStats;
 import org.kie.workbench.common.screens.datasource.management.model.DataSourceStatus;
 import org.kie.workbench.common.screens.datasource.management.model.DriverDef;
 import org.kie.workbench.common.screens.datasource.management.util.MavenArtifactResolver;
@@ -115,12 +116,28 @@ public class DBCPDataSourceProvider
         PoolableConnectionFactory poolableConnectionFactory = new PoolableConnectionFactory(connectionFactory,
                                                                                             null);
 
+        if (dataSourceDef.getValidationQuery() != null) {
+            poolableConnectionFactory.setValidationQuery(dataSourceDef.getValidationQuery());
+        }
+
         //The pool to be used by the ConnectionFactory
-        ObjectPool< PoolableConnection > connectionPool = new GenericObjectPool<>(poolableConnectionFactory);
+        GenericObjectPool< PoolableConnection > connectionPool = new GenericObjectPool<>(poolableConnectionFactory,
+                                                                                         buildPoolConfig(dataSourceDef));
 
         //Set the factory's pool property to the owning pool
         poolableConnectionFactory.setPool(connectionPool);
 
+        //Open the minimum idle connections, so that the first accesses don't pay the connection cost.
+        if (connectionPool.getMinIdle() > 0) {
+            try {
+                connectionPool.preparePool();
+            } catch (Exception e) {
+                logger.warn("It was not possible to open the initial connections for data source: " +
+                                    dataSourceDef.getUuid(),
+                            e);
+            }
+        }
+
         //Finally create DataSource
         PoolingDataSource< PoolableConnection > dataSource = new PoolingDataSource<>(connectionPool);
 
@@ -130,7 +147,8 @@ public class DBCPDataSourceProvider
                                                                                false);
 
         deploymentRegistry.put(deploymentInfo.getDeploymentId(),
-                               new DBCPDataSource(dataSource));
+                               new DBCPDataSource(dataSource,
+                                                  connectionPool));
         deploymentInfos.put(deploymentInfo.getDeploymentId(),
                             deploymentInfo);
         deployedDataSources.put(deploymentInfo.getDeploymentId(),
@@ -215,11 +233,52 @@ public class DBCPDataSourceProvider
         }
     }
 
+    @Override
+    public DataSourcePoolStats getPoolStats(DataSourceDeploymentInfo deploymentInfo) throws Exception {
+        DBCPDataSource dataSource = deploymentRegistry.get(deploymentInfo.getDeploymentId());
+        if (dataSource != null) {
+            DataSourcePoolStats poolStats = dataSource.getPoolStats();
+            poolStats.setUuid(deploymentInfo.getUuid());
+            return poolStats;
+        } else {
+            throw new Exception("Data source for: " + deploymentInfo + " is not deployed in current system.");
+        }
+    }
+
     @Override
     public void hasStarted() throws Exception {
         //no additional checks are required for this provider.
     }
 
+    /**
+     * Builds the pool configuration for a data source, the pool defaults are kept for the settings not present in
+     * the data source definition.
+     */
+    protected GenericObjectPoolConfig buildPoolConfig(DataSourceDef dataSourceDef) {
+        GenericObjectPoolConfig config = new GenericObjectPoolConfig();
+        if (dataSourceDef.getMaxTotal() != null) {
+            config.setMaxTotal(dataSourceDef.getMaxTotal());
+        }
+        if (dataSourceDef.getMaxIdle() != null) {
+            config.setMaxIdle(dataSourceDef.getMaxIdle());
+        }
+        if (dataSourceDef.getMinIdle() != null) {
+            config.setMinIdle(dataSourceDef.getMinIdle());
+        }
+        if (dataSourceDef.getMaxWaitMillis() != null) {
+            config.setMaxWaitMillis(dataSourceDef.getMaxWaitMillis());
+        }
+        if (dataSourceDef.getTimeBetweenEvictionRunsMillis() != null) {
+            config.setTimeBetweenEvictionRunsMillis(dataSourceDef.getTimeBetweenEvictionRunsMillis());
+        }
+        if (dataSourceDef.getValidationQuery() != null) {
+            //broken connections are discarded before they reach the application.
+            config.setTestOnBorrow(true);
+            config.setTestWhileIdle(true);
+        }
+        return config;
+    }
+
     /**
      * facilitates tests programming.
      */
@@ -250,8 +309,12 @@ public class DBCPDataSourceProvider
 
     private class DBCPDataSource extends AbstractDataSource {
 
-        public DBCPDataSource(PoolingDataSource dataSource) {
+        private GenericObjectPool< PoolableConnection > connectionPool;
+
+        public DBCPDataSource(PoolingDataSource dataSource,
+                              GenericObjectPool< PoolableConnection > connectionPool) {
             this.dataSource = dataSource;
+            this.connectionPool = connectionPool;
         }
 
         @Override
@@ -264,6 +327,21 @@ public class DBCPDataSourceProvider
             notifyStatusChange(status);
         }
 
+        public DataSourcePoolStats getPoolStats() {
+            DataSourcePoolStats poolStats = new DataSourcePoolStats();
+            poolStats.setStatus(status);
+            poolStats.setActive(connectionPool.getNumActive());
+            poolStats.setIdle(connectionPool.getNumIdle());
+            poolStats.setWaiters(connectionPool.getNumWaiters());
+            poolStats.setMaxTotal(connectionPool.getMaxTotal());
+            poolStats.setCreatedCount(connectionPool.getCreatedCount());
+            poolStats.setDestroyedCount(connectionPool.getDestroyedCount());
+            poolStats.setBorrowedCount(connectionPool.getBorrowedCount());
+            poolStats.setMeanBorrowWaitMillis(connectionPool.getMeanBorrowWaitTimeMillis());
+            poolStats.setMaxBorrowWaitMillis(connectionPool.getMaxBorrowWaitTimeMillis());
+            return poolStats;
+        }
+
         public void close() throws Exception {
             ((PoolingDataSource) dataSource).close();
         }
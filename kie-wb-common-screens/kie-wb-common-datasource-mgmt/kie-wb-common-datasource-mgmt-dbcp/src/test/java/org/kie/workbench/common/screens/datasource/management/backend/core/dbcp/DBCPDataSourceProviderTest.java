@@ -17,6 +17,11 @@
 package org.kie.workbench.common.screens.datasource.management.backend.core.dbcp;
 
 import java.net.URI;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
@@ -24,9 +29,11 @@ import java.util.Properties;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.kie.workbench.common.screens.datasource.management.backend.core.DataSource;
 import org.kie.workbench.common.screens.datasource.management.backend.core.DataSourceProviderBaseTest;
 import org.kie.workbench.common.screens.datasource.management.model.DataSourceDef;
 import org.kie.workbench.common.screens.datasource.management.model.DataSourceDeploymentInfo;
+import org.kie.workbench.common.screens.datasource.management.model.DataSourcePoolStats;
 import org.kie.workbench.common.screens.datasource.management.model.DriverDef;
 import org.kie.workbench.common.screens.datasource.management.util.MavenArtifactResolver;
 import org.kie.workbench.common.screens.datasource.management.util.URLConnectionFactory;
@@ -40,6 +47,8 @@ import static org.mockito.Mockito.*;
 public class DBCPDataSourceProviderTest
         extends DataSourceProviderBaseTest {
 
+    private static final String H2_URL = "jdbc:h2:mem:DBCPDataSourceProviderTest;DB_CLOSE_DELAY=-1";
+
     @Mock
     private DBCPDriverProvider dbcpDriverProvider;
 
@@ -112,4 +121,102 @@ public class DBCPDataSourceProviderTest
             fail("The hasStarted method of the DBCPDataSourceProviderTest never throws exceptions by construction");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests the pool configuration, the initial connections and the pool statistics on an embedded database.
+     */
+    @Test
+    public void testPoolConfigurationAndStats() throws Exception {
+        setupH2Connections();
+        dataSourceDef.setMinIdle(2);
+        dataSourceDef.setMaxTotal(4);
+        dataSourceDef.setValidationQuery("SELECT 1");
+
+        DataSourceDeploymentInfo deploymentInfo = dataSourceProvider.deploy(dataSourceDef);
+
+        // the minimum idle connections are opened on deployment.
+        DataSourcePoolStats poolStats = dataSourceProvider.getPoolStats(deploymentInfo);
+        assertEquals(DS1_UUID,
+                     poolStats.getUuid());
+        assertEquals(2,
+                     poolStats.getIdle());
+        assertEquals(0,
+                     poolStats.getActive());
+        assertEquals(4,
+                     poolStats.getMaxTotal());
+        assertEquals(2,
+                     poolStats.getCreatedCount());
+
+        DataSource dataSource = dataSourceProvider.lookupDataSource(deploymentInfo);
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT 1")) {
+            assertTrue(resultSet.next());
+
+            poolStats = dataSourceProvider.getPoolStats(deploymentInfo);
+            assertEquals(1,
+                         poolStats.getActive());
+            assertEquals(1,
+                         poolStats.getIdle());
+            assertEquals(1,
+                         poolStats.getBorrowedCount());
+            // no new connection was required.
+            assertEquals(2,
+                         poolStats.getCreatedCount());
+        }
+
+        poolStats = dataSourceProvider.getPoolStats(deploymentInfo);
+        assertEquals(0,
+                     poolStats.getActive());
+        assertEquals(2,
+                     poolStats.getIdle());
+
+        dataSourceProvider.undeploy(deploymentInfo);
+    }
+
+    /**
+     * Tests that the borrowers wait no more than the configured time when the pool is exhausted.
+     */
+    @Test
+    public void testPoolExhausted() throws Exception {
+        setupH2Connections();
+        dataSourceDef.setMaxTotal(1);
+        dataSourceDef.setMaxWaitMillis(100L);
+
+        DataSourceDeploymentInfo deploymentInfo = dataSourceProvider.deploy(dataSourceDef);
+        assertEquals(0,
+                     dataSourceProvider.getPoolStats(deploymentInfo).getCreatedCount());
+
+        DataSource dataSource = dataSourceProvider.lookupDataSource(deploymentInfo);
+        try (Connection connection = dataSource.getConnection()) {
+            assertNotNull(connection);
+            dataSource.getConnection();
+            fail("The pool is exhausted, no more connections can be obtained");
+        } catch (SQLException e) {
+            // expected
+        }
+
+        DataSourcePoolStats poolStats = dataSourceProvider.getPoolStats(deploymentInfo);
+        assertEquals(0,
+                     poolStats.getActive());
+        assertEquals(1,
+                     poolStats.getCreatedCount());
+
+        dataSourceProvider.undeploy(deploymentInfo);
+    }
+
+    @Test
+    public void testPoolStatsWithoutDeployment() throws Exception {
+        DataSourceDeploymentInfo deploymentInfo = new DataSourceDeploymentInfo(DS1_UUID,
+                                                                               true,
+                                                                               DS1_UUID,
+                                                                               false);
+        expectedException.expectMessage("Data source for: " + deploymentInfo + " is not deployed in current system.");
+        dataSourceProvider.getPoolStats(deploymentInfo);
+    }
+
+    private void setupH2Connections() throws Exception {
+        setupDrivers();
+        when(urlConnectionFactory.createConnection()).thenAnswer(invocation -> DriverManager.getConnection(H2_URL));
+    }
+}
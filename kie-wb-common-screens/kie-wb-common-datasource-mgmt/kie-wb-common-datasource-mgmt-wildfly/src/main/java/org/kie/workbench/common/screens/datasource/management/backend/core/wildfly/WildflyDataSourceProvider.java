@@ -32,6 +32,7 @@ import org.kie.workbench.common.screens.datasource.management.backend.integratio
 import org.kie.workbench.common.screens.datasource.management.backend.integration.wildfly.WildflyDataSourceManagementClient;
 import org.kie.workbench.common.screens.datasource.management.model.DataSourceDef;
 import org.kie.workbench.common.screens.datasource.management.model.DataSourceDeploymentInfo;
+import org.kie.workbench.common.screens.datasource.management.model.DataSourcePoolStats;
 import org.kie.workbench.common.screens.datasource.management.model.DataSourceStatus;
 import org.kie.workbench.common.screens.datasource.management.model.DriverDeploymentInfo;
 import org.kie.workbench.common.screens.datasource.management.util.UUIDGenerator;
@@ -271,6 +272,12 @@ public class WildflyDataSourceProvider
         driverProvider.loadConfig(properties);
     }
 
+    @Override
+    public DataSourcePoolStats getPoolStats(DataSourceDeploymentInfo deploymentInfo) throws Exception {
+        //the connection pool is managed by the Wildfly server.
+        return null;
+    }
+
     @Override
     public void hasStarted() throws Exception {
         dataSourceMgmtClient.testConnection();
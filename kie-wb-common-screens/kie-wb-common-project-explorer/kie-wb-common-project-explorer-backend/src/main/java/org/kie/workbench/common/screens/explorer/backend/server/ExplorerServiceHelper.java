@@ -19,7 +19,9 @@ package org.kie.workbench.common.screens.explorer.backend.server;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import javax.inject.Inject;
@@ -74,7 +76,9 @@ public class ExplorerServiceHelper {
     private IOService ioServiceConfig;
     private VFSLockServiceImpl lockService;
     private MetadataService metadataService;
+    private FolderTagsCache folderTagsCache;
     private UserServicesImpl userServices;
+    private UserExplorerStateStore userStateStore;
 
     private DeleteService deleteService;
     private RenameService renameService;
@@ -92,7 +96,9 @@ public class ExplorerServiceHelper {
                                  @Named("configIO") final IOService ioServiceConfig,
                                  final VFSLockServiceImpl lockService,
                                  final MetadataService metadataService,
+                                 final FolderTagsCache folderTagsCache,
                                  final UserServicesImpl userServices,
+                                 final UserExplorerStateStore userStateStore,
                                  final DeleteService deleteService,
                                  final RenameService renameService,
                                  final CopyService copyService,
@@ -104,7 +110,9 @@ public class ExplorerServiceHelper {
         this.ioServiceConfig = ioServiceConfig;
         this.lockService = lockService;
         this.metadataService = metadataService;
+        this.folderTagsCache = folderTagsCache;
         this.userServices = userServices;
+        this.userStateStore = userStateStore;
         this.deleteService = deleteService;
         this.renameService = renameService;
         this.copyService = copyService;
@@ -212,7 +220,7 @@ public class ExplorerServiceHelper {
                                                              FolderItemType.FILE,
                                                              false,
                                                              lockedBy,
-                                                             includeTags ? metadataService.getTags(p) : Collections.<String>emptyList(),
+                                                             includeTags ? folderTagsCache.getTags(p) : Collections.<String>emptyList(),
                                                              getRestrictedOperations(p));
                 folderItems.add(folderItem);
             } else if (Files.isDirectory(np)) {
@@ -339,7 +347,7 @@ public class ExplorerServiceHelper {
                                                              FolderItemType.FILE,
                                                              false,
                                                              lockedBy,
-                                                             includeTags ? metadataService.getTags(path) : Collections.<String>emptyList(),
+                                                             includeTags ? folderTagsCache.getTags(path) : Collections.<String>emptyList(),
                                                              getRestrictedOperations(path));
                 folderItems.add(folderItem);
             }
@@ -441,22 +449,19 @@ public class ExplorerServiceHelper {
             lastContent.setOptions(options);
         }
         if (!content.isEmpty()) {
-            try {
-                ioServiceConfig.startBatch(userNav.getFileSystem());
-                ioServiceConfig.write(userNav,
-                                      xs.toXML(content));
-                ioServiceConfig.write(lastUserNav,
-                                      xs.toXML(lastContent));
-            } finally {
-                ioServiceConfig.endBatch();
-            }
+            final Map<org.uberfire.java.nio.file.Path, String> contents = new HashMap<>();
+            contents.put(userNav,
+                         xs.toXML(content));
+            contents.put(lastUserNav,
+                         xs.toXML(lastContent));
+            userStateStore.write(contents);
         }
     }
 
     public UserExplorerData loadUserContent(final org.uberfire.java.nio.file.Path path) {
         try {
-            if (ioServiceConfig.exists(path)) {
-                final String xml = ioServiceConfig.readAllString(path);
+            final String xml = userStateStore.read(path);
+            if (xml != null) {
                 return (UserExplorerData) xs.fromXML(xml);
             }
         } catch (final Exception ignored) {
@@ -487,8 +492,8 @@ public class ExplorerServiceHelper {
 
     public UserExplorerLastData getLastContent(final org.uberfire.java.nio.file.Path path) {
         try {
-            if (ioServiceConfig.exists(path)) {
-                final String xml = ioServiceConfig.readAllString(path);
+            final String xml = userStateStore.read(path);
+            if (xml != null) {
                 return (UserExplorerLastData) xs.fromXML(xml);
             }
         } catch (final Exception ignored) {
@@ -496,6 +501,14 @@ public class ExplorerServiceHelper {
         return null;
     }
 
+    /**
+     * Stores the explorer state of the users, replacing their state not written yet
+     * @param contents The serialized state of every file
+     */
+    public void storeUserContent(final Map<org.uberfire.java.nio.file.Path, String> contents) {
+        userStateStore.write(contents);
+    }
+
     public List<FolderItemOperation> getRestrictedOperations(final Path path) {
         final List<FolderItemOperation> restrictedOperations = new ArrayList<FolderItemOperation>();
 
@@ -18,7 +18,9 @@ package org.kie.workbench.common.screens.explorer.backend.server;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import javax.enterprise.context.Dependent;
@@ -58,7 +60,6 @@ import org.uberfire.ext.editor.commons.service.CopyService;
 import org.uberfire.ext.editor.commons.service.DeleteService;
 import org.uberfire.ext.editor.commons.service.RenameService;
 import org.uberfire.io.IOService;
-import org.uberfire.java.nio.file.FileSystem;
 import org.uberfire.security.authz.AuthorizationManager;
 
 import static java.util.Collections.emptyList;
@@ -75,14 +76,6 @@ public class ExplorerServiceImpl
     @Named("ioStrategy")
     private IOService ioService;
 
-    @Inject
-    @Named("configIO")
-    private IOService ioServiceConfig;
-
-    @Inject
-    @Named("systemFS")
-    private FileSystem fileSystem;
-
     @Inject
     private KieModuleService moduleService;
 
@@ -328,30 +321,31 @@ public class ExplorerServiceImpl
         final Collection<org.uberfire.java.nio.file.Path> userNavs = userServicesBackend.getAllUsersData("explorer",
                                                                                                          "user.nav");
 
-        try {
-            ioServiceConfig.startBatch(fileSystem);
+        //Written through the store, so that the pending state of the users doesn't overwrite the cleanup
+        final Map<org.uberfire.java.nio.file.Path, String> contents = new HashMap<>();
 
-            for (org.uberfire.java.nio.file.Path path : userNavs) {
-                final UserExplorerData userContent = helper.loadUserContent(path);
-                if (userContent != null) {
-                    if (userContent.deleteModule(module)) {
-                        ioServiceConfig.write(path,
-                                              xs.toXML(userContent));
-                    }
+        for (org.uberfire.java.nio.file.Path path : userNavs) {
+            final UserExplorerData userContent = helper.loadUserContent(path);
+            if (userContent != null) {
+                if (userContent.deleteModule(module)) {
+                    contents.put(path,
+                                 xs.toXML(userContent));
                 }
             }
+        }
 
-            for (org.uberfire.java.nio.file.Path lastNav : lastNavs) {
-                final UserExplorerLastData lastUserContent = helper.getLastContent(lastNav);
-                if (lastUserContent != null) {
-                    if (lastUserContent.deleteModule(module)) {
-                        ioServiceConfig.write(lastNav,
-                                              xs.toXML(lastUserContent));
-                    }
+        for (org.uberfire.java.nio.file.Path lastNav : lastNavs) {
+            final UserExplorerLastData lastUserContent = helper.getLastContent(lastNav);
+            if (lastUserContent != null) {
+                if (lastUserContent.deleteModule(module)) {
+                    contents.put(lastNav,
+                                 xs.toXML(lastUserContent));
                 }
             }
-        } finally {
-            ioServiceConfig.endBatch();
+        }
+
+        if (!contents.isEmpty()) {
+            helper.storeUserContent(contents);
         }
     }
 
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.screens.explorer.backend.server;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+
+import org.guvnor.common.services.shared.metadata.MetadataService;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.workbench.events.ResourceAddedEvent;
+import org.uberfire.workbench.events.ResourceBatchChangesEvent;
+import org.uberfire.workbench.events.ResourceChange;
+import org.uberfire.workbench.events.ResourceDeletedEvent;
+import org.uberfire.workbench.events.ResourceRenamed;
+import org.uberfire.workbench.events.ResourceRenamedEvent;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+/**
+ * Cache of the tags of the files listed by the Project Explorer, grouped by folder.
+ * </p>
+ * Reading the tags of a file means reading its metadata dot-file, so listing a folder with the tag filter enabled
+ * used to read one dot-file per asset on every listing. The tags of a file are now only read the first time the
+ * folder is listed, and again once the file changes. The least recently listed folders are evicted.
+ */
+@ApplicationScoped
+public class FolderTagsCache {
+
+    static final int MAX_FOLDERS = 200;
+
+    private MetadataService metadataService;
+
+    private final Map<String, Map<String, List<String>>> folders = new LinkedHashMap<String, Map<String, List<String>>>(16,
+                                                                                                                      0.75f,
+                                                                                                                      true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Map<String, List<String>>> eldest) {
+            return size() > MAX_FOLDERS;
+        }
+    };
+
+    //Tags read before an invalidation are not cached, as they may be stale
+    private long generation = 0;
+
+    public FolderTagsCache() {
+        //WELD proxy support
+    }
+
+    @Inject
+    public FolderTagsCache(final MetadataService metadataService) {
+        this.metadataService = metadataService;
+    }
+
+    public List<String> getTags(final Path path) {
+        final String uri = path.toURI();
+        final String folderUri = getFolderURI(uri);
+
+        final long readGeneration;
+        synchronized (this) {
+            final Map<String, List<String>> folder = folders.get(folderUri);
+            if (folder != null && folder.containsKey(uri)) {
+                return new ArrayList<>(folder.get(uri));
+            }
+            readGeneration = generation;
+        }
+
+        //The metadata is read outside the lock, concurrent misses of the same file may read it twice
+        final List<String> tags = new ArrayList<>(metadataService.getTags(path));
+
+        synchronized (this) {
+            if (readGeneration != generation) {
+                return new ArrayList<>(tags);
+            }
+            Map<String, List<String>> folder = folders.get(folderUri);
+            if (folder == null) {
+                folder = new HashMap<>();
+                folders.put(folderUri,
+                            folder);
+            }
+            folder.put(uri,
+                       tags);
+        }
+
+        return new ArrayList<>(tags);
+    }
+
+    public synchronized void invalidate(final Path path) {
+        if (path == null) {
+            return;
+        }
+        generation++;
+        final String uri = path.toURI();
+        final Map<String, List<String>> folder = folders.get(getFolderURI(uri));
+        if (folder != null) {
+            folder.remove(uri);
+        }
+        //The path could be a folder
+        folders.remove(uri);
+    }
+
+    public synchronized void clear() {
+        folders.clear();
+        generation++;
+    }
+
+    synchronized int size() {
+        return folders.size();
+    }
+
+    public void onResourceAdded(@Observes final ResourceAddedEvent event) {
+        invalidate(event.getPath());
+    }
+
+    public void onResourceUpdated(@Observes final ResourceUpdatedEvent event) {
+        invalidate(event.getPath());
+    }
+
+    public void onResourceDeleted(@Observes final ResourceDeletedEvent event) {
+        invalidate(event.getPath());
+    }
+
+    public void onResourceRenamed(@Observes final ResourceRenamedEvent event) {
+        invalidate(event.getPath());
+        invalidate(event.getDestinationPath());
+    }
+
+    public void onBatchResourceChanges(@Observes final ResourceBatchChangesEvent event) {
+        for (final Map.Entry<Path, Collection<ResourceChange>> entry : event.getBatch().entrySet()) {
+            invalidate(entry.getKey());
+            for (final ResourceChange change : entry.getValue()) {
+                if (change instanceof ResourceRenamed) {
+                    invalidate(((ResourceRenamed) change).getDestinationPath());
+                }
+            }
+        }
+    }
+
+    private static String getFolderURI(final String uri) {
+        final int index = uri.lastIndexOf('/');
+        return index < 0 ? uri : uri.substring(0,
+                                               index);
+    }
+}
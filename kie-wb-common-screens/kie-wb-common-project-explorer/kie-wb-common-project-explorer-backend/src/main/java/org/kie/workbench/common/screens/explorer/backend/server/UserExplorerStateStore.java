@@ -0,0 +1,238 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.screens.explorer.backend.server;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.uberfire.commons.async.DescriptiveThreadFactory;
+import org.uberfire.io.IOService;
+import org.uberfire.java.nio.file.FileSystem;
+import org.uberfire.java.nio.file.Path;
+
+/**
+ * Write-behind store of the explorer navigation state of the users (user.nav and last.user.nav).
+ * </p>
+ * Every navigation used to write the state of the user to the config file system, i.e. one commit per click. The
+ * state is now kept in memory and the latest state of every file is written periodically, in a single batch. The
+ * interval in milliseconds is set by the {@value #FLUSH_INTERVAL_PROPERTY} system property (default
+ * {@value #DEFAULT_FLUSH_INTERVAL}); 0 writes the state immediately. Pending state is also written when the
+ * application stops, but it is lost if the server crashes before the next flush.
+ */
+@ApplicationScoped
+public class UserExplorerStateStore {
+
+    public static final String FLUSH_INTERVAL_PROPERTY = "org.kie.workbench.explorer.userstate.flushInterval";
+
+    static final long DEFAULT_FLUSH_INTERVAL = 5000;
+
+    private static final long SHUTDOWN_TIMEOUT = 30;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(UserExplorerStateStore.class);
+
+    private IOService ioServiceConfig;
+
+    private ScheduledExecutorService scheduler;
+
+    private final Map<Path, String> pending = new LinkedHashMap<>();
+
+    //Flushes are serialized, so that older content is never written after newer content
+    private final Object flushLock = new Object();
+
+    private final AtomicLong updates = new AtomicLong();
+    private final AtomicLong writes = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+
+    public UserExplorerStateStore() {
+        //WELD proxy support
+    }
+
+    @Inject
+    public UserExplorerStateStore(@Named("configIO") final IOService ioServiceConfig) {
+        this.ioServiceConfig = ioServiceConfig;
+    }
+
+    @PostConstruct
+    public void init() {
+        final long flushInterval = getFlushInterval();
+        if (flushInterval > 0) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(new DescriptiveThreadFactory());
+            scheduler.scheduleWithFixedDelay(this::flushQuietly,
+                                             flushInterval,
+                                             flushInterval,
+                                             TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (scheduler != null) {
+            //Lets a running flush complete, rather than interrupting its batch
+            scheduler.shutdown();
+            try {
+                if (!scheduler.awaitTermination(SHUTDOWN_TIMEOUT,
+                                                TimeUnit.SECONDS)) {
+                    LOGGER.warn("Explorer user state flush still running after {} seconds",
+                                SHUTDOWN_TIMEOUT);
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            scheduler = null;
+        }
+        flushQuietly();
+    }
+
+    /**
+     * Stores the content of the given files, replacing any content not written yet.
+     * @param contents The content of every file, written together
+     */
+    public void write(final Map<Path, String> contents) {
+        updates.addAndGet(contents.size());
+        synchronized (pending) {
+            pending.putAll(contents);
+        }
+        if (scheduler == null) {
+            flush();
+        }
+    }
+
+    /**
+     * @return The content of the file, including content not written yet, or null if the file does not exist
+     */
+    public String read(final Path path) {
+        synchronized (pending) {
+            final String content = pending.get(path);
+            if (content != null) {
+                return content;
+            }
+        }
+        if (ioServiceConfig.exists(path)) {
+            return ioServiceConfig.readAllString(path);
+        }
+        return null;
+    }
+
+    /**
+     * Writes the pending content, one batch per file system.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            final Map<Path, String> contents;
+            synchronized (pending) {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                //The content stays pending until written, for the reads meanwhile
+                contents = new LinkedHashMap<>(pending);
+            }
+
+            final Map<FileSystem, List<Path>> pathsByFileSystem = new HashMap<>();
+            for (Path path : contents.keySet()) {
+                pathsByFileSystem.computeIfAbsent(path.getFileSystem(),
+                                                  fileSystem -> new ArrayList<>()).add(path);
+            }
+
+            for (Map.Entry<FileSystem, List<Path>> entry : pathsByFileSystem.entrySet()) {
+                try {
+                    ioServiceConfig.startBatch(entry.getKey());
+                    for (Path path : entry.getValue()) {
+                        ioServiceConfig.write(path,
+                                              contents.get(path));
+                    }
+                } finally {
+                    ioServiceConfig.endBatch();
+                }
+                writes.addAndGet(entry.getValue().size());
+                batches.incrementAndGet();
+                synchronized (pending) {
+                    for (Path path : entry.getValue()) {
+                        //Unless it has been updated meanwhile
+                        pending.remove(path,
+                                       contents.get(path));
+                    }
+                }
+            }
+
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Explorer user state: {} updates, {} files written in {} batches, {} writes avoided",
+                             updates.get(),
+                             writes.get(),
+                             batches.get(),
+                             getAvoidedWrites());
+            }
+        }
+    }
+
+    /**
+     * @return The number of updates of the state
+     */
+    public long getUpdates() {
+        return updates.get();
+    }
+
+    /**
+     * @return The number of batches (commits) written
+     */
+    public long getBatches() {
+        return batches.get();
+    }
+
+    /**
+     * @return The number of updates replaced by a later update before they were written
+     */
+    public long getAvoidedWrites() {
+        synchronized (pending) {
+            return updates.get() - writes.get() - pending.size();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (final Exception e) {
+            LOGGER.error("Can't serialize user's state navigation",
+                         e);
+        }
+    }
+
+    private static long getFlushInterval() {
+        try {
+            return Long.parseLong(System.getProperty(FLUSH_INTERVAL_PROPERTY,
+                                                     String.valueOf(DEFAULT_FLUSH_INTERVAL)));
+        } catch (final NumberFormatException e) {
+            LOGGER.warn("Invalid value for {}, using {}",
+                        FLUSH_INTERVAL_PROPERTY,
+                        DEFAULT_FLUSH_INTERVAL);
+            return DEFAULT_FLUSH_INTERVAL;
+        }
+    }
+}
@@ -139,7 +139,9 @@ public class ExplorerServiceHelperTest {
                                                ioServiceConfig,
                                                lockService,
                                                metadataService,
+                                               new FolderTagsCache(metadataService),
                                                userServices,
+                                               new UserExplorerStateStore(ioServiceConfig),
                                                deleteService,
                                                renameService,
                                                copyService,
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.screens.explorer.backend.server;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.guvnor.common.services.shared.metadata.MetadataService;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.rpc.SessionInfo;
+import org.uberfire.workbench.events.ResourceDeletedEvent;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class FolderTagsCacheTest {
+
+    @Mock
+    private MetadataService metadataService;
+
+    @Mock
+    private Path file1;
+
+    @Mock
+    private Path file2;
+
+    @Mock
+    private Path folder;
+
+    private FolderTagsCache cache;
+
+    @Before
+    public void setUp() {
+        when(folder.toURI()).thenReturn("default://master@repo/module/src/main/resources/org");
+        when(file1.toURI()).thenReturn("default://master@repo/module/src/main/resources/org/file1.drl");
+        when(file2.toURI()).thenReturn("default://master@repo/module/src/main/resources/org/file2.drl");
+
+        when(metadataService.getTags(file1)).thenReturn(Arrays.asList("tag1",
+                                                                      "tag2"));
+        when(metadataService.getTags(file2)).thenReturn(Collections.<String>emptyList());
+
+        cache = new FolderTagsCache(metadataService);
+    }
+
+    @Test
+    public void testTagsAreReadOnce() {
+        assertEquals(Arrays.asList("tag1",
+                                   "tag2"),
+                     cache.getTags(file1));
+        assertEquals(Arrays.asList("tag1",
+                                   "tag2"),
+                     cache.getTags(file1));
+        assertTrue(cache.getTags(file2).isEmpty());
+        assertTrue(cache.getTags(file2).isEmpty());
+
+        verify(metadataService,
+               times(1)).getTags(file1);
+        verify(metadataService,
+               times(1)).getTags(file2);
+        assertEquals(1,
+                     cache.size());
+    }
+
+    @Test
+    public void testUpdatedFileIsReadAgain() {
+        cache.getTags(file1);
+        cache.getTags(file2);
+
+        cache.onResourceUpdated(new ResourceUpdatedEvent(file1,
+                                                         "message",
+                                                         mock(SessionInfo.class)));
+        cache.getTags(file1);
+        cache.getTags(file2);
+
+        verify(metadataService,
+               times(2)).getTags(file1);
+        verify(metadataService,
+               times(1)).getTags(file2);
+    }
+
+    @Test
+    public void testTagsReadDuringAnUpdateAreNotCached() {
+        when(metadataService.getTags(file1)).thenAnswer(invocation -> {
+            // the file is updated while its tags are read
+            cache.onResourceUpdated(new ResourceUpdatedEvent(file1,
+                                                             "message",
+                                                             mock(SessionInfo.class)));
+            return Arrays.asList("tag1",
+                                 "tag2");
+        });
+
+        assertEquals(2,
+                     cache.getTags(file1).size());
+        cache.getTags(file1);
+
+        verify(metadataService,
+               times(2)).getTags(file1);
+    }
+
+    @Test
+    public void testDeletedFolderIsEvicted() {
+        cache.getTags(file1);
+
+        cache.onResourceDeleted(new ResourceDeletedEvent(folder,
+                                                         "message",
+                                                         mock(SessionInfo.class)));
+
+        assertEquals(0,
+                     cache.size());
+    }
+
+    @Test
+    public void testReturnedTagsAreCopies() {
+        cache.getTags(file1).clear();
+
+        assertEquals(2,
+                     cache.getTags(file1).size());
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.screens.explorer.backend.server;
+
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.io.IOService;
+import org.uberfire.java.nio.file.FileSystem;
+import org.uberfire.java.nio.file.Path;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class UserExplorerStateStoreTest {
+
+    @Mock
+    private IOService ioServiceConfig;
+
+    @Mock
+    private FileSystem fileSystem;
+
+    @Mock
+    private Path userNav;
+
+    @Mock
+    private Path lastUserNav;
+
+    private UserExplorerStateStore store;
+
+    @Before
+    public void setUp() {
+        when(userNav.getFileSystem()).thenReturn(fileSystem);
+        when(lastUserNav.getFileSystem()).thenReturn(fileSystem);
+
+        store = new UserExplorerStateStore(ioServiceConfig);
+    }
+
+    @After
+    public void tearDown() {
+        System.clearProperty(UserExplorerStateStore.FLUSH_INTERVAL_PROPERTY);
+        store.destroy();
+    }
+
+    @Test
+    public void testWritesAreCoalesced() {
+        //Long enough for the test not to be flushed by the scheduler
+        System.setProperty(UserExplorerStateStore.FLUSH_INTERVAL_PROPERTY,
+                           "3600000");
+        store.init();
+
+        store.write(Collections.singletonMap(userNav,
+                                             "content1"));
+        store.write(Collections.singletonMap(lastUserNav,
+                                             "last1"));
+        store.write(Collections.singletonMap(userNav,
+                                             "content2"));
+
+        assertEquals("content2",
+                     store.read(userNav));
+        verify(ioServiceConfig,
+               never()).write(any(Path.class),
+                              anyString());
+
+        store.flush();
+
+        verify(ioServiceConfig,
+               times(1)).startBatch(fileSystem);
+        verify(ioServiceConfig).write(userNav,
+                                      "content2");
+        verify(ioServiceConfig).write(lastUserNav,
+                                      "last1");
+        verify(ioServiceConfig,
+               never()).write(userNav,
+                              "content1");
+        assertEquals(3,
+                     store.getUpdates());
+        assertEquals(1,
+                     store.getBatches());
+        assertEquals(1,
+                     store.getAvoidedWrites());
+    }
+
+    @Test
+    public void testWriteThrough() {
+        System.setProperty(UserExplorerStateStore.FLUSH_INTERVAL_PROPERTY,
+                           "0");
+        store.init();
+
+        store.write(Collections.singletonMap(userNav,
+                                             "content"));
+
+        verify(ioServiceConfig).write(userNav,
+                                      "content");
+        verify(ioServiceConfig).endBatch();
+    }
+
+    @Test
+    public void testFailedWriteIsKept() {
+        System.setProperty(UserExplorerStateStore.FLUSH_INTERVAL_PROPERTY,
+                           "3600000");
+        store.init();
+        store.write(Collections.singletonMap(userNav,
+                                             "content"));
+        doThrow(new RuntimeException("failure")).when(ioServiceConfig).write(userNav,
+                                                                            "content");
+
+        try {
+            store.flush();
+            fail("Write failure expected");
+        } catch (RuntimeException e) {
+            assertEquals("content",
+                         store.read(userNav));
+        }
+        verify(ioServiceConfig).endBatch();
+    }
+
+    @Test
+    public void testPendingStateIsWrittenOnDestroy() {
+        System.setProperty(UserExplorerStateStore.FLUSH_INTERVAL_PROPERTY,
+                           "3600000");
+        store.init();
+        store.write(Collections.singletonMap(userNav,
+                                             "content"));
+
+        store.destroy();
+
+        verify(ioServiceConfig).write(userNav,
+                                      "content");
+        verify(ioServiceConfig).endBatch();
+        assertFalse(Thread.currentThread().isInterrupted());
+
+        //The store writes through once stopped
+        store.write(Collections.singletonMap(userNav,
+                                             "content2"));
+        verify(ioServiceConfig).write(userNav,
+                                      "content2");
+    }
+
+    @Test
+    public void testReadStoredContent() {
+        when(ioServiceConfig.exists(userNav)).thenReturn(true);
+        when(ioServiceConfig.readAllString(userNav)).thenReturn("stored");
+
+        assertEquals("stored",
+                     store.read(userNav));
+        assertNull(store.read(lastUserNav));
+    }
+}
@@ -19,9 +19,16 @@ package org.kie.workbench.common.screens.server.management.backend.storage;
 import java.math.BigInteger;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -35,11 +42,27 @@ import org.kie.workbench.common.screens.server.management.backend.storage.migrat
 import org.kie.workbench.common.screens.server.management.backend.utils.EmbeddedController;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.uberfire.commons.concurrent.Managed;
 import org.uberfire.io.IOService;
+import org.uberfire.java.nio.base.WatchContext;
+import org.uberfire.java.nio.file.ClosedWatchServiceException;
 import org.uberfire.java.nio.file.FileSystem;
 import org.uberfire.java.nio.file.NotDirectoryException;
 import org.uberfire.java.nio.file.Path;
+import org.uberfire.java.nio.file.WatchEvent;
+import org.uberfire.java.nio.file.WatchKey;
+import org.uberfire.java.nio.file.WatchService;
 
+/**
+ * Stores the server templates in the system file system, one XML file per template.
+ * <p>
+ * The templates are kept in memory, as the controller reads them on every request of the connected KIE Servers. The
+ * writes go through to the file system. The changes made by other nodes of a cluster (or any other change made to
+ * the file system) are detected by a watch service on the system file system, which evicts the changed templates.
+ * The cache keeps the XML of the templates, every load returns new ServerTemplate instances. A template read from the
+ * file system is cached only if no template changed or was evicted while it was read, so an eviction is never undone by
+ * a concurrent read of the previous content.
+ */
 @ApplicationScoped
 @EmbeddedController
 public class ServerTemplateVFSStorage implements KieServerTemplateStorage {
@@ -51,21 +74,61 @@ public class ServerTemplateVFSStorage implements KieServerTemplateStorage {
 
     private XStream xs;
 
+    /**
+     * Server templates read from the file system, by file name.
+     */
+    private final Map<String, CachedServerTemplate> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Whether the cache holds all the server templates of the file system.
+     */
+    private volatile boolean complete = false;
+
+    /**
+     * Incremented on every change and eviction, for not caching templates, or marking the cache as complete, from
+     * reads that ran while templates were being changed.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private ExecutorService executorService;
+
+    private WatchService watchService;
+
     //enable proxy
     public ServerTemplateVFSStorage() {
         xs = XStreamUtils.createTrustingXStream();
     }
 
+    public ServerTemplateVFSStorage( final IOService ioService, final FileSystem fileSystem ) {
+        this( ioService, fileSystem, null );
+    }
+
     @Inject
-    public ServerTemplateVFSStorage( @Named("configIO") final IOService ioService, @Named("systemFS") final FileSystem fileSystem ) {
+    public ServerTemplateVFSStorage( @Named("configIO") final IOService ioService,
+                                     @Named("systemFS") final FileSystem fileSystem,
+                                     @Managed final ExecutorService executorService ) {
         this();
         this.ioService = ioService;
         this.fileSystem = fileSystem;
+        this.executorService = executorService;
     }
 
     @PostConstruct
     public void init() {
         ServerTemplateMigration.migrate(buildPath(null), ioService, xs, this);
+        startWatchService();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if ( watchService != null ) {
+            try {
+                watchService.close();
+            } catch ( Exception ex ) {
+                logger.debug("Error closing server template watch service", ex);
+            }
+            watchService = null;
+        }
     }
 
     @Override
@@ -73,12 +136,15 @@ public class ServerTemplateVFSStorage implements KieServerTemplateStorage {
         logger.debug("About to store server template {}", serverTemplate);
         final Path path = buildPath( serverTemplate.getId() );
         if (!ioService.exists(path)) {
+            final String xml = xs.toXML(serverTemplate);
             try {
                 ioService.startBatch(path.getFileSystem());
-                ioService.write(path, xs.toXML(serverTemplate));
+                ioService.write(path, xml);
             } finally {
                 ioService.endBatch();
             }
+            generation.incrementAndGet();
+            cache(path, xml, serverTemplate);
             logger.debug("Server template {} stored successfully");
             return serverTemplate;
         } else {
@@ -90,54 +156,25 @@ public class ServerTemplateVFSStorage implements KieServerTemplateStorage {
     public List<ServerTemplateKey> loadKeys() {
         logger.debug("About to load all available server templates (as keys only)...");
         final List<ServerTemplateKey> result = new ArrayList<ServerTemplateKey>();
-        final Path dir = buildPath( null );
-
-        try {
-            ioService.startBatch( dir.getFileSystem() );
-            for ( final Path registeredServer : ioService.newDirectoryStream( dir ) ) {
-                try {
-                    ServerTemplate serverTemplate = readServerTemplate(registeredServer);
-                    logger.debug("Found server template {}, taking its short key version...");
-                    result.add( new ServerTemplateKey(serverTemplate.getId(), serverTemplate.getName()) );
-                } catch ( final Exception ignore ) {
-                    ioService.delete( registeredServer );
-                }
-            }
-            logger.debug("All found server template keys {}", result);
-            return result;
-        } catch ( final NotDirectoryException ignore ) {
-            logger.debug("No directory found {}, returning empty result", dir);
-            return result;
-        } finally {
-            ioService.endBatch();
+        for ( final CachedServerTemplate cachedServerTemplate : loadAll() ) {
+            logger.debug("Found server template {}, taking its short key version...");
+            result.add( cachedServerTemplate.key );
         }
+        logger.debug("All found server template keys {}", result);
+        return result;
     }
 
     @Override
     public List<ServerTemplate> load() {
         logger.debug("About to load all available server templates...");
         final List<ServerTemplate> result = new ArrayList<ServerTemplate>();
-        final Path dir = buildPath( null );
-
-        try {
-            ioService.startBatch( dir.getFileSystem() );
-            for ( final Path registeredServer : ioService.newDirectoryStream( dir ) ) {
-                try {
-                    ServerTemplate serverTemplate = readServerTemplate(registeredServer);
-                    logger.debug("Found server template {}", serverTemplate);
-                    result.add( serverTemplate );
-                } catch ( final Exception ignore ) {
-                    ioService.delete( registeredServer );
-                }
-            }
-            logger.debug("All found server templates {}", result);
-            return result;
-        } catch ( final NotDirectoryException ignore ) {
-            logger.debug("No directory found {}, returning empty result", dir);
-            return result;
-        } finally {
-            ioService.endBatch();
+        for ( final CachedServerTemplate cachedServerTemplate : loadAll() ) {
+            final ServerTemplate serverTemplate = (ServerTemplate) xs.fromXML( cachedServerTemplate.xml );
+            logger.debug("Found server template {}", serverTemplate);
+            result.add( serverTemplate );
         }
+        logger.debug("All found server templates {}", result);
+        return result;
     }
 
     @Override
@@ -145,15 +182,30 @@ public class ServerTemplateVFSStorage implements KieServerTemplateStorage {
         logger.debug("About to load server template for {}", identifier);
         final Path path = buildPath( identifier );
 
-        ServerTemplate serverTemplate = readServerTemplate(path);
+        final CachedServerTemplate cachedServerTemplate = cache.get( getFileName( path ) );
+        final ServerTemplate serverTemplate;
+        if ( cachedServerTemplate != null ) {
+            serverTemplate = (ServerTemplate) xs.fromXML( cachedServerTemplate.xml );
+        } else if ( complete ) {
+            serverTemplate = null;
+        } else {
+            serverTemplate = readServerTemplate(path);
+        }
         logger.debug("Server template loaded {}", serverTemplate);
         return serverTemplate;
     }
 
     @Override
     public boolean exists( final String identifier ) {
-
-        boolean serverTemplateExists = ioService.exists( buildPath( identifier));
+        final Path path = buildPath( identifier );
+        final boolean serverTemplateExists;
+        if ( cache.containsKey( getFileName( path ) ) ) {
+            serverTemplateExists = true;
+        } else if ( complete ) {
+            serverTemplateExists = false;
+        } else {
+            serverTemplateExists = ioService.exists( path );
+        }
         logger.debug("Server with id {} exists = {}", identifier, serverTemplateExists);
         return serverTemplateExists;
     }
@@ -162,12 +214,15 @@ public class ServerTemplateVFSStorage implements KieServerTemplateStorage {
     public ServerTemplate update( final ServerTemplate serverTemplate ) {
         logger.debug("About to update server template {}", serverTemplate);
         final Path path = buildPath( serverTemplate.getId() );
+        final String xml = xs.toXML(serverTemplate);
         try {
             ioService.startBatch(path.getFileSystem());
-            ioService.write(path, xs.toXML(serverTemplate));
+            ioService.write(path, xml);
         } finally {
             ioService.endBatch();
         }
+        generation.incrementAndGet();
+        cache(path, xml, serverTemplate);
         logger.debug("Server template {} updated successfully", serverTemplate);
         return serverTemplate;
     }
@@ -184,6 +239,7 @@ public class ServerTemplateVFSStorage implements KieServerTemplateStorage {
             ioService.delete( path );
         } finally {
             ioService.endBatch();
+            evict( getFileName( path ) );
         }
         logger.debug("Server template with id {}, removed successfully", identifier);
         return serverTemplate;
@@ -193,10 +249,149 @@ public class ServerTemplateVFSStorage implements KieServerTemplateStorage {
      * helper methods
      */
 
+    /**
+     * Returns all the server templates, only the templates not cached yet are read from the file system.
+     */
+    private Collection<CachedServerTemplate> loadAll() {
+        if ( complete ) {
+            return new ArrayList<>( cache.values() );
+        }
+
+        final long currentGeneration = generation.get();
+        final Map<String, CachedServerTemplate> result = new HashMap<>();
+        final Path dir = buildPath( null );
+
+        try {
+            ioService.startBatch( dir.getFileSystem() );
+            for ( final Path registeredServer : ioService.newDirectoryStream( dir ) ) {
+                final String fileName = getFileName( registeredServer );
+                CachedServerTemplate cachedServerTemplate = cache.get( fileName );
+                if ( cachedServerTemplate == null ) {
+                    try {
+                        final String xml = ioService.readAllString( registeredServer );
+                        cachedServerTemplate = cacheIfUnchanged( registeredServer, xml, (ServerTemplate) xs.fromXML( xml ), currentGeneration );
+                    } catch ( final Exception ignore ) {
+                        ioService.delete( registeredServer );
+                        continue;
+                    }
+                }
+                result.put( fileName, cachedServerTemplate );
+            }
+        } catch ( final NotDirectoryException ignore ) {
+            logger.debug("No directory found {}, returning empty result", dir);
+        } finally {
+            ioService.endBatch();
+        }
+
+        synchronized ( generation ) {
+            if ( generation.get() == currentGeneration ) {
+                //templates deleted meanwhile, e.g. by another node of the cluster
+                cache.keySet().retainAll( result.keySet() );
+                complete = true;
+            }
+        }
+        return result.values();
+    }
+
+    /**
+     * Caches a template just written, its content is the latest one.
+     */
+    private CachedServerTemplate cache( final Path path,
+                                        final String xml,
+                                        final ServerTemplate serverTemplate ) {
+        final CachedServerTemplate cachedServerTemplate = newCachedServerTemplate( xml, serverTemplate );
+        synchronized ( generation ) {
+            cache.put( getFileName( path ), cachedServerTemplate );
+        }
+        return cachedServerTemplate;
+    }
+
+    /**
+     * Caches a template read from the file system, unless a template changed or was evicted since the given
+     * generation, as the content read may then be stale.
+     */
+    private CachedServerTemplate cacheIfUnchanged( final Path path,
+                                                   final String xml,
+                                                   final ServerTemplate serverTemplate,
+                                                   final long readGeneration ) {
+        final CachedServerTemplate cachedServerTemplate = newCachedServerTemplate( xml, serverTemplate );
+        synchronized ( generation ) {
+            if ( generation.get() == readGeneration ) {
+                cache.put( getFileName( path ), cachedServerTemplate );
+            }
+        }
+        return cachedServerTemplate;
+    }
+
+    private CachedServerTemplate newCachedServerTemplate( final String xml,
+                                                          final ServerTemplate serverTemplate ) {
+        return new CachedServerTemplate( xml,
+                                         new ServerTemplateKey( serverTemplate.getId(), serverTemplate.getName() ) );
+    }
+
+    private void evict( final String fileName ) {
+        synchronized ( generation ) {
+            generation.incrementAndGet();
+            complete = false;
+            cache.remove( fileName );
+        }
+    }
+
+    private String getFileName( final Path path ) {
+        return path.getFileName().toString();
+    }
+
+    private void startWatchService() {
+        if ( executorService == null ) {
+            logger.warn("No executor available, changes made to the server templates by other nodes won't be detected");
+            return;
+        }
+        try {
+            watchService = fileSystem.newWatchService();
+        } catch ( Exception ex ) {
+            logger.warn("Server templates can not be watched, changes made by other nodes won't be detected", ex);
+            return;
+        }
+        //the task ends when the watch service is closed on destroy
+        executorService.execute( this::watch );
+    }
+
+    private void watch() {
+        final WatchService watchService = this.watchService;
+        while ( watchService != null && !watchService.isClose() ) {
+            try {
+                final WatchKey watchKey = watchService.take();
+                if ( watchKey == null ) {
+                    continue;
+                }
+                for ( final WatchEvent<?> event : watchKey.pollEvents() ) {
+                    final WatchContext context = (WatchContext) event.context();
+                    evictIfServerTemplate( context.getPath() );
+                    evictIfServerTemplate( context.getOldPath() );
+                }
+                watchKey.reset();
+            } catch ( final InterruptedException | ClosedWatchServiceException ex ) {
+                return;
+            } catch ( final Exception ex ) {
+                logger.error("Error processing server template changes", ex);
+            }
+        }
+    }
+
+    private void evictIfServerTemplate( final Path path ) {
+        if ( path != null && path.getParent() != null && path.getFileName() != null
+                && path.getParent().toString().endsWith( buildPath( null ).toString() ) ) {
+            evict( getFileName( path ) );
+        }
+    }
+
     protected ServerTemplate readServerTemplate(final Path registeredServer) {
         try {
+            final long readGeneration = generation.get();
             if (ioService.exists(registeredServer)) {
-                final ServerTemplate serverTemplate = (ServerTemplate) xs.fromXML(ioService.readAllString(registeredServer));
+                final String xml = ioService.readAllString(registeredServer);
+                final ServerTemplate serverTemplate = (ServerTemplate) xs.fromXML(xml);
+                cacheIfUnchanged(registeredServer, xml, serverTemplate, readGeneration);
                 return serverTemplate;
             }
         } catch ( Exception ex ) {
@@ -228,4 +423,16 @@ public class ServerTemplateVFSStorage implements KieServerTemplateStorage {
             return false;
         }
     }
+
+    private static class CachedServerTemplate {
+
+        private final String xml;
+        private final ServerTemplateKey key;
+
+        private CachedServerTemplate( final String xml,
+                                      final ServerTemplateKey key ) {
+            this.xml = xml;
+            this.key = key;
+        }
+    }
 }
@@ -41,9 +41,12 @@ import org.kie.server.controller.api.model.spec.ProcessConfig;
 import org.kie.server.controller.api.model.spec.RuleConfig;
 import org.kie.server.controller.api.model.spec.ServerTemplate;
 import org.kie.server.controller.api.model.spec.ServerTemplateKey;
+import org.uberfire.io.IOService;
+import org.uberfire.java.nio.file.Path;
 import org.uberfire.mocks.FileSystemTestingUtils;
 
 import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
 
 public class ServerTemplateVFSStorageTest {
 
@@ -310,6 +313,71 @@ public class ServerTemplateVFSStorageTest {
         assertEquals(newContainerSpec.getConfigs().size(), spec.getConfigs().size());
     }
 
+    @Test
+    public void testLoadedServerTemplatesAreCopies() {
+
+        templateStorage.store(serverTemplate);
+        assertEquals(1, templateStorage.loadKeys().size());
+
+        ServerTemplate fromStorage = templateStorage.load(serverTemplate.getId());
+        fromStorage.setName("changed name");
+
+        fromStorage = templateStorage.load(serverTemplate.getId());
+        assertEquals(serverTemplate.getName(), fromStorage.getName());
+        assertEquals(1, fromStorage.getContainersSpec().size());
+
+        fromStorage = templateStorage.load().iterator().next();
+        assertEquals(serverTemplate.getName(), fromStorage.getName());
+        assertEquals(1, fromStorage.getContainersSpec().size());
+    }
+
+    @Test
+    public void testCachedKeysAfterUpdateAndDelete() {
+
+        templateStorage.store(serverTemplate);
+        assertEquals(1, templateStorage.loadKeys().size());
+
+        serverTemplate.setName("updated name");
+        templateStorage.update(serverTemplate);
+
+        Collection<ServerTemplateKey> keys = templateStorage.loadKeys();
+        assertEquals(1, keys.size());
+        assertEquals("updated name", keys.iterator().next().getName());
+
+        templateStorage.delete(serverTemplate.getId());
+
+        assertFalse(templateStorage.exists(serverTemplate.getId()));
+        assertNull(templateStorage.load(serverTemplate.getId()));
+        assertTrue(templateStorage.loadKeys().isEmpty());
+
+        // the file system is still the source of truth
+        ServerTemplateVFSStorage otherStorage = new ServerTemplateVFSStorage(fileSystemTestingUtils.getIoService(), fileSystemTestingUtils.getFileSystem());
+        assertTrue(otherStorage.loadKeys().isEmpty());
+    }
+
+    @Test
+    public void testTemplateChangedWhileReadIsNotCached() {
+
+        // stored by another node, not cached yet by this storage
+        new ServerTemplateVFSStorage(fileSystemTestingUtils.getIoService(), fileSystemTestingUtils.getFileSystem()).store(serverTemplate);
+
+        IOService ioService = spy(fileSystemTestingUtils.getIoService());
+        ServerTemplateVFSStorage storage = new ServerTemplateVFSStorage(ioService, fileSystemTestingUtils.getFileSystem());
+        // the template is updated while it's being read
+        doAnswer(invocation -> {
+            String xml = (String) invocation.callRealMethod();
+            serverTemplate.setName("updated name");
+            storage.update(serverTemplate);
+            return xml;
+        }).doCallRealMethod().when(ioService).readAllString(any(Path.class));
+
+        assertEquals("test server", storage.load(serverTemplate.getId()).getName());
+
+        // the content read before the update must not replace the updated one
+        assertEquals("updated name", storage.load(serverTemplate.getId()).getName());
+        assertEquals("updated name", storage.loadKeys().iterator().next().getName());
+    }
+
     /*
      * helper method to setup template container and container spec
      */
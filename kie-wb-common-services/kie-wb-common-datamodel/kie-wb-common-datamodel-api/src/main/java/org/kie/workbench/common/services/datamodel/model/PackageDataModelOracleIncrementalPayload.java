@@ -54,6 +54,9 @@ public class PackageDataModelOracleIncrementalPayload {
     //Map {factType, Map<fieldName, Set<Annotation>>} containing the FactType's Field annotations.
     private Map<String, Map<String, Set<Annotation>>> typeFieldsAnnotations = new HashMap<String, Map<String, Set<Annotation>>>();
 
+    //Map {factType#fieldName, String[]} of the values of fields that are Java enums
+    private Map<String, String[]> javaEnumDefinitions = new HashMap<String, String[]>();
+
     //Method information used (exclusively) by ExpressionWidget and ActionCallMethodWidget
     private Map<String, List<MethodInfo>> methodInformation = new HashMap<String, List<MethodInfo>>();
 
@@ -116,6 +119,14 @@ public class PackageDataModelOracleIncrementalPayload {
         this.typeFieldsAnnotations = typeFieldsAnnotations;
     }
 
+    public Map<String, String[]> getJavaEnumDefinitions() {
+        return javaEnumDefinitions;
+    }
+
+    public void setJavaEnumDefinitions(final Map<String, String[]> javaEnumDefinitions) {
+        this.javaEnumDefinitions = javaEnumDefinitions;
+    }
+
     public Map<String, List<MethodInfo>> getMethodInformation() {
         return methodInformation;
     }
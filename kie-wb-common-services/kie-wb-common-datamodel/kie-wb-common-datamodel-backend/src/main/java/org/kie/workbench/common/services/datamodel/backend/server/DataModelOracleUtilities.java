@@ -26,11 +26,13 @@ import java.util.Set;
 
 import org.kie.soup.project.datamodel.oracle.Annotation;
 import org.kie.soup.project.datamodel.oracle.DataType;
+import org.kie.soup.project.datamodel.oracle.FieldAccessorsAndMutators;
 import org.kie.soup.project.datamodel.oracle.MethodInfo;
 import org.kie.soup.project.datamodel.oracle.ModelField;
 import org.kie.soup.project.datamodel.oracle.ModuleDataModelOracle;
 import org.kie.soup.project.datamodel.oracle.PackageDataModelOracle;
 import org.kie.soup.project.datamodel.oracle.TypeSource;
+import org.kie.workbench.common.services.datamodel.backend.server.builder.projects.LazyModuleDataModelOracle;
 import org.kie.workbench.common.services.datamodel.model.LazyModelField;
 import org.kie.workbench.common.services.datamodel.model.PackageDataModelOracleBaselinePayload;
 import org.kie.workbench.common.services.datamodel.model.PackageDataModelOracleIncrementalPayload;
@@ -52,7 +54,8 @@ public class DataModelOracleUtilities {
 
         final Map<String, ModelField[]> modelFields = oracle.getModuleModelFields();
         final List<String> types = new ArrayList<String>();
-        for (String type : modelFields.keySet()) {
+        //The fact types of the module's packages are known without introspecting a lazy oracle's Classes
+        for (String type : LazyModuleDataModelOracle.getKnownTypes(modelFields)) {
             int beginIndex = type.lastIndexOf('.');
 
             if (beginIndex < 0) {
@@ -222,23 +225,32 @@ public class DataModelOracleUtilities {
                                                   oracle.getModuleModelFields(),
                                                   oracle.getPackageGlobals()));
         dataModel.setFieldParametersType(filterFieldParametersTypes(usedFullyQualifiedClassNames,
-                                                                    oracle.getModuleFieldParametersType()));
+                                                                    scope(usedFullyQualifiedClassNames,
+                                                                          oracle.getModuleFieldParametersType())));
         dataModel.setEventTypes(filterEventTypes(usedFullyQualifiedClassNames,
-                                                 oracle.getModuleEventTypes()));
+                                                 scope(usedFullyQualifiedClassNames,
+                                                       oracle.getModuleEventTypes())));
         dataModel.setTypeSources(filterTypeSources(usedFullyQualifiedClassNames,
-                                                   oracle.getModuleTypeSources()));
+                                                   scope(usedFullyQualifiedClassNames,
+                                                         oracle.getModuleTypeSources())));
         dataModel.setSuperTypes(filterSuperTypes(usedFullyQualifiedClassNames,
-                                                 oracle.getModuleSuperTypes()));
+                                                 scope(usedFullyQualifiedClassNames,
+                                                       oracle.getModuleSuperTypes())));
         dataModel.setTypeAnnotations(filterTypeAnnotations(usedFullyQualifiedClassNames,
-                                                           oracle.getModuleTypeAnnotations()));
+                                                           scope(usedFullyQualifiedClassNames,
+                                                                 oracle.getModuleTypeAnnotations())));
         dataModel.setTypeFieldsAnnotations(filterTypeFieldsAnnotations(usedFullyQualifiedClassNames,
-                                                                       oracle.getModuleTypeFieldsAnnotations()));
-        dataModel.setJavaEnumDefinitions(oracle.getModuleJavaEnumDefinitions());
+                                                                       scope(usedFullyQualifiedClassNames,
+                                                                             oracle.getModuleTypeFieldsAnnotations())));
+        dataModel.setJavaEnumDefinitions(scope(usedFullyQualifiedClassNames,
+                                               oracle.getModuleJavaEnumDefinitions()));
         dataModel.setWorkbenchEnumDefinitions(oracle.getPackageWorkbenchDefinitions());
         dataModel.setMethodInformation(filterMethodInformation(usedFullyQualifiedClassNames,
-                                                               oracle.getModuleMethodInformation()));
+                                                               scope(usedFullyQualifiedClassNames,
+                                                                     oracle.getModuleMethodInformation())));
         dataModel.setCollectionTypes(filterCollectionTypes(usedFullyQualifiedClassNames,
-                                                           oracle.getModuleCollectionTypes()));
+                                                           scope(usedFullyQualifiedClassNames,
+                                                                 oracle.getModuleCollectionTypes())));
         dataModel.setAllPackageElements(oracle.getAllExtensions());
         dataModel.setGlobalTypes(oracle.getPackageGlobals());
         dataModel.setPackageNames(oracle.getModulePackageNames());
@@ -250,23 +262,35 @@ public class DataModelOracleUtilities {
         final Set<String> usedFullyQualifiedClassNames = new HashSet<String>();
         usedFullyQualifiedClassNames.add(usedFullyQualifiedClassName);
         dataModel.setModelFields(filterModelFields(usedFullyQualifiedClassNames,
-                                                   oracle.getModuleModelFields()));
+                                                   scope(usedFullyQualifiedClassNames,
+                                                         oracle.getModuleModelFields())));
         dataModel.setFieldParametersType(filterFieldParametersTypes(usedFullyQualifiedClassNames,
-                                                                    oracle.getModuleFieldParametersType()));
+                                                                    scope(usedFullyQualifiedClassNames,
+                                                                          oracle.getModuleFieldParametersType())));
         dataModel.setEventTypes(filterEventTypes(usedFullyQualifiedClassNames,
-                                                 oracle.getModuleEventTypes()));
+                                                 scope(usedFullyQualifiedClassNames,
+                                                       oracle.getModuleEventTypes())));
         dataModel.setTypeSources(filterTypeSources(usedFullyQualifiedClassNames,
-                                                   oracle.getModuleTypeSources()));
+                                                   scope(usedFullyQualifiedClassNames,
+                                                         oracle.getModuleTypeSources())));
         dataModel.setSuperTypes(filterSuperTypes(usedFullyQualifiedClassNames,
-                                                 oracle.getModuleSuperTypes()));
+                                                 scope(usedFullyQualifiedClassNames,
+                                                       oracle.getModuleSuperTypes())));
         dataModel.setTypeAnnotations(filterTypeAnnotations(usedFullyQualifiedClassNames,
-                                                           oracle.getModuleTypeAnnotations()));
+                                                           scope(usedFullyQualifiedClassNames,
+                                                                 oracle.getModuleTypeAnnotations())));
         dataModel.setTypeFieldsAnnotations(filterTypeFieldsAnnotations(usedFullyQualifiedClassNames,
-                                                                       oracle.getModuleTypeFieldsAnnotations()));
+                                                                       scope(usedFullyQualifiedClassNames,
+                                                                             oracle.getModuleTypeFieldsAnnotations())));
+        dataModel.setJavaEnumDefinitions(filterJavaEnumDefinitions(usedFullyQualifiedClassNames,
+                                                                   scope(usedFullyQualifiedClassNames,
+                                                                         oracle.getModuleJavaEnumDefinitions())));
         dataModel.setMethodInformation(filterMethodInformation(usedFullyQualifiedClassNames,
-                                                               oracle.getModuleMethodInformation()));
+                                                               scope(usedFullyQualifiedClassNames,
+                                                                     oracle.getModuleMethodInformation())));
         dataModel.setCollectionTypes(filterCollectionTypes(usedFullyQualifiedClassNames,
-                                                           oracle.getModuleCollectionTypes()));
+                                                           scope(usedFullyQualifiedClassNames,
+                                                                 oracle.getModuleCollectionTypes())));
     }
 
     //Setup Model Fields for lazy loading client-side
@@ -274,6 +298,20 @@ public class DataModelOracleUtilities {
                                                               final Map<String, ModelField[]> moduleModelFields,
                                                               final Map<String, String> packageGlobals) {
         final Map<String, ModelField[]> scopedModelFields = new HashMap<String, ModelField[]>();
+        if (LazyModuleDataModelOracle.isLazy(moduleModelFields)) {
+            //Don't introspect the Classes only to send place-holders. The fact types of fields not discovered yet are
+            //sent with the incremental payloads of the types declaring them
+            for (String mfQualifiedType : LazyModuleDataModelOracle.getKnownTypes(moduleModelFields)) {
+                if (usedFullyQualifiedClassNames.contains(mfQualifiedType) || packageGlobals.containsValue(mfQualifiedType)) {
+                    scopedModelFields.put(mfQualifiedType,
+                                          moduleModelFields.get(mfQualifiedType));
+                } else {
+                    scopedModelFields.put(mfQualifiedType,
+                                          makeLazyProxyModelField(mfQualifiedType));
+                }
+            }
+            return scopedModelFields;
+        }
         for (Map.Entry<String, ModelField[]> e : moduleModelFields.entrySet()) {
             final String mfQualifiedType = e.getKey();
             if (usedFullyQualifiedClassNames.contains(mfQualifiedType)) {
@@ -290,6 +328,15 @@ public class DataModelOracleUtilities {
         return scopedModelFields;
     }
 
+    private static ModelField[] makeLazyProxyModelField(final String fullyQualifiedClassName) {
+        return new ModelField[]{new LazyModelField(DataType.TYPE_THIS,
+                                                   fullyQualifiedClassName,
+                                                   ModelField.FIELD_CLASS_TYPE.REGULAR_CLASS,
+                                                   ModelField.FIELD_ORIGIN.SELF,
+                                                   FieldAccessorsAndMutators.ACCESSOR,
+                                                   DataType.TYPE_THIS)};
+    }
+
     //AsyncPackageDataModelOracle.getFactNameFromType() uses THIS to determine the simple Type from a FQCN.
     //Therefore ensure we provide this minimal information for every Type in the DMO to prevent getFactNameFromType()
     //needing a callback to the server which makes things more complicated than really needed.
@@ -314,7 +361,9 @@ public class DataModelOracleUtilities {
     private static Map<String, ModelField[]> filterModelFields(final Set<String> usedFullyQualifiedClassNames,
                                                                final Map<String, ModelField[]> moduleModelFields) {
         final Map<String, ModelField[]> scopedModelFields = new HashMap<String, ModelField[]>();
-        for (Map.Entry<String, ModelField[]> e : moduleModelFields.entrySet()) {
+        //Only the types used are introspected by a lazy oracle
+        for (Map.Entry<String, ModelField[]> e : scope(usedFullyQualifiedClassNames,
+                                                       moduleModelFields).entrySet()) {
             final String mfQualifiedType = e.getKey();
             final ModelField[] mfModelFields = e.getValue();
             if (isTypeUsed(mfQualifiedType,
@@ -449,6 +498,29 @@ public class DataModelOracleUtilities {
         return scopedFieldParametersType;
     }
 
+    //Filter Java Enum Definitions by the types used
+    private static Map<String, String[]> filterJavaEnumDefinitions(final Set<String> usedFullyQualifiedClassNames,
+                                                                   final Map<String, String[]> moduleJavaEnumDefinitions) {
+        final Map<String, String[]> scopedJavaEnumDefinitions = new HashMap<String, String[]>();
+        for (Map.Entry<String, String[]> e : moduleJavaEnumDefinitions.entrySet()) {
+            final String fieldName = e.getKey();
+            final String fFieldName_QualifiedType = getQualifiedTypeFromEncodedFieldName(fieldName);
+            if (isTypeUsed(fFieldName_QualifiedType,
+                           usedFullyQualifiedClassNames)) {
+                scopedJavaEnumDefinitions.put(fieldName,
+                                              e.getValue());
+            }
+        }
+        return scopedJavaEnumDefinitions;
+    }
+
+    //Restrict lazily built Module content to the types used, so other types are not introspected
+    private static <V> Map<String, V> scope(final Set<String> usedFullyQualifiedClassNames,
+                                            final Map<String, V> moduleContent) {
+        return LazyModuleDataModelOracle.filterByTypes(moduleContent,
+                                                       usedFullyQualifiedClassNames);
+    }
+
     private static String getQualifiedTypeFromEncodedFieldName(final String encodedFieldName) {
         String typeName = encodedFieldName;
         int hashIndex = typeName.lastIndexOf("#");
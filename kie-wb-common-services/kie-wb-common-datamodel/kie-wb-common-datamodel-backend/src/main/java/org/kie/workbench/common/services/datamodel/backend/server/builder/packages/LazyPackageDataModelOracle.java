@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.workbench.common.services.datamodel.backend.server.builder.packages;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.kie.soup.project.datamodel.commons.oracle.PackageDataModelOracleImpl;
+import org.kie.soup.project.datamodel.oracle.Annotation;
+import org.kie.soup.project.datamodel.oracle.MethodInfo;
+import org.kie.soup.project.datamodel.oracle.ModelField;
+import org.kie.soup.project.datamodel.oracle.TypeSource;
+import org.kie.workbench.common.services.datamodel.backend.server.builder.projects.LazyModuleDataModelOracle;
+
+/**
+ * PackageDataModelOracle reading the Module content from a {@link LazyModuleDataModelOracle}
+ */
+class LazyPackageDataModelOracle extends PackageDataModelOracleImpl {
+
+    private final LazyModuleDataModelOracle moduleOracle;
+
+    LazyPackageDataModelOracle(final LazyModuleDataModelOracle moduleOracle) {
+        this.moduleOracle = moduleOracle;
+    }
+
+    @Override
+    public Map<String, ModelField[]> getModuleModelFields() {
+        return moduleOracle.getModuleModelFields();
+    }
+
+    @Override
+    public Map<String, String> getModuleFieldParametersType() {
+        return moduleOracle.getModuleFieldParametersType();
+    }
+
+    @Override
+    public Map<String, String[]> getModuleJavaEnumDefinitions() {
+        return moduleOracle.getModuleJavaEnumDefinitions();
+    }
+
+    @Override
+    public Map<String, List<MethodInfo>> getModuleMethodInformation() {
+        return moduleOracle.getModuleMethodInformation();
+    }
+
+    @Override
+    public Map<String, Boolean> getModuleCollectionTypes() {
+        return moduleOracle.getModuleCollectionTypes();
+    }
+
+    @Override
+    public Map<String, Boolean> getModuleEventTypes() {
+        return moduleOracle.getModuleEventTypes();
+    }
+
+    @Override
+    public Map<String, TypeSource> getModuleTypeSources() {
+        return moduleOracle.getModuleTypeSources();
+    }
+
+    @Override
+    public Map<String, List<String>> getModuleSuperTypes() {
+        return moduleOracle.getModuleSuperTypes();
+    }
+
+    @Override
+    public Map<String, Set<Annotation>> getModuleTypeAnnotations() {
+        return moduleOracle.getModuleTypeAnnotations();
+    }
+
+    @Override
+    public Map<String, Map<String, Set<Annotation>>> getModuleTypeFieldsAnnotations() {
+        return moduleOracle.getModuleTypeFieldsAnnotations();
+    }
+}
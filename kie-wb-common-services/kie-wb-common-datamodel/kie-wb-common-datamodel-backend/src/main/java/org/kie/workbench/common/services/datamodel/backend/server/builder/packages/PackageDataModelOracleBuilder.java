@@ -26,6 +26,7 @@ import org.kie.soup.project.datamodel.commons.util.MVELEvaluator;
 import org.kie.soup.project.datamodel.oracle.ExtensionKind;
 import org.kie.soup.project.datamodel.oracle.ModuleDataModelOracle;
 import org.kie.soup.project.datamodel.oracle.PackageDataModelOracle;
+import org.kie.workbench.common.services.datamodel.backend.server.builder.projects.LazyModuleDataModelOracle;
 import org.kie.workbench.common.services.datamodel.backend.server.builder.util.DataEnumLoader;
 import org.kie.workbench.common.services.datamodel.backend.server.builder.util.GlobalsParser;
 import org.uberfire.commons.data.Pair;
@@ -37,7 +38,7 @@ public final class PackageDataModelOracleBuilder {
 
     private final String packageName;
 
-    private PackageDataModelOracleImpl packageOracle = new PackageDataModelOracleImpl();
+    private PackageDataModelOracleImpl packageOracle;
     private ModuleDataModelOracle moduleOracle = new ModuleDataModelOracleImpl();
 
     private Map<String, String[]> factFieldEnums = new HashMap<>();
@@ -104,6 +105,25 @@ public final class PackageDataModelOracleBuilder {
     }
 
     public PackageDataModelOracle build() {
+        //Lazily built Module DMO content is read through, rather than copied, so that Classes are only introspected on demand
+        if (moduleOracle instanceof LazyModuleDataModelOracle) {
+            packageOracle = new LazyPackageDataModelOracle((LazyModuleDataModelOracle) moduleOracle);
+            packageOracle.addModulePackageNames(moduleOracle.getModulePackageNames());
+        } else {
+            packageOracle = new PackageDataModelOracleImpl();
+            copyModuleOracle();
+        }
+
+        //Add Package DMO specifics
+        loadEnums();
+        loadPackageElements();
+        loadGlobals();
+        loadModuleOracle();
+
+        return packageOracle;
+    }
+
+    private void copyModuleOracle() {
         //Copy Module DMO into Package DMO
         final ModuleDataModelOracleImpl pd = (ModuleDataModelOracleImpl) moduleOracle;
         packageOracle.addModuleModelFields(pd.getModuleModelFields());
@@ -117,14 +137,6 @@ public final class PackageDataModelOracleBuilder {
         packageOracle.addModuleTypeAnnotations(pd.getModuleTypeAnnotations());
         packageOracle.addModuleTypeFieldsAnnotations(pd.getModuleTypeFieldsAnnotations());
         packageOracle.addModulePackageNames(pd.getModulePackageNames());
-
-        //Add Package DMO specifics
-        loadEnums();
-        loadPackageElements();
-        loadGlobals();
-        loadModuleOracle();
-
-        return packageOracle;
     }
 
     private void loadModuleOracle() {
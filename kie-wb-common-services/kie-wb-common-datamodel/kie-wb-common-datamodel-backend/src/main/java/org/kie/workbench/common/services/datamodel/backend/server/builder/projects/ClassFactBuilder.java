@@ -49,6 +49,7 @@ public class ClassFactBuilder extends BaseFactBuilder {
     private final Map<String, Set<Annotation>> fieldAnnotations = new HashMap<String, Set<Annotation>>();
 
     private final Map<String, FactBuilder> fieldFactBuilders = new HashMap<String, FactBuilder>();
+    private final Map<String, Class<?>> fieldTypes = new HashMap<String, Class<?>>();
 
     public ClassFactBuilder(final ModuleDataModelOracleBuilder builder,
                             final Class<?> clazz,
@@ -61,6 +62,10 @@ public class ClassFactBuilder extends BaseFactBuilder {
              typeSource);
     }
 
+    /**
+     * @param discoveredFieldFactBuilders FactBuilders created for the types of fields, shared between ClassFactBuilders
+     * to prevent recursion. If null, FactBuilders are not created for the types of fields; they are only recorded.
+     */
     public ClassFactBuilder(final ModuleDataModelOracleBuilder builder,
                             final Map<String, FactBuilder> discoveredFieldFactBuilders,
                             final Class<?> clazz,
@@ -143,7 +148,7 @@ public class ClassFactBuilder extends BaseFactBuilder {
                 ParameterizedType parameterizedType = (ParameterizedType) f.getGenericType();
 
                 for (Type parameterType : parameterizedType.getActualTypeArguments()) {
-                    if (discoveredFieldFactBuilders.containsKey(parameterType.getTypeName())) {
+                    if (discoveredFieldFactBuilders != null && discoveredFieldFactBuilders.containsKey(parameterType.getTypeName())) {
                         continue;
                     }
 
@@ -182,6 +187,11 @@ public class ClassFactBuilder extends BaseFactBuilder {
     protected void discoverFieldFactBuilder(final String genericTypeName,
                                             final Class<?> genericType,
                                             final Map<String, FactBuilder> discoveredFieldFactBuilders) throws IOException {
+        fieldTypes.put(genericType.getName(),
+                       genericType);
+        if (discoveredFieldFactBuilders == null) {
+            return;
+        }
 
         if (!discoveredFieldFactBuilders.containsKey(genericTypeName)) {
             discoveredFieldFactBuilders.put(genericTypeName, null);
@@ -273,6 +283,13 @@ public class ClassFactBuilder extends BaseFactBuilder {
         return loadableTypeFieldsAnnotations;
     }
 
+    /**
+     * @return The types of the fields that FactBuilders were, or would have been, created for.
+     */
+    Map<String, Class<?>> getFieldTypes() {
+        return fieldTypes;
+    }
+
     @Override
     public Map<String, FactBuilder> getInternalBuilders() {
         for (final FactBuilder factBuilder : new ArrayList<FactBuilder>(this.fieldFactBuilders.values())) {
@@ -0,0 +1,378 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.datamodel.backend.server.builder.projects;
+
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.kie.soup.project.datamodel.commons.oracle.ModuleDataModelOracleImpl;
+import org.kie.soup.project.datamodel.commons.util.MVELEvaluator;
+import org.kie.soup.project.datamodel.oracle.Annotation;
+import org.kie.soup.project.datamodel.oracle.MethodInfo;
+import org.kie.soup.project.datamodel.oracle.ModelField;
+import org.kie.soup.project.datamodel.oracle.TypeSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A ModuleDataModelOracle that only indexes the names of the Classes' fact types when built. Fields, methods,
+ * annotations and the other details of a fact type are introspected when the fact type is first accessed and kept in
+ * a bounded cache.
+ * <p>
+ * The maps hold the entries of the fact types known so far: the Classes added to the oracle, the fact types of the
+ * fields of the Classes introspected so far, and the content added directly to the oracle, for example by
+ * {@link SimpleFactBuilder}. Once every Class has been introspected they hold the same entries as the maps of the eager
+ * oracle built from the same Classes. Looking up a type that is not known returns nothing without introspecting any
+ * Class, and the key set and size of the maps keyed by type are read from the known type names. Reading the values of
+ * a whole map introspects every known Class, use {@link #filterByTypes(Map, Collection)} or lookups to only introspect
+ * the types needed.
+ */
+public class LazyModuleDataModelOracle extends ModuleDataModelOracleImpl {
+
+    private static final Logger log = LoggerFactory.getLogger(LazyModuleDataModelOracle.class);
+
+    static final int MAX_RESOLVED_TYPES = 1000;
+
+    private final MVELEvaluator evaluator;
+
+    private final Map<String, FactType> factTypes = new LinkedHashMap<>();
+
+    private final Map<String, ModuleDataModelOracleImpl> resolvedTypes = new LinkedHashMap<String, ModuleDataModelOracleImpl>(16,
+                                                                                                                            0.75f,
+                                                                                                                            true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, ModuleDataModelOracleImpl> eldest) {
+            return size() > MAX_RESOLVED_TYPES;
+        }
+    };
+
+    private final Map<String, ModelField[]> modelFields = new LazyTypeMap<>(() -> super.getModuleModelFields(),
+                                                                            ModuleDataModelOracleImpl::getModuleModelFields,
+                                                                            false);
+    private final Map<String, String> fieldParametersType = new LazyTypeMap<>(() -> super.getModuleFieldParametersType(),
+                                                                              ModuleDataModelOracleImpl::getModuleFieldParametersType,
+                                                                              true);
+    private final Map<String, String[]> javaEnumDefinitions = new LazyTypeMap<>(() -> super.getModuleJavaEnumDefinitions(),
+                                                                                ModuleDataModelOracleImpl::getModuleJavaEnumDefinitions,
+                                                                                true);
+    private final Map<String, List<MethodInfo>> methodInformation = new LazyTypeMap<>(() -> super.getModuleMethodInformation(),
+                                                                                      ModuleDataModelOracleImpl::getModuleMethodInformation,
+                                                                                      false);
+    private final Map<String, Boolean> collectionTypes = new LazyTypeMap<>(() -> super.getModuleCollectionTypes(),
+                                                                           ModuleDataModelOracleImpl::getModuleCollectionTypes,
+                                                                           false);
+    private final Map<String, Boolean> eventTypes = new LazyTypeMap<>(() -> super.getModuleEventTypes(),
+                                                                      ModuleDataModelOracleImpl::getModuleEventTypes,
+                                                                      false);
+    private final Map<String, TypeSource> typeSources = new LazyTypeMap<>(() -> super.getModuleTypeSources(),
+                                                                          ModuleDataModelOracleImpl::getModuleTypeSources,
+                                                                          false);
+    private final Map<String, List<String>> superTypes = new LazyTypeMap<>(() -> super.getModuleSuperTypes(),
+                                                                           ModuleDataModelOracleImpl::getModuleSuperTypes,
+                                                                           false);
+    private final Map<String, Set<Annotation>> typeAnnotations = new LazyTypeMap<>(() -> super.getModuleTypeAnnotations(),
+                                                                                   ModuleDataModelOracleImpl::getModuleTypeAnnotations,
+                                                                                   false);
+    private final Map<String, Map<String, Set<Annotation>>> typeFieldsAnnotations = new LazyTypeMap<>(() -> super.getModuleTypeFieldsAnnotations(),
+                                                                                                       ModuleDataModelOracleImpl::getModuleTypeFieldsAnnotations,
+                                                                                                       false);
+
+    public LazyModuleDataModelOracle(final MVELEvaluator evaluator) {
+        this.evaluator = evaluator;
+    }
+
+    public synchronized void addFactType(final Class<?> clazz,
+                                         final boolean isEvent,
+                                         final TypeSource typeSource) {
+        factTypes.put(clazz.getName(),
+                      new FactType(clazz,
+                                   isEvent,
+                                   typeSource));
+        resolvedTypes.remove(clazz.getName());
+    }
+
+    @Override
+    public Map<String, ModelField[]> getModuleModelFields() {
+        return modelFields;
+    }
+
+    @Override
+    public Map<String, String> getModuleFieldParametersType() {
+        return fieldParametersType;
+    }
+
+    @Override
+    public Map<String, String[]> getModuleJavaEnumDefinitions() {
+        return javaEnumDefinitions;
+    }
+
+    @Override
+    public Map<String, List<MethodInfo>> getModuleMethodInformation() {
+        return methodInformation;
+    }
+
+    @Override
+    public Map<String, Boolean> getModuleCollectionTypes() {
+        return collectionTypes;
+    }
+
+    @Override
+    public Map<String, Boolean> getModuleEventTypes() {
+        return eventTypes;
+    }
+
+    @Override
+    public Map<String, TypeSource> getModuleTypeSources() {
+        return typeSources;
+    }
+
+    @Override
+    public Map<String, List<String>> getModuleSuperTypes() {
+        return superTypes;
+    }
+
+    @Override
+    public Map<String, Set<Annotation>> getModuleTypeAnnotations() {
+        return typeAnnotations;
+    }
+
+    @Override
+    public Map<String, Map<String, Set<Annotation>>> getModuleTypeFieldsAnnotations() {
+        return typeFieldsAnnotations;
+    }
+
+    /**
+     * Returns the entries of the map relating to the given types. For maps of a LazyModuleDataModelOracle only
+     * those types are introspected, other maps are returned unchanged.
+     */
+    public static <V> Map<String, V> filterByTypes(final Map<String, V> map,
+                                                   final Collection<String> types) {
+        if (map instanceof LazyModuleDataModelOracle.LazyTypeMap) {
+            return ((LazyModuleDataModelOracle.LazyTypeMap<V>) map).filterByTypes(types);
+        }
+        return map;
+    }
+
+    /**
+     * Returns the types of a map that are known without introspecting any Class: the types added directly and the fact
+     * types discovered so far. The fact types of the fields of the Classes not introspected yet are missing. For other
+     * maps the key set is returned.
+     */
+    public static Set<String> getKnownTypes(final Map<String, ?> map) {
+        if (map instanceof LazyModuleDataModelOracle.LazyTypeMap) {
+            return ((LazyModuleDataModelOracle.LazyTypeMap<?>) map).getKnownTypes();
+        }
+        return map.keySet();
+    }
+
+    /**
+     * Returns whether the map belongs to a LazyModuleDataModelOracle, and so reading its values can be expensive.
+     */
+    public static boolean isLazy(final Map<String, ?> map) {
+        return map instanceof LazyModuleDataModelOracle.LazyTypeMap;
+    }
+
+    private synchronized List<String> getFactTypeNames() {
+        return new ArrayList<>(factTypes.keySet());
+    }
+
+    private synchronized boolean isFactType(final String type) {
+        return factTypes.containsKey(type);
+    }
+
+    private synchronized boolean hasFactTypes() {
+        return !factTypes.isEmpty();
+    }
+
+    private synchronized ModuleDataModelOracleImpl resolve(final String type) {
+        ModuleDataModelOracleImpl resolved = resolvedTypes.get(type);
+        if (resolved != null) {
+            return resolved;
+        }
+        final FactType factType = factTypes.get(type);
+        if (factType == null) {
+            return null;
+        }
+        try {
+            final ModuleDataModelOracleBuilder builder = ModuleDataModelOracleBuilder.newModuleOracleBuilder(evaluator);
+            final ClassFactBuilder factBuilder = builder.addClassWithoutFieldFactTypes(factType.clazz,
+                                                                                       factType.isEvent,
+                                                                                       factType.typeSource);
+            resolved = (ModuleDataModelOracleImpl) builder.build();
+
+            //Fact types of fields are available once the Class declaring them has been introspected
+            for (Map.Entry<String, Class<?>> e : factBuilder.getFieldTypes().entrySet()) {
+                if (!factTypes.containsKey(e.getKey())) {
+                    factTypes.put(e.getKey(),
+                                  new FactType(e.getValue(),
+                                               false,
+                                               factType.typeSource));
+                }
+            }
+        } catch (IOException | LinkageError e) {
+            log.debug(e.getMessage());
+            resolved = new ModuleDataModelOracleImpl();
+        }
+        resolvedTypes.put(type,
+                          resolved);
+        return resolved;
+    }
+
+    private static String getType(final String key,
+                                  final boolean keyedByField) {
+        if (!keyedByField) {
+            return key;
+        }
+        final int hashIndex = key.lastIndexOf('#');
+        return hashIndex == -1 ? key : key.substring(0,
+                                                     hashIndex);
+    }
+
+    private static class FactType {
+
+        private final Class<?> clazz;
+        private final boolean isEvent;
+        private final TypeSource typeSource;
+
+        private FactType(final Class<?> clazz,
+                         final boolean isEvent,
+                         final TypeSource typeSource) {
+            this.clazz = clazz;
+            this.isEvent = isEvent;
+            this.typeSource = typeSource;
+        }
+    }
+
+    /**
+     * Read-only view over the content added to the oracle directly and the content of the fact types introspected
+     * on demand. Keys are either the fact type or, if keyed by field, the fact type and member ("type#member").
+     */
+    private class LazyTypeMap<V> extends AbstractMap<String, V> {
+
+        private final Supplier<Map<String, V>> content;
+        private final Function<ModuleDataModelOracleImpl, Map<String, V>> resolvedContent;
+        private final boolean keyedByField;
+
+        private LazyTypeMap(final Supplier<Map<String, V>> content,
+                            final Function<ModuleDataModelOracleImpl, Map<String, V>> resolvedContent,
+                            final boolean keyedByField) {
+            this.content = content;
+            this.resolvedContent = resolvedContent;
+            this.keyedByField = keyedByField;
+        }
+
+        @Override
+        public V get(final Object key) {
+            if (!(key instanceof String)) {
+                return null;
+            }
+            final V value = content.get().get(key);
+            if (value != null) {
+                return value;
+            }
+            final String type = getType((String) key,
+                                        keyedByField);
+            final ModuleDataModelOracleImpl resolved = isFactType(type) ? resolve(type) : null;
+            return resolved == null ? null : resolvedContent.apply(resolved).get(key);
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            if (!(key instanceof String)) {
+                return false;
+            }
+            if (content.get().containsKey(key)) {
+                return true;
+            }
+            final String type = getType((String) key,
+                                        keyedByField);
+            final ModuleDataModelOracleImpl resolved = isFactType(type) ? resolve(type) : null;
+            return resolved != null && resolvedContent.apply(resolved).containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return keyedByField ? super.size() : getKnownTypes().size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return keyedByField ? super.isEmpty() : content.get().isEmpty() && !hasFactTypes();
+        }
+
+        @Override
+        public Set<String> keySet() {
+            //Every fact type has an entry in the maps keyed by type, even with an empty value
+            return keyedByField ? super.keySet() : Collections.unmodifiableSet(getKnownTypes());
+        }
+
+        @Override
+        public Set<Map.Entry<String, V>> entrySet() {
+            final Map<String, V> entries = new LinkedHashMap<>();
+            for (String type : getFactTypeNames()) {
+                final ModuleDataModelOracleImpl resolved = resolve(type);
+                if (resolved != null) {
+                    entries.putAll(resolvedContent.apply(resolved));
+                }
+            }
+            //Content added directly to the oracle takes precedence, as in get
+            entries.putAll(content.get());
+            return Collections.unmodifiableMap(entries).entrySet();
+        }
+
+        private Set<String> getKnownTypes() {
+            final Set<String> types = new LinkedHashSet<>();
+            for (String key : content.get().keySet()) {
+                types.add(getType(key,
+                                  keyedByField));
+            }
+            types.addAll(getFactTypeNames());
+            return types;
+        }
+
+        private Map<String, V> filterByTypes(final Collection<String> types) {
+            final Map<String, V> filtered = new HashMap<>();
+            for (Map.Entry<String, V> e : content.get().entrySet()) {
+                if (types.contains(getType(e.getKey(),
+                                           keyedByField))) {
+                    filtered.put(e.getKey(),
+                                 e.getValue());
+                }
+            }
+            for (String type : types) {
+                if (isFactType(type)) {
+                    final ModuleDataModelOracleImpl resolved = resolve(type);
+                    if (resolved != null) {
+                        filtered.putAll(resolvedContent.apply(resolved));
+                    }
+                }
+            }
+            return filtered;
+        }
+    }
+}
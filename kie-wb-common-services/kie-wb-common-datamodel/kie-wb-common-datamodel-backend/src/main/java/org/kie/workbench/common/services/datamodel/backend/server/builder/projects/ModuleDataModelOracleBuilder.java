@@ -33,7 +33,7 @@ import org.kie.workbench.common.services.datamodel.backend.server.builder.util.D
  */
 public final class ModuleDataModelOracleBuilder {
 
-    private ModuleDataModelOracleImpl oracle = new ModuleDataModelOracleImpl();
+    private final ModuleDataModelOracleImpl oracle;
 
     private Map<String, FactBuilder> factTypeBuilders = new HashMap<>();
     private Map<String, String[]> factFieldEnums = new HashMap<>();
@@ -46,11 +46,22 @@ public final class ModuleDataModelOracleBuilder {
     private MVELEvaluator evaluator;
 
     public static ModuleDataModelOracleBuilder newModuleOracleBuilder(MVELEvaluator evaluator) {
-        return new ModuleDataModelOracleBuilder(evaluator);
+        return new ModuleDataModelOracleBuilder(evaluator,
+                                                new ModuleDataModelOracleImpl());
     }
 
-    private ModuleDataModelOracleBuilder(MVELEvaluator evaluator) {
+    /**
+     * Creates a builder for a {@link LazyModuleDataModelOracle}, where Classes are only introspected when first used.
+     */
+    public static ModuleDataModelOracleBuilder newLazyModuleOracleBuilder(MVELEvaluator evaluator) {
+        return new ModuleDataModelOracleBuilder(evaluator,
+                                                new LazyModuleDataModelOracle(evaluator));
+    }
+
+    private ModuleDataModelOracleBuilder(MVELEvaluator evaluator,
+                                         ModuleDataModelOracleImpl oracle) {
         this.evaluator = evaluator;
+        this.oracle = oracle;
     }
 
     //Used by tests
@@ -95,6 +106,12 @@ public final class ModuleDataModelOracleBuilder {
     public ModuleDataModelOracleBuilder addClass(final Class clazz,
                                                  final boolean isEvent,
                                                  final TypeSource typeSource) throws IOException {
+        if (oracle instanceof LazyModuleDataModelOracle) {
+            ((LazyModuleDataModelOracle) oracle).addFactType(clazz,
+                                                             isEvent,
+                                                             typeSource);
+            return this;
+        }
         final FactBuilder builder = new ClassFactBuilder(this,
                                                          discoveredFieldFactBuilders,
                                                          clazz,
@@ -105,6 +122,20 @@ public final class ModuleDataModelOracleBuilder {
         return this;
     }
 
+    //Used by LazyModuleDataModelOracle to introspect a single Class
+    ClassFactBuilder addClassWithoutFieldFactTypes(final Class clazz,
+                                                   final boolean isEvent,
+                                                   final TypeSource typeSource) throws IOException {
+        final ClassFactBuilder builder = new ClassFactBuilder(this,
+                                                              null,
+                                                              clazz,
+                                                              isEvent,
+                                                              typeSource);
+        factTypeBuilders.put(clazz.getName(),
+                             builder);
+        return builder;
+    }
+
     public ModuleDataModelOracleBuilder addEnum(final String factType,
                                                 final String fieldName,
                                                 final String[] values) {
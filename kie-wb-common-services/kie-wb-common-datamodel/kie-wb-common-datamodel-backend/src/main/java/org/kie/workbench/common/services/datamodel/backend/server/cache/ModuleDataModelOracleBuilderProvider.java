@@ -41,6 +41,11 @@ public class ModuleDataModelOracleBuilderProvider {
 
     private static final Logger log = LoggerFactory.getLogger(ModuleDataModelOracleBuilderProvider.class);
 
+    /**
+     * When "true" Classes are only introspected when the DMO content for them is first requested
+     */
+    public static final String LAZY_MODULE_ORACLE = "org.kie.workbench.datamodel.oracle.lazy";
+
     private ProjectImportsService importsService;
     private PackageNameWhiteListService packageNameWhiteListService;
 
@@ -68,7 +73,9 @@ public class ModuleDataModelOracleBuilderProvider {
 
     class InnerBuilder {
 
-        private final ModuleDataModelOracleBuilder pdBuilder = ModuleDataModelOracleBuilder.newModuleOracleBuilder(new RawMVELEvaluator());
+        private final ModuleDataModelOracleBuilder pdBuilder = Boolean.getBoolean(LAZY_MODULE_ORACLE) ?
+                ModuleDataModelOracleBuilder.newLazyModuleOracleBuilder(new RawMVELEvaluator()) :
+                ModuleDataModelOracleBuilder.newModuleOracleBuilder(new RawMVELEvaluator());
 
         private final KieModule project;
         private final KieModuleMetaData kieModuleMetaData;
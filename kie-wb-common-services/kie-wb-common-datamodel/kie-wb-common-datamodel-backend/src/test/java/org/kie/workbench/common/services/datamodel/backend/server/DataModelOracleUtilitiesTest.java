@@ -0,0 +1,101 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.datamodel.backend.server;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.soup.project.datamodel.commons.util.RawMVELEvaluator;
+import org.kie.soup.project.datamodel.oracle.ModelField;
+import org.kie.soup.project.datamodel.oracle.ModuleDataModelOracle;
+import org.kie.soup.project.datamodel.oracle.TypeSource;
+import org.kie.workbench.common.services.datamodel.backend.server.builder.packages.PackageDataModelOracleBuilder;
+import org.kie.workbench.common.services.datamodel.backend.server.builder.projects.ModuleDataModelOracleBuilder;
+import org.kie.workbench.common.services.datamodel.backend.server.testclasses.Product;
+import org.kie.workbench.common.services.datamodel.backend.server.testclasses.ProductOrder;
+import org.kie.workbench.common.services.datamodel.model.LazyModelField;
+import org.kie.workbench.common.services.datamodel.model.PackageDataModelOracleBaselinePayload;
+import org.kie.workbench.common.services.datamodel.model.PackageDataModelOracleIncrementalPayload;
+import org.kie.soup.project.datamodel.oracle.PackageDataModelOracle;
+
+import static org.junit.Assert.*;
+
+public class DataModelOracleUtilitiesTest {
+
+    private PackageDataModelOracle oracle;
+
+    @Before
+    public void setup() throws Exception {
+        final ModuleDataModelOracleBuilder builder = ModuleDataModelOracleBuilder.newLazyModuleOracleBuilder(new RawMVELEvaluator());
+        builder.addClass(ProductOrder.class,
+                         false,
+                         TypeSource.JAVA_PROJECT);
+        builder.addClass(Product.class,
+                         false,
+                         TypeSource.JAVA_PROJECT);
+        final ModuleDataModelOracle moduleOracle = builder.build();
+
+        oracle = PackageDataModelOracleBuilder.newPackageOracleBuilder(new RawMVELEvaluator(),
+                                                                       Product.class.getPackage().getName())
+                .setModuleOracle(moduleOracle)
+                .build();
+    }
+
+    @Test
+    public void testLazyBaselinePayload() {
+        final PackageDataModelOracleBaselinePayload dataModel = new PackageDataModelOracleBaselinePayload();
+        DataModelOracleUtilities.populateDataModel(oracle,
+                                                   dataModel,
+                                                   Collections.singleton(ProductOrder.class.getName()));
+
+        final Map<String, ModelField[]> modelFields = dataModel.getModelFields();
+        assertEquals(2,
+                     modelFields.size());
+        assertFalse(modelFields.get(ProductOrder.class.getName())[0] instanceof LazyModelField);
+        assertEquals(1,
+                     modelFields.get(Product.class.getName()).length);
+        assertTrue(modelFields.get(Product.class.getName())[0] instanceof LazyModelField);
+
+        assertEquals(Collections.singleton(ProductOrder.class.getName()),
+                     dataModel.getTypeSources().keySet());
+    }
+
+    @Test
+    public void testLazyIncrementalPayload() {
+        final PackageDataModelOracleIncrementalPayload dataModel = new PackageDataModelOracleIncrementalPayload();
+        DataModelOracleUtilities.populateDataModel(oracle,
+                                                   dataModel,
+                                                   Product.class.getName());
+
+        //Only the type used is sent, without place-holders for the other types
+        final Map<String, ModelField[]> modelFields = dataModel.getModelFields();
+        assertEquals(Collections.singleton(Product.class.getName()),
+                     modelFields.keySet());
+        assertEquals(2,
+                     modelFields.get(Product.class.getName()).length);
+        for (ModelField modelField : modelFields.get(Product.class.getName())) {
+            assertFalse(modelField instanceof LazyModelField);
+        }
+
+        assertEquals(1,
+                     dataModel.getJavaEnumDefinitions().size());
+        assertEquals(Collections.singleton(Product.class.getName()),
+                     dataModel.getTypeSources().keySet());
+    }
+}
@@ -83,6 +83,7 @@ import org.kie.workbench.common.services.backend.dependencies.DependencyServiceI
 import org.kie.workbench.common.services.backend.kmodule.KModuleContentHandler;
 import org.kie.workbench.common.services.backend.kmodule.KModuleServiceImpl;
 import org.kie.workbench.common.services.backend.project.KieModuleRepositoriesServiceImpl;
+import org.kie.workbench.common.services.backend.project.KieModuleRootCache;
 import org.kie.workbench.common.services.backend.project.KieModuleServiceImpl;
 import org.kie.workbench.common.services.backend.project.KieResourceResolver;
 import org.kie.workbench.common.services.backend.project.ModuleSaver;
@@ -219,7 +220,8 @@ public class DataModelServiceConstructorTest {
                                                                        pomService,
                                                                        commentedOptionFactory,
                                                                        kModuleService,
-                                                                       resourcePathResolversInstance);
+                                                                       resourcePathResolversInstance,
+                                                                       new KieModuleRootCache());
         ModuleSaver moduleSaver = null;
         moduleService = new HackedKieModuleServiceImpl(ioService,
                                                        moduleSaver,
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.workbench.common.services.datamodel.backend.server.builder.projects;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import org.kie.soup.project.datamodel.commons.util.RawMVELEvaluator;
+import org.kie.soup.project.datamodel.oracle.ModuleDataModelOracle;
+import org.kie.soup.project.datamodel.oracle.TypeSource;
+import org.mvel2.MVEL;
+
+/**
+ * Compares the build time and the retained heap of the eager and the lazy module oracles built from the Classes of a
+ * jar, and the time the lazy oracle takes to serve the types used by an editor.
+ * <p>
+ * It's not run by the build, run it with the path of a jar on the class path as optional argument (default the MVEL
+ * jar). Run it with a fixed heap, e.g. -Xms1g -Xmx1g, for comparable heap figures.
+ */
+public class LazyModuleDataModelOracleBenchmark {
+
+    private static final int USED_TYPES = 20;
+
+    public static void main(String[] args) throws Exception {
+        final String jar = args.length > 0 ? args[0] : new File(MVEL.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+        final List<Class<?>> classes = loadClasses(jar);
+        System.out.println("Building the module oracle of " + classes.size() + " classes of " + jar);
+
+        //Warm up the class introspection
+        build(false,
+              classes);
+        build(true,
+              classes);
+
+        final long eagerHeapBefore = usedHeap();
+        long start = System.nanoTime();
+        final ModuleDataModelOracle eager = build(false,
+                                                  classes);
+        final long eagerBuildMillis = (System.nanoTime() - start) / 1000000;
+        final long eagerHeap = usedHeap() - eagerHeapBefore;
+
+        final long lazyHeapBefore = usedHeap();
+        start = System.nanoTime();
+        final ModuleDataModelOracle lazy = build(true,
+                                                 classes);
+        final long lazyBuildMillis = (System.nanoTime() - start) / 1000000;
+        final long lazyHeap = usedHeap() - lazyHeapBefore;
+
+        start = System.nanoTime();
+        for (int i = 0; i < Math.min(USED_TYPES,
+                                     classes.size()); i++) {
+            lazy.getModuleModelFields().get(classes.get(i).getName());
+            lazy.getModuleMethodInformation().get(classes.get(i).getName());
+        }
+        final long lazyUseMillis = (System.nanoTime() - start) / 1000000;
+
+        System.out.println("Eager: build " + eagerBuildMillis + " ms, retained heap " + eagerHeap / 1024 + " KB, " + eager.getModuleModelFields().size() + " types");
+        System.out.println("Lazy: build " + lazyBuildMillis + " ms, retained heap " + lazyHeap / 1024 + " KB, " + USED_TYPES + " types used in " + lazyUseMillis + " ms");
+    }
+
+    private static ModuleDataModelOracle build(final boolean lazy,
+                                               final List<Class<?>> classes) throws Exception {
+        final ModuleDataModelOracleBuilder builder = lazy ?
+                ModuleDataModelOracleBuilder.newLazyModuleOracleBuilder(new RawMVELEvaluator()) :
+                ModuleDataModelOracleBuilder.newModuleOracleBuilder(new RawMVELEvaluator());
+        for (Class<?> clazz : classes) {
+            builder.addClass(clazz,
+                             false,
+                             TypeSource.JAVA_DEPENDENCY);
+        }
+        return builder.build();
+    }
+
+    private static List<Class<?>> loadClasses(final String jar) throws Exception {
+        final List<Class<?>> classes = new ArrayList<>();
+        try (JarFile jarFile = new JarFile(jar)) {
+            final Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                final String name = entries.nextElement().getName();
+                if (!name.endsWith(".class") || name.contains("$") || name.startsWith("META-INF")) {
+                    continue;
+                }
+                try {
+                    classes.add(Class.forName(name.substring(0,
+                                                             name.length() - ".class".length()).replace('/',
+                                                                                                        '.'),
+                                              false,
+                                              LazyModuleDataModelOracleBenchmark.class.getClassLoader()));
+                } catch (ClassNotFoundException | LinkageError ignore) {
+                    //Not loadable with the benchmark's class path
+                }
+            }
+        }
+        return classes;
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
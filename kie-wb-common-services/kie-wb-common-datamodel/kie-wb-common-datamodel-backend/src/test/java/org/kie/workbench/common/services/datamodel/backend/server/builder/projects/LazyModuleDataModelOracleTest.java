@@ -0,0 +1,238 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.workbench.common.services.datamodel.backend.server.builder.projects;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.soup.project.datamodel.commons.util.RawMVELEvaluator;
+import org.kie.soup.project.datamodel.oracle.Annotation;
+import org.kie.soup.project.datamodel.oracle.MethodInfo;
+import org.kie.soup.project.datamodel.oracle.ModelField;
+import org.kie.soup.project.datamodel.oracle.ModuleDataModelOracle;
+import org.kie.soup.project.datamodel.oracle.TypeSource;
+import org.kie.workbench.common.services.datamodel.backend.server.testclasses.Product;
+import org.kie.workbench.common.services.datamodel.backend.server.testclasses.ProductOrder;
+
+import static org.junit.Assert.*;
+
+public class LazyModuleDataModelOracleTest {
+
+    private ModuleDataModelOracle oracle;
+
+    @Before
+    public void setup() throws Exception {
+        final ModuleDataModelOracleBuilder builder = ModuleDataModelOracleBuilder.newLazyModuleOracleBuilder(new RawMVELEvaluator());
+        builder.addClass(ProductOrder.class,
+                         false,
+                         TypeSource.JAVA_PROJECT);
+        builder.addClass(Product.class,
+                         true,
+                         TypeSource.JAVA_DEPENDENCY);
+        builder.addFact("java.lang.String")
+                .end();
+        oracle = builder.build();
+    }
+
+    @Test
+    public void testFactTypesAreIndexed() {
+        assertTrue(oracle instanceof LazyModuleDataModelOracle);
+        assertEquals(3,
+                     LazyModuleDataModelOracle.getKnownTypes(oracle.getModuleModelFields()).size());
+        assertTrue(oracle.getModuleModelFields().containsKey(ProductOrder.class.getName()));
+        assertTrue(oracle.getModuleModelFields().containsKey(Product.class.getName()));
+        assertTrue(oracle.getModuleModelFields().containsKey("java.lang.String"));
+    }
+
+    @Test
+    public void testFactTypeIsIntrospectedOnDemand() {
+        final ModelField[] fields = oracle.getModuleModelFields().get(Product.class.getName());
+        assertNotNull(fields);
+        assertEquals(2,
+                     fields.length);
+
+        assertTrue(oracle.getModuleEventTypes().get(Product.class.getName()));
+        assertEquals(TypeSource.JAVA_DEPENDENCY,
+                     oracle.getModuleTypeSources().get(Product.class.getName()));
+        assertEquals(3,
+                     oracle.getModuleJavaEnumDefinitions().get(Product.class.getName() + "#colour").length);
+        assertEquals(Product.class.getName(),
+                     oracle.getModuleFieldParametersType().get(ProductOrder.class.getName() + "#products"));
+    }
+
+    @Test
+    public void testFilterByTypes() {
+        final Map<String, Boolean> eventTypes = LazyModuleDataModelOracle.filterByTypes(oracle.getModuleEventTypes(),
+                                                                                        Collections.singleton(Product.class.getName()));
+        assertEquals(1,
+                     eventTypes.size());
+        assertTrue(eventTypes.get(Product.class.getName()));
+
+        final Map<String, String> fieldParametersType = LazyModuleDataModelOracle.filterByTypes(oracle.getModuleFieldParametersType(),
+                                                                                                Collections.singleton(ProductOrder.class.getName()));
+        assertEquals(2,
+                     fieldParametersType.size());
+    }
+
+    @Test
+    public void testFieldFactTypeIsKnownOnceDeclaringTypeIsIntrospected() {
+        //Product.Colour is only known once Product has been introspected
+        final String colour = Product.class.getName() + "$Colour";
+        assertFalse(oracle.getModuleModelFields().containsKey(colour));
+        assertNull(oracle.getModuleModelFields().get(colour));
+
+        assertNotNull(oracle.getModuleModelFields().get(Product.class.getName()));
+
+        assertTrue(oracle.getModuleModelFields().containsKey(colour));
+        assertNotNull(oracle.getModuleModelFields().get(colour));
+        assertTrue(oracle.getModuleModelFields().keySet().contains(colour));
+    }
+
+    @Test
+    public void testSizeAndKeySetDoNotIntrospect() {
+        final String colour = Product.class.getName() + "$Colour";
+        assertEquals(3,
+                     oracle.getModuleModelFields().size());
+        assertEquals(3,
+                     oracle.getModuleEventTypes().keySet().size());
+        assertFalse(oracle.getModuleModelFields().isEmpty());
+
+        //Product has not been introspected, so Product.Colour is still unknown
+        assertFalse(oracle.getModuleModelFields().containsKey(colour));
+    }
+
+    @Test
+    public void testSameContentAsEagerOracle() throws Exception {
+        final ModuleDataModelOracleBuilder eagerBuilder = ModuleDataModelOracleBuilder.newModuleOracleBuilder(new RawMVELEvaluator());
+        eagerBuilder.addClass(ProductOrder.class,
+                              false,
+                              TypeSource.JAVA_PROJECT);
+        eagerBuilder.addFact("java.lang.String")
+                .end();
+        final ModuleDataModelOracle eager = eagerBuilder.build();
+
+        final ModuleDataModelOracleBuilder lazyBuilder = ModuleDataModelOracleBuilder.newLazyModuleOracleBuilder(new RawMVELEvaluator());
+        lazyBuilder.addClass(ProductOrder.class,
+                             false,
+                             TypeSource.JAVA_PROJECT);
+        lazyBuilder.addFact("java.lang.String")
+                .end();
+        final ModuleDataModelOracle lazy = lazyBuilder.build();
+
+        //Fact types of fields are only known once the Classes declaring them have been introspected
+        introspectAll(lazy);
+        for (String type : eager.getModuleModelFields().keySet()) {
+            assertTrue(type,
+                       lazy.getModuleModelFields().containsKey(type));
+            assertModelFieldsEquals(eager.getModuleModelFields().get(type),
+                                    lazy.getModuleModelFields().get(type));
+        }
+
+        assertModelFieldsMapEquals(eager.getModuleModelFields(),
+                                   lazy.getModuleModelFields());
+        assertEquals(eager.getModuleFieldParametersType(),
+                     lazy.getModuleFieldParametersType());
+        assertEquals(eager.getModuleCollectionTypes(),
+                     lazy.getModuleCollectionTypes());
+        assertEquals(eager.getModuleEventTypes(),
+                     lazy.getModuleEventTypes());
+        assertEquals(eager.getModuleTypeSources(),
+                     lazy.getModuleTypeSources());
+        assertEquals(eager.getModuleSuperTypes(),
+                     lazy.getModuleSuperTypes());
+
+        final Map<String, String[]> eagerEnums = eager.getModuleJavaEnumDefinitions();
+        final Map<String, String[]> lazyEnums = lazy.getModuleJavaEnumDefinitions();
+        assertEquals(eagerEnums.keySet(),
+                     lazyEnums.keySet());
+        for (Map.Entry<String, String[]> e : eagerEnums.entrySet()) {
+            assertArrayEquals(e.getValue(),
+                              lazyEnums.get(e.getKey()));
+        }
+
+        final Map<String, List<MethodInfo>> eagerMethods = eager.getModuleMethodInformation();
+        final Map<String, List<MethodInfo>> lazyMethods = lazy.getModuleMethodInformation();
+        assertEquals(eagerMethods.keySet(),
+                     lazyMethods.keySet());
+        for (Map.Entry<String, List<MethodInfo>> e : eagerMethods.entrySet()) {
+            assertEquals(e.getValue().size(),
+                         lazyMethods.get(e.getKey()).size());
+        }
+
+        final Map<String, Set<Annotation>> eagerAnnotations = eager.getModuleTypeAnnotations();
+        final Map<String, Set<Annotation>> lazyAnnotations = lazy.getModuleTypeAnnotations();
+        assertEquals(eagerAnnotations.keySet(),
+                     lazyAnnotations.keySet());
+        for (Map.Entry<String, Set<Annotation>> e : eagerAnnotations.entrySet()) {
+            assertEquals(e.getValue().size(),
+                         lazyAnnotations.get(e.getKey()).size());
+        }
+        assertEquals(eager.getModuleTypeFieldsAnnotations().keySet(),
+                     lazy.getModuleTypeFieldsAnnotations().keySet());
+    }
+
+    @Test
+    public void testUnknownType() {
+        assertFalse(oracle.getModuleModelFields().containsKey("org.Unknown"));
+        assertNull(oracle.getModuleModelFields().get("org.Unknown"));
+    }
+
+    private void introspectAll(final ModuleDataModelOracle oracle) {
+        Set<String> introspected = Collections.emptySet();
+        Set<String> known = new HashSet<>(oracle.getModuleModelFields().keySet());
+        while (!known.equals(introspected)) {
+            for (String type : known) {
+                oracle.getModuleModelFields().get(type);
+            }
+            introspected = known;
+            known = new HashSet<>(oracle.getModuleModelFields().keySet());
+        }
+    }
+
+    private void assertModelFieldsMapEquals(final Map<String, ModelField[]> expected,
+                                            final Map<String, ModelField[]> actual) {
+        assertEquals(expected.size(),
+                     actual.size());
+        assertEquals(expected.keySet(),
+                     actual.keySet());
+        for (Map.Entry<String, ModelField[]> e : actual.entrySet()) {
+            assertModelFieldsEquals(expected.get(e.getKey()),
+                                    e.getValue());
+        }
+    }
+
+    private void assertModelFieldsEquals(final ModelField[] expected,
+                                         final ModelField[] actual) {
+        assertNotNull(actual);
+        assertEquals(Arrays.toString(expected),
+                     expected.length,
+                     actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i].getName(),
+                         actual[i].getName());
+            assertEquals(expected[i].getClassName(),
+                         actual[i].getClassName());
+            assertEquals(expected[i].getType(),
+                         actual[i].getType());
+        }
+    }
+}
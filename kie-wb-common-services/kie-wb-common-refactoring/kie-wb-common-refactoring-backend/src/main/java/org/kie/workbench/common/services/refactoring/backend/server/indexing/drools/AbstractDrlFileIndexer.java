@@ -17,7 +17,6 @@ package org.kie.workbench.common.services.refactoring.backend.server.indexing.dr
 
 import java.util.List;
 
-import org.drools.compiler.compiler.DrlParser;
 import org.drools.compiler.compiler.DroolsError;
 import org.drools.compiler.lang.descr.PackageDescr;
 import org.kie.api.io.ResourceType;
@@ -40,11 +39,15 @@ public abstract class AbstractDrlFileIndexer extends AbstractFileIndexer {
 
     private static final Logger logger = LoggerFactory.getLogger(AbstractDrlFileIndexer.class);
 
+    //Shared by all the DRL based indexers, the assets of every type are indexed from their DRL
+    private static final PackageDescrCache packageDescrCache = new PackageDescrCache();
+
     /**
      * All Drools-related {@link Indexer} implementations end up extracting the DRL from the related Rule representation
      * (see {@link ResourceType}).
      * </p>
-     * The following method then parses the DRL and returns all relevant reference information.
+     * The following method then parses the DRL and returns all relevant reference information. The parsed DRL is
+     * cached by content, so that DRL that has already been indexed is not parsed again.
      * @param path The {@link Path} of the asset/resource, necessary for extracting reference information.
      * @param drl A {@link String} representation of the DRL.
      * @return The {@link DefaultIndexBuilder}
@@ -53,12 +56,11 @@ public abstract class AbstractDrlFileIndexer extends AbstractFileIndexer {
     public IndexBuilder fillDrlIndexBuilder(final Path path,
                                                    final String drl) throws Exception {
 
-        final DrlParser drlParser = new DrlParser();
-        final PackageDescr packageDescr = drlParser.parse(true,
-                                                          drl);
+        final PackageDescrCache.ParsedDrl parsedDrl = packageDescrCache.parse(drl);
+        final PackageDescr packageDescr = parsedDrl.getPackageDescr();
 
-        if (drlParser.hasErrors()) {
-            final List<DroolsError> errors = drlParser.getErrors();
+        if (parsedDrl.hasErrors()) {
+            final List<DroolsError> errors = parsedDrl.getErrors();
             logger.warn(ErrorMessageUtilities.makeErrorMessage(path,
                                                                errors.toArray(new DroolsError[errors.size()])));
             return null;
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.refactoring.backend.server.indexing.drools;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.drools.compiler.compiler.DrlParser;
+import org.drools.compiler.compiler.DroolsError;
+import org.drools.compiler.lang.descr.PackageDescr;
+
+/**
+ * Bounded cache of the {@link PackageDescr} parsed from DRL, keyed by the SHA-256 hash of the DRL.
+ * </p>
+ * Every rule asset is indexed from the DRL it is converted to, so a DRL is only parsed once per content revision:
+ * re-indexing unchanged assets (e.g. when a repository is cloned or a branch is created) re-uses the parsed
+ * descriptors. The cached {@link PackageDescr} are shared and must not be modified.
+ */
+public class PackageDescrCache {
+
+    static final int DEFAULT_MAX_ENTRIES = 500;
+
+    private final Map<String, ParsedDrl> entries;
+
+    public PackageDescrCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public PackageDescrCache(final int maxEntries) {
+        this.entries = new LinkedHashMap<String, ParsedDrl>(16,
+                                                             0.75f,
+                                                             true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, ParsedDrl> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Parses the DRL, unless a DRL with the same content has already been parsed.
+     * @param drl The DRL
+     * @return The {@link PackageDescr} and the parser errors
+     */
+    public ParsedDrl parse(final String drl) {
+        final String key = hash(drl);
+        synchronized (entries) {
+            final ParsedDrl parsedDrl = entries.get(key);
+            if (parsedDrl != null) {
+                return parsedDrl;
+            }
+        }
+
+        final DrlParser drlParser = new DrlParser();
+        final ParsedDrl parsedDrl;
+        try {
+            parsedDrl = new ParsedDrl(drlParser.parse(true,
+                                                      drl),
+                                      drlParser.getErrors());
+        } catch (Exception e) {
+            //Not cached, as DrlParser only fails this way on unexpected errors
+            throw new IllegalStateException(e);
+        }
+
+        synchronized (entries) {
+            entries.put(key,
+                        parsedDrl);
+        }
+        return parsedDrl;
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static String hash(final String drl) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(drl.getBytes(StandardCharsets.UTF_8));
+            final StringBuilder sb = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                sb.append(String.format("%02x",
+                                        b));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The result of parsing a DRL.
+     */
+    public static class ParsedDrl {
+
+        private final PackageDescr packageDescr;
+
+        private final List<DroolsError> errors;
+
+        ParsedDrl(final PackageDescr packageDescr,
+                  final List<DroolsError> errors) {
+            this.packageDescr = packageDescr;
+            this.errors = errors == null ? Collections.<DroolsError>emptyList() : Collections.unmodifiableList(new ArrayList<>(errors));
+        }
+
+        public PackageDescr getPackageDescr() {
+            return packageDescr;
+        }
+
+        public List<DroolsError> getErrors() {
+            return errors;
+        }
+
+        public boolean hasErrors() {
+            return !errors.isEmpty();
+        }
+    }
+}
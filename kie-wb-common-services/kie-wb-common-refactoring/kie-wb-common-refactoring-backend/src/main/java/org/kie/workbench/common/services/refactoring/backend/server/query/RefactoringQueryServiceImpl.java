@@ -34,8 +34,6 @@ import javax.inject.Named;
 
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Sort;
-import org.apache.lucene.search.TopFieldDocs;
-import org.apache.lucene.search.TotalHitCountCollector;
 import org.jboss.errai.bus.server.annotations.Service;
 import org.kie.soup.commons.validation.PortablePreconditions;
 import org.kie.workbench.common.services.refactoring.backend.server.query.response.ResponseBuilder;
@@ -103,16 +101,17 @@ public class RefactoringQueryServiceImpl implements RefactoringQueryService {
         final Sort sort = namedQuery.getSortOrder();
 
         try {
-            List<KObject> found = config.getIndexProvider().findByQuery(Collections.EMPTY_LIST,
-                                                                        query,
-                                                                        sort,
-                                                                        0);
-
-            if (request.distinctResults()) {
-                found = distinct(found);
+            if (!Boolean.TRUE.equals(request.distinctResults())) {
+                //Plain counts are resolved by the index without loading any document
+                return (int) config.getIndexProvider().findHitsByQuery(Collections.emptyList(),
+                                                                       query);
             }
 
-            return found.size();
+            final List<KObject> found = config.getIndexProvider().findByQuery(Collections.emptyList(),
+                                                                              query,
+                                                                              sort,
+                                                                              0);
+            return distinct(found).size();
         } catch (final Exception ex) {
             throw new RuntimeException("Error during Query!",
                                        ex);
@@ -222,15 +221,19 @@ public class RefactoringQueryServiceImpl implements RefactoringQueryService {
                     .map(clusterSegment -> clusterSegment.getClusterId())
                     .collect(Collectors.toList());
 
-            List<KObject> found = config.getIndexProvider().findByQuery(indices,
-                                                                        query,
-                                                                        sort,
-                                                                        0);
+            final int startIndex = startIndexSupplier.get();
+            final int requested = numOfHitsToReturnSupplier.apply(Integer.MAX_VALUE - startIndex);
+
+            List<KObject> found = findTopHits(indices,
+                                              query,
+                                              sort,
+                                              startIndex,
+                                              requested,
+                                              distinct);
 
-            if (distinct) {
-                found = distinct(found);
+            if (startIndex >= found.size()) {
+                return Collections.emptyList();
             }
-            final int startIndex = startIndexSupplier.get();
             final int numOfHitsToReturn = numOfHitsToReturnSupplier.apply(found.size());
 
             return found.subList(startIndex,
@@ -244,6 +247,43 @@ public class RefactoringQueryServiceImpl implements RefactoringQueryService {
         }
     }
 
+    /**
+     * Retrieves the top hits needed to fill the requested page, rather than every hit matching the query.
+     * When distinct results are required the window is widened until enough unique hits are available
+     * or the index has no more hits to return.
+     */
+    List<KObject> findTopHits(final List<String> indices,
+                              final Query query,
+                              final Sort sort,
+                              final int startIndex,
+                              final int numOfHits,
+                              final boolean distinct) {
+        final long window = (long) startIndex + numOfHits;
+        if (numOfHits <= 0 || window >= Integer.MAX_VALUE) {
+            final List<KObject> found = config.getIndexProvider().findByQuery(indices,
+                                                                              query,
+                                                                              sort,
+                                                                              0);
+            return distinct ? distinct(found) : found;
+        }
+
+        int limit = (int) window;
+        while (true) {
+            final List<KObject> found = config.getIndexProvider().findByQuery(indices,
+                                                                              query,
+                                                                              sort,
+                                                                              limit);
+            if (!distinct) {
+                return found;
+            }
+            final List<KObject> unique = distinct(found);
+            if (unique.size() >= window || found.size() < limit || limit >= Integer.MAX_VALUE / 2) {
+                return unique;
+            }
+            limit = limit * 2;
+        }
+    }
+
     /* (non-Javadoc)
      * @see org.kie.workbench.common.services.refactoring.service.RefactoringQueryService#queryToPageResponse(org.kie.workbench.common.services.refactoring.service.impact.QueryOperationRequest)
      */
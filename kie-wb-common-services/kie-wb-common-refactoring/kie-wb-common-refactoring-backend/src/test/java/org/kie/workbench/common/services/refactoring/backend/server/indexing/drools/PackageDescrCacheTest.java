@@ -0,0 +1,93 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.workbench.common.services.refactoring.backend.server.indexing.drools;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class PackageDescrCacheTest {
+
+    private static final String DRL1 = "package org.kie.test\n" +
+            "rule R1\n" +
+            "when\n" +
+            "  $s : String()\n" +
+            "then\n" +
+            "end";
+
+    private static final String DRL2 = "package org.kie.test\n" +
+            "rule R2\n" +
+            "when\n" +
+            "  $i : Integer()\n" +
+            "then\n" +
+            "end";
+
+    private PackageDescrCache cache;
+
+    @Before
+    public void setup() {
+        cache = new PackageDescrCache(2);
+    }
+
+    @Test
+    public void testSameContentIsParsedOnce() {
+        final PackageDescrCache.ParsedDrl parsedDrl = cache.parse(DRL1);
+        assertFalse(parsedDrl.hasErrors());
+        assertEquals("org.kie.test",
+                     parsedDrl.getPackageDescr().getName());
+        assertEquals("R1",
+                     parsedDrl.getPackageDescr().getRules().get(0).getName());
+
+        assertSame(parsedDrl,
+                   cache.parse(new String(DRL1)));
+        assertNotSame(parsedDrl,
+                      cache.parse(DRL2));
+        assertEquals(2,
+                     cache.size());
+    }
+
+    @Test
+    public void testParserErrorsAreCached() {
+        final PackageDescrCache.ParsedDrl parsedDrl = cache.parse("rule R1 when then");
+        assertTrue(parsedDrl.hasErrors());
+        assertSame(parsedDrl,
+                   cache.parse("rule R1 when then"));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() {
+        final PackageDescrCache.ParsedDrl parsedDrl1 = cache.parse(DRL1);
+        cache.parse(DRL2);
+        cache.parse(DRL1);
+        cache.parse("package org.kie.other");
+
+        assertEquals(2,
+                     cache.size());
+        assertSame(parsedDrl1,
+                   cache.parse(DRL1));
+    }
+
+    @Test
+    public void testClear() {
+        final PackageDescrCache.ParsedDrl parsedDrl = cache.parse(DRL1);
+        cache.clear();
+        assertEquals(0,
+                     cache.size());
+        assertNotSame(parsedDrl,
+                      cache.parse(DRL1));
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.refactoring.backend.server.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.ext.metadata.MetadataConfig;
+import org.uberfire.ext.metadata.model.KObject;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RefactoringQueryServiceImplPagingTest {
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private MetadataConfig config;
+
+    @Mock
+    private NamedQueries namedQueries;
+
+    @Mock
+    private Query query;
+
+    private Sort sort = new Sort();
+
+    private RefactoringQueryServiceImpl service;
+
+    @Before
+    public void setup() {
+        service = new RefactoringQueryServiceImpl(config,
+                                                  namedQueries);
+        service.init();
+    }
+
+    @Test
+    public void testTopHitsOnlyFetchesRequestedWindow() {
+        final List<KObject> hits = kObjects("cluster",
+                                            15);
+        when(config.getIndexProvider().findByQuery(anyListOf(String.class),
+                                                   eq(query),
+                                                   eq(sort),
+                                                   eq(15))).thenReturn(hits);
+
+        final List<KObject> found = service.findTopHits(Collections.emptyList(),
+                                                        query,
+                                                        sort,
+                                                        10,
+                                                        5,
+                                                        false);
+
+        assertEquals(15,
+                     found.size());
+        verify(config.getIndexProvider(),
+               never()).findByQuery(anyListOf(String.class),
+                                    any(Query.class),
+                                    any(Sort.class),
+                                    eq(0));
+    }
+
+    @Test
+    public void testTopHitsWidensWindowForDistinctResults() {
+        final List<KObject> duplicated = new ArrayList<>();
+        duplicated.addAll(kObjects("cluster",
+                                   5));
+        duplicated.addAll(kObjects("cluster",
+                                   5));
+        final List<KObject> widened = new ArrayList<>(duplicated);
+        widened.addAll(kObjects("other",
+                                5));
+
+        when(config.getIndexProvider().findByQuery(anyListOf(String.class),
+                                                   eq(query),
+                                                   eq(sort),
+                                                   eq(10))).thenReturn(duplicated);
+        when(config.getIndexProvider().findByQuery(anyListOf(String.class),
+                                                   eq(query),
+                                                   eq(sort),
+                                                   eq(20))).thenReturn(widened);
+
+        final List<KObject> found = service.findTopHits(Collections.emptyList(),
+                                                        query,
+                                                        sort,
+                                                        0,
+                                                        10,
+                                                        true);
+
+        assertEquals(10,
+                     found.size());
+    }
+
+    @Test
+    public void testTopHitsStopsWhenIndexIsExhausted() {
+        final List<KObject> duplicated = new ArrayList<>();
+        duplicated.addAll(kObjects("cluster",
+                                   3));
+        duplicated.addAll(kObjects("cluster",
+                                   3));
+
+        when(config.getIndexProvider().findByQuery(anyListOf(String.class),
+                                                   eq(query),
+                                                   eq(sort),
+                                                   eq(10))).thenReturn(duplicated);
+
+        final List<KObject> found = service.findTopHits(Collections.emptyList(),
+                                                        query,
+                                                        sort,
+                                                        0,
+                                                        10,
+                                                        true);
+
+        assertEquals(3,
+                     found.size());
+        verify(config.getIndexProvider(),
+               times(1)).findByQuery(anyListOf(String.class),
+                                     any(Query.class),
+                                     any(Sort.class),
+                                     anyInt());
+    }
+
+    private List<KObject> kObjects(final String clusterId,
+                                   final int count) {
+        final List<KObject> kObjects = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final KObject kObject = mock(KObject.class);
+            when(kObject.getClusterId()).thenReturn(clusterId);
+            when(kObject.getKey()).thenReturn("default://master@repo/file" + i);
+            kObjects.add(kObject);
+        }
+        return kObjects;
+    }
+}
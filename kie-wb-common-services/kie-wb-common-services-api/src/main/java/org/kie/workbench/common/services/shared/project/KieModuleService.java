@@ -15,8 +15,12 @@
  */
 package org.kie.workbench.common.services.shared.project;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.guvnor.common.services.project.service.ModuleService;
 import org.jboss.errai.bus.server.annotations.Remote;
+import org.uberfire.backend.vfs.Path;
 
 /**
  * KIE specific implementation of ModuleService
@@ -25,4 +29,10 @@ import org.jboss.errai.bus.server.annotations.Remote;
 public interface KieModuleService
         extends ModuleService<KieModule> {
 
+    /**
+     * Resolves the Modules of the given resources, loading each Module's POM at most once.
+     * @param resources The resources to resolve.
+     * @return Map of resource to the Module it belongs to. Resources not within a Module are mapped to null.
+     */
+    Map<Path, KieModule> resolveModules(final Collection<Path> resources);
 }
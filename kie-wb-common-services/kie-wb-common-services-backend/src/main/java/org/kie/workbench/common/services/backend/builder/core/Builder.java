@@ -110,6 +110,7 @@ public class Builder implements Serializable {
     private final Set<String> javaResources = new HashSet<String>();
     private final Predicate<String> classFilter;
     private KieBuilder kieBuilder;
+    private volatile long version = 0;
     private LRUModuleDependenciesClassLoaderCache dependenciesClassLoaderCache;
     private LRUPomModelCache pomModelCache;
     private PackageNameWhiteListService packageNameWhiteListService;
@@ -206,6 +207,7 @@ public class Builder implements Serializable {
         synchronized (kieFileSystem) {
             //KieBuilder is not re-usable for successive "full" builds
             kieBuilder = createKieBuilder(kieFileSystem);
+            version++;
 
             //Record RTEs from KieBuilder - that can fail if a rule uses an inaccessible class
             try {
@@ -364,6 +366,7 @@ public class Builder implements Serializable {
 
         kieFileSystem.write(destinationPath,
                             inputStreamResource);
+        version++;
         handles.put(getBaseFileName(destinationPath),
                     Paths.convert(path));
         addJavaClass(path);
@@ -394,9 +397,51 @@ public class Builder implements Serializable {
 
     private void removeResource(final Path resource) {
         kieFileSystem.delete(destinationPath(resource));
+        version++;
         removeJavaClass(resource);
     }
 
+    /**
+     * Restores the resource in this Builder to its state in the given Builder, undoing changes made to a clone of the
+     * given Builder. The restored content is built incrementally, so that nothing defined by the changed content
+     * remains in the KieModule, and the "external" validation state of the resource is copied from the given Builder.
+     */
+    public void restoreResource(final Path resource,
+                                final Builder source) {
+        final String destinationPath = destinationPath(resource);
+        final byte[] content;
+        final BuildValidationHelper validator;
+        final List<ValidationMessage> validationMessages;
+        synchronized (source.kieFileSystem) {
+            content = ((KieFileSystemImpl) source.kieFileSystem).getMfs().getBytes(destinationPath);
+            validator = source.nonKieResourceValidationHelpers.get(resource);
+            validationMessages = source.nonKieResourceValidationHelperMessages.get(resource);
+        }
+
+        if (validator == null) {
+            nonKieResourceValidationHelpers.remove(resource);
+            nonKieResourceValidationHelperMessages.remove(resource);
+        } else {
+            nonKieResourceValidationHelpers.put(resource,
+                                                validator);
+            nonKieResourceValidationHelperMessages.put(resource,
+                                                       validationMessages);
+        }
+
+        synchronized (kieFileSystem) {
+            if (content == null) {
+                kieFileSystem.delete(destinationPath);
+                removeJavaClass(resource);
+            } else {
+                kieFileSystem.write(destinationPath,
+                                    content);
+                addJavaClass(resource);
+            }
+            buildIncrementally(new IncrementalBuildResults(projectGAV),
+                               destinationPath);
+        }
+    }
+
     private String destinationPath(final Path resource) {
         final String destinationPath = resource.toUri().toString().substring(projectPrefix.length());
 
@@ -622,6 +667,13 @@ public class Builder implements Serializable {
         return kieBuilder != null;
     }
 
+    /**
+     * Returns a counter that changes whenever the content of the KieFileSystem or the KieBuilder changes.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     private void visitPaths(final DirectoryStream<Path> directoryStream) {
         for (final Path path : directoryStream) {
             if (Files.isDirectory(path)) {
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.builder.core;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of module dependencies class loaders keyed by the resolved dependency set, so modules depending on the
+ * same artifacts share a single class loader instance (and the classes it loads) instead of one per module.
+ * <p>
+ * The dependency set key is built from the sorted artifact locations plus their size and last modification time,
+ * so a rebuilt snapshot artifact produces a different key. Each pooled class loader keeps track of the modules
+ * referencing it. When the total weight (number of artifacts) goes over the limit, unreferenced class loaders are
+ * evicted first, in least recently used order.
+ */
+class DependenciesClassLoaderPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(DependenciesClassLoaderPool.class);
+
+    static final String MAX_WEIGHT_PROPERTY = "org.kie.workbench.dependencies.classloader.pool.max.artifacts";
+    static final int DEFAULT_MAX_WEIGHT = 5000;
+
+    private final int maxWeight;
+    private final Map<String, PooledClassLoader> pool = new LinkedHashMap<>(16,
+                                                                           0.75f,
+                                                                           true);
+    private final Map<String, String> moduleKeys = new HashMap<>();
+    private int weight = 0;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    DependenciesClassLoaderPool() {
+        this(Integer.getInteger(MAX_WEIGHT_PROPERTY,
+                                DEFAULT_MAX_WEIGHT));
+    }
+
+    DependenciesClassLoaderPool(final int maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * Returns the pooled class loader for the same dependency set as the given one, pooling the given class loader
+     * if there is none yet. The module is registered as a reference to the returned class loader, releasing any
+     * class loader it referenced before.
+     * @param moduleId Identifier of the module the class loader is for.
+     * @param classLoader The module dependencies class loader, as resolved for the module.
+     */
+    synchronized ClassLoader share(final String moduleId,
+                                   final URLClassLoader classLoader) {
+        final String key = buildKey(classLoader.getURLs());
+        release(moduleId);
+        PooledClassLoader pooled = pool.get(key);
+        if (pooled == null) {
+            misses.incrementAndGet();
+            pooled = new PooledClassLoader(classLoader,
+                                           Math.max(1,
+                                                    classLoader.getURLs().length));
+            pool.put(key,
+                     pooled);
+            weight += pooled.weight;
+        } else {
+            hits.incrementAndGet();
+        }
+        pooled.modules.add(moduleId);
+        moduleKeys.put(moduleId,
+                       key);
+        evict();
+        return pooled.classLoader;
+    }
+
+    /**
+     * Releases the reference the given module holds on its pooled class loader, if any.
+     */
+    synchronized void release(final String moduleId) {
+        final String key = moduleKeys.remove(moduleId);
+        if (key != null) {
+            final PooledClassLoader pooled = pool.get(key);
+            if (pooled != null) {
+                pooled.modules.remove(moduleId);
+            }
+        }
+    }
+
+    /**
+     * Releases the references held by the modules other than the given ones.
+     */
+    synchronized void retain(final Set<String> moduleIds) {
+        for (String moduleId : new ArrayList<>(moduleKeys.keySet())) {
+            if (!moduleIds.contains(moduleId)) {
+                release(moduleId);
+            }
+        }
+    }
+
+    synchronized int size() {
+        return pool.size();
+    }
+
+    synchronized int getWeight() {
+        return weight;
+    }
+
+    /**
+     * @return The number of modules referencing a pooled class loader
+     */
+    synchronized int getReferences() {
+        return moduleKeys.size();
+    }
+
+    synchronized int getReferences(final ClassLoader classLoader) {
+        for (PooledClassLoader pooled : pool.values()) {
+            if (pooled.classLoader == classLoader) {
+                return pooled.modules.size();
+            }
+        }
+        return 0;
+    }
+
+    long getHits() {
+        return hits.get();
+    }
+
+    long getMisses() {
+        return misses.get();
+    }
+
+    long getEvictions() {
+        return evictions.get();
+    }
+
+    private void evict() {
+        if (weight <= maxWeight) {
+            return;
+        }
+        evict(true);
+        evict(false);
+    }
+
+    private void evict(final boolean onlyUnreferenced) {
+        final Iterator<Map.Entry<String, PooledClassLoader>> iterator = pool.entrySet().iterator();
+        while (weight > maxWeight && iterator.hasNext()) {
+            final Map.Entry<String, PooledClassLoader> entry = iterator.next();
+            final PooledClassLoader pooled = entry.getValue();
+            if (onlyUnreferenced && !pooled.modules.isEmpty()) {
+                continue;
+            }
+            // Referencing modules keep their class loader, they just stop sharing it.
+            iterator.remove();
+            pooled.modules.forEach(moduleKeys::remove);
+            weight -= pooled.weight;
+            evictions.incrementAndGet();
+            logger.debug("Evicted dependencies class loader for {} artifacts from the pool.",
+                         pooled.weight);
+        }
+    }
+
+    static String buildKey(final URL[] urls) {
+        final List<String> artifacts = new ArrayList<>(urls.length);
+        for (URL url : urls) {
+            artifacts.add(fingerprint(url));
+        }
+        Collections.sort(artifacts);
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String artifact : artifacts) {
+                digest.update(artifact.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            final StringBuilder key = new StringBuilder();
+            for (byte b : digest.digest()) {
+                key.append(String.format("%02x",
+                                         b));
+            }
+            return key.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String fingerprint(final URL url) {
+        if ("file".equals(url.getProtocol())) {
+            try {
+                final File file = new File(url.toURI());
+                return file.getAbsolutePath() + ":" + file.length() + ":" + file.lastModified();
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                logger.debug("Unable to resolve artifact file for {}.",
+                             url);
+            }
+        }
+        return url.toExternalForm();
+    }
+
+    private static class PooledClassLoader {
+
+        private final ClassLoader classLoader;
+        private final int weight;
+        private final Set<String> modules = new HashSet<>();
+
+        private PooledClassLoader(final ClassLoader classLoader,
+                                  final int weight) {
+            this.classLoader = classLoader;
+            this.weight = weight;
+        }
+    }
+}
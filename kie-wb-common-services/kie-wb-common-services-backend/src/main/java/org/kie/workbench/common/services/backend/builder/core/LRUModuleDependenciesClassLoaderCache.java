@@ -17,6 +17,8 @@
 package org.kie.workbench.common.services.backend.builder.core;
 
 import java.net.URLClassLoader;
+import java.util.HashSet;
+import java.util.Set;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
@@ -32,6 +34,8 @@ import org.kie.workbench.common.services.shared.project.KieModule;
 public class LRUModuleDependenciesClassLoaderCache
         extends LRUCache<KieModule, ClassLoader> {
 
+    private final DependenciesClassLoaderPool classLoaderPool = new DependenciesClassLoaderPool();
+
     private BuildInfoService buildInfoService;
 
     public LRUModuleDependenciesClassLoaderCache() {
@@ -49,9 +53,15 @@ public class LRUModuleDependenciesClassLoaderCache
     public ClassLoader assertDependenciesClassLoader(final KieModule module) {
         ClassLoader classLoader = getEntry(module);
         if (classLoader == null) {
+            //The dependencies are resolved outside the lock, it can take long
             classLoader = buildClassLoader(module);
-            setEntry(module,
-                     classLoader);
+            synchronized (this) {
+                classLoader = share(module,
+                                    classLoader);
+                setEntry(module,
+                         classLoader);
+                releaseEvictedModules();
+            }
         }
         return classLoader;
     }
@@ -81,10 +91,70 @@ public class LRUModuleDependenciesClassLoaderCache
         }
     }
 
-    public void setDependenciesClassLoader(final KieModule module,
-                                                        final ClassLoader classLoader) {
+    public synchronized void setDependenciesClassLoader(final KieModule module,
+                                                       final ClassLoader classLoader) {
         setEntry(module,
-                 classLoader);
+                 share(module,
+                       classLoader));
+        releaseEvictedModules();
+    }
+
+    @Override
+    public synchronized void invalidateCache() {
+        super.invalidateCache();
+        releaseEvictedModules();
+    }
+
+    @Override
+    public synchronized void invalidateCache(final KieModule module) {
+        super.invalidateCache(module);
+        releaseEvictedModules();
+    }
+
+    /**
+     * Modules resolving the same set of dependencies share the same class loader, see {@link DependenciesClassLoaderPool}.
+     */
+    private ClassLoader share(final KieModule module,
+                              final ClassLoader classLoader) {
+        if (classLoader instanceof URLClassLoader && module.getRootPath() != null) {
+            return classLoaderPool.share(module.getRootPath().toURI(),
+                                         (URLClassLoader) classLoader);
+        }
+        return classLoader;
+    }
+
+    /**
+     * The LRU eviction of a module is silent, so the pool references of the modules no longer cached are released
+     * each time an entry is added or removed.
+     */
+    private void releaseEvictedModules() {
+        final Set<String> moduleIds = new HashSet<>();
+        for (KieModule module : getKeys()) {
+            if (module.getRootPath() != null) {
+                moduleIds.add(module.getRootPath().toURI());
+            }
+        }
+        classLoaderPool.retain(moduleIds);
+    }
+
+    DependenciesClassLoaderPool getClassLoaderPool() {
+        return classLoaderPool;
+    }
+
+    public long getSharedClassLoaderHits() {
+        return classLoaderPool.getHits();
+    }
+
+    public long getSharedClassLoaderMisses() {
+        return classLoaderPool.getMisses();
+    }
+
+    public long getSharedClassLoaderEvictions() {
+        return classLoaderPool.getEvictions();
+    }
+
+    public int getSharedClassLoaderCount() {
+        return classLoaderPool.size();
     }
 
     private ClassLoader buildClassLoader(final KieModule module) {
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.builder.core;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.guvnor.common.services.backend.cache.LRUCache;
+import org.guvnor.common.services.project.builder.events.InvalidateDMOModuleCacheEvent;
+import org.guvnor.common.services.project.model.Module;
+import org.kie.soup.commons.validation.PortablePreconditions;
+import org.uberfire.commons.concurrent.Managed;
+import org.uberfire.java.nio.file.Path;
+
+/**
+ * A simple LRU cache, per Module, of the Builders used to validate single resources. Validation Builders are cloned
+ * from the Module's Builder and re-used, with the validated resource restored, for as long as that Builder does not
+ * change; rather than cloning the whole Builder for every validation request. Restoring the validated resource
+ * builds it again, so it is done in the background and a validation Builder is only re-used once it completed.
+ */
+@ApplicationScoped
+@Named("LRUValidationBuilderCache")
+public class LRUValidationBuilderCache extends LRUCache<Module, LRUValidationBuilderCache.ValidationBuilders> {
+
+    static final int MAX_IDLE_BUILDERS = 1;
+
+    private ExecutorService executorService;
+
+    public LRUValidationBuilderCache() {
+        //CDI proxies
+    }
+
+    @Inject
+    public LRUValidationBuilderCache(final @Managed ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    public void invalidateProjectCache(@Observes final InvalidateDMOModuleCacheEvent event) {
+        PortablePreconditions.checkNotNull("event",
+                                           event);
+        final Module project = event.getModule();
+
+        //If resource was not within a Module there's nothing to invalidate
+        if (project != null) {
+            invalidateCache(project);
+        }
+    }
+
+    /**
+     * Returns a Builder, equivalent to a clone of the given Module Builder, to validate a resource with.
+     * It must be released with {@link #releaseBuilder(Module, Builder, Builder, Path)} once the validation completes.
+     */
+    public Builder borrowBuilder(final Module module,
+                                 final Builder builder) {
+        final ValidationBuilders validationBuilders;
+        synchronized (this) {
+            validationBuilders = assertValidationBuilders(module,
+                                                          builder);
+            final Builder validationBuilder = validationBuilders.idle.poll();
+            if (validationBuilder != null) {
+                validationBuilders.borrowed.add(validationBuilder);
+                return validationBuilder;
+            }
+        }
+
+        //Cloning is expensive, don't block validations of other Modules
+        final Builder validationBuilder = builder.clone();
+        synchronized (this) {
+            if (validationBuilders == getEntry(module)) {
+                validationBuilders.borrowed.add(validationBuilder);
+            }
+        }
+        return validationBuilder;
+    }
+
+    /**
+     * Returns the validation Builder to the pool once the validated resource has been restored, in the background, to
+     * its state in the Module Builder. Validation Builders cloned from a Module Builder that changed since are
+     * discarded.
+     */
+    public void releaseBuilder(final Module module,
+                               final Builder builder,
+                               final Builder validationBuilder,
+                               final Path resource) {
+        final ValidationBuilders validationBuilders;
+        synchronized (this) {
+            validationBuilders = getEntry(module);
+            if (validationBuilders == null || !validationBuilders.borrowed.remove(validationBuilder)) {
+                return;
+            }
+            if (!validationBuilders.isCurrent(builder) || validationBuilders.idle.size() >= MAX_IDLE_BUILDERS) {
+                return;
+            }
+        }
+
+        //Restoring builds the resource again, keep it off the validation request
+        try {
+            executorService.execute(() -> restoreBuilder(module,
+                                                         builder,
+                                                         validationBuilders,
+                                                         validationBuilder,
+                                                         resource));
+        } catch (RejectedExecutionException e) {
+            //The validation Builder is discarded, the next validation clones the Module Builder
+        }
+    }
+
+    private void restoreBuilder(final Module module,
+                                final Builder builder,
+                                final ValidationBuilders validationBuilders,
+                                final Builder validationBuilder,
+                                final Path resource) {
+        validationBuilder.restoreResource(resource,
+                                          builder);
+        synchronized (this) {
+            if (validationBuilders == getEntry(module) && validationBuilders.isCurrent(builder)
+                    && validationBuilders.idle.size() < MAX_IDLE_BUILDERS) {
+                validationBuilders.idle.push(validationBuilder);
+            }
+        }
+    }
+
+    private ValidationBuilders assertValidationBuilders(final Module module,
+                                                        final Builder builder) {
+        ValidationBuilders validationBuilders = getEntry(module);
+        if (validationBuilders == null || !validationBuilders.isCurrent(builder)) {
+            validationBuilders = new ValidationBuilders(builder);
+            setEntry(module,
+                     validationBuilders);
+        }
+        return validationBuilders;
+    }
+
+    public static class ValidationBuilders {
+
+        private final Builder builder;
+        private final long version;
+        private final Deque<Builder> idle = new ArrayDeque<>();
+        private final Set<Builder> borrowed = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        private ValidationBuilders(final Builder builder) {
+            this.builder = builder;
+            this.version = builder.getVersion();
+        }
+
+        private boolean isCurrent(final Builder builder) {
+            return this.builder == builder && this.version == builder.getVersion();
+        }
+
+        int getIdleBuilders() {
+            return idle.size();
+        }
+    }
+}
@@ -39,6 +39,7 @@ import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.TimeUnit;
 
 import com.google.common.base.Charsets;
 import com.google.common.io.Files;
@@ -120,6 +121,10 @@ public class AFMavenCli {
     private static final Logger logger = LoggerFactory.getLogger(AFMavenCli.class);
     private static final String EXT_CLASS_PATH = "maven.ext.class.path";
     private static final String EXTENSIONS_FILENAME = ".mvn/extensions.xml";
+    public static final String PHASE_SETUP = "setup";
+    public static final String PHASE_CONTAINER = "container";
+    public static final String PHASE_CONFIGURE = "configure";
+    public static final String PHASE_EXECUTE = "execute";
     private LoggerManager plexusLoggerManager;
 
     private ILoggerFactory slf4jLoggerFactory;
@@ -142,12 +147,39 @@ public class AFMavenCli {
 
     private PrintStream output;
 
+    private final boolean keepContainer;
+
+    //The container kept between executions, with the key of the configuration it was created for
+    private DefaultPlexusContainer warmContainer;
+
+    private String warmContainerKey;
+
+    private ClassWorld warmClassWorld;
+
+    //Shared with Maven plugins as "kieMap" by the kept container, the content is exchanged with each request's map
+    private final HashMap<String, Object> warmKieMap = new HashMap<>();
+
+    private final Map<String, Long> lastPhaseTimings = new LinkedHashMap<>();
+
     public AFMavenCli() {
-        this.output = System.out;
+        this(System.out);
     }
 
     public AFMavenCli(PrintStream output) {
+        this(output,
+             false);
+    }
+
+    /**
+     * @param keepContainer if true the Plexus container, with its plugin realms and caches, is created once and re-used
+     * by the following executions with the same project directory, extensions and ext class path, and with no ClassWorld
+     * or the same ClassWorld in their request. Such an AFMavenCli must not run concurrent executions and must be closed
+     * with {@link #disposeContainer()}.
+     */
+    public AFMavenCli(PrintStream output,
+                      boolean keepContainer) {
         this.output = output;
+        this.keepContainer = keepContainer;
     }
 
     private static <T> List<T> reverse(List<T> list) {
@@ -248,20 +280,31 @@ public class AFMavenCli {
                       ClassWorld classWorld) {
 
         PlexusContainer localContainer = null;
+        lastPhaseTimings.clear();
+        long start = System.nanoTime();
         try {
             initialize(cliRequest);
             cli(cliRequest);
             logging(cliRequest);
             version(cliRequest);
             properties(cliRequest);
+            start = recordPhase(PHASE_SETUP,
+                                start);
             localContainer = container(cliRequest,
                                        classWorld);
+            start = recordPhase(PHASE_CONTAINER,
+                                start);
             commands(cliRequest);
             configure(cliRequest);
             toolchains(cliRequest);
             populateRequest(cliRequest);
             repository(cliRequest);
-            return execute(cliRequest);
+            start = recordPhase(PHASE_CONFIGURE,
+                                start);
+            final int exitCode = execute(cliRequest);
+            recordPhase(PHASE_EXECUTE,
+                        start);
+            return exitCode;
         } catch (ExitException e) {
             e.getStackTrace();
             return e.exitCode;
@@ -284,13 +327,80 @@ public class AFMavenCli {
 
             return 1;
         } finally {
-            if (localContainer != null) {
+            if (localContainer != null && localContainer != warmContainer) {
                 localContainer.dispose();
                 localContainer = null;
             }
+            if (keepContainer) {
+                cliRequest.getMap().putAll(warmKieMap);
+                warmKieMap.clear();
+            }
+            if (logger.isDebugEnabled()) {
+                logger.debug("Maven execution {} phase timings (ms): {}",
+                             cliRequest.getRequestUUID(),
+                             lastPhaseTimings);
+            }
         }
     }
 
+    private long recordPhase(final String phase,
+                             final long start) {
+        final long end = System.nanoTime();
+        lastPhaseTimings.put(phase,
+                             TimeUnit.NANOSECONDS.toMillis(end - start));
+        return end;
+    }
+
+    /**
+     * @return The duration in milliseconds of each phase completed by the last execution, in execution order
+     */
+    public Map<String, Long> getLastPhaseTimings() {
+        return Collections.unmodifiableMap(lastPhaseTimings);
+    }
+
+    /**
+     * @return The key of the configuration the kept container was created for, null if there's none
+     */
+    public String getWarmContainerKey() {
+        return warmContainerKey;
+    }
+
+    /**
+     * Disposes the container kept between executions, if any
+     */
+    public void disposeContainer() {
+        if (warmContainer != null) {
+            warmContainer.dispose();
+            warmContainer = null;
+            warmContainerKey = null;
+            warmClassWorld = null;
+        }
+    }
+
+    /**
+     * The key of the configuration a container is created for: the project directory, the ext class path and the
+     * core extensions declared by the project.
+     */
+    public static String getContainerKey(String multiModuleProjectDirectory,
+                                         String extClassPath) {
+        final StringBuilder sb = new StringBuilder().append(multiModuleProjectDirectory).append('|').append(extClassPath);
+        if (multiModuleProjectDirectory != null) {
+            final File extensionsFile = new File(multiModuleProjectDirectory,
+                                                 EXTENSIONS_FILENAME);
+            sb.append('|').append(extensionsFile.lastModified());
+        }
+        return sb.toString();
+    }
+
+    private String getContainerKey(AFCliRequest cliRequest) {
+        String extClassPath = cliRequest.getUserProperties().getProperty(EXT_CLASS_PATH);
+        if (extClassPath == null) {
+            extClassPath = cliRequest.getSystemProperties().getProperty(EXT_CLASS_PATH);
+        }
+        return getContainerKey(cliRequest.getMultiModuleProjectDirectory(),
+                               extClassPath);
+    }
+
     protected void initialize(AFCliRequest cliRequest)
             throws ExitException {
 
@@ -438,6 +548,19 @@ public class AFMavenCli {
                                         ClassWorld classWorld)
             throws Exception {
 
+        final String containerKey = keepContainer ? getContainerKey(cliRequest) : null;
+        if (warmContainer != null) {
+            //The realms of the kept container belong to its ClassWorld, a request with another ClassWorld needs a new one
+            final ClassWorld requestClassWorld = cliRequest.getClassWorld();
+            if (containerKey.equals(warmContainerKey) && (requestClassWorld == null || requestClassWorld == warmClassWorld)) {
+                cliRequest.setClassWorld(warmClassWorld);
+                warmKieMap.putAll(cliRequest.getMap());
+                return prepareContainer(cliRequest,
+                                        warmContainer);
+            }
+            disposeContainer();
+        }
+
         if (cliRequest.getClassWorld() == null) {
             /**
              The classworld is now Created in the NioMavenCompiler and in the InternalNioDefaultMaven compielr for this reasons:
@@ -493,9 +616,16 @@ public class AFMavenCli {
                                                                       });
 
         //This is used to share informations at runtime between Maven plugins and our compiler
-        container.addComponent(cliRequest.getMap(),
-                               HashMap.class,
-                               "kieMap");
+        if (keepContainer) {
+            warmKieMap.putAll(cliRequest.getMap());
+            container.addComponent(warmKieMap,
+                                   HashMap.class,
+                                   "kieMap");
+        } else {
+            container.addComponent(cliRequest.getMap(),
+                                   HashMap.class,
+                                   "kieMap");
+        }
 
         // NOTE: To avoid inconsistencies, we'll use the TCCL exclusively for lookups
         container.setLookupRealm(null);
@@ -508,6 +638,23 @@ public class AFMavenCli {
 
         customizeContainer(container);
 
+        if (keepContainer) {
+            warmContainer = container;
+            warmContainerKey = containerKey;
+            warmClassWorld = cliRequest.getClassWorld();
+        }
+
+        return prepareContainer(cliRequest,
+                                container);
+    }
+
+    /**
+     * Sets up a new or kept container for an execution
+     */
+    protected PlexusContainer prepareContainer(AFCliRequest cliRequest,
+                                               DefaultPlexusContainer container)
+            throws Exception {
+        container.setLoggerManager(plexusLoggerManager);
         container.getLoggerManager().setThresholds(cliRequest.getRequest().getLoggingLevel());
         Thread.currentThread().setContextClassLoader(container.getContainerRealm());
         eventSpyDispatcher = container.lookup(EventSpyDispatcher.class);
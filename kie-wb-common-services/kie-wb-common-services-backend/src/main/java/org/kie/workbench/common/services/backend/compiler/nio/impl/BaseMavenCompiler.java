@@ -21,7 +21,6 @@ import java.util.List;
 import org.codehaus.plexus.classworlds.ClassWorld;
 import org.kie.workbench.common.services.backend.compiler.CompilationResponse;
 import org.kie.workbench.common.services.backend.compiler.configuration.Compilers;
-import org.kie.workbench.common.services.backend.compiler.external339.AFMavenCli;
 import org.kie.workbench.common.services.backend.compiler.impl.ProcessedPoms;
 import org.kie.workbench.common.services.backend.compiler.nio.AFCompiler;
 import org.kie.workbench.common.services.backend.compiler.nio.CompilationRequest;
@@ -47,12 +46,12 @@ public abstract class BaseMavenCompiler<T extends CompilationResponse> implement
 
     private static final Logger logger = LoggerFactory.getLogger(BaseMavenCompiler.class);
 
-    private AFMavenCli cli;
+    //Shared by all the compilers, so the bound on concurrent builds and the warm containers are global
+    private static final MavenCliPool cliPool = new MavenCliPool();
 
     private IncrementalCompilerEnabler enabler;
 
     public BaseMavenCompiler() {
-        cli = new AFMavenCli();
         enabler = new DefaultIncrementalCompilerEnabler(Compilers.JAVAC);
     }
 
@@ -94,8 +93,8 @@ public abstract class BaseMavenCompiler<T extends CompilationResponse> implement
         ClassLoader original = Thread.currentThread().getContextClassLoader();
         ClassWorld kieClassWorld = new ClassWorld("plexus.core",
                                                   getClass().getClassLoader());
-        int exitCode = cli.doMain(req.getKieCliRequest(),
-                                  kieClassWorld);
+        int exitCode = cliPool.doMain(req.getKieCliRequest(),
+                                      kieClassWorld);
         Thread.currentThread().setContextClassLoader(original);
         if (exitCode == 0) {
             return (T) buildDefaultCompilationResponse(Boolean.TRUE);
@@ -104,6 +103,13 @@ public abstract class BaseMavenCompiler<T extends CompilationResponse> implement
         }
     }
 
+    /**
+     * @return The pool running the Maven builds of all the compilers
+     */
+    public static MavenCliPool getCliPool() {
+        return cliPool;
+    }
+
     protected abstract T buildDefaultCompilationResponse(final Boolean aFalse,
                                                          final String message,
                                                          final List<String> output);
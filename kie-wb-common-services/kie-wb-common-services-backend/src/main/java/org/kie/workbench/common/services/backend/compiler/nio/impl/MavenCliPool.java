@@ -0,0 +1,236 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.nio.impl;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.codehaus.plexus.classworlds.ClassWorld;
+import org.kie.workbench.common.services.backend.compiler.external339.AFCliRequest;
+import org.kie.workbench.common.services.backend.compiler.external339.AFMavenCli;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of AFMavenCli, optionally keeping their Maven container warm between builds.
+ * Containers are kept only when the system property {@value #KEEP_CONTAINERS} is set to true, otherwise a new
+ * container is created for every build and the builds aren't limited, as before.
+ * <p>
+ * When containers are kept, at most "size" builds run at the same time, further builds wait for a free AFMavenCli. A
+ * build is given, when possible, an AFMavenCli whose container was created for the same project so that the Plexus
+ * container, the plugin realms and Maven's caches are re-used. The size defaults to the number of available
+ * processors and can be set with the system property {@value #POOL_SIZE}.
+ * <p>
+ * The time spent in each phase of the builds is accumulated. The kept containers are disposed by
+ * {@link #close()}, called on application shutdown by {@link MavenCliPoolDisposer}.
+ */
+public class MavenCliPool {
+
+    public static final String POOL_SIZE = "org.kie.workbench.compiler.maven.pool.size";
+
+    public static final String KEEP_CONTAINERS = "org.kie.workbench.compiler.maven.keep.containers";
+
+    private static final Logger logger = LoggerFactory.getLogger(MavenCliPool.class);
+
+    private final boolean keepContainers;
+
+    private final Semaphore permits;
+
+    private final Deque<AFMavenCli> idle = new ArrayDeque<>();
+
+    private final Map<String, PhaseStatistics> statistics = new HashMap<>();
+
+    private boolean closed = false;
+
+    public MavenCliPool() {
+        this(Integer.getInteger(POOL_SIZE,
+                                Runtime.getRuntime().availableProcessors()),
+             Boolean.parseBoolean(System.getProperty(KEEP_CONTAINERS,
+                                                     "false")));
+    }
+
+    public MavenCliPool(final int size,
+                        final boolean keepContainers) {
+        this.permits = new Semaphore(Math.max(1,
+                                              size),
+                                     true);
+        this.keepContainers = keepContainers;
+    }
+
+    /**
+     * Runs a Maven build, waiting for a free AFMavenCli if containers are kept and the pool is exhausted.
+     * @param classWorld The ClassWorld to use if a new container has to be created
+     * @return The Maven exit code
+     */
+    public int doMain(final AFCliRequest cliRequest,
+                      final ClassWorld classWorld) {
+        if (keepContainers) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.error("Interrupted waiting to build {}",
+                             cliRequest.getMultiModuleProjectDirectory());
+                return 1;
+            }
+        }
+        AFMavenCli cli = null;
+        try {
+            cli = borrow(cliRequest);
+            return cli.doMain(cliRequest,
+                              classWorld);
+        } finally {
+            if (cli != null) {
+                record(cli.getLastPhaseTimings());
+                release(cli);
+            }
+            if (keepContainers) {
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * @return For each phase of the builds, the number of builds that completed it and the total time spent in it
+     */
+    public synchronized Map<String, PhaseStatistics> getPhaseStatistics() {
+        final Map<String, PhaseStatistics> copy = new HashMap<>();
+        for (Map.Entry<String, PhaseStatistics> e : statistics.entrySet()) {
+            copy.put(e.getKey(),
+                     new PhaseStatistics(e.getValue().getCount(),
+                                         e.getValue().getTotalMillis()));
+        }
+        return Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * Disposes the containers of the idle AFMavenCli
+     */
+    public synchronized void clear() {
+        for (AFMavenCli cli : idle) {
+            cli.disposeContainer();
+        }
+        idle.clear();
+    }
+
+    /**
+     * Disposes the containers of the idle AFMavenCli, the ones in use are disposed when their build completes and
+     * the following builds don't keep their container
+     */
+    public synchronized void close() {
+        closed = true;
+        clear();
+    }
+
+    /**
+     * @return The number of idle AFMavenCli kept with their container
+     */
+    synchronized int getIdleCount() {
+        return idle.size();
+    }
+
+    int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    AFMavenCli newMavenCli(final boolean keepContainer) {
+        return new AFMavenCli(System.out,
+                              keepContainer);
+    }
+
+    private synchronized AFMavenCli borrow(final AFCliRequest cliRequest) {
+        if (!keepContainers || closed) {
+            return newMavenCli(false);
+        }
+        final String projectDirectory = cliRequest.getMultiModuleProjectDirectory();
+        final Iterator<AFMavenCli> iterator = idle.iterator();
+        while (iterator.hasNext()) {
+            final AFMavenCli cli = iterator.next();
+            final String containerKey = cli.getWarmContainerKey();
+            if (containerKey != null && containerKey.startsWith(projectDirectory + "|")) {
+                iterator.remove();
+                return cli;
+            }
+        }
+        //Re-use the least recently used container's AFMavenCli, its container is replaced by the build
+        final AFMavenCli cli = idle.pollLast();
+        return cli != null ? cli : newMavenCli(true);
+    }
+
+    private synchronized void release(final AFMavenCli cli) {
+        if (!keepContainers) {
+            return;
+        }
+        if (closed) {
+            cli.disposeContainer();
+        } else {
+            idle.addFirst(cli);
+        }
+    }
+
+    private synchronized void record(final Map<String, Long> timings) {
+        for (Map.Entry<String, Long> e : timings.entrySet()) {
+            statistics.computeIfAbsent(e.getKey(),
+                                       k -> new PhaseStatistics()).add(e.getValue());
+        }
+    }
+
+    public static class PhaseStatistics {
+
+        private final AtomicLong count;
+        private final AtomicLong totalMillis;
+
+        PhaseStatistics() {
+            this(0,
+                 0);
+        }
+
+        PhaseStatistics(final long count,
+                        final long totalMillis) {
+            this.count = new AtomicLong(count);
+            this.totalMillis = new AtomicLong(totalMillis);
+        }
+
+        void add(final long millis) {
+            count.incrementAndGet();
+            totalMillis.addAndGet(millis);
+        }
+
+        public long getCount() {
+            return count.get();
+        }
+
+        public long getTotalMillis() {
+            return totalMillis.get();
+        }
+
+        public long getAverageMillis() {
+            final long c = count.get();
+            return c == 0 ? 0 : totalMillis.get() / c;
+        }
+
+        @Override
+        public String toString() {
+            return "count=" + getCount() + ", total=" + getTotalMillis() + "ms, average=" + getAverageMillis() + "ms";
+        }
+    }
+}
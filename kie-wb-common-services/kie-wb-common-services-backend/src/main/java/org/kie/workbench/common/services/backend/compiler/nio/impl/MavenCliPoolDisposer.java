@@ -0,0 +1,35 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.compiler.nio.impl;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+
+import org.uberfire.commons.services.cdi.Startup;
+
+/**
+ * Disposes the Maven containers kept by the compilers' {@link MavenCliPool} when the application is shut down or
+ * redeployed.
+ */
+@ApplicationScoped
+@Startup
+public class MavenCliPoolDisposer {
+
+    @PreDestroy
+    public void dispose() {
+        BaseMavenCompiler.getCliPool().close();
+    }
+}
@@ -22,18 +22,21 @@ import java.util.List;
 import java.util.Map;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
+import javax.inject.Named;
 
 import org.guvnor.common.services.backend.exceptions.ExceptionUtilities;
 import org.jboss.errai.bus.server.annotations.Service;
-import org.kie.scanner.KieModuleMetaData;
 import org.kie.soup.project.datamodel.commons.util.MVELEvaluator;
 import org.kie.workbench.common.services.backend.builder.service.BuildInfoService;
+import org.kie.workbench.common.services.backend.project.ModuleClassLoaderHelper;
 import org.kie.workbench.common.services.shared.enums.EnumDropdownService;
 import org.kie.workbench.common.services.shared.project.KieModule;
 import org.kie.workbench.common.services.shared.project.KieModuleService;
 import org.mvel2.MVEL;
 import org.mvel2.ParserConfiguration;
 import org.mvel2.ParserContext;
+import org.mvel2.templates.CompiledTemplate;
+import org.mvel2.templates.TemplateCompiler;
 import org.mvel2.templates.TemplateRuntime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -54,6 +57,13 @@ public class EnumDropdownServiceImpl implements EnumDropdownService {
     @Inject
     private MVELEvaluator mvelEvaluator;
 
+    @Inject
+    private ModuleClassLoaderHelper classLoaderHelper;
+
+    @Inject
+    @Named("LRUEnumExpressionCache")
+    private LRUEnumExpressionCache expressionCache;
+
     @Override
     public String[] loadDropDownExpression(final Path resource,
                                            final String[] valuePairs,
@@ -65,23 +75,46 @@ public class EnumDropdownServiceImpl implements EnumDropdownService {
             logger.error("A Module could not be resolved for path '" + resource.toURI() + "'. No enums will be returned.");
             return null;
         }
-        final org.kie.api.builder.KieModule kieModule = buildInfoService.getBuildInfo(module).getKieModuleIgnoringErrors();
-        if (kieModule == null) {
+        final LRUEnumExpressionCache.ModuleEnumExpressions expressions = expressionCache.assertModuleExpressions(module,
+                                                                                                               () -> getModuleClassLoader(module));
+        if (expressions == null) {
             logger.error("A KieModule could not be resolved for path '" + resource.toURI() + "'. No enums will be returned.");
             return null;
         }
-        final ClassLoader classLoader = KieModuleMetaData.Factory.newKieModuleMetaData(kieModule).getClassLoader();
 
-        return loadDropDownExpression(classLoader,
+        return loadDropDownExpression(expressions,
                                       mvelEvaluator,
                                       valuePairs,
                                       expression);
     }
 
+    private ClassLoader getModuleClassLoader(final KieModule module) {
+        final org.kie.api.builder.KieModule kieModule = buildInfoService.getBuildInfo(module).getKieModuleIgnoringErrors();
+        if (kieModule == null) {
+            return null;
+        }
+        //Module classes on top of the cached dependencies class loader, instead of resolving a new KieModuleMetaData
+        return classLoaderHelper.getModuleClassLoader(module);
+    }
+
     protected String[] loadDropDownExpression(final ClassLoader classLoader,
                                               final MVELEvaluator mvelEvaluator,
                                               final String[] valuePairs,
-                                              String expression) {
+                                              final String expression) {
+        return loadDropDownExpression(new LRUEnumExpressionCache.ModuleEnumExpressions(classLoader),
+                                      mvelEvaluator,
+                                      valuePairs,
+                                      expression);
+    }
+
+    /**
+     * Both the expression template and the interpolated expression are compiled once per Module
+     * and reused, so only the execution happens on each request.
+     */
+    protected String[] loadDropDownExpression(final LRUEnumExpressionCache.ModuleEnumExpressions expressions,
+                                              final MVELEvaluator mvelEvaluator,
+                                              final String[] valuePairs,
+                                              final String expression) {
         try {
             final Map<String, String> context = new HashMap<String, String>();
             for (final String valuePair : valuePairs) {
@@ -100,16 +133,20 @@ public class EnumDropdownServiceImpl implements EnumDropdownService {
             }
 
             // first interpolate the pairs
-            expression = (String) TemplateRuntime.eval(expression,
-                                                       context);
+            final CompiledTemplate template = expressions.getTemplate(expression,
+                                                                      TemplateCompiler::compileTemplate);
+            final String interpolated = (String) TemplateRuntime.execute(template,
+                                                                         context);
 
             // now we can eval it for real...
-            final ParserConfiguration pconf = new ParserConfiguration();
-            final ParserContext pctx = new ParserContext(pconf);
-            pconf.setClassLoader(classLoader);
-
-            final Serializable compiled = MVEL.compileExpression(expression,
-                                                                 pctx);
+            final Serializable compiled = expressions.getExpression(interpolated,
+                                                                    e -> {
+                                                                        final ParserConfiguration pconf = new ParserConfiguration();
+                                                                        final ParserContext pctx = new ParserContext(pconf);
+                                                                        pconf.setClassLoader(expressions.getClassLoader());
+                                                                        return MVEL.compileExpression(e,
+                                                                                                      pctx);
+                                                                    });
             Object result = mvelEvaluator.executeExpression(compiled,
                                                             new HashMap<String, Object>());
 
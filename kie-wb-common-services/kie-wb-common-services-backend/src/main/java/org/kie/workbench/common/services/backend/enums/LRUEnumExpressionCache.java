@@ -0,0 +1,161 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.enums;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.guvnor.common.services.backend.cache.LRUCache;
+import org.guvnor.common.services.project.builder.events.InvalidateDMOModuleCacheEvent;
+import org.kie.soup.commons.validation.PortablePreconditions;
+import org.kie.workbench.common.services.shared.project.KieModule;
+import org.kie.workbench.common.services.shared.project.KieModuleService;
+import org.mvel2.templates.CompiledTemplate;
+import org.uberfire.backend.vfs.Path;
+
+/**
+ * A simple LRU cache, per Module, of the class loader and compiled MVEL expressions used to resolve dependent enums.
+ * Entries are dropped when the Module's DMO cache is invalidated, as the Module's classes may have changed.
+ */
+@ApplicationScoped
+@Named("LRUEnumExpressionCache")
+public class LRUEnumExpressionCache extends LRUCache<KieModule, LRUEnumExpressionCache.ModuleEnumExpressions> {
+
+    static final int MAX_EXPRESSIONS_PER_MODULE = 500;
+
+    private KieModuleService moduleService;
+
+    //Changes with every invalidation
+    private long generation;
+
+    public LRUEnumExpressionCache() {
+        //CDI proxy
+    }
+
+    @Inject
+    public LRUEnumExpressionCache(final KieModuleService moduleService) {
+        this.moduleService = moduleService;
+    }
+
+    public void invalidateModuleCache(@Observes final InvalidateDMOModuleCacheEvent event) {
+        PortablePreconditions.checkNotNull("event",
+                                           event);
+        final Path resourcePath = event.getResourcePath();
+        final KieModule module = moduleService.resolveModule(resourcePath);
+        if (module != null) {
+            invalidateCache(module);
+        }
+    }
+
+    /**
+     * Returns the cached expressions for the Module, creating them using the given class loader supplier if needed.
+     * Returns null if the supplier returns no class loader.
+     */
+    public ModuleEnumExpressions assertModuleExpressions(final KieModule module,
+                                                         final Supplier<ClassLoader> classLoaderSupplier) {
+        final long generation;
+        synchronized (this) {
+            final ModuleEnumExpressions expressions = getEntry(module);
+            if (expressions != null) {
+                return expressions;
+            }
+            generation = this.generation;
+        }
+
+        //The class loader is resolved outside the lock, it can take a build of the Module
+        final ClassLoader classLoader = classLoaderSupplier.get();
+        if (classLoader == null) {
+            return null;
+        }
+
+        synchronized (this) {
+            final ModuleEnumExpressions expressions = getEntry(module);
+            if (expressions != null) {
+                return expressions;
+            }
+            final ModuleEnumExpressions newExpressions = new ModuleEnumExpressions(classLoader);
+            //Don't cache a class loader resolved across an invalidation, the Module's classes may have changed
+            if (generation == this.generation) {
+                setEntry(module,
+                         newExpressions);
+            }
+            return newExpressions;
+        }
+    }
+
+    @Override
+    public synchronized void invalidateCache() {
+        generation++;
+        super.invalidateCache();
+    }
+
+    @Override
+    public synchronized void invalidateCache(final KieModule module) {
+        generation++;
+        super.invalidateCache(module);
+    }
+
+    public static class ModuleEnumExpressions {
+
+        private final ClassLoader classLoader;
+        private final Map<String, CompiledTemplate> templates = newBoundedMap();
+        private final Map<String, Serializable> expressions = newBoundedMap();
+
+        ModuleEnumExpressions(final ClassLoader classLoader) {
+            this.classLoader = classLoader;
+        }
+
+        public ClassLoader getClassLoader() {
+            return classLoader;
+        }
+
+        public CompiledTemplate getTemplate(final String template,
+                                            final Function<String, CompiledTemplate> compiler) {
+            return templates.computeIfAbsent(template,
+                                             compiler);
+        }
+
+        /**
+         * Compiled expressions are bound to the Module's class loader, which is part of this entry.
+         */
+        public Serializable getExpression(final String expression,
+                                          final Function<String, Serializable> compiler) {
+            return expressions.computeIfAbsent(expression,
+                                               compiler);
+        }
+
+        private static <V> Map<String, V> newBoundedMap() {
+            return Collections.synchronizedMap(new LinkedHashMap<String, V>(16,
+                                                                            0.75f,
+                                                                            true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<String, V> eldest) {
+                    return size() > MAX_EXPRESSIONS_PER_MODULE;
+                }
+            });
+        }
+    }
+}
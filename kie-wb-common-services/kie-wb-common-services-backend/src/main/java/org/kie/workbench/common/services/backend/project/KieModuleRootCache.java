@@ -0,0 +1,205 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.project;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import com.thoughtworks.xstream.XStream;
+import org.guvnor.common.services.project.events.DeleteModuleEvent;
+import org.guvnor.common.services.project.events.NewModuleEvent;
+import org.guvnor.common.services.project.model.POM;
+import org.kie.soup.commons.xstream.XStreamUtils;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.workbench.events.ResourceAddedEvent;
+import org.uberfire.workbench.events.ResourceBatchChangesEvent;
+import org.uberfire.workbench.events.ResourceChange;
+import org.uberfire.workbench.events.ResourceDeletedEvent;
+import org.uberfire.workbench.events.ResourceRenamed;
+import org.uberfire.workbench.events.ResourceRenamedEvent;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+import static org.guvnor.common.services.project.utils.ModuleResourcePaths.POM_PATH;
+import static org.kie.workbench.common.services.backend.project.KieModuleResourcePaths.KMODULE_PATH;
+
+/**
+ * Cache of the Module root resolved for resources and of the POMs loaded for Module roots, used by
+ * {@link KieResourceResolver} to avoid walking up the VFS and re-parsing pom.xml for every resource.
+ * Only resources that resolve to a valid KIE Module are cached. Entries are invalidated when a pom.xml
+ * or kmodule.xml is added, updated, renamed or deleted and when Modules are created or deleted.
+ * <p>
+ * POMs are mutable and each resolved Module gets its own, so they are cached serialized and every read returns a copy.
+ */
+@ApplicationScoped
+public class KieModuleRootCache {
+
+    static final int MAX_ENTRIES = 10000;
+
+    private static final String KMODULE_SUFFIX = "/" + KMODULE_PATH;
+
+    private final Map<String, org.uberfire.java.nio.file.Path> moduleRoots = new LinkedHashMap<String, org.uberfire.java.nio.file.Path>(16,
+                                                                                                                                    0.75f,
+                                                                                                                                    true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, org.uberfire.java.nio.file.Path> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private final Map<String, CachedPOM> poms = new HashMap<>();
+
+    private final XStream xs = XStreamUtils.createTrustingXStream();
+
+    public synchronized org.uberfire.java.nio.file.Path getModuleRoot(final org.uberfire.java.nio.file.Path path) {
+        return moduleRoots.get(toURI(path));
+    }
+
+    public synchronized void setModuleRoot(final Collection<org.uberfire.java.nio.file.Path> paths,
+                                           final org.uberfire.java.nio.file.Path moduleRoot) {
+        for (org.uberfire.java.nio.file.Path path : paths) {
+            moduleRoots.put(toURI(path),
+                            moduleRoot);
+        }
+    }
+
+    /**
+     * Returns the cached POM of the Module root, if it was loaded from a pom.xml with the given modification time.
+     * The modification time covers saves whose change events have not been observed yet.
+     * @return A copy of the cached POM, that the caller can change, or null
+     */
+    public POM getPom(final org.uberfire.java.nio.file.Path moduleRoot,
+                      final long lastModified) {
+        final CachedPOM cachedPOM;
+        synchronized (this) {
+            cachedPOM = poms.get(toURI(moduleRoot));
+        }
+        if (cachedPOM == null || cachedPOM.lastModified != lastModified) {
+            return null;
+        }
+        return (POM) xs.fromXML(cachedPOM.xml);
+    }
+
+    /**
+     * Caches a copy of the POM, later changes of the given POM are not cached.
+     */
+    public void setPom(final org.uberfire.java.nio.file.Path moduleRoot,
+                       final long lastModified,
+                       final POM pom) {
+        final CachedPOM cachedPOM = new CachedPOM(xs.toXML(pom),
+                                                  lastModified);
+        synchronized (this) {
+            poms.put(toURI(moduleRoot),
+                     cachedPOM);
+        }
+    }
+
+    public synchronized void invalidateCache() {
+        moduleRoots.clear();
+        poms.clear();
+    }
+
+    /**
+     * Drops the cached POM of the given Module root and every resource resolved either under or to it.
+     */
+    public synchronized void invalidateModuleRoot(final String moduleRootURI) {
+        final String prefix = moduleRootURI.endsWith("/") ? moduleRootURI : moduleRootURI + "/";
+        final Iterator<Map.Entry<String, org.uberfire.java.nio.file.Path>> iterator = moduleRoots.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<String, org.uberfire.java.nio.file.Path> entry = iterator.next();
+            final String key = entry.getKey();
+            if (key.equals(moduleRootURI) || key.startsWith(prefix) || toURI(entry.getValue()).equals(moduleRootURI)) {
+                iterator.remove();
+            }
+        }
+        poms.remove(moduleRootURI);
+    }
+
+    public void onResourceAdded(@Observes final ResourceAddedEvent event) {
+        onResourceChanged(event.getPath());
+    }
+
+    public void onResourceUpdated(@Observes final ResourceUpdatedEvent event) {
+        onResourceChanged(event.getPath());
+    }
+
+    public void onResourceDeleted(@Observes final ResourceDeletedEvent event) {
+        onResourceChanged(event.getPath());
+    }
+
+    public void onResourceRenamed(@Observes final ResourceRenamedEvent event) {
+        onResourceChanged(event.getPath());
+        onResourceChanged(event.getDestinationPath());
+    }
+
+    public void onBatchResourceChanges(@Observes final ResourceBatchChangesEvent event) {
+        for (final Map.Entry<Path, Collection<ResourceChange>> entry : event.getBatch().entrySet()) {
+            onResourceChanged(entry.getKey());
+            for (final ResourceChange change : entry.getValue()) {
+                if (change instanceof ResourceRenamed) {
+                    onResourceChanged(((ResourceRenamed) change).getDestinationPath());
+                }
+            }
+        }
+    }
+
+    public void onNewModule(@Observes final NewModuleEvent event) {
+        if (event.getModule() != null && event.getModule().getRootPath() != null) {
+            invalidateModuleRoot(event.getModule().getRootPath().toURI());
+        }
+    }
+
+    public void onDeleteModule(@Observes final DeleteModuleEvent event) {
+        if (event.getModule() != null && event.getModule().getRootPath() != null) {
+            invalidateModuleRoot(event.getModule().getRootPath().toURI());
+        }
+    }
+
+    private void onResourceChanged(final Path path) {
+        if (path == null) {
+            return;
+        }
+        final String uri = path.toURI();
+        if (POM_PATH.equals(path.getFileName())) {
+            invalidateModuleRoot(uri.substring(0,
+                                               uri.length() - POM_PATH.length() - 1));
+        } else if (uri.endsWith(KMODULE_SUFFIX)) {
+            invalidateModuleRoot(uri.substring(0,
+                                               uri.length() - KMODULE_SUFFIX.length()));
+        }
+    }
+
+    private static String toURI(final org.uberfire.java.nio.file.Path path) {
+        return path.toUri().toString();
+    }
+
+    private static class CachedPOM {
+
+        private final String xml;
+        private final long lastModified;
+
+        private CachedPOM(final String xml,
+                          final long lastModified) {
+            this.xml = xml;
+            this.lastModified = lastModified;
+        }
+    }
+}
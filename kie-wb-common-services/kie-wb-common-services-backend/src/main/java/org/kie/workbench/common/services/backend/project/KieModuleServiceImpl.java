@@ -16,6 +16,8 @@
 
 package org.kie.workbench.common.services.backend.project;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
@@ -53,6 +55,7 @@ public class KieModuleServiceImpl
 
     private ModuleSaver moduleSaver;
     private ModuleRepositoryResolver repositoryResolver;
+    private KieResourceResolver kieResourceResolver;
 
     public KieModuleServiceImpl() {
     }
@@ -84,6 +87,7 @@ public class KieModuleServiceImpl
               resourceResolver);
         this.moduleSaver = moduleSaver;
         this.repositoryResolver = repositoryResolver;
+        this.kieResourceResolver = resourceResolver;
     }
 
     protected void setModuleSaver(final ModuleSaver projectSaver) {
@@ -138,6 +142,11 @@ public class KieModuleServiceImpl
         return (KieModule) resourceResolver.resolveModule(resource, loadPOM);
     }
 
+    @Override
+    public Map<Path, KieModule> resolveModules(final Collection<Path> resources) {
+        return kieResourceResolver.resolveModules(resources);
+    }
+
     @Override
     public Module resolveParentModule(final Path resource) {
         return resourceResolver.resolveParentModule(resource);
@@ -16,6 +16,12 @@
 
 package org.kie.workbench.common.services.backend.project;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -44,6 +50,7 @@ public class KieResourceResolver
         extends ResourceResolver<KieModule> {
 
     private KModuleService kModuleService;
+    private KieModuleRootCache moduleRootCache;
 
     public KieResourceResolver() {
 
@@ -54,12 +61,14 @@ public class KieResourceResolver
                                final POMService pomService,
                                final CommentedOptionFactory commentedOptionFactory,
                                final KModuleService kModuleService,
-                               final Instance<ModuleResourcePathResolver> resourcePathResolversInstance) {
+                               final Instance<ModuleResourcePathResolver> resourcePathResolversInstance,
+                               final KieModuleRootCache moduleRootCache) {
         super(ioService,
               pomService,
               commentedOptionFactory,
               resourcePathResolversInstance);
         this.kModuleService = kModuleService;
+        this.moduleRootCache = moduleRootCache;
     }
 
     @Override
@@ -70,38 +79,108 @@ public class KieResourceResolver
                 return null;
             }
 
-            //Check if resource is the module root
-            org.uberfire.java.nio.file.Path path = Paths.convert(resource).normalize();
-
-            //A module root is the folder containing the pom.xml file. This will be the parent of the "src" folder
-            if (Files.isRegularFile(path)) {
-                path = path.getParent();
-            }
-            while (!hasPom(path)) {
-                path = path.getParent();
-                if (path == null) {
-                    return null;
-                }
-            }
-
-            if (!hasKModule(path)) {
+            final org.uberfire.java.nio.file.Path moduleRootPath = resolveModuleRoot(Paths.convert(resource).normalize());
+            if (moduleRootPath == null) {
                 return null;
             }
 
             if (loadPOM) {
-                return makeModule(path);
+                return makeModule(moduleRootPath);
             } else {
-                return simpleModuleInstance(path);
+                return simpleModuleInstance(moduleRootPath);
+            }
+        } catch (Exception e) {
+            throw ExceptionUtilities.handleException(e);
+        }
+    }
+
+    /**
+     * Resolves the Modules of the given resources. Resources within the same Module share the resolved instance,
+     * so the Module's POM is loaded at most once.
+     * @param resources The resources to resolve.
+     * @param loadPOM Whether the resolved Modules should have their POM loaded.
+     * @return Map of resource to the Module it belongs to. Resources not within a Module are mapped to null.
+     */
+    public Map<Path, KieModule> resolveModules(final Collection<Path> resources,
+                                               final boolean loadPOM) {
+        try {
+            final Map<Path, KieModule> modules = new LinkedHashMap<>();
+            final Map<org.uberfire.java.nio.file.Path, KieModule> modulesByRoot = new HashMap<>();
+            for (Path resource : resources) {
+                if (resource == null || modules.containsKey(resource)) {
+                    continue;
+                }
+                final org.uberfire.java.nio.file.Path moduleRootPath = resolveModuleRoot(Paths.convert(resource).normalize());
+                if (moduleRootPath == null) {
+                    modules.put(resource,
+                                null);
+                    continue;
+                }
+                modules.put(resource,
+                            modulesByRoot.computeIfAbsent(moduleRootPath,
+                                                          rootPath -> loadPOM ? makeModule(rootPath) : simpleModuleInstance(rootPath)));
             }
+            return modules;
         } catch (Exception e) {
             throw ExceptionUtilities.handleException(e);
         }
     }
 
+    public Map<Path, KieModule> resolveModules(final Collection<Path> resources) {
+        return resolveModules(resources,
+                              true);
+    }
+
+    /**
+     * Resolves the root of the KIE Module containing the given path, or null if it is not within one.
+     * Resolved roots are cached for the path and every folder visited to find them.
+     */
+    protected org.uberfire.java.nio.file.Path resolveModuleRoot(final org.uberfire.java.nio.file.Path resourcePath) {
+        final org.uberfire.java.nio.file.Path cachedModuleRootPath = moduleRootCache.getModuleRoot(resourcePath);
+        if (cachedModuleRootPath != null) {
+            return cachedModuleRootPath;
+        }
+
+        final List<org.uberfire.java.nio.file.Path> visitedPaths = new ArrayList<>();
+        visitedPaths.add(resourcePath);
+
+        //A module root is the folder containing the pom.xml file. This will be the parent of the "src" folder
+        org.uberfire.java.nio.file.Path path = Files.isRegularFile(resourcePath) ? resourcePath.getParent() : resourcePath;
+        while (path != null) {
+            if (path != resourcePath) {
+                final org.uberfire.java.nio.file.Path moduleRootPath = moduleRootCache.getModuleRoot(path);
+                if (moduleRootPath != null) {
+                    moduleRootCache.setModuleRoot(visitedPaths,
+                                                  moduleRootPath);
+                    return moduleRootPath;
+                }
+                visitedPaths.add(path);
+            }
+            if (hasPom(path)) {
+                if (!hasKModule(path)) {
+                    return null;
+                }
+                moduleRootCache.setModuleRoot(visitedPaths,
+                                              path);
+                return path;
+            }
+            path = path.getParent();
+        }
+        return null;
+    }
+
     @Override
     protected KieModule makeModule(final org.uberfire.java.nio.file.Path nioModuleRootPath) {
         final KieModule module = simpleModuleInstance(nioModuleRootPath);
-        final POM pom = pomService.load(module.getPomXMLPath());
+        final long lastModified = Files.getLastModifiedTime(nioModuleRootPath.resolve(POM_PATH)).toMillis();
+        POM pom = moduleRootCache.getPom(nioModuleRootPath,
+                                         lastModified);
+        if (pom == null) {
+            pom = pomService.load(module.getPomXMLPath());
+            moduleRootCache.setPom(nioModuleRootPath,
+                                   lastModified,
+                                   pom);
+        }
         module.setPom(pom);
 
         return module;
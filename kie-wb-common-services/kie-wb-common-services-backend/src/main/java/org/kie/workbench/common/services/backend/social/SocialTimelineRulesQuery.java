@@ -17,9 +17,13 @@ package org.kie.workbench.common.services.backend.social;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
 import javax.inject.Inject;
 
 import org.ext.uberfire.social.activities.model.PagedSocialQuery;
@@ -36,17 +40,60 @@ import org.kie.api.runtime.KieContainer;
 import org.kie.api.runtime.KieSession;
 import org.kie.api.runtime.rule.AgendaFilter;
 import org.kie.api.runtime.rule.Match;
-
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes the social timeline rules.
+ * </p>
+ * Every execution runs in its own session, disposed once the rules are fired. The rules only match the facts returned
+ * by the query methods, through "from", so a session can not be reused: its rules would not be activated again.
+ * </p>
+ * The results can be cached by rule and globals, for the number of milliseconds set by the {@value #CACHE_TTL_PROPERTY}
+ * system property. The cache is disabled by default: it is shared by all the users, and a user may not see their own
+ * latest activity until the cached results expire. Any event intercepted by a {@link SocialAdapter} clears the cache,
+ * as it becomes a new social activity. The activity may be stored after the cache is cleared, so results computed
+ * meanwhile can still miss it until they expire.
+ */
 @Service
 @ApplicationScoped
 public class SocialTimelineRulesQuery implements SocialTimelineRulesQueryAPI {
 
+    public static final String CACHE_TTL_PROPERTY = "org.kie.workbench.social.timeline.cacheTTL";
+
+    static final long DEFAULT_CACHE_TTL = 0;
+
+    static final int MAX_CACHED_RESULTS = 100;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SocialTimelineRulesQuery.class);
+
+    private static final String ALL_RULES = "*";
+
     private SocialTimeLineRepositoryAPI socialTimeLineRepositoryAPI;
 
     private SocialTypeTimelinePagedRepositoryAPI socialTypeTimelinePagedRepositoryAPI;
 
     private SocialAdapterRepositoryAPI socialAdapterRepositoryAPI;
 
+    private KieContainer kieContainer;
+
+    private final long cacheTTL = getCacheTTL();
+
+    private final Map<String, CachedResult> results = new LinkedHashMap<String, CachedResult>(16,
+                                                                                            0.75f,
+                                                                                            true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, CachedResult> eldest) {
+            return size() > MAX_CACHED_RESULTS;
+        }
+    };
+
+    //Incremented on every invalidation, for not caching results computed before it
+    private long generation = 0;
+
+    private final AtomicLong executions = new AtomicLong();
+    private final AtomicLong executionTime = new AtomicLong();
+
     public SocialTimelineRulesQuery() {
     }
 
@@ -60,74 +107,165 @@ public class SocialTimelineRulesQuery implements SocialTimelineRulesQueryAPI {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public List<SocialActivitiesEvent> executeAllRules() {
+        final Map<String, Object> globals = new HashMap<>();
+        globals.put("maxResults",
+                    Integer.MAX_VALUE);
+        return execute(ALL_RULES,
+                       ALL_RULES,
+                       globals,
+                       null);
+    }
 
-        List<SocialActivitiesEvent> events = new ArrayList<>();
+    @Override
+    public List<SocialActivitiesEvent> executeSpecificRule(Map<String, String> globals,
+                                                           final String drlName,
+                                                           String maxResults) {
+        final Map<String, Object> sessionGlobals = new TreeMap<>();
         try {
+            sessionGlobals.put("maxResults",
+                               new Integer(maxResults));
+        } catch (Exception e) {
+            throw new RulesExecutionQueryException(e);
+        }
+        sessionGlobals.putAll(globals);
+
+        return execute(drlName + sessionGlobals,
+                       drlName,
+                       sessionGlobals,
+                       new AgendaFilter() {
+                           @Override
+                           public boolean accept(Match match) {
+                               String rulename = match.getRule().getName();
+
+                               if (rulename.equals(drlName)) {
+                                   return true;
+                               }
+
+                               return false;
+                           }
+                       });
+    }
 
-            KieServices ks = KieServices.Factory.get();
-            KieContainer kContainer = ks.getKieClasspathContainer();
+    /**
+     * Clears the cached results when an event intercepted by a social adapter, and so a new social activity, is fired.
+     */
+    public void onEvent(@Observes Object event) {
+        if (cacheTTL > 0 && isSocialEvent(event)) {
+            invalidate();
+        }
+    }
 
-            KieSession kSession = kContainer.newKieSession("social-session");
-            List<SocialActivitiesEvent> socialEvents = new ArrayList<>();
-            kSession.setGlobal("socialEvents",
-                               socialEvents);
-            kSession.setGlobal("maxResults",
-                               Integer.MAX_VALUE);
-            kSession.setGlobal("queryAPI",
-                               this);
-            kSession.fireAllRules();
+    private boolean isSocialEvent(final Object event) {
+        final SocialAdapter adapter = socialAdapterRepositoryAPI.getSocialAdapters().get(event.getClass());
+        return adapter != null && adapter.shouldInterceptThisEvent(event);
+    }
 
-            events = (List<SocialActivitiesEvent>) kSession.getGlobal("socialEvents");
-        } catch (Exception e) {
-            throw new RulesExecutionQueryException(e);
+    public synchronized void invalidate() {
+        generation++;
+        results.clear();
+    }
+
+    /**
+     * @return The number of rule executions, the cached results are not included
+     */
+    public long getExecutions() {
+        return executions.get();
+    }
+
+    /**
+     * @return The average time of the rule executions, in milliseconds
+     */
+    public long getAverageExecutionTime() {
+        final long count = executions.get();
+        return count > 0 ? executionTime.get() / count : 0;
+    }
+
+    private List<SocialActivitiesEvent> execute(final String cacheKey,
+                                                final String ruleName,
+                                                final Map<String, Object> globals,
+                                                final AgendaFilter agendaFilter) {
+        final long currentGeneration;
+        synchronized (this) {
+            final CachedResult cached = results.get(cacheKey);
+            if (cached != null && cached.expiresAt > System.currentTimeMillis()) {
+                return new ArrayList<>(cached.events);
+            }
+            currentGeneration = generation;
+        }
+
+        final List<SocialActivitiesEvent> events = fireRules(ruleName,
+                                                             globals,
+                                                             agendaFilter);
+
+        if (cacheTTL > 0) {
+            synchronized (this) {
+                if (generation == currentGeneration) {
+                    results.put(cacheKey,
+                                new CachedResult(new ArrayList<>(events),
+                                                 System.currentTimeMillis() + cacheTTL));
+                }
+            }
         }
         return events;
     }
 
-    @Override
     @SuppressWarnings("unchecked")
-    public List<SocialActivitiesEvent> executeSpecificRule(Map<String, String> globals,
-                                                           final String drlName,
-                                                           String maxResults) {
-
-        List<SocialActivitiesEvent> events = new ArrayList<>();
+    private List<SocialActivitiesEvent> fireRules(final String ruleName,
+                                                  final Map<String, Object> globals,
+                                                  final AgendaFilter agendaFilter) {
+        final long start = System.currentTimeMillis();
+        KieSession kSession = null;
         try {
-
-            KieServices ks = KieServices.Factory.get();
-            KieContainer kContainer = ks.getKieClasspathContainer();
-
-            KieSession kSession = kContainer.newKieSession("social-session");
+            kSession = getKieContainer().newKieSession("social-session");
             List<SocialActivitiesEvent> socialEvents = new ArrayList<>();
             kSession.setGlobal("socialEvents",
                                socialEvents);
             kSession.setGlobal("queryAPI",
                                this);
-            kSession.setGlobal("maxResults",
-                               new Integer(maxResults));
-            for (String key : globals.keySet()) {
-                kSession.setGlobal(key,
-                                   globals.get(key));
+            for (Map.Entry<String, Object> global : globals.entrySet()) {
+                kSession.setGlobal(global.getKey(),
+                                   global.getValue());
+            }
+            if (agendaFilter != null) {
+                kSession.fireAllRules(agendaFilter);
+            } else {
+                kSession.fireAllRules();
             }
-            kSession.fireAllRules(new AgendaFilter() {
-                @Override
-                public boolean accept(Match match) {
-                    String rulename = match.getRule().getName();
-
-                    if (rulename.equals(drlName)) {
-                        return true;
-                    }
-
-                    return false;
-                }
-            });
 
-            events = (List<SocialActivitiesEvent>) kSession.getGlobal("socialEvents");
+            return (List<SocialActivitiesEvent>) kSession.getGlobal("socialEvents");
         } catch (Exception e) {
             throw new RulesExecutionQueryException(e);
+        } finally {
+            if (kSession != null) {
+                kSession.dispose();
+            }
+            final long time = System.currentTimeMillis() - start;
+            executions.incrementAndGet();
+            executionTime.addAndGet(time);
+            LOGGER.debug("Social timeline rule {} executed in {} ms",
+                         ruleName,
+                         time);
+        }
+    }
+
+    private synchronized KieContainer getKieContainer() {
+        if (kieContainer == null) {
+            kieContainer = KieServices.Factory.get().getKieClasspathContainer();
+        }
+        return kieContainer;
+    }
+
+    private static long getCacheTTL() {
+        try {
+            return Long.parseLong(System.getProperty(CACHE_TTL_PROPERTY,
+                                                     String.valueOf(DEFAULT_CACHE_TTL)));
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Invalid value for {}, using {}",
+                        CACHE_TTL_PROPERTY,
+                        DEFAULT_CACHE_TTL);
+            return DEFAULT_CACHE_TTL;
         }
-        return events;
     }
 
     @Override
@@ -179,4 +317,17 @@ public class SocialTimelineRulesQuery implements SocialTimelineRulesQueryAPI {
             super(e);
         }
     }
+
+    private static class CachedResult {
+
+        private final List<SocialActivitiesEvent> events;
+
+        private final long expiresAt;
+
+        private CachedResult(final List<SocialActivitiesEvent> events,
+                             final long expiresAt) {
+            this.events = events;
+            this.expiresAt = expiresAt;
+        }
+    }
 }
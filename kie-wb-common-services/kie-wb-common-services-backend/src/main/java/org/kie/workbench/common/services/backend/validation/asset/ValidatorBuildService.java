@@ -34,6 +34,7 @@ import org.guvnor.common.services.shared.message.Level;
 import org.guvnor.common.services.shared.validation.model.ValidationMessage;
 import org.kie.workbench.common.services.backend.builder.core.Builder;
 import org.kie.workbench.common.services.backend.builder.core.LRUBuilderCache;
+import org.kie.workbench.common.services.backend.builder.core.LRUValidationBuilderCache;
 import org.kie.workbench.common.services.backend.builder.service.BuildInfo;
 import org.kie.workbench.common.services.backend.builder.service.BuildInfoImpl;
 import org.kie.workbench.common.services.backend.builder.service.BuildInfoService;
@@ -51,6 +52,7 @@ public class ValidatorBuildService {
     private LRUBuilderCache builderCache;
     private KieModuleService moduleService;
     private BuildInfoService buildInfoService;
+    private LRUValidationBuilderCache validationBuilderCache;
 
     public ValidatorBuildService() {
         //CDI proxies
@@ -60,11 +62,13 @@ public class ValidatorBuildService {
     public ValidatorBuildService(final @Named("ioStrategy") IOService ioService,
                                  final LRUBuilderCache builderCache,
                                  final KieModuleService moduleService,
-                                 final BuildInfoService buildInfoService) {
+                                 final BuildInfoService buildInfoService,
+                                 final @Named("LRUValidationBuilderCache") LRUValidationBuilderCache validationBuilderCache) {
         this.ioService = ioService;
         this.builderCache = builderCache;
         this.moduleService = moduleService;
         this.buildInfoService = buildInfoService;
+        this.validationBuilderCache = validationBuilderCache;
     }
 
     public List<ValidationMessage> validate(final Path resourcePath,
@@ -126,15 +130,25 @@ public class ValidatorBuildService {
         if (isIncrementalBuildPossible(resourcePath)) {
             //Build the Builder from the cache so it's "built" state can be preserved for re-use
             BuildInfo buildInfo = buildInfoService.getBuildInfo(module);
-            final Builder clone = ((BuildInfoImpl) buildInfo).getBuilder().clone();
-            //First delete resource otherwise if the resource already had errors following builder.build()
-            //the incremental compilation will not report any additional errors and the resource will be
-            //considered valid.
-            clone.deleteResource(nioResourcePath);
-
-            final IncrementalBuildResults incrementalBuildResults = clone.updateResource(nioResourcePath,
-                                                                                         inputStream);
-            resultBuilder.add(incrementalBuildResults.getAddedMessages());
+            final Builder builder = ((BuildInfoImpl) buildInfo).getBuilder();
+            //Validate with a clone of the Builder, re-used between validations while the Builder does not change
+            final Builder clone = validationBuilderCache.borrowBuilder(module,
+                                                                       builder);
+            try {
+                //First delete resource otherwise if the resource already had errors following builder.build()
+                //the incremental compilation will not report any additional errors and the resource will be
+                //considered valid.
+                clone.deleteResource(nioResourcePath);
+
+                final IncrementalBuildResults incrementalBuildResults = clone.updateResource(nioResourcePath,
+                                                                                             inputStream);
+                resultBuilder.add(incrementalBuildResults.getAddedMessages());
+            } finally {
+                validationBuilderCache.releaseBuilder(module,
+                                                      builder,
+                                                      clone,
+                                                      nioResourcePath);
+            }
         } else {
             Builder builder = builderCache.assertBuilder(module(resourcePath));
             final Builder clone = builder.clone();
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.builder.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.*;
+
+public class DependenciesClassLoaderPoolTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private URL artifact1;
+    private URL artifact2;
+    private URL artifact3;
+
+    @Before
+    public void setup() throws IOException {
+        artifact1 = newArtifact("artifact1.jar");
+        artifact2 = newArtifact("artifact2.jar");
+        artifact3 = newArtifact("artifact3.jar");
+    }
+
+    @Test
+    public void testSameDependenciesAreShared() {
+        final DependenciesClassLoaderPool pool = new DependenciesClassLoaderPool(10);
+        final URLClassLoader first = new URLClassLoader(new URL[]{artifact1, artifact2});
+        final URLClassLoader second = new URLClassLoader(new URL[]{artifact2, artifact1});
+
+        final ClassLoader shared1 = pool.share("module1",
+                                               first);
+        final ClassLoader shared2 = pool.share("module2",
+                                               second);
+
+        assertSame(first,
+                   shared1);
+        assertSame(first,
+                   shared2);
+        assertEquals(1,
+                     pool.size());
+        assertEquals(2,
+                     pool.getReferences(first));
+        assertEquals(1,
+                     pool.getHits());
+        assertEquals(1,
+                     pool.getMisses());
+    }
+
+    @Test
+    public void testDifferentDependenciesAreNotShared() {
+        final DependenciesClassLoaderPool pool = new DependenciesClassLoaderPool(10);
+        final URLClassLoader first = new URLClassLoader(new URL[]{artifact1});
+        final URLClassLoader second = new URLClassLoader(new URL[]{artifact2});
+
+        assertSame(first,
+                   pool.share("module1",
+                              first));
+        assertSame(second,
+                   pool.share("module2",
+                              second));
+        assertEquals(2,
+                     pool.size());
+    }
+
+    @Test
+    public void testModuleReferenceMovesOnRebuild() {
+        final DependenciesClassLoaderPool pool = new DependenciesClassLoaderPool(10);
+        final URLClassLoader first = new URLClassLoader(new URL[]{artifact1});
+        final URLClassLoader second = new URLClassLoader(new URL[]{artifact1, artifact2});
+
+        pool.share("module1",
+                   first);
+        pool.share("module1",
+                   second);
+
+        assertEquals(0,
+                     pool.getReferences(first));
+        assertEquals(1,
+                     pool.getReferences(second));
+    }
+
+    @Test
+    public void testUnreferencedAreEvictedFirst() {
+        final DependenciesClassLoaderPool pool = new DependenciesClassLoaderPool(2);
+        final URLClassLoader first = new URLClassLoader(new URL[]{artifact1});
+        final URLClassLoader second = new URLClassLoader(new URL[]{artifact2});
+        final URLClassLoader third = new URLClassLoader(new URL[]{artifact3});
+
+        pool.share("module1",
+                   first);
+        pool.share("module2",
+                   second);
+        pool.release("module2");
+        pool.share("module3",
+                   third);
+
+        assertEquals(2,
+                     pool.size());
+        assertEquals(2,
+                     pool.getWeight());
+        assertEquals(1,
+                     pool.getEvictions());
+        assertEquals(1,
+                     pool.getReferences(first));
+        assertEquals(0,
+                     pool.getReferences(second));
+        assertEquals(1,
+                     pool.getReferences(third));
+    }
+
+    @Test
+    public void testKeyChangesWhenArtifactChanges() throws IOException {
+        final String before = DependenciesClassLoaderPool.buildKey(new URL[]{artifact1});
+        Files.write(new File(folder.getRoot(),
+                             "artifact1.jar").toPath(),
+                    new byte[]{1, 2, 3, 4});
+        final String after = DependenciesClassLoaderPool.buildKey(new URL[]{artifact1});
+
+        assertNotEquals(before,
+                        after);
+    }
+
+    private URL newArtifact(final String name) throws IOException {
+        final File file = folder.newFile(name);
+        Files.write(file.toPath(),
+                    new byte[]{1});
+        return file.toURI().toURL();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.builder.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.kie.workbench.common.services.shared.project.KieModule;
+import org.uberfire.backend.vfs.Path;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class LRUModuleDependenciesClassLoaderCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private LRUModuleDependenciesClassLoaderCache cache;
+
+    private URL artifact;
+
+    @Before
+    public void setup() throws IOException {
+        cache = new LRUModuleDependenciesClassLoaderCache();
+        final File file = folder.newFile("artifact.jar");
+        Files.write(file.toPath(),
+                    new byte[]{1, 2, 3});
+        artifact = file.toURI().toURL();
+    }
+
+    @Test
+    public void testInvalidateModuleReleasesItsReference() {
+        final KieModule module1 = newModule("module1");
+        final KieModule module2 = newModule("module2");
+        final URLClassLoader classLoader = newClassLoader();
+        cache.setDependenciesClassLoader(module1,
+                                         classLoader);
+        cache.setDependenciesClassLoader(module2,
+                                         newClassLoader());
+        assertEquals(2,
+                     cache.getClassLoaderPool().getReferences(classLoader));
+
+        cache.invalidateCache(module1);
+
+        assertEquals(1,
+                     cache.getClassLoaderPool().getReferences(classLoader));
+        assertSame(classLoader,
+                   cache.getEntry(module2));
+    }
+
+    @Test
+    public void testInvalidateCacheReleasesAllReferences() {
+        cache.setDependenciesClassLoader(newModule("module1"),
+                                         newClassLoader());
+        cache.setDependenciesClassLoader(newModule("module2"),
+                                         newClassLoader());
+
+        cache.invalidateCache();
+
+        assertEquals(0,
+                     cache.getClassLoaderPool().getReferences());
+    }
+
+    @Test
+    public void testEvictedModulesReleaseTheirReference() {
+        final List<KieModule> modules = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final KieModule module = newModule("module" + i);
+            modules.add(module);
+            cache.setDependenciesClassLoader(module,
+                                             newClassLoader());
+        }
+
+        //The first modules were evicted by the LRU cache, only the cached ones keep a reference
+        assertNull(cache.getEntry(modules.get(0)));
+        assertEquals(cache.getKeys().size(),
+                     cache.getClassLoaderPool().getReferences());
+        assertEquals(1,
+                     cache.getSharedClassLoaderCount());
+    }
+
+    private URLClassLoader newClassLoader() {
+        return new URLClassLoader(new URL[]{artifact});
+    }
+
+    private KieModule newModule(final String name) {
+        final Path rootPath = mock(Path.class);
+        when(rootPath.toURI()).thenReturn("default://master@repo/" + name);
+        final KieModule module = mock(KieModule.class);
+        when(module.getRootPath()).thenReturn(rootPath);
+        return module;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.backend.builder.core;
+
+import java.util.concurrent.ExecutorService;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.services.shared.project.KieModule;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.java.nio.file.Path;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class LRUValidationBuilderCacheTest {
+
+    @Mock
+    private ExecutorService executorService;
+
+    @Mock
+    private KieModule module;
+
+    @Mock
+    private Builder builder;
+
+    @Mock
+    private Builder clone;
+
+    @Mock
+    private Path resource;
+
+    private LRUValidationBuilderCache cache;
+
+    @Before
+    public void setup() {
+        when(builder.clone()).thenReturn(clone);
+        cache = new LRUValidationBuilderCache(executorService);
+    }
+
+    @Test
+    public void testResourceIsRestoredInTheBackground() {
+        assertSame(clone,
+                   cache.borrowBuilder(module,
+                                       builder));
+        cache.releaseBuilder(module,
+                             builder,
+                             clone,
+                             resource);
+
+        //Nothing is built on the validation request
+        verify(clone,
+               never()).restoreResource(any(Path.class),
+                                        any(Builder.class));
+        assertEquals(0,
+                     cache.getEntry(module).getIdleBuilders());
+
+        final ArgumentCaptor<Runnable> restore = ArgumentCaptor.forClass(Runnable.class);
+        verify(executorService).execute(restore.capture());
+        restore.getValue().run();
+
+        verify(clone).restoreResource(resource,
+                                      builder);
+        assertEquals(1,
+                     cache.getEntry(module).getIdleBuilders());
+
+        //The restored clone is re-used
+        assertSame(clone,
+                   cache.borrowBuilder(module,
+                                       builder));
+        verify(builder,
+               times(1)).clone();
+    }
+
+    @Test
+    public void testRestoredBuilderOfChangedModuleBuilderIsDiscarded() {
+        cache.borrowBuilder(module,
+                            builder);
+        cache.releaseBuilder(module,
+                             builder,
+                             clone,
+                             resource);
+
+        final ArgumentCaptor<Runnable> restore = ArgumentCaptor.forClass(Runnable.class);
+        verify(executorService).execute(restore.capture());
+
+        //The Module Builder changes while the resource is being restored
+        when(builder.getVersion()).thenReturn(1L);
+        restore.getValue().run();
+
+        assertEquals(0,
+                     cache.getEntry(module).getIdleBuilders());
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.compiler.nio.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.codehaus.plexus.classworlds.ClassWorld;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.services.backend.compiler.external339.AFCliRequest;
+import org.kie.workbench.common.services.backend.compiler.external339.AFMavenCli;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class MavenCliPoolTest {
+
+    private static final String PROJECT_DIRECTORY = "/project";
+
+    private AFCliRequest cliRequest;
+
+    private ClassWorld classWorld;
+
+    private List<AFMavenCli> createdClis;
+
+    private List<Boolean> createdKeepContainers;
+
+    @Before
+    public void setup() {
+        cliRequest = mock(AFCliRequest.class);
+        when(cliRequest.getMultiModuleProjectDirectory()).thenReturn(PROJECT_DIRECTORY);
+        classWorld = mock(ClassWorld.class);
+        createdClis = new ArrayList<>();
+        createdKeepContainers = new ArrayList<>();
+    }
+
+    @Test
+    public void testWarmCliIsReturnedAndBorrowedAgain() {
+        final MavenCliPool pool = newPool(2,
+                                          true);
+
+        assertEquals(0,
+                     pool.doMain(cliRequest,
+                                 classWorld));
+        assertEquals(1,
+                     pool.getIdleCount());
+
+        assertEquals(0,
+                     pool.doMain(cliRequest,
+                                 classWorld));
+        assertEquals(1,
+                     createdClis.size());
+        assertEquals(Boolean.TRUE,
+                     createdKeepContainers.get(0));
+        verify(createdClis.get(0),
+               times(2)).doMain(cliRequest,
+                                classWorld);
+        assertEquals(1,
+                     pool.getIdleCount());
+        assertEquals(2,
+                     pool.getAvailablePermits());
+    }
+
+    @Test
+    public void testContainersAreNotKeptWhenDisabled() {
+        final MavenCliPool pool = newPool(2,
+                                          false);
+
+        pool.doMain(cliRequest,
+                    classWorld);
+        pool.doMain(cliRequest,
+                    classWorld);
+
+        assertEquals(2,
+                     createdClis.size());
+        assertFalse(createdKeepContainers.contains(Boolean.TRUE));
+        assertEquals(0,
+                     pool.getIdleCount());
+    }
+
+    @Test
+    public void testBuildsWaitWhenThePoolIsExhausted() throws Exception {
+        final CountDownLatch firstBuildStarted = new CountDownLatch(1);
+        final CountDownLatch firstBuildCanComplete = new CountDownLatch(1);
+        final MavenCliPool pool = newPool(1,
+                                          true);
+        final AFMavenCli blockingCli = mock(AFMavenCli.class);
+        when(blockingCli.doMain(cliRequest,
+                                classWorld)).thenAnswer(invocation -> {
+            firstBuildStarted.countDown();
+            firstBuildCanComplete.await();
+            return 0;
+        });
+        createdClis.add(blockingCli);
+
+        final Thread firstBuild = new Thread(() -> pool.doMain(cliRequest,
+                                                               classWorld));
+        firstBuild.start();
+        assertTrue(firstBuildStarted.await(10,
+                                           TimeUnit.SECONDS));
+
+        final Thread secondBuild = new Thread(() -> pool.doMain(cliRequest,
+                                                                classWorld));
+        secondBuild.start();
+        secondBuild.join(200);
+        //The second build waits for the AFMavenCli of the first one
+        assertTrue(secondBuild.isAlive());
+        assertEquals(0,
+                     pool.getAvailablePermits());
+        verify(blockingCli,
+               times(1)).doMain(cliRequest,
+                                classWorld);
+
+        firstBuildCanComplete.countDown();
+        firstBuild.join(10000);
+        secondBuild.join(10000);
+        assertFalse(secondBuild.isAlive());
+        verify(blockingCli,
+               times(2)).doMain(cliRequest,
+                                classWorld);
+        assertEquals(1,
+                     pool.getAvailablePermits());
+    }
+
+    @Test
+    public void testBuildsAreNotLimitedWhenContainersAreNotKept() throws Exception {
+        final CountDownLatch firstBuildStarted = new CountDownLatch(1);
+        final CountDownLatch firstBuildCanComplete = new CountDownLatch(1);
+        final MavenCliPool pool = newPool(1,
+                                          false);
+        final AFMavenCli blockingCli = mock(AFMavenCli.class);
+        when(blockingCli.doMain(cliRequest,
+                                classWorld)).thenAnswer(invocation -> {
+            firstBuildStarted.countDown();
+            firstBuildCanComplete.await();
+            return 0;
+        });
+        createdClis.add(blockingCli);
+
+        final Thread firstBuild = new Thread(() -> pool.doMain(cliRequest,
+                                                               classWorld));
+        firstBuild.start();
+        assertTrue(firstBuildStarted.await(10,
+                                           TimeUnit.SECONDS));
+
+        //The second build doesn't wait for the first one
+        assertEquals(0,
+                     pool.doMain(cliRequest,
+                                 classWorld));
+        assertEquals(2,
+                     createdClis.size());
+        assertEquals(1,
+                     pool.getAvailablePermits());
+
+        firstBuildCanComplete.countDown();
+        firstBuild.join(10000);
+        assertFalse(firstBuild.isAlive());
+    }
+
+    @Test
+    public void testCloseDisposesTheContainers() {
+        final MavenCliPool pool = newPool(2,
+                                          true);
+        pool.doMain(cliRequest,
+                    classWorld);
+        final AFMavenCli warmCli = createdClis.get(0);
+
+        pool.close();
+
+        verify(warmCli).disposeContainer();
+        assertEquals(0,
+                     pool.getIdleCount());
+
+        //Builds after the pool is closed don't keep their container
+        pool.doMain(cliRequest,
+                    classWorld);
+        assertEquals(2,
+                     createdClis.size());
+        assertEquals(Boolean.FALSE,
+                     createdKeepContainers.get(1));
+        assertEquals(0,
+                     pool.getIdleCount());
+    }
+
+    private MavenCliPool newPool(final int size,
+                                 final boolean keepContainers) {
+        return new MavenCliPool(size,
+                                keepContainers) {
+            @Override
+            AFMavenCli newMavenCli(final boolean keepContainer) {
+                final AFMavenCli cli;
+                if (createdKeepContainers.size() < createdClis.size()) {
+                    //A prepared AFMavenCli
+                    cli = createdClis.get(createdKeepContainers.size());
+                } else {
+                    cli = mock(AFMavenCli.class);
+                    createdClis.add(cli);
+                }
+                when(cli.getWarmContainerKey()).thenReturn(keepContainer ? PROJECT_DIRECTORY + "|" : null);
+                createdKeepContainers.add(keepContainer);
+                return cli;
+            }
+        };
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.enums;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.guvnor.common.services.project.builder.events.InvalidateDMOModuleCacheEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.services.shared.project.KieModule;
+import org.kie.workbench.common.services.shared.project.KieModuleService;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.rpc.SessionInfo;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class LRUEnumExpressionCacheTest {
+
+    @Mock
+    private KieModuleService moduleService;
+
+    @Mock
+    private SessionInfo sessionInfo;
+
+    @Mock
+    private KieModule module;
+
+    @Mock
+    private KieModule otherModule;
+
+    @Mock
+    private Path resourcePath;
+
+    private ClassLoader classLoader;
+
+    private LRUEnumExpressionCache cache;
+
+    @Before
+    public void setup() {
+        this.classLoader = getClass().getClassLoader();
+        this.cache = spy(new LRUEnumExpressionCache(moduleService));
+    }
+
+    @Test
+    public void testModuleExpressionsAreReused() {
+        final AtomicInteger classLoaderLookups = new AtomicInteger();
+        final LRUEnumExpressionCache.ModuleEnumExpressions expressions = cache.assertModuleExpressions(module,
+                                                                                                     () -> {
+                                                                                                         classLoaderLookups.incrementAndGet();
+                                                                                                         return classLoader;
+                                                                                                     });
+
+        assertSame(expressions,
+                   cache.assertModuleExpressions(module,
+                                                 () -> classLoader));
+        assertEquals(1,
+                     classLoaderLookups.get());
+        assertSame(classLoader,
+                   expressions.getClassLoader());
+    }
+
+    @Test
+    public void testNoClassLoader() {
+        assertNull(cache.assertModuleExpressions(module,
+                                                 () -> null));
+        assertNull(cache.getEntry(module));
+    }
+
+    @Test
+    public void testExpressionsAreCompiledOnce() {
+        final AtomicInteger compilations = new AtomicInteger();
+        final LRUEnumExpressionCache.ModuleEnumExpressions expressions = cache.assertModuleExpressions(module,
+                                                                                                     () -> classLoader);
+
+        final Serializable compiled = expressions.getExpression("['a', 'b']",
+                                                                e -> {
+                                                                    compilations.incrementAndGet();
+                                                                    return e;
+                                                                });
+        assertSame(compiled,
+                   expressions.getExpression("['a', 'b']",
+                                             e -> {
+                                                 compilations.incrementAndGet();
+                                                 return e;
+                                             }));
+        assertEquals(1,
+                     compilations.get());
+    }
+
+    @Test
+    public void testClassLoaderIsResolvedOutsideTheLock() throws Exception {
+        final Thread other = new Thread(() -> cache.assertModuleExpressions(otherModule,
+                                                                          () -> classLoader));
+        final LRUEnumExpressionCache.ModuleEnumExpressions expressions = cache.assertModuleExpressions(module,
+                                                                                                     () -> {
+                                                                                                         //Other Modules can be served meanwhile
+                                                                                                         other.start();
+                                                                                                         joinQuietly(other);
+                                                                                                         return classLoader;
+                                                                                                     });
+        assertNotNull(expressions);
+        assertNotNull(cache.getEntry(otherModule));
+    }
+
+    @Test
+    public void testClassLoaderResolvedAcrossAnInvalidationIsNotCached() {
+        final LRUEnumExpressionCache.ModuleEnumExpressions expressions = cache.assertModuleExpressions(module,
+                                                                                                     () -> {
+                                                                                                         cache.invalidateCache(module);
+                                                                                                         return classLoader;
+                                                                                                     });
+        assertNotNull(expressions);
+        assertNull(cache.getEntry(module));
+    }
+
+    @Test
+    public void testCacheIsInvalidatedWhenResourceThatMapsToModule() {
+        final InvalidateDMOModuleCacheEvent event = new InvalidateDMOModuleCacheEvent(sessionInfo,
+                                                                                      module,
+                                                                                      resourcePath);
+        doReturn(module).when(moduleService).resolveModule(resourcePath);
+
+        cache.invalidateModuleCache(event);
+
+        verify(cache).invalidateCache(eq(module));
+        verify(cache,
+               never()).invalidateCache(eq(otherModule));
+    }
+
+    private static void joinQuietly(final Thread thread) {
+        try {
+            thread.join(10000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.project;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.guvnor.common.services.project.model.GAV;
+import org.guvnor.common.services.project.model.POM;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.rpc.SessionInfo;
+import org.uberfire.workbench.events.ResourceAddedEvent;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class KieModuleRootCacheTest {
+
+    private static final String ROOT = "default://master@repo/module";
+
+    @Mock
+    private SessionInfo sessionInfo;
+
+    private org.uberfire.java.nio.file.Path moduleRoot;
+    private org.uberfire.java.nio.file.Path srcFolder;
+    private org.uberfire.java.nio.file.Path resource;
+
+    private KieModuleRootCache cache;
+
+    @Before
+    public void setup() {
+        moduleRoot = nioPath(ROOT);
+        srcFolder = nioPath(ROOT + "/src");
+        resource = nioPath(ROOT + "/src/main/resources/rule.drl");
+
+        cache = new KieModuleRootCache();
+        cache.setModuleRoot(Arrays.asList(resource,
+                                          srcFolder),
+                            moduleRoot);
+    }
+
+    @Test
+    public void testModuleRootIsCached() {
+        assertEquals(moduleRoot,
+                     cache.getModuleRoot(nioPath(ROOT + "/src/main/resources/rule.drl")));
+        assertEquals(moduleRoot,
+                     cache.getModuleRoot(nioPath(ROOT + "/src")));
+        assertNull(cache.getModuleRoot(nioPath(ROOT + "/src/main")));
+    }
+
+    @Test
+    public void testPomIsCachedForModificationTime() {
+        final POM pom = newPom();
+        final long lastModified = 1000L;
+        cache.setPom(moduleRoot,
+                     lastModified,
+                     pom);
+
+        final POM cachedPom = cache.getPom(moduleRoot,
+                                           1000L);
+        assertEquals("module",
+                     cachedPom.getName());
+        assertEquals("module",
+                     cachedPom.getGav().getArtifactId());
+        assertNull(cache.getPom(moduleRoot,
+                                2000L));
+    }
+
+    @Test
+    public void testEachReadGetsItsOwnPom() {
+        final POM pom = newPom();
+        cache.setPom(moduleRoot,
+                     1000L,
+                     pom);
+        //Changing the loaded POM doesn't change the cached one
+        pom.setName("changed");
+
+        final POM first = cache.getPom(moduleRoot,
+                                       1000L);
+        final POM second = cache.getPom(moduleRoot,
+                                        1000L);
+        assertNotSame(pom,
+                      first);
+        assertNotSame(first,
+                      second);
+        assertEquals("module",
+                     first.getName());
+
+        //Nor does changing the POM of a resolved Module
+        first.setName("changed");
+        assertEquals("module",
+                     second.getName());
+        assertEquals("module",
+                     cache.getPom(moduleRoot,
+                                  1000L).getName());
+    }
+
+    @Test
+    public void testPomUpdateInvalidatesModule() {
+        cache.setPom(moduleRoot,
+                     1000L,
+                     newPom());
+
+        cache.onResourceUpdated(new ResourceUpdatedEvent(vfsPath(ROOT + "/pom.xml",
+                                                                 "pom.xml"),
+                                                         "",
+                                                         sessionInfo));
+
+        assertNull(cache.getModuleRoot(resource));
+        assertNull(cache.getModuleRoot(srcFolder));
+        assertNull(cache.getPom(moduleRoot,
+                                1000L));
+    }
+
+    @Test
+    public void testNestedModuleInvalidatesResourcesUnderIt() {
+        cache.onResourceAdded(new ResourceAddedEvent(vfsPath(ROOT + "/src/main/resources/META-INF/kmodule.xml",
+                                                             "kmodule.xml"),
+                                                     "",
+                                                     sessionInfo));
+        assertNull(cache.getModuleRoot(resource));
+
+        cache.setModuleRoot(Collections.singletonList(resource),
+                            moduleRoot);
+        cache.onResourceAdded(new ResourceAddedEvent(vfsPath(ROOT + "/src/pom.xml",
+                                                             "pom.xml"),
+                                                     "",
+                                                     sessionInfo));
+
+        assertNull(cache.getModuleRoot(resource));
+        assertNull(cache.getModuleRoot(srcFolder));
+    }
+
+    @Test
+    public void testOtherResourcesDoNotInvalidate() {
+        cache.onResourceUpdated(new ResourceUpdatedEvent(vfsPath(ROOT + "/src/main/resources/rule.drl",
+                                                                 "rule.drl"),
+                                                         "",
+                                                         sessionInfo));
+
+        assertEquals(moduleRoot,
+                     cache.getModuleRoot(resource));
+    }
+
+    private static POM newPom() {
+        final POM pom = new POM(new GAV("org.kie",
+                                        "module",
+                                        "1.0"));
+        pom.setName("module");
+        return pom;
+    }
+
+    private org.uberfire.java.nio.file.Path nioPath(final String uri) {
+        final org.uberfire.java.nio.file.Path path = mock(org.uberfire.java.nio.file.Path.class);
+        when(path.toUri()).thenReturn(URI.create(uri));
+        return path;
+    }
+
+    private Path vfsPath(final String uri,
+                         final String fileName) {
+        final Path path = mock(Path.class);
+        when(path.toURI()).thenReturn(uri);
+        when(path.getFileName()).thenReturn(fileName);
+        return path;
+    }
+}
@@ -21,6 +21,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.ext.uberfire.social.activities.model.DefaultTypes;
 import org.ext.uberfire.social.activities.model.PagedSocialQuery;
@@ -33,6 +34,7 @@ import org.ext.uberfire.social.activities.service.SocialAdapterRepositoryAPI;
 import org.ext.uberfire.social.activities.service.SocialCommandTypeFilter;
 import org.ext.uberfire.social.activities.service.SocialTimeLineRepositoryAPI;
 import org.ext.uberfire.social.activities.service.SocialTypeTimelinePagedRepositoryAPI;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -84,6 +86,93 @@ public class SocialTimelineRulesQueryTest {
         assertNotNull(events);
     }
 
+    @After
+    public void tearDown() {
+        System.clearProperty(SocialTimelineRulesQuery.CACHE_TTL_PROPERTY);
+    }
+
+    @Test
+    public void checkResultsAreNotCachedByDefault() {
+        query.executeAllRules();
+        query.executeAllRules();
+
+        assertEquals(2,
+                     query.getExecutions());
+    }
+
+    @Test
+    public void checkResultsAreCached() {
+        enableCache();
+        query.executeAllRules();
+        query.executeAllRules();
+
+        verify(socialAdapterRepositoryAPI,
+               times(1)).getSocialAdapters();
+        assertEquals(1,
+                     query.getExecutions());
+    }
+
+    @Test
+    public void checkAdaptedEventClearsCache() {
+        enableCache();
+        query.executeAllRules();
+        query.executeAllRules();
+        assertEquals(1,
+                     query.getExecutions());
+
+        query.onEvent(new TestSocialEvent());
+        query.executeAllRules();
+        assertEquals(2,
+                     query.getExecutions());
+    }
+
+    @Test
+    public void checkOtherEventsDoNotClearCache() {
+        enableCache();
+        query.executeAllRules();
+
+        query.onEvent(makeMockEvent());
+        query.onEvent("event");
+        query.executeAllRules();
+        assertEquals(1,
+                     query.getExecutions());
+    }
+
+    @Test
+    public void checkSpecificRuleResultsAreCachedByGlobals() {
+        enableCache();
+        final Map<String, String> globals = new HashMap<>();
+        globals.put("filter",
+                    "info");
+
+        final List<SocialActivitiesEvent> events = query.executeSpecificRule(globals,
+                                                                             "Get N Type Cached",
+                                                                             "10");
+        assertFalse(events.isEmpty());
+        assertEquals(events,
+                     query.executeSpecificRule(globals,
+                                               "Get N Type Cached",
+                                               "10"));
+        assertEquals(1,
+                     query.getExecutions());
+
+        globals.put("filter",
+                    "other");
+        assertTrue(query.executeSpecificRule(globals,
+                                             "Get N Type Cached",
+                                             "10").isEmpty());
+        assertEquals(2,
+                     query.getExecutions());
+    }
+
+    private void enableCache() {
+        System.setProperty(SocialTimelineRulesQuery.CACHE_TTL_PROPERTY,
+                           "10000");
+        query = new SocialTimelineRulesQuery(socialTimeLineRepositoryAPI,
+                                             socialTypeTimelinePagedRepositoryAPI,
+                                             socialAdapterRepositoryAPI);
+    }
+
     private SocialActivitiesEvent makeMockEvent() {
         return new SocialActivitiesEvent().withAdicionalInfo("info");
     }
@@ -112,6 +112,61 @@ public class ValidatorTest {
         assertFalse(errors.isEmpty());
     }
 
+    @Test
+    public void testValidateSameDRLFileRepeatedly() throws Throwable {
+        final Path path = path("/GuvnorM2RepoDependencyExample1/src/main/resources/rule2.drl");
+        final String validContent = "package org.kie.workbench.common.services.builder.tests.test1\n" +
+                "\n" +
+                "rule R2\n" +
+                "when\n" +
+                "Bean()\n" +
+                "then\n" +
+                "end";
+        final String invalidContent = "package org.kie.workbench.common.services.builder.tests.test1\n" +
+                "\n" +
+                "rule R2\n" +
+                "when\n" +
+                "Ban()\n" +
+                "then\n" +
+                "end";
+
+        assertFalse(validator.validate(path,
+                                       invalidContent).isEmpty());
+        assertTrue(validator.validate(path,
+                                      validContent).isEmpty());
+        assertFalse(validator.validate(path,
+                                       invalidContent).isEmpty());
+    }
+
+    @Test
+    public void testUnsavedChangesAreNotSeenByOtherResources() throws Throwable {
+        final Path path1 = path("/GuvnorM2RepoDependencyExample1/src/main/resources/rule1.drl");
+        final Path path2 = path("/GuvnorM2RepoDependencyExample1/src/main/resources/rule2.drl");
+        final String unsavedContent2 = "package org.kie.workbench.common.services.builder.tests.test1\n" +
+                "\n" +
+                "declare Phantom\n" +
+                "end\n" +
+                "\n" +
+                "rule R2\n" +
+                "when\n" +
+                "Phantom()\n" +
+                "then\n" +
+                "end";
+        final String content1 = "package org.kie.workbench.common.services.builder.tests.test1\n" +
+                "\n" +
+                "rule R1\n" +
+                "when\n" +
+                "Phantom()\n" +
+                "then\n" +
+                "end";
+
+        assertTrue(validator.validate(path2,
+                                      unsavedContent2).isEmpty());
+        //Phantom was only declared by the unsaved version of rule2.drl, it doesn't exist for rule1.drl
+        assertFalse(validator.validate(path1,
+                                       content1).isEmpty());
+    }
+
     @Test
     public void testValidateWithAValidJavaFile() throws Throwable {
         final Path path1 = path("/GuvnorM2RepoDependencyExample1/src/main/java/org/kie/workbench/common/services/builder/tests/test1/Bean.java");
@@ -32,6 +32,7 @@ import org.kie.workbench.common.stunner.core.client.canvas.controls.AbstractCanv
 import org.kie.workbench.common.stunner.core.client.canvas.controls.builder.ElementBuilderControl;
 import org.kie.workbench.common.stunner.core.client.canvas.controls.builder.request.ElementBuildRequest;
 import org.kie.workbench.common.stunner.core.client.canvas.controls.exceptions.ElementOutOfBoundsException;
+import org.kie.workbench.common.stunner.core.client.canvas.listener.CanvasElementListener;
 import org.kie.workbench.common.stunner.core.client.canvas.util.CanvasLayoutUtils;
 import org.kie.workbench.common.stunner.core.client.command.CanvasCommand;
 import org.kie.workbench.common.stunner.core.client.command.CanvasCommandFactory;
@@ -45,6 +46,7 @@ import org.kie.workbench.common.stunner.core.command.Command;
 import org.kie.workbench.common.stunner.core.command.impl.CompositeCommand;
 import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Element;
+import org.kie.workbench.common.stunner.core.graph.Graph;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.content.definition.DefinitionSet;
 import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
@@ -82,6 +84,31 @@ public abstract class AbstractElementBuilderControl extends AbstractCanvasHandle
     private final CanvasLayoutUtils canvasLayoutUtils;
     private RequiresCommandManager.CommandManagerProvider<AbstractCanvasHandler> commandManagerProvider;
 
+    // The bounds index is built once for a graph and root, and dropped when the canvas elements change.
+    private final CanvasElementListener boundsIndexListener = new CanvasElementListener() {
+        @Override
+        public void register(final Element item) {
+            invalidateBoundsIndex();
+        }
+
+        @Override
+        public void deregister(final Element item) {
+            invalidateBoundsIndex();
+        }
+
+        @Override
+        public void update(final Element item) {
+            invalidateBoundsIndex();
+        }
+
+        @Override
+        public void clear() {
+            invalidateBoundsIndex();
+        }
+    };
+    private Graph indexedGraph;
+    private String indexedRootUUID;
+
     public AbstractElementBuilderControl(final ClientDefinitionManager clientDefinitionManager,
                                          final ClientFactoryService clientFactoryServices,
                                          final GraphUtils graphUtils,
@@ -98,6 +125,16 @@ public abstract class AbstractElementBuilderControl extends AbstractCanvasHandle
         this.canvasLayoutUtils = canvasLayoutUtils;
     }
 
+    @Override
+    public void enable(final AbstractCanvasHandler canvasHandler) {
+        if (isEnabled()) {
+            this.canvasHandler.removeRegistrationListener(boundsIndexListener);
+        }
+        super.enable(canvasHandler);
+        invalidateBoundsIndex();
+        canvasHandler.addRegistrationListener(boundsIndexListener);
+    }
+
     @Override
     public void setCommandManagerProvider(final RequiresCommandManager.CommandManagerProvider<AbstractCanvasHandler> provider) {
         this.commandManagerProvider = provider;
@@ -223,6 +260,8 @@ public abstract class AbstractElementBuilderControl extends AbstractCanvasHandle
 
     @Override
     protected void doDisable() {
+        canvasHandler.removeRegistrationListener(boundsIndexListener);
+        invalidateBoundsIndex();
         graphBoundsIndexer.destroy();
         commandManagerProvider = null;
     }
@@ -332,7 +371,13 @@ public abstract class AbstractElementBuilderControl extends AbstractCanvasHandle
                                          final double _y) {
         if (_x > -1 && _y > -1) {
             final String rootUUID = canvasHandler.getDiagram().getMetadata().getCanvasRootUUID();
-            graphBoundsIndexer.setRootUUID(rootUUID).build(canvasHandler.getDiagram().getGraph());
+            final Graph graph = canvasHandler.getDiagram().getGraph();
+            if (graph != indexedGraph || !Objects.equals(rootUUID,
+                                                         indexedRootUUID)) {
+                graphBoundsIndexer.setRootUUID(rootUUID).build(graph);
+                indexedGraph = graph;
+                indexedRootUUID = rootUUID;
+            }
             final Node<View<?>, Edge> r = graphBoundsIndexer.getAt(_x,
                                                                    _y);
             return r;
@@ -340,6 +385,11 @@ public abstract class AbstractElementBuilderControl extends AbstractCanvasHandle
         return null;
     }
 
+    private void invalidateBoundsIndex() {
+        indexedGraph = null;
+        indexedRootUUID = null;
+    }
+
     public Point2D getChildCoordinates(final Node<View<?>, Edge> parent,
                                        final double _x,
                                        final double _y) {
@@ -32,6 +32,7 @@ import org.kie.workbench.common.stunner.core.client.canvas.command.AddNodeComman
 import org.kie.workbench.common.stunner.core.client.canvas.command.UpdateDockNodeCommand;
 import org.kie.workbench.common.stunner.core.client.canvas.command.UpdateElementPositionCommand;
 import org.kie.workbench.common.stunner.core.client.canvas.controls.builder.impl.AbstractElementBuilderControl.ParentAssignment;
+import org.kie.workbench.common.stunner.core.client.canvas.listener.CanvasElementListener;
 import org.kie.workbench.common.stunner.core.client.canvas.util.CanvasLayoutUtils;
 import org.kie.workbench.common.stunner.core.client.command.CanvasCommandFactory;
 import org.kie.workbench.common.stunner.core.client.command.CanvasViolation;
@@ -42,6 +43,7 @@ import org.kie.workbench.common.stunner.core.definition.adapter.DefinitionAdapte
 import org.kie.workbench.common.stunner.core.diagram.Diagram;
 import org.kie.workbench.common.stunner.core.diagram.Metadata;
 import org.kie.workbench.common.stunner.core.graph.Edge;
+import org.kie.workbench.common.stunner.core.graph.Graph;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.content.relationship.Child;
 import org.kie.workbench.common.stunner.core.graph.content.view.BoundImpl;
@@ -66,7 +68,10 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentCaptor.forClass;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyDouble;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -95,6 +100,9 @@ public class ElementBuilderControlImplTest {
     @Mock
     private GraphBoundsIndexer graphBoundsIndexer;
 
+    @Mock
+    private Graph graph;
+
     @Mock
     private CanvasLayoutUtils canvasLayoutUtil;
 
@@ -171,6 +179,8 @@ public class ElementBuilderControlImplTest {
         when(canvasHandler.getDiagram()).thenReturn(diagram);
         when(diagram.getMetadata()).thenReturn(metadata);
         when(metadata.getShapeSetId()).thenReturn(SHAPE_SET_ID);
+        when(diagram.getGraph()).thenReturn(graph);
+        when(graphBoundsIndexer.setRootUUID(any())).thenReturn(graphBoundsIndexer);
         when(canvasCommandFactory.updateDockNode(parent, node, true)).thenReturn(dockCommand);
         when(canvasCommandFactory.updatePosition(eq(node), any())).thenReturn(updateDockPositionCommand);
         when(canvasCommandFactory.addChildNode(any(), eq(node), eq(SHAPE_SET_ID))).thenReturn(addChildCommand);
@@ -263,4 +273,40 @@ public class ElementBuilderControlImplTest {
         verify(canvasCommandFactory).updatePosition(eq(node), positionCaptor.capture());
         assertEquals(positionCaptor.getValue(), new Point2D(X, Y));
     }
-}
\ No newline at end of file
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void getParentIndexesBoundsOncePerGraph() {
+        elementBuilderControl.getParent(X, Y);
+        elementBuilderControl.getParent(X + 10, Y + 10);
+
+        verify(graphBoundsIndexer, times(1)).build(graph);
+        verify(graphBoundsIndexer, times(2)).getAt(anyDouble(), anyDouble());
+
+        // Another diagram graph is indexed again.
+        final Graph otherGraph = mock(Graph.class);
+        when(diagram.getGraph()).thenReturn(otherGraph);
+        elementBuilderControl.getParent(X, Y);
+        verify(graphBoundsIndexer, times(1)).build(otherGraph);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void getParentReindexesBoundsOnCanvasChanges() {
+        final ArgumentCaptor<CanvasElementListener> listenerCaptor = ArgumentCaptor.forClass(CanvasElementListener.class);
+        verify(canvasHandler).addRegistrationListener(listenerCaptor.capture());
+        final CanvasElementListener listener = listenerCaptor.getValue();
+
+        elementBuilderControl.getParent(X, Y);
+        listener.update(node);
+        elementBuilderControl.getParent(X, Y);
+        listener.register(node);
+        elementBuilderControl.getParent(X, Y);
+        listener.deregister(node);
+        elementBuilderControl.getParent(X, Y);
+        verify(graphBoundsIndexer, times(4)).build(graph);
+
+        elementBuilderControl.disable();
+        verify(canvasHandler).removeRegistrationListener(listener);
+    }
+}
@@ -15,6 +15,7 @@
  */
 package org.kie.workbench.common.stunner.core.graph.command.impl;
 
+import java.util.HashSet;
 import java.util.Set;
 
 import org.jboss.errai.common.client.api.annotations.MapsTo;
@@ -29,6 +30,7 @@ import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandResultBuilder;
 import org.kie.workbench.common.stunner.core.graph.content.definition.Definition;
+import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
 import org.kie.workbench.common.stunner.core.rule.RuleViolation;
 
 /**
@@ -80,10 +82,14 @@ public final class MorphNodeCommand extends AbstractGraphCommand {
             candidate.getContent().setDefinition(newDef);
             // Update candidate roles.
             final Set<String> newLabels = definitionManager.adapters().forDefinition().getLabels(newDef);
+            final Set<String> oldLabels = new HashSet<>(candidate.getLabels());
             candidate.getLabels().clear();
             if (null != newLabels) {
                 candidate.getLabels().addAll(newLabels);
             }
+            GraphUtils.updateLabelsCount(getGraph(context),
+                                         candidate,
+                                         oldLabels);
         }
         return results;
     }
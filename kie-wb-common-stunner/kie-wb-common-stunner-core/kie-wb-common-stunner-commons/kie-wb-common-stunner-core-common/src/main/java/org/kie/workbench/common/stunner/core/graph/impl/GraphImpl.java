@@ -67,6 +67,10 @@ public class GraphImpl<C> extends AbstractElement<C> implements Graph<C, Node> {
         nodeStore.clear();
     }
 
+    public GraphNodeStore<Node> getNodeStore() {
+        return nodeStore;
+    }
+
     @Override
     public Node<C, Edge> asNode() {
         return null;
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.graph.processing.index.bounds;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A region quad tree over absolute, axis aligned bounds.
+ * <p>
+ * Entries are stored in the deepest quadrant that fully contains them, so a point
+ * lookup only visits the quadrants along a single path from the root.
+ * @param <T> The type of the values indexed.
+ */
+class BoundsQuadTree<T> {
+
+    static final int MAX_ENTRIES = 8;
+    static final int MAX_DEPTH = 12;
+
+    private final Quadrant root;
+
+    BoundsQuadTree(final double minX,
+                   final double minY,
+                   final double maxX,
+                   final double maxY) {
+        this.root = new Quadrant(minX,
+                                 minY,
+                                 maxX,
+                                 maxY,
+                                 0);
+    }
+
+    void insert(final Entry<T> entry) {
+        root.insert(entry);
+    }
+
+    /**
+     * Visits the entries which bounds contain the given point.
+     */
+    void visitAt(final double x,
+                 final double y,
+                 final Consumer<Entry<T>> consumer) {
+        Quadrant quadrant = root;
+        while (null != quadrant) {
+            for (final Entry<T> entry : quadrant.entries) {
+                if (entry.contains(x,
+                                   y)) {
+                    consumer.accept(entry);
+                }
+            }
+            quadrant = quadrant.childAt(x,
+                                        y);
+        }
+    }
+
+    static class Entry<T> {
+
+        final T value;
+        final double ulX;
+        final double ulY;
+        final double lrX;
+        final double lrY;
+        final int order;
+
+        Entry(final T value,
+              final double ulX,
+              final double ulY,
+              final double lrX,
+              final double lrY,
+              final int order) {
+            this.value = value;
+            this.ulX = ulX;
+            this.ulY = ulY;
+            this.lrX = lrX;
+            this.lrY = lrY;
+            this.order = order;
+        }
+
+        boolean contains(final double x,
+                         final double y) {
+            return x >= ulX && x <= lrX &&
+                    y >= ulY && y <= lrY;
+        }
+    }
+
+    private class Quadrant {
+
+        private final double minX;
+        private final double minY;
+        private final double maxX;
+        private final double maxY;
+        private final double midX;
+        private final double midY;
+        private final int depth;
+        private final List<Entry<T>> entries = new ArrayList<>();
+        private List<Quadrant> children;
+
+        private Quadrant(final double minX,
+                         final double minY,
+                         final double maxX,
+                         final double maxY,
+                         final int depth) {
+            this.minX = minX;
+            this.minY = minY;
+            this.maxX = maxX;
+            this.maxY = maxY;
+            this.midX = (minX + maxX) / 2;
+            this.midY = (minY + maxY) / 2;
+            this.depth = depth;
+        }
+
+        private void insert(final Entry<T> entry) {
+            if (null != children) {
+                final Quadrant child = childFor(entry);
+                if (null != child) {
+                    child.insert(entry);
+                    return;
+                }
+            }
+            entries.add(entry);
+            if (null == children && entries.size() > MAX_ENTRIES && depth < MAX_DEPTH) {
+                split();
+            }
+        }
+
+        private void split() {
+            children = new ArrayList<>(4);
+            children.add(new Quadrant(minX,
+                                      minY,
+                                      midX,
+                                      midY,
+                                      depth + 1));
+            children.add(new Quadrant(midX,
+                                      minY,
+                                      maxX,
+                                      midY,
+                                      depth + 1));
+            children.add(new Quadrant(minX,
+                                      midY,
+                                      midX,
+                                      maxY,
+                                      depth + 1));
+            children.add(new Quadrant(midX,
+                                      midY,
+                                      maxX,
+                                      maxY,
+                                      depth + 1));
+            final List<Entry<T>> current = new ArrayList<>(entries);
+            entries.clear();
+            for (final Entry<T> entry : current) {
+                final Quadrant child = childFor(entry);
+                if (null != child) {
+                    child.insert(entry);
+                } else {
+                    entries.add(entry);
+                }
+            }
+        }
+
+        private Quadrant childFor(final Entry<T> entry) {
+            final boolean left = entry.lrX < midX;
+            final boolean right = entry.ulX >= midX;
+            final boolean top = entry.lrY < midY;
+            final boolean bottom = entry.ulY >= midY;
+            if (top && left) {
+                return children.get(0);
+            }
+            if (top && right) {
+                return children.get(1);
+            }
+            if (bottom && left) {
+                return children.get(2);
+            }
+            if (bottom && right) {
+                return children.get(3);
+            }
+            return null;
+        }
+
+        private Quadrant childAt(final double x,
+                                 final double y) {
+            if (null == children) {
+                return null;
+            }
+            final int index = (x < midX ? 0 : 1) + (y < midY ? 0 : 2);
+            return children.get(index);
+        }
+    }
+}
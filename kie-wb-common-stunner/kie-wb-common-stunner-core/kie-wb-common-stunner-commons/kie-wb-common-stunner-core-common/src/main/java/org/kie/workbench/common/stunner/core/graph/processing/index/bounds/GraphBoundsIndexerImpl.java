@@ -16,6 +16,7 @@
 
 package org.kie.workbench.common.stunner.core.graph.processing.index.bounds;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,6 +41,8 @@ public class GraphBoundsIndexerImpl implements GraphBoundsIndexer {
     ChildrenTraverseProcessor childrenTraverseProcessor;
     private Graph<View, Node<View, Edge>> graph;
     private String rootUUID = null;
+    private BoundsQuadTree<Node> boundsIndex;
+    private BoundsQuadTree.Entry<Node> rootEntry;
 
     @Inject
     public GraphBoundsIndexerImpl(final ChildrenTraverseProcessor childrenTraverseProcessor) {
@@ -49,6 +52,7 @@ public class GraphBoundsIndexerImpl implements GraphBoundsIndexer {
     @Override
     public GraphBoundsIndexerImpl build(final Graph<View, Node<View, Edge>> graph) {
         this.graph = graph;
+        clearBoundsIndex();
         return this;
     }
 
@@ -138,10 +142,32 @@ public class GraphBoundsIndexerImpl implements GraphBoundsIndexer {
         return result;
     }
 
+    /**
+     * Returns the top most node, in traversal order, which bounds contain the given point.
+     * The absolute node bounds are indexed on first use after building the indexer, so
+     * consecutive lookups (eg: on mouse move) do not traverse the graph again.
+     */
     @SuppressWarnings("unchecked")
     public Node<View<?>, Edge> findElementAt(final double x,
                                              final double y) {
-        final Node[] result = new Node[1];
+        if (null == boundsIndex) {
+            buildBoundsIndex();
+        }
+        final BoundsQuadTree.Entry[] result = new BoundsQuadTree.Entry[]{rootEntry};
+        boundsIndex.visitAt(x,
+                            y,
+                            entry -> {
+                                if (null == result[0] || entry.order > result[0].order) {
+                                    result[0] = entry;
+                                }
+                            });
+        return null != result[0] ? (Node<View<?>, Edge>) result[0].value : null;
+    }
+
+    private void buildBoundsIndex() {
+        final List<BoundsQuadTree.Entry<Node>> entries = new ArrayList<>();
+        final double[] extent = new double[]{Double.MAX_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE, -Double.MAX_VALUE};
+        rootEntry = null;
         childrenTraverseProcessor.traverse(graph,
                                            new GraphBoundIndexerTraverseCallback(new NodeBoundsTraverseCallback() {
 
@@ -149,16 +175,45 @@ public class GraphBoundsIndexerImpl implements GraphBoundsIndexer {
                                                public void onNodeTraverse(final Node<View, Edge> node,
                                                                           final double parentX,
                                                                           final double parentY) {
-                                                   if (isNodeAt(node,
-                                                                parentX,
-                                                                parentY,
-                                                                x,
-                                                                y)) {
-                                                       result[0] = node;
+                                                   final double[] absCoords = getNodeAbsoluteCoordinates(node,
+                                                                                                         parentX,
+                                                                                                         parentY);
+                                                   final BoundsQuadTree.Entry<Node> entry = new BoundsQuadTree.Entry<>(node,
+                                                                                                                       absCoords[0],
+                                                                                                                       absCoords[1],
+                                                                                                                       absCoords[2],
+                                                                                                                       absCoords[3],
+                                                                                                                       entries.size());
+                                                   entries.add(entry);
+                                                   if (null != rootUUID && node.getUUID().equals(rootUUID)) {
+                                                       // The canvas root matches any location.
+                                                       rootEntry = entry;
                                                    }
+                                                   extent[0] = Math.min(extent[0],
+                                                                        absCoords[0]);
+                                                   extent[1] = Math.min(extent[1],
+                                                                        absCoords[1]);
+                                                   extent[2] = Math.max(extent[2],
+                                                                        absCoords[2]);
+                                                   extent[3] = Math.max(extent[3],
+                                                                        absCoords[3]);
                                                }
                                            }));
-        return result[0];
+        boundsIndex = entries.isEmpty() ?
+                new BoundsQuadTree<>(0,
+                                     0,
+                                     0,
+                                     0) :
+                new BoundsQuadTree<>(extent[0],
+                                     extent[1],
+                                     extent[2],
+                                     extent[3]);
+        entries.forEach(boundsIndex::insert);
+    }
+
+    private void clearBoundsIndex() {
+        this.boundsIndex = null;
+        this.rootEntry = null;
     }
 
     private Point2D getNodeCoordinates(final Node node) {
@@ -186,31 +241,10 @@ public class GraphBoundsIndexerImpl implements GraphBoundsIndexer {
         return new double[]{ulX, ulY, lrX, lrY};
     }
 
-    private boolean isNodeAt(final Node node,
-                             final double parentX,
-                             final double parentY,
-                             final double mouseX,
-                             final double mouseY) {
-        if (null != rootUUID && node.getUUID().equals(rootUUID)) {
-            return true;
-        }
-        final double[] absoluteCoords = getNodeAbsoluteCoordinates(node,
-                                                                   parentX,
-                                                                   parentY);
-        final double ulX = absoluteCoords[0];
-        final double ulY = absoluteCoords[1];
-        final double lrX = absoluteCoords[2];
-        final double lrY = absoluteCoords[3];
-        if (mouseX >= ulX && mouseX <= lrX &&
-                mouseY >= ulY && mouseY <= lrY) {
-            return true;
-        }
-        return false;
-    }
-
     @Override
     public GraphBoundsIndexer setRootUUID(final String uuid) {
         this.rootUUID = uuid;
+        clearBoundsIndex();
         return this;
     }
 
@@ -218,6 +252,7 @@ public class GraphBoundsIndexerImpl implements GraphBoundsIndexer {
     public void destroy() {
         this.graph = null;
         this.rootUUID = null;
+        clearBoundsIndex();
     }
 
     private abstract class NodeBoundsTraverseCallback {
@@ -16,9 +16,12 @@
 
 package org.kie.workbench.common.stunner.core.graph.store;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.jboss.errai.common.client.api.annotations.Portable;
 import org.kie.workbench.common.stunner.core.graph.Node;
@@ -28,15 +31,33 @@ public class GraphNodeStoreImpl implements GraphNodeStore<Node> {
 
     protected Map<String, Node> nodes = new HashMap<String, Node>();
 
+    /**
+     * Number of nodes in the store for each label. Built lazily, as the store
+     * can be populated by the marshallers without going through <code>add</code>,
+     * and kept up to date by the store operations afterwards.
+     */
+    private transient Map<String, Integer> labelsCount;
+
     @Override
     public Node add(final Node node) {
-        return nodes.put(node.getUUID(),
-                         node);
+        final Node previous = nodes.put(node.getUUID(),
+                                        node);
+        if (null != labelsCount) {
+            if (null != previous) {
+                decrementLabels(previous.getLabels());
+            }
+            incrementLabels(node.getLabels());
+        }
+        return previous;
     }
 
     @Override
     public Node remove(final String uuid) {
-        return nodes.remove(uuid);
+        final Node removed = nodes.remove(uuid);
+        if (null != labelsCount && null != removed) {
+            decrementLabels(removed.getLabels());
+        }
+        return removed;
     }
 
     @Override
@@ -52,6 +73,84 @@ public class GraphNodeStoreImpl implements GraphNodeStore<Node> {
     @Override
     public void clear() {
         nodes.clear();
+        labelsCount = null;
+    }
+
+    /**
+     * Returns the number of nodes in the store tagged with the given label.
+     */
+    public int getLabelCount(final String label) {
+        final Integer count = getLabelsCountIndex().get(label);
+        return null != count ? count : 0;
+    }
+
+    /**
+     * Returns the number of nodes for each label present in the store. Labels
+     * not being used are not returned, even if included in the <code>filter</code>.
+     * @param filter The labels to count, or <code>null</code> to count all of them.
+     */
+    public Map<String, Integer> getLabelsCount(final Set<String> filter) {
+        final Map<String, Integer> index = getLabelsCountIndex();
+        if (null == filter) {
+            return new LinkedHashMap<>(index);
+        }
+        final Map<String, Integer> result = new LinkedHashMap<>();
+        for (final String label : filter) {
+            final Integer count = index.get(label);
+            if (null != count) {
+                result.put(label,
+                           count);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Updates the labels count for a node which labels have been changed
+     * while being part of the store.
+     * @param node The node, already holding the new labels.
+     * @param oldLabels The labels the node had before the change.
+     */
+    public void updateLabels(final Node node,
+                             final Set<String> oldLabels) {
+        if (null != labelsCount && nodes.containsKey(node.getUUID())) {
+            decrementLabels(oldLabels);
+            incrementLabels(node.getLabels());
+        }
+    }
+
+    private Map<String, Integer> getLabelsCountIndex() {
+        if (null == labelsCount) {
+            labelsCount = new HashMap<>();
+            for (final Node node : nodes.values()) {
+                incrementLabels(node.getLabels());
+            }
+        }
+        return Collections.unmodifiableMap(labelsCount);
+    }
+
+    private void incrementLabels(final Set<String> labels) {
+        if (null != labels) {
+            for (final String label : labels) {
+                final Integer count = labelsCount.get(label);
+                labelsCount.put(label,
+                                null != count ? count + 1 : 1);
+            }
+        }
+    }
+
+    private void decrementLabels(final Set<String> labels) {
+        if (null != labels) {
+            for (final String label : labels) {
+                final Integer count = labelsCount.get(label);
+                if (null != count && count > 1) {
+                    labelsCount.put(label,
+                                    count - 1);
+                } else {
+                    labelsCount.remove(label);
+                }
+            }
+        }
     }
 
     @Override
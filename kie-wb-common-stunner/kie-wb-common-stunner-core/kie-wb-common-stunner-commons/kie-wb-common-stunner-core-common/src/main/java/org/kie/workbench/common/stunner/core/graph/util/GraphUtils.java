@@ -41,6 +41,9 @@ import org.kie.workbench.common.stunner.core.graph.content.relationship.Dock;
 import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
 import org.kie.workbench.common.stunner.core.graph.content.view.ViewConnector;
+import org.kie.workbench.common.stunner.core.graph.impl.GraphImpl;
+import org.kie.workbench.common.stunner.core.graph.store.GraphNodeStore;
+import org.kie.workbench.common.stunner.core.graph.store.GraphNodeStoreImpl;
 
 import static org.kie.soup.commons.validation.PortablePreconditions.checkNotNull;
 
@@ -120,6 +123,10 @@ public class GraphUtils {
     @SuppressWarnings("unchecked")
     public static Map<String, Integer> getLabelsCount(final Graph<?, ? extends Node> target,
                                                       final Set<String> filter) {
+        final GraphNodeStoreImpl nodeStore = getIndexedNodeStore(target);
+        if (null != nodeStore) {
+            return nodeStore.getLabelsCount(filter);
+        }
         final Map<String, Integer> labels = new LinkedHashMap<>();
         target.nodes().forEach(node -> {
             final Set<String> nodeRoles = node.getLabels();
@@ -137,6 +144,30 @@ public class GraphUtils {
         return labels;
     }
 
+    /**
+     * Keeps the graph's labels count up to date once the labels for the given node,
+     * which is already present in the graph, have been updated.
+     */
+    public static void updateLabelsCount(final Graph<?, ? extends Node> target,
+                                         final Node node,
+                                         final Set<String> oldLabels) {
+        final GraphNodeStoreImpl nodeStore = getIndexedNodeStore(target);
+        if (null != nodeStore) {
+            nodeStore.updateLabels(node,
+                                   oldLabels);
+        }
+    }
+
+    private static GraphNodeStoreImpl getIndexedNodeStore(final Graph<?, ? extends Node> target) {
+        if (target instanceof GraphImpl) {
+            final GraphNodeStore<Node> nodeStore = ((GraphImpl) target).getNodeStore();
+            if (nodeStore instanceof GraphNodeStoreImpl) {
+                return (GraphNodeStoreImpl) nodeStore;
+            }
+        }
+        return null;
+    }
+
     @SuppressWarnings("unchecked")
     public static List<String> getParentIds(final DefinitionManager definitionManager,
                                             final Graph<? extends DefinitionSet, ? extends Node> graph,
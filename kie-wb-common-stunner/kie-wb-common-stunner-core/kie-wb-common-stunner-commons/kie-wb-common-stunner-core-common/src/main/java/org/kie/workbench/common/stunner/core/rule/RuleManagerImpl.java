@@ -16,10 +16,15 @@
 
 package org.kie.workbench.common.stunner.core.rule;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Optional;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
@@ -38,7 +43,11 @@ public class RuleManagerImpl implements RuleManager {
 
     private static Logger LOGGER = Logger.getLogger(RuleManagerImpl.class.getName());
 
+    static final int MAX_DISPATCH_TABLES = 16;
+
     private final RuleHandlerRegistry registry;
+    private final Map<RuleSet, Map<Class<?>, List<RuleDispatch>>> dispatchTables;
+    private final Map<Class<?>, EvaluationStats> evaluationStats;
 
     protected RuleManagerImpl() {
         this(null);
@@ -46,7 +55,16 @@ public class RuleManagerImpl implements RuleManager {
 
     @Inject
     public RuleManagerImpl(final RegistryFactory registryFactory) {
-        this.registry = null != registryFactory ? registryFactory.newRuleHandlerRegistry() : null;
+        this.registry = null != registryFactory ? new DispatchingRuleHandlerRegistry(registryFactory.newRuleHandlerRegistry()) : null;
+        this.dispatchTables = new LinkedHashMap<RuleSet, Map<Class<?>, List<RuleDispatch>>>(MAX_DISPATCH_TABLES,
+                                                                                             0.75f,
+                                                                                             true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<RuleSet, Map<Class<?>, List<RuleDispatch>>> eldest) {
+                return size() > MAX_DISPATCH_TABLES;
+            }
+        };
+        this.evaluationStats = new HashMap<>();
     }
 
     @Override
@@ -64,23 +82,31 @@ public class RuleManagerImpl implements RuleManager {
             defines if allow/or deny the evaluation
             - Otherwise return the rule violations produced by the handlers or extensions
          */
+        final long start = System.nanoTime();
         final DefaultRuleViolations results = new DefaultRuleViolations();
         final boolean hasRules = ruleSet.getRules().iterator().hasNext();
         if (hasRules) {
-            final boolean[] hasEvaluations = {false};
-            ruleSet.getRules().forEach(rule -> {
-                final Optional<RuleViolations> violations = evaluate(rule,
-                                                                     context);
-                if (violations.isPresent()) {
-                    hasEvaluations[0] = true;
-                    LOGGER.info("Rule Evaluation [" + rule + ", " + violations + "]");
-                    results.addViolations(violations.get());
+            boolean hasEvaluations = false;
+            // Only the rules that any of the registered handlers can evaluate for this context type are visited.
+            for (final RuleDispatch dispatch : getDispatchTable(ruleSet,
+                                                                context.getType())) {
+                final RuleViolations violations = dispatch.evaluate(context);
+                if (null != violations) {
+                    hasEvaluations = true;
+                    if (LOGGER.isLoggable(Level.FINE)) {
+                        LOGGER.fine("Rule Evaluation [" + dispatch.rule + ", " + violations + "]");
+                    }
+                    results.addViolations(violations);
                 }
-            });
-            if (!hasEvaluations[0] && context.isDefaultDeny()) {
+            }
+            if (!hasEvaluations && context.isDefaultDeny()) {
+                recordEvaluation(context.getType(),
+                                 start);
                 return getDefaultViolationForContext(context);
             }
         }
+        recordEvaluation(context.getType(),
+                         start);
         return results;
     }
 
@@ -95,82 +121,240 @@ public class RuleManagerImpl implements RuleManager {
         return registry;
     }
 
-    private Optional<RuleViolations> evaluate(final Rule rule,
-                                              final RuleEvaluationContext context) {
-        if (rule instanceof RuleExtension) {
-            return evaluateExtension((RuleExtension) rule,
-                                     context);
-        }
-        return evaluateRule(rule,
-                            context);
+    /**
+     * Returns the evaluation statistics for each rule evaluation context type
+     * evaluated by this manager.
+     */
+    public synchronized Map<Class<?>, EvaluationStats> getEvaluationStats() {
+        final Map<Class<?>, EvaluationStats> result = new HashMap<>(evaluationStats.size());
+        evaluationStats.forEach((type, stats) -> result.put(type,
+                                                            stats.copy()));
+        return result;
     }
 
-    @SuppressWarnings("unchecked")
-    private Optional<RuleViolations> evaluateRule(final Rule rule,
-                                                  final RuleEvaluationContext context) {
-        checkNotNull("rule",
-                     rule);
-        checkNotNull("context",
-                     context);
-        final Collection<RuleEvaluationHandler> handlers = getHandler(rule,
-                                                                      context);
-        final DefaultRuleViolations results = new DefaultRuleViolations();
-        if (!handlers.isEmpty()) {
-            handlers.forEach(h -> results.addViolations(h.evaluate(rule,
-                                                                   context)));
-            return Optional.of(results);
+    private synchronized void recordEvaluation(final Class<?> contextType,
+                                               final long start) {
+        EvaluationStats stats = evaluationStats.get(contextType);
+        if (null == stats) {
+            stats = new EvaluationStats();
+            evaluationStats.put(contextType,
+                                stats);
         }
-        return Optional.empty();
+        stats.add(System.nanoTime() - start);
     }
 
-    @SuppressWarnings("unchecked")
-    private Optional<RuleViolations> evaluateExtension(final RuleExtension rule,
-                                                       final RuleEvaluationContext context) {
-        checkNotNull("rule",
-                     rule);
-        checkNotNull("context",
-                     context);
-        final Optional<RuleExtensionHandler> handler = getExtensionHandler(rule,
-                                                                           context);
-        return handler.isPresent() ? Optional.of(handler.get().evaluate(rule,
-                                                                        context)) : Optional.empty();
+    /**
+     * Returns the rules in the rule set, in order, that can be evaluated for the given context type,
+     * along with the handlers whose rule and context types match them. The table is built once
+     * for each rule set and context type, and rebuilt if any handler is registered later on.
+     */
+    synchronized List<RuleDispatch> getDispatchTable(final RuleSet ruleSet,
+                                                     final Class<?> contextType) {
+        Map<Class<?>, List<RuleDispatch>> ruleSetTable = dispatchTables.get(ruleSet);
+        if (null == ruleSetTable) {
+            ruleSetTable = new HashMap<>();
+            dispatchTables.put(ruleSet,
+                               ruleSetTable);
+        }
+        List<RuleDispatch> table = ruleSetTable.get(contextType);
+        if (null == table) {
+            table = buildDispatchTable(ruleSet,
+                                       contextType);
+            ruleSetTable.put(contextType,
+                             table);
+        }
+        return table;
     }
 
-    private Collection<RuleEvaluationHandler> getHandler(final Rule rule,
-                                                         final RuleEvaluationContext context) {
-        final Collection<RuleEvaluationHandler> handlers = registry.getHandlersByContext(context.getType());
-        return handlers.stream()
-                .filter(h -> accepts(h,
-                                     rule,
-                                     context))
-                .collect(Collectors.toList());
+    private synchronized void clearDispatchTables() {
+        dispatchTables.clear();
     }
 
-    private Optional<RuleExtensionHandler> getExtensionHandler(final RuleExtension rule,
-                                                               final RuleEvaluationContext context) {
-        final RuleExtensionHandler handler = registry.getExtensionHandler(rule.getHandlerType());
-        return null != handler
-                && accepts(handler,
-                           rule,
-                           context) ? Optional.of(handler) : Optional.empty();
+    private List<RuleDispatch> buildDispatchTable(final RuleSet ruleSet,
+                                                  final Class<?> contextType) {
+        final Collection<RuleEvaluationHandler> contextHandlers = registry.getHandlersByContext(contextType);
+        final List<RuleDispatch> table = new ArrayList<>();
+        for (final Rule rule : ruleSet.getRules()) {
+            checkNotNull("rule",
+                         rule);
+            if (rule instanceof RuleExtension) {
+                final RuleExtensionHandler handler = registry.getExtensionHandler(((RuleExtension) rule).getHandlerType());
+                if (null != handler && accepts(handler,
+                                               rule,
+                                               contextType)) {
+                    table.add(new RuleDispatch(rule,
+                                               Collections.singletonList(handler)));
+                }
+            } else if (null != contextHandlers) {
+                final List<RuleEvaluationHandler> handlers = new ArrayList<>();
+                for (final RuleEvaluationHandler handler : contextHandlers) {
+                    if (accepts(handler,
+                                rule,
+                                contextType)) {
+                        handlers.add(handler);
+                    }
+                }
+                if (!handlers.isEmpty()) {
+                    table.add(new RuleDispatch(rule,
+                                               handlers));
+                }
+            }
+        }
+        return table;
     }
 
     /**
      * Handler acceptance based on:
-     * 1- Rule and context types - for performance and computing purposes.
+     * 1- Rule and context types - for performance and computing purposes. As it does not
+     * depend on the context's state at runtime, it's computed once, when building the dispatch table.
      * 2- Once types are known accepted - do a second acceptance evaluation based
      * on the context's state at runtime.
      * 3.- Once 1) AND 2) - the handler is able to perform more complex runtime
      * evaluation, the evaluation can be delegated to it.
      */
-    @SuppressWarnings("unchecked")
-    private boolean accepts(final RuleEvaluationHandler handler,
-                            final Rule rule,
-                            final RuleEvaluationContext context) {
+    private static boolean accepts(final RuleEvaluationHandler handler,
+                                   final Rule rule,
+                                   final Class<?> contextType) {
         return handler.getRuleType().equals(rule.getClass())
-                && (handler.getContextType().equals(context.getType())
-                || RuleEvaluationContext.class.equals(handler.getContextType()))
-                && handler.accepts(rule,
-                                   context);
+                && (handler.getContextType().equals(contextType)
+                || RuleEvaluationContext.class.equals(handler.getContextType()));
+    }
+
+    static class RuleDispatch {
+
+        private final Rule rule;
+        private final List<RuleEvaluationHandler> handlers;
+
+        private RuleDispatch(final Rule rule,
+                             final List<RuleEvaluationHandler> handlers) {
+            this.rule = rule;
+            this.handlers = handlers;
+        }
+
+        /**
+         * Evaluates the rule using the handlers that accept the context's state at runtime.
+         * Returns <code>null</code> if no handler accepts it.
+         */
+        @SuppressWarnings("unchecked")
+        private RuleViolations evaluate(final RuleEvaluationContext context) {
+            DefaultRuleViolations results = null;
+            for (final RuleEvaluationHandler handler : handlers) {
+                if (handler.accepts(rule,
+                                    context)) {
+                    if (null == results) {
+                        results = new DefaultRuleViolations();
+                    }
+                    results.addViolations(handler.evaluate(rule,
+                                                           context));
+                }
+            }
+            return results;
+        }
+
+        Rule getRule() {
+            return rule;
+        }
+    }
+
+    /**
+     * The times are measured in nanoseconds, as most evaluations take less than a millisecond,
+     * and only converted when read.
+     */
+    public static class EvaluationStats {
+
+        private static final long NANOS_PER_MILLI = 1000000L;
+
+        private long count;
+        private long totalTimeNanos;
+        private long maxTimeNanos;
+
+        private void add(final long timeNanos) {
+            count++;
+            totalTimeNanos += timeNanos;
+            maxTimeNanos = Math.max(maxTimeNanos,
+                                    timeNanos);
+        }
+
+        private EvaluationStats copy() {
+            final EvaluationStats copy = new EvaluationStats();
+            copy.count = count;
+            copy.totalTimeNanos = totalTimeNanos;
+            copy.maxTimeNanos = maxTimeNanos;
+            return copy;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * The accumulated evaluation time, in milliseconds.
+         */
+        public long getTotalTime() {
+            return totalTimeNanos / NANOS_PER_MILLI;
+        }
+
+        /**
+         * The maximum time spent on a single evaluation, in milliseconds.
+         */
+        public long getMaxTime() {
+            return maxTimeNanos / NANOS_PER_MILLI;
+        }
+
+        /**
+         * The accumulated evaluation time, in nanoseconds.
+         */
+        public long getTotalTimeNanos() {
+            return totalTimeNanos;
+        }
+
+        /**
+         * The maximum time spent on a single evaluation, in nanoseconds.
+         */
+        public long getMaxTimeNanos() {
+            return maxTimeNanos;
+        }
+    }
+
+    private class DispatchingRuleHandlerRegistry implements RuleHandlerRegistry {
+
+        private final RuleHandlerRegistry delegate;
+
+        private DispatchingRuleHandlerRegistry(final RuleHandlerRegistry delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void register(final RuleEvaluationHandler handler) {
+            delegate.register(handler);
+            clearDispatchTables();
+        }
+
+        @Override
+        public boolean remove(final RuleEvaluationHandler handler) {
+            final boolean removed = delegate.remove(handler);
+            clearDispatchTables();
+            return removed;
+        }
+
+        @Override
+        public Collection<RuleEvaluationHandler> getHandlersByContext(final Class<?> context) {
+            return delegate.getHandlersByContext(context);
+        }
+
+        @Override
+        public <T extends RuleExtensionHandler> T getExtensionHandler(final Class<T> type) {
+            return delegate.getExtensionHandler(type);
+        }
+
+        @Override
+        public boolean contains(final RuleEvaluationHandler handler) {
+            return delegate.contains(handler);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return delegate.isEmpty();
+        }
     }
 }
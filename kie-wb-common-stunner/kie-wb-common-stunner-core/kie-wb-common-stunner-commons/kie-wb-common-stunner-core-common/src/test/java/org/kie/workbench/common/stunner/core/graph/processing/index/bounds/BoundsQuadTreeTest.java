@@ -0,0 +1,114 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.graph.processing.index.bounds;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BoundsQuadTreeTest {
+
+    private static final int GRID = 50;
+    private static final double SIZE = 40;
+    private static final double GAP = 10;
+
+    private BoundsQuadTree<String> tested;
+    private List<BoundsQuadTree.Entry<String>> entries;
+
+    @Before
+    public void setup() {
+        final double extent = GRID * (SIZE + GAP);
+        tested = new BoundsQuadTree<>(0,
+                                      0,
+                                      extent,
+                                      extent);
+        entries = new ArrayList<>();
+        // A container spanning the whole area plus a grid of nodes.
+        entries.add(new BoundsQuadTree.Entry<>("container",
+                                               0,
+                                               0,
+                                               extent,
+                                               extent,
+                                               0));
+        for (int i = 0; i < GRID; i++) {
+            for (int j = 0; j < GRID; j++) {
+                final double x = i * (SIZE + GAP);
+                final double y = j * (SIZE + GAP);
+                entries.add(new BoundsQuadTree.Entry<>(i + "-" + j,
+                                                       x,
+                                                       y,
+                                                       x + SIZE,
+                                                       y + SIZE,
+                                                       entries.size()));
+            }
+        }
+        entries.forEach(tested::insert);
+    }
+
+    @Test
+    public void testVisitAtNode() {
+        final Set<String> found = visitAt(3 * (SIZE + GAP) + 1,
+                                          7 * (SIZE + GAP) + SIZE);
+        assertEquals(2,
+                     found.size());
+        assertTrue(found.contains("container"));
+        assertTrue(found.contains("3-7"));
+    }
+
+    @Test
+    public void testVisitAtGap() {
+        final Set<String> found = visitAt(SIZE + 1,
+                                          SIZE + 1);
+        assertEquals(1,
+                     found.size());
+        assertTrue(found.contains("container"));
+    }
+
+    @Test
+    public void testVisitAtMatchesLinearScan() {
+        for (double x = 0; x < GRID * (SIZE + GAP); x += 13.7) {
+            for (double y = 0; y < GRID * (SIZE + GAP); y += 17.3) {
+                final Set<String> expected = new HashSet<>();
+                for (final BoundsQuadTree.Entry<String> entry : entries) {
+                    if (entry.contains(x,
+                                       y)) {
+                        expected.add(entry.value);
+                    }
+                }
+                assertEquals(expected,
+                             visitAt(x,
+                                     y));
+            }
+        }
+    }
+
+    private Set<String> visitAt(final double x,
+                                final double y) {
+        final Set<String> found = new HashSet<>();
+        tested.visitAt(x,
+                       y,
+                       entry -> found.add(entry.value));
+        return found;
+    }
+}
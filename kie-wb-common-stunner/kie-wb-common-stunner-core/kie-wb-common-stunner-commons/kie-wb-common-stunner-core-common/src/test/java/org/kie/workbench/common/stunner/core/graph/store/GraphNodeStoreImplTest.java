@@ -0,0 +1,137 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.graph.store;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.impl.NodeImpl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class GraphNodeStoreImplTest {
+
+    private GraphNodeStoreImpl tested;
+
+    @Before
+    public void setup() {
+        tested = new GraphNodeStoreImpl();
+    }
+
+    @Test
+    public void testLabelsCountBuiltFromExistingNodes() {
+        tested.add(newNode("n1",
+                           "start",
+                           "all"));
+        tested.add(newNode("n2",
+                           "task",
+                           "all"));
+        assertEquals(1,
+                     tested.getLabelCount("start"));
+        assertEquals(2,
+                     tested.getLabelCount("all"));
+        assertEquals(0,
+                     tested.getLabelCount("end"));
+    }
+
+    @Test
+    public void testLabelsCountKeptUpToDate() {
+        tested.add(newNode("n1",
+                           "start",
+                           "all"));
+        assertEquals(1,
+                     tested.getLabelCount("all"));
+        tested.add(newNode("n2",
+                           "task",
+                           "all"));
+        tested.add(newNode("n3",
+                           "task",
+                           "all"));
+        assertEquals(3,
+                     tested.getLabelCount("all"));
+        assertEquals(2,
+                     tested.getLabelCount("task"));
+        tested.remove("n2");
+        assertEquals(2,
+                     tested.getLabelCount("all"));
+        assertEquals(1,
+                     tested.getLabelCount("task"));
+        tested.add(newNode("n3",
+                           "end"));
+        assertEquals(0,
+                     tested.getLabelCount("task"));
+        assertEquals(1,
+                     tested.getLabelCount("end"));
+        tested.clear();
+        assertEquals(0,
+                     tested.getLabelCount("start"));
+    }
+
+    @Test
+    public void testUpdateLabels() {
+        final Node node = newNode("n1",
+                                  "task");
+        tested.add(node);
+        assertEquals(1,
+                     tested.getLabelCount("task"));
+        final Set<String> oldLabels = new HashSet<>(node.getLabels());
+        node.getLabels().clear();
+        node.getLabels().add("subprocess");
+        tested.updateLabels(node,
+                            oldLabels);
+        assertEquals(0,
+                     tested.getLabelCount("task"));
+        assertEquals(1,
+                     tested.getLabelCount("subprocess"));
+    }
+
+    @Test
+    public void testGetLabelsCountFiltered() {
+        tested.add(newNode("n1",
+                           "start",
+                           "all"));
+        tested.add(newNode("n2",
+                           "task",
+                           "all"));
+        final Map<String, Integer> count = tested.getLabelsCount(new HashSet<>(Arrays.asList("task",
+                                                                                             "end")));
+        assertEquals(1,
+                     count.size());
+        assertEquals(1,
+                     count.get("task").intValue());
+        assertFalse(count.containsKey("end"));
+        assertTrue(tested.getLabelsCount(Collections.emptySet()).isEmpty());
+        assertEquals(3,
+                     tested.getLabelsCount(null).size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Node newNode(final String uuid,
+                                final String... labels) {
+        final NodeImpl node = new NodeImpl(uuid);
+        node.getLabels().addAll(Arrays.asList(labels));
+        return node;
+    }
+}
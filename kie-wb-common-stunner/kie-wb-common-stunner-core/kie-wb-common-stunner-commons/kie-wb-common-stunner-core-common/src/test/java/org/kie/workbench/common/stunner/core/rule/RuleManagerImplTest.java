@@ -22,6 +22,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -41,9 +42,14 @@ import org.mockito.runners.MockitoJUnitRunner;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -262,4 +268,69 @@ public class RuleManagerImplTest {
         assertTrue(violations.contains(ruleViolation2));
         assertTrue(violations.contains(ruleViolation3));
     }
+
+    @Test
+    public void testDispatchTableSkipsUnhandledRules() {
+        when(handler1.getRuleType()).thenReturn(RuleExtension.class);
+        when(handler2.getRuleType()).thenReturn(RuleExtension.class);
+        when(registry.getExtensionHandler(any(Class.class))).thenReturn(null);
+        final List<RuleManagerImpl.RuleDispatch> table = tested.getDispatchTable(ruleSet,
+                                                                                 ContainmentContext.class);
+        assertTrue(table.isEmpty());
+        verify(handler1,
+               never()).accepts(any(Rule.class),
+                                any(RuleEvaluationContext.class));
+    }
+
+    @Test
+    public void testDispatchTableIsCached() {
+        final List<RuleManagerImpl.RuleDispatch> table = tested.getDispatchTable(ruleSet,
+                                                                                 ContainmentContext.class);
+        assertEquals(3,
+                     table.size());
+        assertEquals(rule1,
+                     table.get(0).getRule());
+        assertEquals(rule2,
+                     table.get(1).getRule());
+        assertEquals(ruleExtension,
+                     table.get(2).getRule());
+        assertSame(table,
+                   tested.getDispatchTable(ruleSet,
+                                           ContainmentContext.class));
+        verify(registry,
+               times(1)).getHandlersByContext(eq(ContainmentContext.class));
+    }
+
+    @Test
+    public void testDispatchTableRebuiltOnRegister() {
+        final List<RuleManagerImpl.RuleDispatch> table = tested.getDispatchTable(ruleSet,
+                                                                                 ContainmentContext.class);
+        tested.registry().register(handler1);
+        verify(registry).register(eq(handler1));
+        assertNotSame(table,
+                      tested.getDispatchTable(ruleSet,
+                                              ContainmentContext.class));
+    }
+
+    @Test
+    public void testEvaluationStats() {
+        when(registry.getExtensionHandler(any(Class.class))).thenReturn(null);
+        when(handler1.accepts(eq(rule1),
+                              eq(ruleEvaluationContext))).thenReturn(true);
+        tested.evaluate(ruleSet,
+                        ruleEvaluationContext);
+        tested.evaluate(ruleSet,
+                        ruleEvaluationContext);
+        final Map<Class<?>, RuleManagerImpl.EvaluationStats> stats = tested.getEvaluationStats();
+        assertEquals(1,
+                     stats.size());
+        final RuleManagerImpl.EvaluationStats contextStats = stats.get(ruleEvaluationContext.getType());
+        assertEquals(2,
+                     contextStats.getCount());
+        // the times are kept in nanoseconds and reported in milliseconds
+        assertTrue(contextStats.getTotalTimeNanos() > 0);
+        assertTrue(contextStats.getMaxTimeNanos() <= contextStats.getTotalTimeNanos());
+        assertEquals(contextStats.getTotalTimeNanos() / 1000000,
+                     contextStats.getTotalTime());
+    }
 }
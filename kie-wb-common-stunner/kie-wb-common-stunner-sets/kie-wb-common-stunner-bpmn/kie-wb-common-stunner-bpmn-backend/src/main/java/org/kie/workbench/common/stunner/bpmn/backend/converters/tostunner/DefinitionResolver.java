@@ -34,6 +34,7 @@ import org.eclipse.bpmn2.Signal;
 import org.eclipse.bpmn2.di.BPMNEdge;
 import org.eclipse.bpmn2.di.BPMNPlane;
 import org.eclipse.bpmn2.di.BPMNShape;
+import org.eclipse.dd.di.DiagramElement;
 import org.eclipse.emf.ecore.util.FeatureMap;
 
 /**
@@ -58,6 +59,8 @@ public class DefinitionResolver {
     private final Definitions definitions;
     private final Process process;
     private final BPMNPlane plane;
+    private final Map<String, BPMNShape> shapes = new HashMap<>();
+    private final Map<String, BPMNEdge> edges = new HashMap<>();
 
     public DefinitionResolver(Definitions definitions) {
         this.definitions = definitions;
@@ -65,6 +68,7 @@ public class DefinitionResolver {
         this.simulationParameters = initSimulationParameters(definitions);
         this.process = findProcess();
         this.plane = findPlane();
+        initPlaneElements();
     }
 
     public BPMNPlane getPlane() {
@@ -160,19 +164,31 @@ public class DefinitionResolver {
         return definitions.getDiagrams().get(0).getPlane();
     }
 
+    /**
+     * Indexes the shapes and edges of the plane by the ID of their element,
+     * so that each lookup does not scan the whole plane
+     */
+    private void initPlaneElements() {
+        for (DiagramElement element : plane.getPlaneElement()) {
+            if (element instanceof BPMNShape) {
+                BPMNShape shape = (BPMNShape) element;
+                if (shape.getBpmnElement() != null) {
+                    shapes.putIfAbsent(shape.getBpmnElement().getId(), shape);
+                }
+            } else if (element instanceof BPMNEdge) {
+                BPMNEdge edge = (BPMNEdge) element;
+                if (edge.getBpmnElement() != null) {
+                    edges.putIfAbsent(edge.getBpmnElement().getId(), edge);
+                }
+            }
+        }
+    }
+
     public BPMNShape getShape(String elementId) {
-        return plane.getPlaneElement().stream()
-                .filter(dia -> dia instanceof BPMNShape)
-                .map(shape -> (BPMNShape) shape)
-                .filter(shape -> shape.getBpmnElement().getId().equals(elementId))
-                .findFirst().orElse(null);
+        return shapes.get(elementId);
     }
 
     public Optional<BPMNEdge> getEdge(String elementId) {
-        return plane.getPlaneElement().stream()
-                .filter(dia -> dia instanceof BPMNEdge)
-                .map(edge -> (BPMNEdge) edge)
-                .filter(edge -> edge.getBpmnElement().getId().equals(elementId))
-                .findFirst();
+        return Optional.ofNullable(edges.get(elementId));
     }
 }
@@ -21,12 +21,16 @@ import java.util.Deque;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.kie.workbench.common.stunner.bpmn.backend.converters.TypedFactoryManager;
 import org.kie.workbench.common.stunner.bpmn.backend.converters.VoidMatch;
 import org.kie.workbench.common.stunner.core.api.DefinitionManager;
 import org.kie.workbench.common.stunner.core.command.Command;
 import org.kie.workbench.common.stunner.core.command.CommandResult;
+import org.kie.workbench.common.stunner.core.command.impl.DeferredCommand;
+import org.kie.workbench.common.stunner.core.command.impl.DeferredCompositeCommand;
+import org.kie.workbench.common.stunner.core.command.util.CommandUtils;
 import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Element;
 import org.kie.workbench.common.stunner.core.graph.Graph;
@@ -34,12 +38,9 @@ import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.command.EmptyRulesCommandExecutionContext;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandManager;
+import org.kie.workbench.common.stunner.core.graph.command.GraphCommandResultBuilder;
 import org.kie.workbench.common.stunner.core.graph.command.impl.AddChildNodeCommand;
-import org.kie.workbench.common.stunner.core.graph.command.impl.AddDockedNodeCommand;
-import org.kie.workbench.common.stunner.core.graph.command.impl.AddNodeCommand;
 import org.kie.workbench.common.stunner.core.graph.command.impl.GraphCommandFactory;
-import org.kie.workbench.common.stunner.core.graph.command.impl.SetConnectionSourceNodeCommand;
-import org.kie.workbench.common.stunner.core.graph.command.impl.SetConnectionTargetNodeCommand;
 import org.kie.workbench.common.stunner.core.graph.command.impl.UpdateElementPositionCommand;
 import org.kie.workbench.common.stunner.core.graph.content.Bounds;
 import org.kie.workbench.common.stunner.core.graph.content.definition.DefinitionSet;
@@ -73,6 +74,10 @@ import org.slf4j.LoggerFactory;
  * once all the conversions have took place: it traverses the entire directed graph described by the `BPMNNode`s
  * starting from the "root node", which represents the root of the diagram, and visiting
  * the parent/child relations in each BPMNNode and the `BPMNEdge` they may contain.
+ * <p>
+ * The commands issued while building the graph are batched and sent to the command manager
+ * as a single command. Each command is still created only when the previous ones have been executed,
+ * as e.g. the position of a child node depends on the position of its parent.
  */
 public class GraphBuilder {
 
@@ -82,6 +87,8 @@ public class GraphBuilder {
     private final GraphCommandFactory commandFactory;
     private final GraphCommandManager commandManager;
     private final Graph<DefinitionSet, Node> graph;
+    // the commands issued by buildGraph, null when commands are executed as soon as they are issued
+    private BatchCommand batch;
 
     public GraphBuilder(
             Graph<DefinitionSet, Node> graph,
@@ -115,6 +122,17 @@ public class GraphBuilder {
      * all the required commands to draw it on the canvas
      */
     public void buildGraph(BpmnNode rootNode) {
+        batch = new BatchCommand();
+        try {
+            addNodes(rootNode);
+        } finally {
+            BatchCommand commands = batch;
+            batch = null;
+            commandManager.execute(executionContext, commands);
+        }
+    }
+
+    private void addNodes(BpmnNode rootNode) {
         this.addNode(rootNode.value());
         rootNode.getEdges().forEach(this::addEdge);
         Deque<BpmnNode> workingSet = new ArrayDeque<>(rootNode.getChildren());
@@ -144,16 +162,17 @@ public class GraphBuilder {
     }
 
     private void addDockedNode(Node parent, Node candidate) {
-        AddDockedNodeCommand addNodeCommand = commandFactory.addDockedNode(parent, candidate);
-        execute(addNodeCommand);
+        execute(() -> commandFactory.addDockedNode(parent, candidate));
     }
 
     public void addChildNode(String parentId, String childId) {
-        Node parent = getNode(parentId);
-        Node child = executionContext.getGraphIndex().getNode(childId);
+        execute(() -> {
+            Node parent = getNode(parentId);
+            Node child = executionContext.getGraphIndex().getNode(childId);
 
-        AddChildNodeCommand addChildNodeCommand = commandFactory.addChildNode(parent, child);
-        execute(addChildNodeCommand);
+            AddChildNodeCommand addChildNodeCommand = commandFactory.addChildNode(parent, child);
+            return addChildNodeCommand;
+        });
     }
 
     private Node getNode(String id) {
@@ -161,10 +180,8 @@ public class GraphBuilder {
     }
 
     private void addChildNode(Node<? extends View, ?> parent, Node<? extends View, ?> child) {
-        AddChildNodeCommand addChildNodeCommand = commandFactory.addChildNode(parent, child);
-        execute(addChildNodeCommand);
-
-        translate(child, parent.getContent().getBounds().getUpperLeft());
+        execute(() -> commandFactory.addChildNode(parent, child));
+        execute(() -> translate(child, parent.getContent().getBounds().getUpperLeft()));
     }
 
     /**
@@ -174,7 +191,7 @@ public class GraphBuilder {
      * If we move node into a new coordinate system where the origin is in (3, 4)
      * then the new coordinates for node are: (10-3, 11-4) = (7,7)
      */
-    private void translate(Node<? extends View, ?> node, Bounds.Bound newOrigin) {
+    private UpdateElementPositionCommand translate(Node<? extends View, ?> node, Bounds.Bound newOrigin) {
 
         logger.debug("Translating {} into constraints {}", node.getContent().getBounds(), newOrigin);
 
@@ -183,18 +200,11 @@ public class GraphBuilder {
         double constrainedY = childBounds.getUpperLeft().getY() - newOrigin.getY();
 
         Point2D coords = Point2D.create(constrainedX, constrainedY);
-        updatePosition(node, coords);
-    }
-
-    private void updatePosition(Node node, Point2D position) {
-        UpdateElementPositionCommand updateElementPositionCommand =
-                commandFactory.updatePosition(node, position);
-        execute(updateElementPositionCommand);
+        return commandFactory.updatePosition(node, coords);
     }
 
     private void addNode(Node node) {
-        AddNodeCommand addNodeCommand = commandFactory.addNode(node);
-        execute(addNodeCommand);
+        execute(() -> commandFactory.addNode(node));
     }
 
     private void addEdge(
@@ -203,14 +213,8 @@ public class GraphBuilder {
             Connection sourceConnection,
             Node target,
             Connection targetConnection) {
-        SetConnectionSourceNodeCommand setSourceNode =
-                commandFactory.setSourceNode(source, edge, sourceConnection);
-
-        SetConnectionTargetNodeCommand setTargetNode =
-                commandFactory.setTargetNode(target, edge, targetConnection);
-
-        execute(setSourceNode);
-        execute(setTargetNode);
+        execute(() -> commandFactory.setSourceNode(source, edge, sourceConnection));
+        execute(() -> commandFactory.setTargetNode(target, edge, targetConnection));
     }
 
     private void addEdge(
@@ -234,8 +238,15 @@ public class GraphBuilder {
         element.getContent().setBounds(BoundsImpl.build(x1, y1, x2, y2));
     }
 
-    private CommandResult<RuleViolation> execute(Command<GraphCommandExecutionContext, RuleViolation> command) {
-        return commandManager.execute(executionContext, command);
+    /**
+     * Adds the command to the current batch, or executes it right away when no graph is being built.
+     */
+    private void execute(Supplier<Command<GraphCommandExecutionContext, RuleViolation>> command) {
+        if (batch != null) {
+            batch.addCommand(new DeferredCommand<>(command));
+        } else {
+            commandManager.execute(executionContext, command.get());
+        }
     }
 
     private GraphCommandExecutionContext executionContext() {
@@ -260,4 +271,32 @@ public class GraphBuilder {
                                       e.getTarget().value())
                 ).apply(edge);
     }
+
+    /**
+     * Executes the commands one by one, as if they were sent to the command manager separately:
+     * a failed command is logged and the following ones are still executed.
+     */
+    private static class BatchCommand extends DeferredCompositeCommand<GraphCommandExecutionContext, RuleViolation> {
+
+        private BatchCommand() {
+            super(true);
+        }
+
+        @Override
+        protected CommandResult<RuleViolation> executeCommands(GraphCommandExecutionContext context) {
+            for (Command<GraphCommandExecutionContext, RuleViolation> command : commands) {
+                CommandResult<RuleViolation> result = doExecute(context, command);
+                if (CommandUtils.isError(result)) {
+                    logger.debug("Graph command failed while building the graph: {}", result);
+                }
+            }
+            return GraphCommandResultBuilder.SUCCESS;
+        }
+
+        @Override
+        public String toString() {
+            // the command manager logs every command, avoid rendering the whole graph
+            return "[" + getClass().getName() + "] " + size() + " commands";
+        }
+    }
 }
@@ -59,8 +59,16 @@ public class BpmnFileIndexer extends AbstractFileIndexer {
 
     private static final Logger logger = LoggerFactory.getLogger(BpmnFileIndexer.class);
 
+    /**
+     * When set to true, the processes are indexed from a single StAX pass over the BPMN2 XML instead of being built
+     * and compiled with the module ClassLoader.
+     */
+    public static final String LIGHTWEIGHT_INDEXING = "org.kie.workbench.bpmn.indexing.lightweight";
+
     private static final SemanticModules modules = new SemanticModules();
 
+    private static final BpmnProcessDataReader processDataReader = new BpmnProcessDataReader();
+
     static {
         modules.addSemanticModule(new BPMNSemanticModule());
         modules.addSemanticModule(new BPMNDISemanticModule());
@@ -93,8 +101,54 @@ public class BpmnFileIndexer extends AbstractFileIndexer {
         final DefaultIndexBuilder builder = getIndexBuilder(path,
                                                             module);
         String bpmnStr = ioService.readAllString(path);
-        ClassLoader moduleClassLoader = getModuleClassLoader(module);
 
+        if (isLightweightIndexing()) {
+            addProcessData(builder,
+                           bpmnStr,
+                           path);
+        } else {
+            addCompiledProcessData(builder,
+                                   bpmnStr,
+                                   getModuleClassLoader(module),
+                                   path);
+        }
+
+        return builder;
+    }
+
+    // Protected method for testing
+    protected boolean isLightweightIndexing() {
+        return Boolean.getBoolean(LIGHTWEIGHT_INDEXING);
+    }
+
+    /**
+     * Adds the processes information read by the {@link BpmnProcessDataReader}, without building the processes
+     */
+    protected void addProcessData(final DefaultIndexBuilder builder,
+                                  final String bpmnStr,
+                                  final Path path) {
+        try {
+            List<BpmnProcessDataCollector> processDataList = processDataReader.read(bpmnStr);
+            for (BpmnProcessDataCollector processData : processDataList) {
+                addReferencedResourcesToIndexBuilder(builder,
+                                                     processData);
+                builder.setPackageName(processData.getPackageName());
+            }
+            if (processDataList.isEmpty()) {
+                logger.warn("No process was found in file: " + path.toUri());
+            }
+        } catch (Exception e) {
+            logger.info("Unable to index because BPMN2 parsing failed [" + path.toString() + "]: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Adds the processes information collected by the {@link BpmnProcessDataEventListener} while building the processes
+     */
+    protected void addCompiledProcessData(final DefaultIndexBuilder builder,
+                                          final String bpmnStr,
+                                          final ClassLoader moduleClassLoader,
+                                          final Path path) {
         try {
             List<BpmnProcessDataEventListener> processDataList = buildProcessDefinition(bpmnStr,
                                                                                         moduleClassLoader);
@@ -164,8 +218,6 @@ public class BpmnFileIndexer extends AbstractFileIndexer {
         } else {
             logger.warn("No process was found in file: " + path.toUri());
         }
-
-        return builder;
     }
 
     // Protected method for testing
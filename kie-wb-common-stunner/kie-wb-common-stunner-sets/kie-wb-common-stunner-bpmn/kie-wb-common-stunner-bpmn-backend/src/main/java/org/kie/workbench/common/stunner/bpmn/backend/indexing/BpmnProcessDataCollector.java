@@ -0,0 +1,123 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.bpmn.backend.indexing;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+import org.kie.workbench.common.services.refactoring.Resource;
+import org.kie.workbench.common.services.refactoring.backend.server.impact.ResourceReferenceCollector;
+import org.kie.workbench.common.services.refactoring.service.PartType;
+import org.kie.workbench.common.services.refactoring.service.ResourceType;
+
+/**
+ * Collects the indexing information of a single process read by the {@link BpmnProcessDataReader}.
+ * </p>
+ * The information collected is the same as the one collected by the {@link BpmnProcessDataEventListener} while the
+ * process is built, but it is gathered straight from the BPMN2 XML.
+ */
+public class BpmnProcessDataCollector extends ResourceReferenceCollector {
+
+    private final String processId;
+
+    private final String packageName;
+
+    private final Resource resource;
+
+    private final Set<String> uniqueVariables = new HashSet<>();
+
+    private final Set<String> signalRefs = new HashSet<>();
+
+    BpmnProcessDataCollector(final String processId,
+                             final String processName,
+                             final String packageName) {
+        this.processId = processId;
+        this.packageName = packageName;
+        this.resource = addResource(processId,
+                                    ResourceType.BPMN2);
+        if (processName != null) {
+            addResource(processName,
+                        ResourceType.BPMN2_NAME);
+        }
+    }
+
+    public String getProcessId() {
+        return processId;
+    }
+
+    public String getPackageName() {
+        return packageName;
+    }
+
+    public Set<String> getUniqueVariables() {
+        return uniqueVariables;
+    }
+
+    void addVariable(final String name) {
+        // add only if unique (a sub-process variable can have the same name)
+        if (!StringUtils.isEmpty(name) && uniqueVariables.add(name)) {
+            resource.addPart(name,
+                             PartType.VARIABLE);
+        }
+    }
+
+    void addSharedReferenceIfPresent(final String partName,
+                                     final PartType partType) {
+        if (!StringUtils.isEmpty(partName)) {
+            addSharedReference(partName,
+                               partType);
+        }
+    }
+
+    void addCalledElement(final String processId,
+                          final String processName) {
+        if (!StringUtils.isEmpty(processId)) {
+            addResourceReference(processId,
+                                 ResourceType.BPMN2);
+        } else if (!StringUtils.isEmpty(processName)) {
+            addResourceReference(processName,
+                                 ResourceType.BPMN2_NAME);
+        }
+    }
+
+    void addSignalRef(final String signalRef) {
+        if (!StringUtils.isEmpty(signalRef)) {
+            signalRefs.add(signalRef);
+        }
+    }
+
+    /**
+     * Adds the signals and messages, once the whole definitions have been read
+     * @param signalNames The names of the signals declared in the definitions, by id
+     * @param messageIds The ids of the messages declared in the definitions
+     */
+    void complete(final Map<String, String> signalNames,
+                  final Collection<String> messageIds) {
+        for (String signalRef : signalRefs) {
+            final String signalName = signalNames.get(signalRef);
+            addSharedReferenceIfPresent(signalName != null ? signalName : signalRef,
+                                        PartType.SIGNAL);
+        }
+        for (String messageId : messageIds) {
+            addSharedReferenceIfPresent(messageId,
+                                        PartType.SIGNAL);
+        }
+    }
+}
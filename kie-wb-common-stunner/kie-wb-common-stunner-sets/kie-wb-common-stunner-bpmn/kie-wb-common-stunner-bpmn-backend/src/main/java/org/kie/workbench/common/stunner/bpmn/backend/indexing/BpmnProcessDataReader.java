@@ -0,0 +1,209 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.bpmn.backend.indexing;
+
+import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.commons.lang3.StringUtils;
+import org.kie.workbench.common.services.refactoring.service.PartType;
+
+/**
+ * Reads the indexing information of the processes of a BPMN2 file in a single StAX pass.
+ * </p>
+ * Unlike the jBPM XmlProcessReader and KnowledgeBuilder, the process is neither built nor compiled: no module
+ * ClassLoader is needed and the scripts and expressions are not parsed. The classes referenced by the process are
+ * therefore not collected, they are not part of the index terms anyway.
+ */
+public class BpmnProcessDataReader {
+
+    static final String DROOLS_NS = "http://www.jboss.org/drools";
+
+    // same default as the jBPM ProcessHandler
+    static final String DEFAULT_PACKAGE_NAME = "org.drools.bpmn2";
+
+    // containers whose properties are process (or sub-process) variables
+    private static final Set<String> VARIABLE_SCOPES = new HashSet<>(Arrays.asList("process",
+                                                                                   "subProcess",
+                                                                                   "adHocSubProcess",
+                                                                                   "transaction"));
+
+    // name of the work of the WorkItemNode jBPM creates for each kind of task
+    private static final Map<String, String> WORK_NAMES;
+
+    static {
+        final Map<String, String> workNames = new HashMap<>();
+        workNames.put("userTask",
+                      "Human Task");
+        workNames.put("manualTask",
+                      "Manual Task");
+        workNames.put("serviceTask",
+                      "Service Task");
+        workNames.put("sendTask",
+                      "Send Task");
+        workNames.put("receiveTask",
+                      "Receive Task");
+        WORK_NAMES = Collections.unmodifiableMap(workNames);
+    }
+
+    private static final XMLInputFactory factory = XMLInputFactory.newInstance();
+
+    static {
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD,
+                            false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES,
+                            false);
+    }
+
+    /**
+     * @param bpmn2Content The BPMN2 XML
+     * @return The indexing information, one {@link BpmnProcessDataCollector} per process
+     * @throws XMLStreamException If the content is not well-formed XML
+     */
+    public List<BpmnProcessDataCollector> read(final String bpmn2Content) throws XMLStreamException {
+        if (StringUtils.isEmpty(bpmn2Content)) {
+            return Collections.emptyList();
+        }
+
+        final List<BpmnProcessDataCollector> processes = new ArrayList<>();
+        // signals and messages can be declared after the processes referencing them
+        final Map<String, String> signalNames = new HashMap<>();
+        final Set<String> messageIds = new LinkedHashSet<>();
+        final Deque<String> elements = new ArrayDeque<>();
+        BpmnProcessDataCollector process = null;
+
+        final XMLStreamReader reader = factory.createXMLStreamReader(new StringReader(bpmn2Content));
+        try {
+            while (reader.hasNext()) {
+                final int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    final String parent = elements.peek();
+                    final String element = reader.getLocalName();
+                    elements.push(element);
+                    if ("process".equals(element)) {
+                        process = newProcess(reader);
+                        processes.add(process);
+                    } else if ("definitions".equals(parent)) {
+                        if ("signal".equals(element)) {
+                            final String name = reader.getAttributeValue(null,
+                                                                         "name");
+                            if (name != null) {
+                                signalNames.put(reader.getAttributeValue(null,
+                                                                         "id"),
+                                                name);
+                            }
+                        } else if ("message".equals(element)) {
+                            messageIds.add(reader.getAttributeValue(null,
+                                                                    "id"));
+                        }
+                    } else if (process != null) {
+                        visitProcessElement(process,
+                                            element,
+                                            parent,
+                                            reader);
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if ("process".equals(elements.pop())) {
+                        process = null;
+                    }
+                }
+            }
+        } finally {
+            reader.close();
+        }
+
+        for (BpmnProcessDataCollector processData : processes) {
+            processData.complete(signalNames,
+                                 messageIds);
+        }
+        return processes;
+    }
+
+    private BpmnProcessDataCollector newProcess(final XMLStreamReader reader) {
+        String packageName = reader.getAttributeValue(DROOLS_NS,
+                                                      "packageName");
+        if (StringUtils.isBlank(packageName)) {
+            packageName = DEFAULT_PACKAGE_NAME;
+        }
+        return new BpmnProcessDataCollector(reader.getAttributeValue(null,
+                                                                     "id"),
+                                            reader.getAttributeValue(null,
+                                                                     "name"),
+                                            packageName);
+    }
+
+    private void visitProcessElement(final BpmnProcessDataCollector process,
+                                     final String element,
+                                     final String parent,
+                                     final XMLStreamReader reader) {
+        switch (element) {
+            case "property":
+                if (VARIABLE_SCOPES.contains(parent)) {
+                    final String name = reader.getAttributeValue(null,
+                                                                 "name");
+                    process.addVariable(StringUtils.isEmpty(name) ? reader.getAttributeValue(null,
+                                                                                             "id") : name);
+                }
+                break;
+            case "global":
+                if (DROOLS_NS.equals(reader.getNamespaceURI())) {
+                    process.addSharedReferenceIfPresent(reader.getAttributeValue(null,
+                                                                                 "identifier"),
+                                                        PartType.GLOBAL);
+                }
+                break;
+            case "businessRuleTask":
+                process.addSharedReferenceIfPresent(reader.getAttributeValue(DROOLS_NS,
+                                                                             "ruleFlowGroup"),
+                                                    PartType.RULEFLOW_GROUP);
+                break;
+            case "task":
+                process.addSharedReferenceIfPresent(reader.getAttributeValue(DROOLS_NS,
+                                                                             "taskName"),
+                                                    PartType.TASK_NAME);
+                break;
+            case "callActivity":
+                process.addCalledElement(reader.getAttributeValue(null,
+                                                                  "calledElement"),
+                                         reader.getAttributeValue(DROOLS_NS,
+                                                                  "calledElementByName"));
+                break;
+            case "signalEventDefinition":
+                process.addSignalRef(reader.getAttributeValue(null,
+                                                              "signalRef"));
+                break;
+            default:
+                process.addSharedReferenceIfPresent(WORK_NAMES.get(element),
+                                                    PartType.TASK_NAME);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.bpmn.backend.converters.tostunner;
+
+import org.eclipse.bpmn2.Bpmn2Factory;
+import org.eclipse.bpmn2.Definitions;
+import org.eclipse.bpmn2.Process;
+import org.eclipse.bpmn2.SequenceFlow;
+import org.eclipse.bpmn2.Task;
+import org.eclipse.bpmn2.di.BPMNDiagram;
+import org.eclipse.bpmn2.di.BPMNEdge;
+import org.eclipse.bpmn2.di.BPMNPlane;
+import org.eclipse.bpmn2.di.BPMNShape;
+import org.eclipse.bpmn2.di.BpmnDiFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class DefinitionResolverTest {
+
+    private BPMNShape taskShape;
+    private BPMNEdge flowEdge;
+    private DefinitionResolver definitionResolver;
+
+    @Before
+    public void setup() {
+        Bpmn2Factory bpmn2 = Bpmn2Factory.eINSTANCE;
+        BpmnDiFactory di = BpmnDiFactory.eINSTANCE;
+
+        Definitions definitions = bpmn2.createDefinitions();
+        Process process = bpmn2.createProcess();
+        process.setId("process");
+        definitions.getRootElements().add(process);
+
+        Task task = bpmn2.createTask();
+        task.setId("task");
+        SequenceFlow flow = bpmn2.createSequenceFlow();
+        flow.setId("flow");
+        process.getFlowElements().add(task);
+        process.getFlowElements().add(flow);
+
+        BPMNDiagram diagram = di.createBPMNDiagram();
+        BPMNPlane plane = di.createBPMNPlane();
+        diagram.setPlane(plane);
+        definitions.getDiagrams().add(diagram);
+
+        taskShape = di.createBPMNShape();
+        taskShape.setBpmnElement(task);
+        flowEdge = di.createBPMNEdge();
+        flowEdge.setBpmnElement(flow);
+        plane.getPlaneElement().add(taskShape);
+        plane.getPlaneElement().add(flowEdge);
+
+        definitionResolver = new DefinitionResolver(definitions);
+    }
+
+    @Test
+    public void testGetShape() {
+        assertSame(taskShape, definitionResolver.getShape("task"));
+        assertNull(definitionResolver.getShape("flow"));
+        assertNull(definitionResolver.getShape("unknown"));
+    }
+
+    @Test
+    public void testGetEdge() {
+        assertEquals(flowEdge, definitionResolver.getEdge("flow").get());
+        assertFalse(definitionResolver.getEdge("task").isPresent());
+        assertFalse(definitionResolver.getEdge("unknown").isPresent());
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.bpmn.backend.converters.tostunner;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.stunner.bpmn.backend.converters.TypedFactoryManager;
+import org.kie.workbench.common.stunner.bpmn.definition.BPMNViewDefinition;
+import org.kie.workbench.common.stunner.core.api.DefinitionManager;
+import org.kie.workbench.common.stunner.core.api.FactoryManager;
+import org.kie.workbench.common.stunner.core.command.Command;
+import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
+import org.kie.workbench.common.stunner.core.graph.command.GraphCommandManager;
+import org.kie.workbench.common.stunner.core.graph.command.GraphCommandResultBuilder;
+import org.kie.workbench.common.stunner.core.graph.command.impl.AddChildNodeCommand;
+import org.kie.workbench.common.stunner.core.graph.command.impl.AddNodeCommand;
+import org.kie.workbench.common.stunner.core.graph.command.impl.GraphCommandFactory;
+import org.kie.workbench.common.stunner.core.graph.command.impl.UpdateElementPositionCommand;
+import org.kie.workbench.common.stunner.core.graph.content.view.BoundsImpl;
+import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
+import org.kie.workbench.common.stunner.core.graph.content.view.View;
+import org.kie.workbench.common.stunner.core.graph.content.view.ViewImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.GraphImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.NodeImpl;
+import org.kie.workbench.common.stunner.core.graph.store.GraphNodeStoreImpl;
+import org.kie.workbench.common.stunner.core.rule.RuleManager;
+import org.kie.workbench.common.stunner.core.rule.RuleViolation;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class GraphBuilderTest {
+
+    private GraphCommandFactory commandFactory;
+    private GraphCommandManager commandManager;
+    private NodeImpl<View<BPMNViewDefinition>> root;
+    private NodeImpl<View<BPMNViewDefinition>> child;
+    private GraphBuilder graphBuilder;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        commandFactory = mock(GraphCommandFactory.class);
+        commandManager = mock(GraphCommandManager.class);
+
+        root = newNode("root", 100, 50);
+        child = newNode("child", 130, 80);
+
+        graphBuilder = new GraphBuilder(
+                new GraphImpl<>("graph", new GraphNodeStoreImpl()),
+                mock(DefinitionManager.class),
+                new TypedFactoryManager(mock(FactoryManager.class)),
+                mock(RuleManager.class),
+                commandFactory,
+                commandManager);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCommandsAreBatched() {
+        BpmnNode rootNode = BpmnNode.of(root);
+        BpmnNode childNode = BpmnNode.of(child);
+        childNode.setParent(rootNode);
+
+        graphBuilder.buildGraph(rootNode);
+
+        // the whole graph is sent to the command manager at once
+        ArgumentCaptor<Command> batch = ArgumentCaptor.forClass(Command.class);
+        verify(commandManager, times(1)).execute(any(GraphCommandExecutionContext.class), batch.capture());
+        // and the commands are only created when the batch is executed
+        verify(commandFactory, never()).addNode(any(Node.class));
+
+        AddNodeCommand addNodeCommand = mock(AddNodeCommand.class);
+        AddChildNodeCommand addChildNodeCommand = mock(AddChildNodeCommand.class);
+        UpdateElementPositionCommand updatePositionCommand = mock(UpdateElementPositionCommand.class);
+        when(commandFactory.addNode(root)).thenReturn(addNodeCommand);
+        when(commandFactory.addChildNode(root, child)).thenReturn(addChildNodeCommand);
+        when(commandFactory.updatePosition(eq(child), any(Point2D.class))).thenReturn(updatePositionCommand);
+        when(addNodeCommand.execute(any(GraphCommandExecutionContext.class))).thenReturn(GraphCommandResultBuilder.SUCCESS);
+        when(addChildNodeCommand.execute(any(GraphCommandExecutionContext.class))).thenReturn(GraphCommandResultBuilder.FAILED);
+        when(updatePositionCommand.execute(any(GraphCommandExecutionContext.class))).thenReturn(GraphCommandResultBuilder.SUCCESS);
+
+        ((Command<GraphCommandExecutionContext, RuleViolation>) batch.getValue()).execute(mock(GraphCommandExecutionContext.class));
+
+        // a failed command doesn't stop the following ones
+        verify(addNodeCommand).execute(any(GraphCommandExecutionContext.class));
+        verify(addChildNodeCommand).execute(any(GraphCommandExecutionContext.class));
+        verify(updatePositionCommand).execute(any(GraphCommandExecutionContext.class));
+
+        // the child is moved into the coordinates of its parent
+        ArgumentCaptor<Point2D> position = ArgumentCaptor.forClass(Point2D.class);
+        verify(commandFactory).updatePosition(eq(child), position.capture());
+        assertEquals(30, position.getValue().getX(), 0);
+        assertEquals(30, position.getValue().getY(), 0);
+    }
+
+    private static NodeImpl<View<BPMNViewDefinition>> newNode(String uuid, double x, double y) {
+        NodeImpl<View<BPMNViewDefinition>> node = new NodeImpl<>(uuid);
+        node.setContent(new ViewImpl<>(mock(BPMNViewDefinition.class),
+                                       BoundsImpl.build(x, y, x + 100, y + 50)));
+        return node;
+    }
+}
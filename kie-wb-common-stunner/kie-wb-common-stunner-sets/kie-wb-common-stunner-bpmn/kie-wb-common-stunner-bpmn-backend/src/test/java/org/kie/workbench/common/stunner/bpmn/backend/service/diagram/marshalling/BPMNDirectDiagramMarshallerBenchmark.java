@@ -0,0 +1,119 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.bpmn.backend.service.diagram.marshalling;
+
+import org.kie.workbench.common.stunner.core.definition.service.DiagramMarshaller;
+import org.kie.workbench.common.stunner.core.diagram.Diagram;
+import org.kie.workbench.common.stunner.core.diagram.Metadata;
+import org.kie.workbench.common.stunner.core.graph.Graph;
+
+/**
+ * Compares the unmarshalling of generated processes of 50, 500 and 5000 elements with the legacy
+ * (XML to Oryx JSON to graph) and the direct (XML to graph) marshallers.
+ * <p>
+ * It's not run by the build, run it with the number of rounds as optional argument (default 5).
+ */
+public class BPMNDirectDiagramMarshallerBenchmark extends BPMNDiagramMarshallerBase {
+
+    private static final int[] SIZES = {50, 500, 5000};
+
+    public static void main(String[] args) throws Exception {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+
+        BPMNDirectDiagramMarshallerBenchmark benchmark = new BPMNDirectDiagramMarshallerBenchmark();
+        benchmark.init();
+
+        for (int size : SIZES) {
+            String process = generateProcess(size);
+            // warm up, and check both marshallers read the whole process
+            benchmark.assertDiagram(benchmark.unmarshall(benchmark.oldMarshaller, benchmark.getStream(process)), size + 1);
+            benchmark.assertDiagram(benchmark.unmarshall(benchmark.newMarshaller, benchmark.getStream(process)), size + 1);
+
+            System.out.println(size + " elements, " + rounds + " rounds");
+            for (int round = 1; round <= rounds; round++) {
+                long legacy = benchmark.time(benchmark.oldMarshaller, process);
+                long direct = benchmark.time(benchmark.newMarshaller, process);
+                System.out.println("Round " + round + ": legacy " + legacy + " ms, direct " + direct + " ms");
+            }
+        }
+    }
+
+    private long time(DiagramMarshaller<Graph, Metadata, Diagram<Graph, Metadata>> marshaller,
+                      String process) throws Exception {
+        long start = System.nanoTime();
+        unmarshall(marshaller, getStream(process));
+        return (System.nanoTime() - start) / 1000000;
+    }
+
+    /**
+     * A start event, followed by script tasks, then an end event, all connected by sequence flows.
+     */
+    private static String generateProcess(int size) {
+        StringBuilder flowElements = new StringBuilder();
+        StringBuilder diagramElements = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            String id = "_node" + i;
+            String incoming = i > 0 ? "<bpmn2:incoming>_flow" + (i - 1) + "</bpmn2:incoming>" : "";
+            String outgoing = i < size - 1 ? "<bpmn2:outgoing>_flow" + i + "</bpmn2:outgoing>" : "";
+            if (i == 0) {
+                flowElements.append("<bpmn2:startEvent id=\"").append(id).append("\">")
+                        .append(outgoing).append("</bpmn2:startEvent>\n");
+            } else if (i == size - 1) {
+                flowElements.append("<bpmn2:endEvent id=\"").append(id).append("\">")
+                        .append(incoming).append("</bpmn2:endEvent>\n");
+            } else {
+                flowElements.append("<bpmn2:scriptTask id=\"").append(id).append("\" name=\"task").append(i)
+                        .append("\" scriptFormat=\"http://www.java.com/java\">")
+                        .append(incoming).append(outgoing)
+                        .append("<bpmn2:script><![CDATA[System.out.println(").append(i).append(");]]></bpmn2:script>")
+                        .append("</bpmn2:scriptTask>\n");
+            }
+            double x = 100 + (i % 50) * 150;
+            double y = 100 + (i / 50) * 150;
+            diagramElements.append("<bpmndi:BPMNShape id=\"_shape").append(i).append("\" bpmnElement=\"").append(id).append("\">")
+                    .append("<dc:Bounds height=\"80.0\" width=\"100.0\" x=\"").append(x).append("\" y=\"").append(y).append("\"/>")
+                    .append("</bpmndi:BPMNShape>\n");
+            if (i < size - 1) {
+                flowElements.append("<bpmn2:sequenceFlow id=\"_flow").append(i).append("\" sourceRef=\"").append(id)
+                        .append("\" targetRef=\"_node").append(i + 1).append("\"/>\n");
+                diagramElements.append("<bpmndi:BPMNEdge id=\"_edge").append(i).append("\" bpmnElement=\"_flow").append(i)
+                        .append("\" sourceElement=\"_shape").append(i).append("\" targetElement=\"_shape").append(i + 1).append("\">")
+                        .append("<di:waypoint xsi:type=\"dc:Point\" x=\"").append(x + 50).append("\" y=\"").append(y + 40).append("\"/>")
+                        .append("<di:waypoint xsi:type=\"dc:Point\" x=\"").append(x + 150).append("\" y=\"").append(y + 40).append("\"/>")
+                        .append("</bpmndi:BPMNEdge>\n");
+            }
+        }
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                "<bpmn2:definitions xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"" +
+                " xmlns:bpmn2=\"http://www.omg.org/spec/BPMN/20100524/MODEL\"" +
+                " xmlns:bpmndi=\"http://www.omg.org/spec/BPMN/20100524/DI\"" +
+                " xmlns:dc=\"http://www.omg.org/spec/DD/20100524/DC\"" +
+                " xmlns:di=\"http://www.omg.org/spec/DD/20100524/DI\"" +
+                " xmlns:drools=\"http://www.jboss.org/drools\"" +
+                " id=\"_benchmark\" expressionLanguage=\"http://www.mvel.org/2.0\"" +
+                " targetNamespace=\"http://www.omg.org/bpmn20\" typeLanguage=\"http://www.java.com/javaTypes\">\n" +
+                "<bpmn2:process id=\"benchmark.Process" + size + "\" drools:version=\"1.0\" name=\"Process" + size + "\" isExecutable=\"true\">\n" +
+                flowElements +
+                "</bpmn2:process>\n" +
+                "<bpmndi:BPMNDiagram id=\"_diagram\">\n" +
+                "<bpmndi:BPMNPlane id=\"_plane\" bpmnElement=\"benchmark.Process" + size + "\">\n" +
+                diagramElements +
+                "</bpmndi:BPMNPlane>\n" +
+                "</bpmndi:BPMNDiagram>\n" +
+                "</bpmn2:definitions>\n";
+    }
+}
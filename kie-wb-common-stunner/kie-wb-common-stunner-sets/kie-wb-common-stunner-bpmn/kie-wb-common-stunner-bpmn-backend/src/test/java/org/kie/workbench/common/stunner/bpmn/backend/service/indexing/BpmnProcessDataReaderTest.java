@@ -0,0 +1,139 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.bpmn.backend.service.indexing;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.IOUtils;
+import org.guvnor.common.services.project.model.Module;
+import org.guvnor.common.services.project.model.Package;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.services.refactoring.backend.server.indexing.DefaultIndexBuilder;
+import org.kie.workbench.common.services.refactoring.model.index.terms.PackageNameIndexTerm;
+import org.kie.workbench.common.stunner.bpmn.backend.indexing.BpmnProcessDataCollector;
+import org.kie.workbench.common.stunner.bpmn.backend.indexing.BpmnProcessDataReader;
+import org.uberfire.ext.metadata.model.KProperty;
+import org.uberfire.java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BpmnProcessDataReaderTest {
+
+    private static final String[] BPMN_FILES = {
+            "callActivity.bpmn",
+            "callActivityByName.bpmn",
+            "callActivityCalledSubProcess.bpmn",
+            "hiring.bpmn",
+            "multipleRuleTasksWithDataInput.bpmn",
+            "signal.bpmn"
+    };
+
+    private ComparingBpmnFileIndexer indexer;
+
+    @Before
+    public void setup() {
+        indexer = new ComparingBpmnFileIndexer();
+    }
+
+    @Test
+    public void testSameIndexTermsAsCompiledProcess() throws Exception {
+        for (String bpmnFile : BPMN_FILES) {
+            final String bpmnStr = loadText(bpmnFile);
+            final Set<KProperty<?>> expected = indexer.compiledIndexTerms(bpmnStr);
+            assertFalse(expected.isEmpty());
+            assertEquals(bpmnFile,
+                         expected,
+                         indexer.indexTerms(bpmnStr));
+        }
+    }
+
+    @Test
+    public void testSameIndexTermsAsFailedCompilation() throws Exception {
+        final String bpmnStr = loadText("brokenSignal.bpmn");
+        // when the build fails the compiling indexer keeps the package of the file
+        assertEquals(withoutPackageName(indexer.compiledIndexTerms(bpmnStr)),
+                     withoutPackageName(indexer.indexTerms(bpmnStr)));
+    }
+
+    @Test
+    public void testRead() throws Exception {
+        final List<BpmnProcessDataCollector> processes = new BpmnProcessDataReader().read(loadText("hiring.bpmn"));
+        assertEquals(1,
+                     processes.size());
+        final BpmnProcessDataCollector process = processes.get(0);
+        assertEquals("hiring",
+                     process.getProcessId());
+        assertEquals("HR.src.main.resources.kbase",
+                     process.getPackageName());
+        assertEquals(9,
+                     process.getUniqueVariables().size());
+        assertTrue(process.getUniqueVariables().contains("tech_score"));
+    }
+
+    @Test
+    public void testReadEmptyContent() throws Exception {
+        assertTrue(new BpmnProcessDataReader().read("").isEmpty());
+    }
+
+    private Set<KProperty<?>> withoutPackageName(final Set<KProperty<?>> indexTerms) {
+        return indexTerms.stream()
+                .filter(property -> !PackageNameIndexTerm.TERM.equals(property.getName()))
+                .collect(Collectors.toSet());
+    }
+
+    private String loadText(final String fileName) throws Exception {
+        return IOUtils.toString(getClass().getResourceAsStream(fileName),
+                                "UTF-8");
+    }
+
+    private static class ComparingBpmnFileIndexer extends TestBpmnFileIndexer {
+
+        private final Path path = mock(Path.class);
+
+        private Set<KProperty<?>> compiledIndexTerms(final String bpmnStr) {
+            final DefaultIndexBuilder builder = newIndexBuilder();
+            addCompiledProcessData(builder,
+                                   bpmnStr,
+                                   getClass().getClassLoader(),
+                                   path);
+            return builder.build();
+        }
+
+        private Set<KProperty<?>> indexTerms(final String bpmnStr) {
+            final DefaultIndexBuilder builder = newIndexBuilder();
+            addProcessData(builder,
+                           bpmnStr,
+                           path);
+            return builder.build();
+        }
+
+        private DefaultIndexBuilder newIndexBuilder() {
+            final Package pkg = mock(Package.class);
+            when(pkg.getPackageName()).thenReturn("org.kie.test");
+            return new DefaultIndexBuilder("test.bpmn",
+                                           mock(Module.class),
+                                           pkg);
+        }
+    }
+}
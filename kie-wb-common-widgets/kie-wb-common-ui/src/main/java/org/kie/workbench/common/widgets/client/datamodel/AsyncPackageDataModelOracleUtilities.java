@@ -51,6 +51,7 @@ public class AsyncPackageDataModelOracleUtilities {
         oracle.addSuperTypes(payload.getSuperTypes());
         oracle.addTypeAnnotations(payload.getTypeAnnotations());
         oracle.addTypeFieldsAnnotations(payload.getTypeFieldsAnnotations());
+        oracle.addJavaEnumDefinitions(payload.getJavaEnumDefinitions());
         oracle.addMethodInformation(payload.getMethodInformation());
         oracle.addCollectionTypes(payload.getCollectionTypes());
     }